@@ -16,12 +16,10 @@ package tech.pegasys.teku.bls;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -264,41 +262,38 @@ public class BLS {
     int count = publicKeys.size();
     if (count == 0) return false;
     if (doublePairing) {
-      Stream<List<Integer>> pairsStream =
-          Lists.partition(IntStream.range(0, count).boxed().collect(Collectors.toList()), 2)
-              .stream();
+      IntStream pairIndexStream = IntStream.range(0, (count + 1) / 2);
 
       if (parallel) {
-        pairsStream = pairsStream.parallel();
+        pairIndexStream = pairIndexStream.parallel();
       }
       return completeBatchVerify(
-          pairsStream
-              .map(
-                  idx ->
-                      idx.size() == 1
-                          ? prepareBatchVerify(
-                              idx.get(0),
-                              publicKeys.get(idx.get(0)),
-                              messages.get(idx.get(0)),
-                              signatures.get(idx.get(0)))
-                          : prepareBatchVerify2(
-                              idx.get(0),
-                              publicKeys.get(idx.get(0)),
-                              messages.get(idx.get(0)),
-                              signatures.get(idx.get(0)),
-                              publicKeys.get(idx.get(1)),
-                              messages.get(idx.get(1)),
-                              signatures.get(idx.get(1))))
+          pairIndexStream
+              .mapToObj(
+                  pairIdx -> {
+                    final int idx = pairIdx * 2;
+                    return idx + 1 == count
+                        ? prepareBatchVerify(
+                            idx, publicKeys.get(idx), messages.get(idx), signatures.get(idx))
+                        : prepareBatchVerify2(
+                            idx,
+                            publicKeys.get(idx),
+                            messages.get(idx),
+                            signatures.get(idx),
+                            publicKeys.get(idx + 1),
+                            messages.get(idx + 1),
+                            signatures.get(idx + 1));
+                  })
               .collect(Collectors.toList()));
     } else {
-      Stream<Integer> indexStream = IntStream.range(0, count).boxed();
+      IntStream indexStream = IntStream.range(0, count);
 
       if (parallel) {
         indexStream = indexStream.parallel();
       }
       return completeBatchVerify(
           indexStream
-              .map(
+              .mapToObj(
                   idx ->
                       prepareBatchVerify(
                           idx, publicKeys.get(idx), messages.get(idx), signatures.get(idx)))
@@ -325,11 +320,29 @@ public class BLS {
       int index, List<BLSPublicKey> publicKeys, Bytes message, BLSSignature signature) {
     try {
       return getBlsImpl()
-          .prepareBatchVerify(
-              index,
-              publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList()),
-              message,
-              signature.getSignature());
+          .prepareBatchVerify(index, toPublicKeys(publicKeys), message, signature.getSignature());
+    } catch (DeserializeException e) {
+      return new InvalidBatchSemiAggregate();
+    }
+  }
+
+  /**
+   * Same as {@link #prepareBatchVerify(int, List, Bytes, BLSSignature)} but takes a single public
+   * key, typically one that has already been aggregated from the signers' keys and cached, so that
+   * no aggregation or intermediate lists are needed
+   *
+   * @param index index of the signature in a batch. -1 may be passed if no indexes are available
+   * @param publicKey The signer's public key or the aggregate of all signers' keys, not null
+   * @param message The message data to verify, not null
+   * @param signature The aggregate signature, not null
+   * @return An opaque instance which should be passed to the final step: {@link
+   *     #completeBatchVerify(List)}
+   */
+  public static BatchSemiAggregate prepareBatchVerify(
+      int index, BLSPublicKey publicKey, Bytes message, BLSSignature signature) {
+    try {
+      return getBlsImpl()
+          .prepareBatchVerify(index, publicKey.getPublicKey(), message, signature.getSignature());
     } catch (DeserializeException e) {
       return new InvalidBatchSemiAggregate();
     }
@@ -354,10 +367,10 @@ public class BLS {
       return getBlsImpl()
           .prepareBatchVerify2(
               index,
-              publicKeys1.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList()),
+              toPublicKeys(publicKeys1),
               message1,
               signature1.getSignature(),
-              publicKeys2.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList()),
+              toPublicKeys(publicKeys2),
               message2,
               signature2.getSignature());
     } catch (DeserializeException e) {
@@ -377,10 +390,13 @@ public class BLS {
       LOG.warn("Skipping bls verification.");
       return true;
     }
-    List<BatchSemiAggregate> validAggregates =
-        preparedSignatures.stream()
-            .filter(it -> !(it instanceof InvalidBatchSemiAggregate))
-            .collect(Collectors.toList());
+    List<BatchSemiAggregate> validAggregates = preparedSignatures;
+    if (preparedSignatures.stream().anyMatch(it -> it instanceof InvalidBatchSemiAggregate)) {
+      validAggregates =
+          preparedSignatures.stream()
+              .filter(it -> !(it instanceof InvalidBatchSemiAggregate))
+              .collect(Collectors.toList());
+    }
     // completeBatchVerify() call is needed in any case since associated resources could be released
     boolean verifyResult = getBlsImpl().completeBatchVerify(validAggregates);
     boolean noInvalidAggregates = validAggregates.size() == preparedSignatures.size();
@@ -425,5 +441,12 @@ public class BLS {
     return BLS_IMPL;
   }
 
+  private static List<PublicKey> toPublicKeys(final List<BLSPublicKey> publicKeys) {
+    if (publicKeys.size() == 1) {
+      return List.of(publicKeys.get(0).getPublicKey());
+    }
+    return publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList());
+  }
+
   private static class InvalidBatchSemiAggregate implements BatchSemiAggregate {}
 }
@@ -52,6 +52,26 @@ public final class BLSPublicKey {
                 publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList())));
   }
 
+  /**
+   * Removes the given PublicKeys from this aggregate PublicKey. Each of the keys must have been
+   * included in this aggregate. When most of the keys in an aggregate are needed, this is cheaper
+   * than aggregating the needed keys from scratch.
+   *
+   * @param publicKeys The list of public keys to remove
+   * @return PublicKey The aggregate of the remaining keys, or the G1 point at infinity if this key
+   *     or any of the supplied keys is invalid
+   */
+  public BLSPublicKey subtract(List<BLSPublicKey> publicKeys) {
+    if (publicKeys.isEmpty()) {
+      return this;
+    }
+    return new BLSPublicKey(
+        BLS.getBlsImpl()
+            .subtractPublicKeys(
+                getPublicKey(),
+                publicKeys.stream().map(BLSPublicKey::getPublicKey).collect(Collectors.toList())));
+  }
+
   public static BLSPublicKey fromSSZBytes(Bytes bytes) {
     checkArgument(
         bytes.size() == SSZ_BLS_PUBKEY_SIZE,
@@ -94,6 +94,17 @@ public interface BLS12381 {
    */
   PublicKey aggregatePublicKeys(List<? extends PublicKey> publicKeys);
 
+  /**
+   * Removes the given PublicKeys from an aggregate PublicKey, returning the aggregate of the
+   * remaining keys. The caller must ensure that each of the supplied keys was included in the
+   * aggregate.
+   *
+   * @param aggregatePublicKey The aggregate public key to subtract from
+   * @param publicKeys The list of public keys to remove from the aggregate
+   * @return PublicKey The aggregate of the remaining public keys
+   */
+  PublicKey subtractPublicKeys(PublicKey aggregatePublicKey, List<? extends PublicKey> publicKeys);
+
   /**
    * Aggregates a list of Signatures, returning the signature that corresponds to G2 point at
    * infinity if list is empty.
@@ -116,6 +127,17 @@ public interface BLS12381 {
   BatchSemiAggregate prepareBatchVerify(
       int index, List<? extends PublicKey> publicKeys, Bytes message, Signature signature);
 
+  /**
+   * Same as {@link #prepareBatchVerify(int, List, Bytes, Signature)} but takes a single, possibly
+   * already aggregated, public key so no aggregation is required
+   *
+   * @return the pair of values in an opaque instance
+   */
+  default BatchSemiAggregate prepareBatchVerify(
+      int index, PublicKey publicKey, Bytes message, Signature signature) {
+    return prepareBatchVerify(index, List.of(publicKey), message, signature);
+  }
+
   /**
    * https://ethresear.ch/t/fast-verification-of-multiple-bls-signatures/5407
    *
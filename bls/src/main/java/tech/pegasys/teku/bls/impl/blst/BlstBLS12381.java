@@ -41,6 +41,10 @@ public class BlstBLS12381 implements BLS12381 {
   // We avoid creating new instances as that reads from /dev/random which may block on entropy
   private static final SecureRandom random = SecureRandomProvider.createSecureRandom();
 
+  // Scratch buffer for the random multiplier bytes, reused by each verifying thread
+  private static final ThreadLocal<byte[]> batchRandomBytes =
+      ThreadLocal.withInitial(() -> new byte[BATCH_RANDOM_BYTES]);
+
   private static Random getRND() {
     return random;
   }
@@ -95,10 +99,23 @@ public class BlstBLS12381 implements BLS12381 {
 
   @Override
   public BlstPublicKey aggregatePublicKeys(List<? extends PublicKey> publicKeys) {
+    if (publicKeys.size() == 1) {
+      // Aggregating a single key would only copy the point
+      final BlstPublicKey publicKey = BlstPublicKey.fromPublicKey(publicKeys.get(0));
+      return publicKey.isValid() ? publicKey : BlstPublicKey.aggregate(List.of(publicKey));
+    }
     return BlstPublicKey.aggregate(
         publicKeys.stream().map(BlstPublicKey::fromPublicKey).collect(Collectors.toList()));
   }
 
+  @Override
+  public BlstPublicKey subtractPublicKeys(
+      PublicKey aggregatePublicKey, List<? extends PublicKey> publicKeys) {
+    return BlstPublicKey.subtract(
+        BlstPublicKey.fromPublicKey(aggregatePublicKey),
+        publicKeys.stream().map(BlstPublicKey::fromPublicKey).collect(Collectors.toList()));
+  }
+
   @Override
   public BlstSignature aggregateSignatures(List<? extends Signature> signatures) {
     return BlstSignature.aggregate(
@@ -121,7 +138,10 @@ public class BlstBLS12381 implements BLS12381 {
     Pairing ctx = new Pairing(true, ETH2_DST);
     BLST_ERROR ret =
         ctx.mul_n_aggregate(
-            pubKey.ecPoint, blstSignature.ec2Point, nextBatchRandomMultiplier(), message.toArray());
+            pubKey.ecPoint,
+            blstSignature.ec2Point,
+            nextBatchRandomMultiplier(),
+            message.toArrayUnsafe());
 
     if (ret != BLST_ERROR.BLST_SUCCESS) {
       if (ret == BLST_ERROR.BLST_PK_IS_INFINITY) {
@@ -160,32 +180,32 @@ public class BlstBLS12381 implements BLS12381 {
         return true;
       }
 
-      List<BlstSemiAggregate> blstList =
-          preparedList.stream().map(b -> (BlstSemiAggregate) b).collect(Collectors.toList());
-
-      if (blstList.stream().anyMatch(b -> !b.isValid())) {
-        return false;
+      for (BatchSemiAggregate prepared : preparedList) {
+        if (!((BlstSemiAggregate) prepared).isValid()) {
+          return false;
+        }
       }
 
-      Pairing ctx0 = blstList.get(0).getCtx();
+      Pairing ctx0 = ((BlstSemiAggregate) preparedList.get(0)).getCtx();
       boolean mergeRes = true;
-      for (int i = 1; i < blstList.size(); i++) {
-        BLST_ERROR ret = ctx0.merge(blstList.get(i).getCtx());
+      for (int i = 1; i < preparedList.size(); i++) {
+        BLST_ERROR ret = ctx0.merge(((BlstSemiAggregate) preparedList.get(i)).getCtx());
         mergeRes &= ret == BLST_ERROR.BLST_SUCCESS;
       }
 
       return mergeRes && ctx0.finalverify();
 
     } finally {
-      preparedList.stream()
-          .filter(a -> a instanceof BlstSemiAggregate)
-          .map(b -> (BlstSemiAggregate) b)
-          .forEach(BlstSemiAggregate::release);
+      for (BatchSemiAggregate prepared : preparedList) {
+        if (prepared instanceof BlstSemiAggregate) {
+          ((BlstSemiAggregate) prepared).release();
+        }
+      }
     }
   }
 
   static BigInteger nextBatchRandomMultiplier() {
-    byte[] scalarBytes = new byte[BATCH_RANDOM_BYTES];
+    byte[] scalarBytes = batchRandomBytes.get();
     getRND().nextBytes(scalarBytes);
     return new BigInteger(1, scalarBytes).add(BigInteger.ONE);
   }
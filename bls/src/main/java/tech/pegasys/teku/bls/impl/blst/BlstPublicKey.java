@@ -74,6 +74,22 @@ class BlstPublicKey implements PublicKey {
     return new BlstPublicKey(sum.to_affine());
   }
 
+  public static BlstPublicKey subtract(
+      BlstPublicKey aggregatePublicKey, List<BlstPublicKey> publicKeys) {
+    if (!aggregatePublicKey.isValid()
+        || publicKeys.stream().anyMatch(publicKey -> !publicKey.isValid())) {
+      // Consistent with aggregate(): no valid key can be derived from invalid keys
+      return infinitePublicKey;
+    }
+
+    P1 remaining = new P1(aggregatePublicKey.ecPoint);
+    for (BlstPublicKey publicKey : publicKeys) {
+      remaining.add(new P1(publicKey.ecPoint).neg());
+    }
+
+    return new BlstPublicKey(remaining.to_affine());
+  }
+
   final P1_Affine ecPoint;
   private final Supplier<Boolean> isInfinity = Suppliers.memoize(() -> checkForInfinity());
   private final Supplier<Boolean> isInGroup = Suppliers.memoize(() -> checkGroupMembership());
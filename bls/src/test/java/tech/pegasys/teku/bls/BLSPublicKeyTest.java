@@ -185,6 +185,28 @@ abstract class BLSPublicKeyTest {
     assertThat(aggrPk).isEqualTo(aggrPkGolden);
   }
 
+  @Test
+  void subtractShouldReturnAggregateOfRemainingKeys() {
+    BLSPublicKey pk1 = BLSTestUtil.randomKeyPair(1).getPublicKey();
+    BLSPublicKey pk2 = BLSTestUtil.randomKeyPair(2).getPublicKey();
+    BLSPublicKey pk3 = BLSTestUtil.randomKeyPair(3).getPublicKey();
+
+    BLSPublicKey aggrPk = BLSPublicKey.aggregate(List.of(pk1, pk2, pk3));
+
+    assertThat(aggrPk.subtract(List.of(pk2))).isEqualTo(BLSPublicKey.aggregate(List.of(pk1, pk3)));
+    assertThat(aggrPk.subtract(List.of(pk1, pk3))).isEqualTo(pk2);
+    assertThat(aggrPk.subtract(List.of())).isEqualTo(aggrPk);
+  }
+
+  @Test
+  void subtractInfinitePubKeyShouldFail() {
+    BLSPublicKey pk1 = BLSTestUtil.randomKeyPair(1).getPublicKey();
+    BLSPublicKey pk2 = BLSTestUtil.randomKeyPair(2).getPublicKey();
+    BLSPublicKey aggrPk = BLSPublicKey.aggregate(List.of(pk1, pk2));
+
+    assertThat(aggrPk.subtract(List.of(infinityPublicKey))).isEqualTo(infinityPublicKey);
+  }
+
   @Test
   void aggregateWithInfinitePubKeyShouldFail() {
     BLSPublicKey pk =
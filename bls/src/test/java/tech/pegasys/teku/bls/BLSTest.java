@@ -261,6 +261,35 @@ public abstract class BLSTest {
         () -> BLS.aggregate(List.of(signatureValid, signatureInvalid)));
   }
 
+  @Test
+  void batchVerifyWithPreAggregatedPublicKey() {
+    BLSKeyPair keyPair1 = BLSTestUtil.randomKeyPair(1);
+    BLSKeyPair keyPair2 = BLSTestUtil.randomKeyPair(2);
+    BLSKeyPair keyPair3 = BLSTestUtil.randomKeyPair(3);
+
+    Bytes message1 = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    Bytes message2 = Bytes.wrap("Goodbye, world!".getBytes(UTF_8));
+    BLSSignature aggregateSignature =
+        BLS.aggregate(
+            List.of(
+                BLS.sign(keyPair1.getSecretKey(), message1),
+                BLS.sign(keyPair2.getSecretKey(), message1)));
+    BLSPublicKey aggregatePublicKey =
+        BLSPublicKey.aggregate(List.of(keyPair1.getPublicKey(), keyPair2.getPublicKey()));
+    BLSSignature signature3 = BLS.sign(keyPair3.getSecretKey(), message2);
+
+    assertTrue(
+        BLS.completeBatchVerify(
+            List.of(
+                BLS.prepareBatchVerify(0, aggregatePublicKey, message1, aggregateSignature),
+                BLS.prepareBatchVerify(1, keyPair3.getPublicKey(), message2, signature3))));
+    assertFalse(
+        BLS.completeBatchVerify(
+            List.of(
+                BLS.prepareBatchVerify(0, keyPair1.getPublicKey(), message1, aggregateSignature),
+                BLS.prepareBatchVerify(1, keyPair3.getPublicKey(), message2, signature3))));
+  }
+
   @Test
   void batchVerify2InfinitePublicKeyAndSignature() {
     BLSKeyPair keyPairInf = new BLSKeyPair(zeroSK());
@@ -44,6 +44,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
+import tech.pegasys.teku.statetransition.block.BlockImportMetrics;
 import tech.pegasys.teku.statetransition.block.BlockManager;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
@@ -76,6 +77,7 @@ public abstract class AbstractBeaconRestAPIIntegrationTest {
   protected final ValidatorApiChannel validatorApiChannel = mock(ValidatorApiChannel.class);
   private final AggregatingAttestationPool attestationPool = mock(AggregatingAttestationPool.class);
   private final BlockManager blockManager = mock(BlockManager.class);
+  private final BlockImportMetrics blockImportMetrics = mock(BlockImportMetrics.class);
   private final AttestationManager attestationManager = mock(AttestationManager.class);
   private final OperationPool<AttesterSlashing> attesterSlashingPool = mock(OperationPool.class);
   private final OperationPool<ProposerSlashing> proposerSlashingPool = mock(OperationPool.class);
@@ -106,7 +108,8 @@ public abstract class AbstractBeaconRestAPIIntegrationTest {
             attesterSlashingPool,
             proposerSlashingPool,
             voluntaryExitPool,
-            syncCommitteeContributionPool);
+            syncCommitteeContributionPool,
+            blockImportMetrics);
 
     beaconRestApi =
         new BeaconRestApi(dataProvider, restApiConfig, eventChannels, SyncAsyncRunner.SYNC_RUNNER);
@@ -39,6 +39,8 @@ import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
+import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.GetSlowBlockImports;
+import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.GetValidatorPerformance;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.Liveness;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.PutLogLevel;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.Readiness;
@@ -100,6 +102,8 @@ import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.validator.api.NodeSyncingException;
+import tech.pegasys.teku.validator.coordinator.performance.NoOpPerformanceTracker;
+import tech.pegasys.teku.validator.coordinator.performance.PerformanceTracker;
 
 public class BeaconRestApi {
 
@@ -112,7 +116,8 @@ public class BeaconRestApi {
       final DataProvider dataProvider,
       final BeaconRestApiConfig configuration,
       final EventChannels eventChannels,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final PerformanceTracker performanceTracker) {
     if (app.config != null) {
       // the beaconRestApi test mocks the app object, and will skip this
       app.config.server(
@@ -137,7 +142,7 @@ public class BeaconRestApi {
 
     addExceptionHandlers();
     addStandardApiHandlers(dataProvider, eventChannels, asyncRunner, configuration);
-    addTekuSpecificHandlers(dataProvider);
+    addTekuSpecificHandlers(dataProvider, performanceTracker);
   }
 
   private void addStandardApiHandlers(
@@ -219,6 +224,15 @@ public class BeaconRestApi {
       final BeaconRestApiConfig configuration,
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner) {
+    this(dataProvider, configuration, eventChannels, asyncRunner, new NoOpPerformanceTracker());
+  }
+
+  public BeaconRestApi(
+      final DataProvider dataProvider,
+      final BeaconRestApiConfig configuration,
+      final EventChannels eventChannels,
+      final AsyncRunner asyncRunner,
+      final PerformanceTracker performanceTracker) {
     this.app =
         Javalin.create(
             config -> {
@@ -237,7 +251,7 @@ public class BeaconRestApi {
                 }
               }
             });
-    initialize(dataProvider, configuration, eventChannels, asyncRunner);
+    initialize(dataProvider, configuration, eventChannels, asyncRunner, performanceTracker);
   }
 
   BeaconRestApi(
@@ -247,7 +261,8 @@ public class BeaconRestApi {
       final AsyncRunner asyncRunner,
       final Javalin app) {
     this.app = app;
-    initialize(dataProvider, configuration, eventChannels, asyncRunner);
+    initialize(
+        dataProvider, configuration, eventChannels, asyncRunner, new NoOpPerformanceTracker());
   }
 
   public void start() {
@@ -292,12 +307,17 @@ public class BeaconRestApi {
     return options;
   }
 
-  private void addTekuSpecificHandlers(final DataProvider provider) {
+  private void addTekuSpecificHandlers(
+      final DataProvider provider, final PerformanceTracker performanceTracker) {
     app.put(PutLogLevel.ROUTE, new PutLogLevel(jsonProvider));
     app.get(GetSszState.ROUTE, new GetSszState(provider, jsonProvider));
     app.get(GetStateByBlockRoot.ROUTE, new GetStateByBlockRoot(provider, jsonProvider));
     app.get(Liveness.ROUTE, new Liveness());
     app.get(Readiness.ROUTE, new Readiness(provider));
+    app.get(GetSlowBlockImports.ROUTE, new GetSlowBlockImports(provider, jsonProvider));
+    app.get(
+        GetValidatorPerformance.ROUTE,
+        new GetValidatorPerformance(performanceTracker, jsonProvider));
     app.get(GetAllBlocksAtSlot.ROUTE, new GetAllBlocksAtSlot(provider, jsonProvider));
     app.get(GetPeersScore.ROUTE, new GetPeersScore(provider, jsonProvider));
   }
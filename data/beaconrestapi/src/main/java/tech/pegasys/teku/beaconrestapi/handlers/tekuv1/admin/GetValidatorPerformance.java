@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin;
+
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.CACHE_NONE;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_OK;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_TEKU;
+
+import io.javalin.core.util.Header;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import io.javalin.plugin.openapi.annotations.HttpMethod;
+import io.javalin.plugin.openapi.annotations.OpenApi;
+import io.javalin.plugin.openapi.annotations.OpenApiContent;
+import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.api.response.v1.teku.AttestationPerformanceSummary;
+import tech.pegasys.teku.api.response.v1.teku.GetValidatorPerformanceResponse;
+import tech.pegasys.teku.api.response.v1.teku.SyncCommitteePerformanceSummary;
+import tech.pegasys.teku.api.response.v1.teku.ValidatorPerformance;
+import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.validator.coordinator.performance.AttestationPerformance;
+import tech.pegasys.teku.validator.coordinator.performance.EpochPerformance;
+import tech.pegasys.teku.validator.coordinator.performance.PerformanceTracker;
+import tech.pegasys.teku.validator.coordinator.performance.SyncCommitteePerformance;
+
+public class GetValidatorPerformance implements Handler {
+  public static final String ROUTE = "/teku/v1/admin/validator_performance";
+  private final JsonProvider jsonProvider;
+  private final PerformanceTracker performanceTracker;
+
+  public GetValidatorPerformance(
+      final PerformanceTracker performanceTracker, final JsonProvider jsonProvider) {
+    this.performanceTracker = performanceTracker;
+    this.jsonProvider = jsonProvider;
+  }
+
+  @OpenApi(
+      path = ROUTE,
+      method = HttpMethod.GET,
+      summary = "Get validator performance",
+      tags = {TAG_TEKU},
+      description =
+          "Retrieves the most recently analysed attestation and sync committee performance of the "
+              + "validators connected to this beacon node. Requires validator performance "
+              + "tracking to be enabled.",
+      responses = {
+        @OpenApiResponse(
+            status = RES_OK,
+            content = @OpenApiContent(from = GetValidatorPerformanceResponse.class)),
+        @OpenApiResponse(status = RES_INTERNAL_ERROR)
+      })
+  @Override
+  public void handle(@NotNull final Context ctx) throws Exception {
+    ctx.header(Header.CACHE_CONTROL, CACHE_NONE);
+    final ValidatorPerformance performance =
+        new ValidatorPerformance(
+            performanceTracker
+                .getLatestAttestationPerformance()
+                .map(GetValidatorPerformance::toAttestationSummary)
+                .orElse(null),
+            performanceTracker
+                .getLatestSyncCommitteePerformance()
+                .map(GetValidatorPerformance::toSyncCommitteeSummary)
+                .orElse(null));
+    ctx.result(jsonProvider.objectToJSON(new GetValidatorPerformanceResponse(performance)));
+  }
+
+  private static AttestationPerformanceSummary toAttestationSummary(
+      final EpochPerformance<AttestationPerformance> epochPerformance) {
+    final AttestationPerformance performance = epochPerformance.getPerformance();
+    return new AttestationPerformanceSummary(
+        epochPerformance.getEpoch(),
+        performance.getNumberOfExpectedAttestations(),
+        performance.getNumberOfProducedAttestations(),
+        performance.getNumberOfIncludedAttestations(),
+        performance.getInclusionDistanceMin(),
+        performance.getInclusionDistanceMax(),
+        performance.getInclusionDistanceAverage(),
+        performance.getCorrectTargetCount(),
+        performance.getCorrectHeadBlockCount());
+  }
+
+  private static SyncCommitteePerformanceSummary toSyncCommitteeSummary(
+      final EpochPerformance<SyncCommitteePerformance> epochPerformance) {
+    final SyncCommitteePerformance performance = epochPerformance.getPerformance();
+    return new SyncCommitteePerformanceSummary(
+        epochPerformance.getEpoch(),
+        performance.getNumberOfExpectedMessages(),
+        performance.getNumberOfProducedMessages(),
+        performance.getNumberOfCorrectMessages(),
+        performance.getNumberOfIncludedMessages());
+  }
+}
@@ -36,6 +36,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
+import tech.pegasys.teku.statetransition.block.BlockImportMetrics;
 import tech.pegasys.teku.statetransition.block.BlockManager;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -56,6 +57,7 @@ class BeaconRestApiTest {
   private static final Integer THE_PORT = 12345;
   private final AggregatingAttestationPool attestationPool = mock(AggregatingAttestationPool.class);
   private final BlockManager blockManager = mock(BlockManager.class);
+  private final BlockImportMetrics blockImportMetrics = mock(BlockImportMetrics.class);
   private final AttestationManager attestationManager = mock(AttestationManager.class);
   private final OperationPool<AttesterSlashing> attesterSlashingPool = mock(OperationPool.class);
   private final OperationPool<ProposerSlashing> proposerSlashingPool = mock(OperationPool.class);
@@ -87,7 +89,8 @@ class BeaconRestApiTest {
             attesterSlashingPool,
             proposerSlashingPool,
             voluntaryExitPool,
-            syncCommitteeContributionPool),
+            syncCommitteeContributionPool,
+            blockImportMetrics),
         beaconRestApiConfig,
         eventChannels,
         new StubAsyncRunner(),
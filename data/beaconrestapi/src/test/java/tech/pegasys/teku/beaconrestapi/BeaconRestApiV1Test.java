@@ -30,6 +30,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.GetSlowBlockImports;
+import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.GetValidatorPerformance;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.Liveness;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.PutLogLevel;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.Readiness;
@@ -90,6 +92,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
+import tech.pegasys.teku.statetransition.block.BlockImportMetrics;
 import tech.pegasys.teku.statetransition.block.BlockManager;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -109,6 +112,7 @@ public class BeaconRestApiV1Test {
   private static final Integer THE_PORT = 12345;
   private final AggregatingAttestationPool attestationPool = mock(AggregatingAttestationPool.class);
   private final BlockManager blockManager = mock(BlockManager.class);
+  private final BlockImportMetrics blockImportMetrics = mock(BlockImportMetrics.class);
   private final AttestationManager attestationManager = mock(AttestationManager.class);
   private final OperationPool<AttesterSlashing> attesterSlashingPool = mock(OperationPool.class);
   private final OperationPool<ProposerSlashing> proposerSlashingPool = mock(OperationPool.class);
@@ -141,7 +145,8 @@ public class BeaconRestApiV1Test {
             attesterSlashingPool,
             proposerSlashingPool,
             voluntaryExitPool,
-            syncCommitteeContributionPool),
+            syncCommitteeContributionPool,
+            blockImportMetrics),
         beaconRestApiConfig,
         eventChannels,
         new StubAsyncRunner(),
@@ -230,6 +235,8 @@ public class BeaconRestApiV1Test {
     builder.add(Arguments.of(GetStateByBlockRoot.ROUTE, GetStateByBlockRoot.class));
     builder.add(Arguments.of(Liveness.ROUTE, Liveness.class));
     builder.add(Arguments.of(Readiness.ROUTE, Readiness.class));
+    builder.add(Arguments.of(GetSlowBlockImports.ROUTE, GetSlowBlockImports.class));
+    builder.add(Arguments.of(GetValidatorPerformance.ROUTE, GetValidatorPerformance.class));
     builder.add(Arguments.of(GetAllBlocksAtSlot.ROUTE, GetAllBlocksAtSlot.class));
 
     return builder.build();
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.NodeDataProvider;
+import tech.pegasys.teku.api.response.v1.teku.GetSlowBlockImportsResponse;
+import tech.pegasys.teku.api.response.v1.teku.SlowBlockImport;
+import tech.pegasys.teku.beaconrestapi.AbstractBeaconHandlerTest;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class GetSlowBlockImportsTest extends AbstractBeaconHandlerTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+  private final NodeDataProvider nodeDataProvider = mock(NodeDataProvider.class);
+
+  private final GetSlowBlockImports handler =
+      new GetSlowBlockImports(nodeDataProvider, jsonProvider);
+
+  @Test
+  public void shouldReturnSlowBlockImports() throws Exception {
+    final SlowBlockImport slowImport =
+        new SlowBlockImport(
+            UInt64.valueOf(10),
+            dataStructureUtil.randomBytes32(),
+            UInt64.valueOf(800),
+            Map.of("block_processing", UInt64.valueOf(600), "state_root", UInt64.valueOf(200)));
+    when(nodeDataProvider.getRecentSlowBlockImports()).thenReturn(List.of(slowImport));
+
+    handler.handle(context);
+
+    final GetSlowBlockImportsResponse response =
+        getResponseObject(GetSlowBlockImportsResponse.class);
+    assertThat(response.data).containsExactly(slowImport);
+  }
+
+  @Test
+  public void shouldReturnEmptyListWhenNoImportsWereSlow() throws Exception {
+    when(nodeDataProvider.getRecentSlowBlockImports()).thenReturn(List.of());
+
+    handler.handle(context);
+
+    final GetSlowBlockImportsResponse response =
+        getResponseObject(GetSlowBlockImportsResponse.class);
+    assertThat(response.data).isEmpty();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.response.v1.teku.AttestationPerformanceSummary;
+import tech.pegasys.teku.api.response.v1.teku.GetValidatorPerformanceResponse;
+import tech.pegasys.teku.api.response.v1.teku.SyncCommitteePerformanceSummary;
+import tech.pegasys.teku.api.response.v1.teku.ValidatorPerformance;
+import tech.pegasys.teku.beaconrestapi.AbstractBeaconHandlerTest;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.validator.coordinator.performance.AttestationPerformance;
+import tech.pegasys.teku.validator.coordinator.performance.EpochPerformance;
+import tech.pegasys.teku.validator.coordinator.performance.PerformanceTracker;
+import tech.pegasys.teku.validator.coordinator.performance.SyncCommitteePerformance;
+
+public class GetValidatorPerformanceTest extends AbstractBeaconHandlerTest {
+  private final PerformanceTracker performanceTracker = mock(PerformanceTracker.class);
+
+  private final GetValidatorPerformance handler =
+      new GetValidatorPerformance(performanceTracker, jsonProvider);
+
+  @Test
+  public void shouldReturnLatestPerformance() throws Exception {
+    when(performanceTracker.getLatestAttestationPerformance())
+        .thenReturn(
+            Optional.of(
+                new EpochPerformance<>(
+                    UInt64.valueOf(5), new AttestationPerformance(10, 9, 8, 3, 1, 1.5, 7, 6))));
+    when(performanceTracker.getLatestSyncCommitteePerformance())
+        .thenReturn(
+            Optional.of(
+                new EpochPerformance<>(
+                    UInt64.valueOf(6), new SyncCommitteePerformance(32, 31, 30, 29))));
+
+    handler.handle(context);
+
+    final GetValidatorPerformanceResponse response =
+        getResponseObject(GetValidatorPerformanceResponse.class);
+    assertThat(response.data)
+        .isEqualTo(
+            new ValidatorPerformance(
+                new AttestationPerformanceSummary(UInt64.valueOf(5), 10, 9, 8, 1, 3, 1.5, 7, 6),
+                new SyncCommitteePerformanceSummary(UInt64.valueOf(6), 32, 31, 30, 29)));
+  }
+
+  @Test
+  public void shouldOmitPerformanceThatHasNotBeenReported() throws Exception {
+    when(performanceTracker.getLatestAttestationPerformance()).thenReturn(Optional.empty());
+    when(performanceTracker.getLatestSyncCommitteePerformance()).thenReturn(Optional.empty());
+
+    handler.handle(context);
+
+    final GetValidatorPerformanceResponse response =
+        getResponseObject(GetValidatorPerformanceResponse.class);
+    assertThat(response.data).isEqualTo(new ValidatorPerformance(null, null));
+  }
+}
@@ -21,6 +21,7 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
+import tech.pegasys.teku.statetransition.block.BlockImportMetrics;
 import tech.pegasys.teku.statetransition.block.BlockManager;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -49,7 +50,8 @@ public class DataProvider {
       final OperationPool<AttesterSlashing> attesterSlashingPool,
       final OperationPool<ProposerSlashing> proposerSlashingPool,
       final OperationPool<SignedVoluntaryExit> voluntaryExitPool,
-      final SyncCommitteeContributionPool syncCommitteeContributionPool) {
+      final SyncCommitteeContributionPool syncCommitteeContributionPool,
+      final BlockImportMetrics blockImportMetrics) {
     this.configProvider = new ConfigProvider(spec);
     networkDataProvider = new NetworkDataProvider(p2pNetwork);
     nodeDataProvider =
@@ -60,7 +62,8 @@ public class DataProvider {
             voluntaryExitPool,
             syncCommitteeContributionPool,
             blockManager,
-            attestationManager);
+            attestationManager,
+            blockImportMetrics);
     chainDataProvider = new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
     syncDataProvider = new SyncDataProvider(syncService);
     this.validatorDataProvider =
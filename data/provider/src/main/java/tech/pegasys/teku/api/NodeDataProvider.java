@@ -13,9 +13,12 @@
 
 package tech.pegasys.teku.api;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import tech.pegasys.teku.api.response.v1.teku.SlowBlockImport;
 import tech.pegasys.teku.api.schema.Attestation;
 import tech.pegasys.teku.api.schema.AttesterSlashing;
 import tech.pegasys.teku.api.schema.ProposerSlashing;
@@ -28,6 +31,8 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedCo
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
+import tech.pegasys.teku.statetransition.block.BlockImportMetrics;
+import tech.pegasys.teku.statetransition.block.BlockImportPerformance;
 import tech.pegasys.teku.statetransition.block.BlockManager;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
@@ -44,6 +49,7 @@ public class NodeDataProvider {
   private final SyncCommitteeContributionPool syncCommitteeContributionPool;
   private final BlockManager blockManager;
   private final AttestationManager attestationManager;
+  private final BlockImportMetrics blockImportMetrics;
 
   public NodeDataProvider(
       AggregatingAttestationPool attestationPool,
@@ -55,7 +61,8 @@ public class NodeDataProvider {
           voluntaryExitPool,
       final SyncCommitteeContributionPool syncCommitteeContributionPool,
       BlockManager blockManager,
-      AttestationManager attestationManager) {
+      AttestationManager attestationManager,
+      final BlockImportMetrics blockImportMetrics) {
     this.attestationPool = attestationPool;
     this.attesterSlashingPool = attesterSlashingsPool;
     this.proposerSlashingPool = proposerSlashingPool;
@@ -63,6 +70,7 @@ public class NodeDataProvider {
     this.syncCommitteeContributionPool = syncCommitteeContributionPool;
     this.blockManager = blockManager;
     this.attestationManager = attestationManager;
+    this.blockImportMetrics = blockImportMetrics;
   }
 
   public List<Attestation> getAttestations(
@@ -103,6 +111,24 @@ public class NodeDataProvider {
     return proposerSlashingPool.add(slashing.asInternalProposerSlashing());
   }
 
+  public List<SlowBlockImport> getRecentSlowBlockImports() {
+    return blockImportMetrics.getRecentSlowImports().stream()
+        .map(this::toSlowBlockImport)
+        .collect(Collectors.toList());
+  }
+
+  private SlowBlockImport toSlowBlockImport(final BlockImportPerformance performance) {
+    final Map<String, UInt64> stageDurations = new LinkedHashMap<>();
+    performance
+        .getStageDurationsMillis()
+        .forEach((stage, duration) -> stageDurations.put(stage.getDisplayName(), duration));
+    return new SlowBlockImport(
+        performance.getSlot(),
+        performance.getBlockRoot(),
+        performance.getTotalDurationMillis(),
+        stageDurations);
+  }
+
   public void subscribeToReceivedBlocks(ReceivedBlockListener listener) {
     blockManager.subscribeToReceivedBlocks(listener);
   }
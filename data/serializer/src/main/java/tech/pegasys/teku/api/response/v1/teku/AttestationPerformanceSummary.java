@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.response.v1.teku;
+
+import static tech.pegasys.teku.api.schema.SchemaConstants.EXAMPLE_UINT64;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class AttestationPerformanceSummary {
+
+  @Schema(
+      type = "string",
+      example = EXAMPLE_UINT64,
+      description = "The epoch the attestations were produced in.")
+  public final UInt64 epoch;
+
+  @JsonProperty("expected")
+  public final int numberOfExpectedAttestations;
+
+  @JsonProperty("produced")
+  public final int numberOfProducedAttestations;
+
+  @JsonProperty("included")
+  public final int numberOfIncludedAttestations;
+
+  @JsonProperty("inclusion_distance_min")
+  public final int inclusionDistanceMin;
+
+  @JsonProperty("inclusion_distance_max")
+  public final int inclusionDistanceMax;
+
+  @JsonProperty("inclusion_distance_average")
+  public final double inclusionDistanceAverage;
+
+  @JsonProperty("correct_target")
+  public final int correctTargetCount;
+
+  @JsonProperty("correct_head_block")
+  public final int correctHeadBlockCount;
+
+  @JsonCreator
+  public AttestationPerformanceSummary(
+      @JsonProperty("epoch") final UInt64 epoch,
+      @JsonProperty("expected") final int numberOfExpectedAttestations,
+      @JsonProperty("produced") final int numberOfProducedAttestations,
+      @JsonProperty("included") final int numberOfIncludedAttestations,
+      @JsonProperty("inclusion_distance_min") final int inclusionDistanceMin,
+      @JsonProperty("inclusion_distance_max") final int inclusionDistanceMax,
+      @JsonProperty("inclusion_distance_average") final double inclusionDistanceAverage,
+      @JsonProperty("correct_target") final int correctTargetCount,
+      @JsonProperty("correct_head_block") final int correctHeadBlockCount) {
+    this.epoch = epoch;
+    this.numberOfExpectedAttestations = numberOfExpectedAttestations;
+    this.numberOfProducedAttestations = numberOfProducedAttestations;
+    this.numberOfIncludedAttestations = numberOfIncludedAttestations;
+    this.inclusionDistanceMin = inclusionDistanceMin;
+    this.inclusionDistanceMax = inclusionDistanceMax;
+    this.inclusionDistanceAverage = inclusionDistanceAverage;
+    this.correctTargetCount = correctTargetCount;
+    this.correctHeadBlockCount = correctHeadBlockCount;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!(o instanceof AttestationPerformanceSummary)) return false;
+    final AttestationPerformanceSummary that = (AttestationPerformanceSummary) o;
+    return numberOfExpectedAttestations == that.numberOfExpectedAttestations
+        && numberOfProducedAttestations == that.numberOfProducedAttestations
+        && numberOfIncludedAttestations == that.numberOfIncludedAttestations
+        && inclusionDistanceMin == that.inclusionDistanceMin
+        && inclusionDistanceMax == that.inclusionDistanceMax
+        && Double.compare(that.inclusionDistanceAverage, inclusionDistanceAverage) == 0
+        && correctTargetCount == that.correctTargetCount
+        && correctHeadBlockCount == that.correctHeadBlockCount
+        && Objects.equals(epoch, that.epoch);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        epoch,
+        numberOfExpectedAttestations,
+        numberOfProducedAttestations,
+        numberOfIncludedAttestations,
+        inclusionDistanceMin,
+        inclusionDistanceMax,
+        inclusionDistanceAverage,
+        correctTargetCount,
+        correctHeadBlockCount);
+  }
+}
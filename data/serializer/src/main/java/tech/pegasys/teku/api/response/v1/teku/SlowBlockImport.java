@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.response.v1.teku;
+
+import static tech.pegasys.teku.api.schema.SchemaConstants.EXAMPLE_BYTES32;
+import static tech.pegasys.teku.api.schema.SchemaConstants.EXAMPLE_UINT64;
+import static tech.pegasys.teku.api.schema.SchemaConstants.PATTERN_BYTES32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SlowBlockImport {
+
+  @Schema(type = "string", example = EXAMPLE_UINT64)
+  public final UInt64 slot;
+
+  @JsonProperty("block_root")
+  @Schema(type = "string", example = EXAMPLE_BYTES32, pattern = PATTERN_BYTES32)
+  public final Bytes32 blockRoot;
+
+  @JsonProperty("total_duration_ms")
+  @Schema(
+      type = "string",
+      example = EXAMPLE_UINT64,
+      description = "Time in milliseconds taken to import the block.")
+  public final UInt64 totalDurationMillis;
+
+  @JsonProperty("stage_durations_ms")
+  @Schema(description = "Time in milliseconds taken by each stage of the import, keyed by stage.")
+  public final Map<String, UInt64> stageDurationsMillis;
+
+  @JsonCreator
+  public SlowBlockImport(
+      @JsonProperty("slot") final UInt64 slot,
+      @JsonProperty("block_root") final Bytes32 blockRoot,
+      @JsonProperty("total_duration_ms") final UInt64 totalDurationMillis,
+      @JsonProperty("stage_durations_ms") final Map<String, UInt64> stageDurationsMillis) {
+    this.slot = slot;
+    this.blockRoot = blockRoot;
+    this.totalDurationMillis = totalDurationMillis;
+    this.stageDurationsMillis = stageDurationsMillis;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!(o instanceof SlowBlockImport)) return false;
+    final SlowBlockImport that = (SlowBlockImport) o;
+    return Objects.equals(slot, that.slot)
+        && Objects.equals(blockRoot, that.blockRoot)
+        && Objects.equals(totalDurationMillis, that.totalDurationMillis)
+        && Objects.equals(stageDurationsMillis, that.stageDurationsMillis);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(slot, blockRoot, totalDurationMillis, stageDurationsMillis);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.response.v1.teku;
+
+import static tech.pegasys.teku.api.schema.SchemaConstants.EXAMPLE_UINT64;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SyncCommitteePerformanceSummary {
+
+  @Schema(
+      type = "string",
+      example = EXAMPLE_UINT64,
+      description = "The epoch the sync committee messages were included in.")
+  public final UInt64 epoch;
+
+  @JsonProperty("expected")
+  public final int numberOfExpectedMessages;
+
+  @JsonProperty("produced")
+  public final int numberOfProducedMessages;
+
+  @JsonProperty("correct")
+  public final int numberOfCorrectMessages;
+
+  @JsonProperty("included")
+  public final int numberOfIncludedMessages;
+
+  @JsonCreator
+  public SyncCommitteePerformanceSummary(
+      @JsonProperty("epoch") final UInt64 epoch,
+      @JsonProperty("expected") final int numberOfExpectedMessages,
+      @JsonProperty("produced") final int numberOfProducedMessages,
+      @JsonProperty("correct") final int numberOfCorrectMessages,
+      @JsonProperty("included") final int numberOfIncludedMessages) {
+    this.epoch = epoch;
+    this.numberOfExpectedMessages = numberOfExpectedMessages;
+    this.numberOfProducedMessages = numberOfProducedMessages;
+    this.numberOfCorrectMessages = numberOfCorrectMessages;
+    this.numberOfIncludedMessages = numberOfIncludedMessages;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!(o instanceof SyncCommitteePerformanceSummary)) return false;
+    final SyncCommitteePerformanceSummary that = (SyncCommitteePerformanceSummary) o;
+    return numberOfExpectedMessages == that.numberOfExpectedMessages
+        && numberOfProducedMessages == that.numberOfProducedMessages
+        && numberOfCorrectMessages == that.numberOfCorrectMessages
+        && numberOfIncludedMessages == that.numberOfIncludedMessages
+        && Objects.equals(epoch, that.epoch);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        epoch,
+        numberOfExpectedMessages,
+        numberOfProducedMessages,
+        numberOfCorrectMessages,
+        numberOfIncludedMessages);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.response.v1.teku;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ValidatorPerformance {
+
+  @JsonProperty("attestation_performance")
+  @Schema(
+      description =
+          "Performance of attestations from the most recently analysed epoch. "
+              + "Omitted if no attestations were expected.")
+  public final AttestationPerformanceSummary attestationPerformance;
+
+  @JsonProperty("sync_committee_performance")
+  @Schema(
+      description =
+          "Performance of sync committee messages from the most recently analysed epoch. "
+              + "Omitted if no sync committee messages were expected.")
+  public final SyncCommitteePerformanceSummary syncCommitteePerformance;
+
+  @JsonCreator
+  public ValidatorPerformance(
+      @JsonProperty("attestation_performance")
+          final AttestationPerformanceSummary attestationPerformance,
+      @JsonProperty("sync_committee_performance")
+          final SyncCommitteePerformanceSummary syncCommitteePerformance) {
+    this.attestationPerformance = attestationPerformance;
+    this.syncCommitteePerformance = syncCommitteePerformance;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!(o instanceof ValidatorPerformance)) return false;
+    final ValidatorPerformance that = (ValidatorPerformance) o;
+    return Objects.equals(attestationPerformance, that.attestationPerformance)
+        && Objects.equals(syncCommitteePerformance, that.syncCommitteePerformance);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(attestationPerformance, syncCommitteePerformance);
+  }
+}
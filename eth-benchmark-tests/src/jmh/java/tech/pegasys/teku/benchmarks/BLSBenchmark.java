@@ -14,6 +14,7 @@
 package tech.pegasys.teku.benchmarks;
 
 import com.google.common.collect.Streams;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -28,11 +29,13 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.bls.BatchSemiAggregate;
 
 @Fork(1)
 @State(Scope.Thread)
@@ -129,4 +132,35 @@ public class BLSBenchmark {
             true);
     if (!res) throw new IllegalStateException();
   }
+
+  @Benchmark
+  @Threads(4)
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void verifySignatureBatchedNonParallelSinglePairingMultiThreaded() {
+    verifySignatureBatchedNonParallelSinglePairing();
+  }
+
+  @Benchmark
+  @Threads(4)
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void verifySignatureBatchedNonParallelDoublePairingMultiThreaded() {
+    verifySignatureBatchedNonParallelDoublePairing();
+  }
+
+  @Benchmark
+  @Threads(4)
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void verifySignaturePreparedAggregatedKeyMultiThreaded() {
+    final List<BatchSemiAggregate> semiAggregates = new ArrayList<>(sigCnt);
+    for (int i = 0; i < sigCnt; i++) {
+      semiAggregates.add(
+          BLS.prepareBatchVerify(
+              i, keyPairs.get(i).getPublicKey(), messages.get(i), signatures.get(i)));
+    }
+    boolean res = BLS.completeBatchVerify(semiAggregates);
+    if (!res) throw new IllegalStateException();
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.collections.cache.TinyLfuCache;
+
+/**
+ * Measures the cache throughput when it is accessed concurrently by several threads (like gossip
+ * validation threads sharing the transition caches). Most of the lookups are hits, a small part
+ * of the keys is outside of the cached range
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class CacheContentionBenchmark {
+  private static final int CAPACITY = 4096;
+
+  @Param({"LRU", "TinyLFU"})
+  String cacheType;
+
+  private Cache<Integer, Integer> cache;
+
+  @Setup(Level.Trial)
+  public void init() {
+    cache = cacheType.equals("LRU") ? LRUCache.create(CAPACITY) : TinyLfuCache.create(CAPACITY);
+    for (int i = 0; i < CAPACITY; i++) {
+      cache.get(i, key -> key);
+    }
+  }
+
+  @Benchmark
+  public void get(Blackhole bh) {
+    final int key = ThreadLocalRandom.current().nextInt(CAPACITY + CAPACITY / 16);
+    bh.consume(cache.get(key, k -> k));
+  }
+
+  @Benchmark
+  public void getCached(Blackhole bh) {
+    final int key = ThreadLocalRandom.current().nextInt(CAPACITY);
+    bh.consume(cache.getCached(key));
+  }
+}
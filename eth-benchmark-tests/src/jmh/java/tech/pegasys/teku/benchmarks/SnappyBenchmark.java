@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.SnappyBlockCompressor;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.Decompressor;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyFramedCompressor;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.ssz.sos.SszLengthBounds;
+
+/**
+ * Measures snappy compression of gossip (block format) and RPC (framed format) payloads for a full
+ * block and a single attestation.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class SnappyBenchmark {
+  private static final SszLengthBounds UNBOUNDED = SszLengthBounds.ofBytes(0, Integer.MAX_VALUE);
+
+  @Param({"block", "attestation"})
+  String payloadType;
+
+  private final SnappyBlockCompressor blockCompressor = new SnappyBlockCompressor();
+  private final SnappyFramedCompressor framedCompressor = new SnappyFramedCompressor();
+
+  private Bytes payload;
+  private Bytes blockCompressed;
+  private Bytes framedCompressed;
+
+  @Setup(Level.Trial)
+  public void init() {
+    final Spec spec = TestSpecFactory.createMainnetPhase0();
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    payload =
+        payloadType.equals("block")
+            ? dataStructureUtil.randomSignedBeaconBlock(100, Bytes32.ZERO, true).sszSerialize()
+            : dataStructureUtil.randomAttestation().sszSerialize();
+    blockCompressed = blockCompressor.compress(payload);
+    framedCompressed = framedCompressor.compress(payload);
+  }
+
+  @Benchmark
+  public void gossipCompress(Blackhole bh) {
+    bh.consume(blockCompressor.compress(payload));
+  }
+
+  @Benchmark
+  public void gossipUncompress(Blackhole bh) throws DecodingException {
+    bh.consume(blockCompressor.uncompress(blockCompressed, UNBOUNDED));
+  }
+
+  @Benchmark
+  public void rpcCompress(Blackhole bh) {
+    bh.consume(framedCompressor.compress(payload));
+  }
+
+  @Benchmark
+  public void rpcDecompress(Blackhole bh) throws CompressionException {
+    final ByteBuf input = Unpooled.wrappedBuffer(framedCompressed.toArrayUnsafe());
+    final Decompressor decompressor = framedCompressor.createDecompressor(payload.size());
+    try {
+      final ByteBuf result = decompressor.decodeOneMessage(input).orElseThrow();
+      bh.consume(result.readableBytes());
+      result.release();
+      decompressor.complete();
+    } finally {
+      input.release();
+    }
+  }
+}
@@ -30,9 +30,9 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.SlotAndCommitteeIndex;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 
 @Fork(1)
@@ -58,7 +58,7 @@ public class TransitionCachesBenchmark {
         fullCache
             .getBeaconCommittee()
             .invalidateWithNewValue(
-                TekuPair.of(UInt64.valueOf(slot), UInt64.valueOf(committeeIndex)), SOME_INT_LIST);
+                new SlotAndCommitteeIndex(slot, committeeIndex), SOME_INT_LIST);
       }
     }
 
@@ -95,9 +95,8 @@ public class TransitionCachesBenchmark {
     if (counter >= 10064) {
       counter = 10000;
     }
-    Cache<TekuPair<UInt64, UInt64>, IntList> cache = fullCache.getBeaconCommittee();
-    List<Integer> res =
-        cache.get(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), __ -> SOME_INT_LIST);
+    Cache<SlotAndCommitteeIndex, IntList> cache = fullCache.getBeaconCommittee();
+    List<Integer> res = cache.get(new SlotAndCommitteeIndex(counter, 0), __ -> SOME_INT_LIST);
     bh.consume(res);
   }
 
@@ -107,9 +106,8 @@ public class TransitionCachesBenchmark {
       counter = 10064;
     }
     counter++;
-    Cache<TekuPair<UInt64, UInt64>, IntList> cache = fullCache.getBeaconCommittee();
-    List<Integer> res =
-        cache.get(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), __ -> SOME_INT_LIST);
+    Cache<SlotAndCommitteeIndex, IntList> cache = fullCache.getBeaconCommittee();
+    List<Integer> res = cache.get(new SlotAndCommitteeIndex(counter, 0), __ -> SOME_INT_LIST);
     bh.consume(res);
   }
 
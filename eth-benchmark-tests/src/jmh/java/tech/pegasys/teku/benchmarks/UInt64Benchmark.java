@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Compares the {@link UInt64} object arithmetic with the primitive {@code long} based static
+ * helpers on loops shaped like the spec hot paths: balance deltas, effective balance updates and
+ * slot iteration
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class UInt64Benchmark {
+  private static final int VALIDATOR_COUNT = 100_000;
+  private static final int SLOTS = 32 * 1024;
+  private static final UInt64 EFFECTIVE_BALANCE_INCREMENT = UInt64.valueOf(1_000_000_000L);
+  private static final UInt64 MAX_EFFECTIVE_BALANCE = UInt64.valueOf(32_000_000_000L);
+  private static final UInt64 DOWNWARD_THRESHOLD = UInt64.valueOf(250_000_000L);
+  private static final UInt64 UPWARD_THRESHOLD = UInt64.valueOf(1_250_000_000L);
+
+  private final UInt64[] balances = new UInt64[VALIDATOR_COUNT];
+  private final UInt64[] effectiveBalances = new UInt64[VALIDATOR_COUNT];
+  private final UInt64[] rewards = new UInt64[VALIDATOR_COUNT];
+  private final UInt64[] penalties = new UInt64[VALIDATOR_COUNT];
+
+  public UInt64Benchmark() {
+    final Random random = new Random(1);
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      balances[i] = UInt64.valueOf(31_000_000_000L + random.nextInt(2_000_000_000));
+      effectiveBalances[i] = UInt64.valueOf(31_000_000_000L + (i % 2) * 1_000_000_000L);
+      rewards[i] = UInt64.valueOf(random.nextInt(20_000));
+      penalties[i] = UInt64.valueOf(random.nextInt(10_000));
+    }
+  }
+
+  @Benchmark
+  public void applyDeltasObject(Blackhole bh) {
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      bh.consume(balances[i].plus(rewards[i]).minusMinZero(penalties[i]));
+    }
+  }
+
+  @Benchmark
+  public void applyDeltasPrimitive(Blackhole bh) {
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final long balance =
+          UInt64.subtractMinZero(
+              UInt64.addExact(balances[i].longValue(), rewards[i].longValue()),
+              penalties[i].longValue());
+      bh.consume(balance);
+    }
+  }
+
+  @Benchmark
+  public void effectiveBalanceUpdatesObject(Blackhole bh) {
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final UInt64 balance = balances[i];
+      final UInt64 effectiveBalance = effectiveBalances[i];
+      if (balance.plus(DOWNWARD_THRESHOLD).isLessThan(effectiveBalance)
+          || effectiveBalance.plus(UPWARD_THRESHOLD).isLessThan(balance)) {
+        bh.consume(
+            balance.minus(balance.mod(EFFECTIVE_BALANCE_INCREMENT)).min(MAX_EFFECTIVE_BALANCE));
+      }
+    }
+  }
+
+  @Benchmark
+  public void effectiveBalanceUpdatesPrimitive(Blackhole bh) {
+    final long increment = EFFECTIVE_BALANCE_INCREMENT.longValue();
+    final long maxEffectiveBalance = MAX_EFFECTIVE_BALANCE.longValue();
+    final long downwardThreshold = DOWNWARD_THRESHOLD.longValue();
+    final long upwardThreshold = UPWARD_THRESHOLD.longValue();
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final long balance = balances[i].longValue();
+      final long effectiveBalance = effectiveBalances[i].longValue();
+      if (Long.compareUnsigned(UInt64.addExact(balance, downwardThreshold), effectiveBalance) < 0
+          || Long.compareUnsigned(UInt64.addExact(effectiveBalance, upwardThreshold), balance)
+              < 0) {
+        final long rounded = balance - Long.remainderUnsigned(balance, increment);
+        bh.consume(
+            Long.compareUnsigned(rounded, maxEffectiveBalance) < 0 ? rounded : maxEffectiveBalance);
+      }
+    }
+  }
+
+  @Benchmark
+  public void slotIterationObject(Blackhole bh) {
+    final UInt64 startSlot = UInt64.valueOf(1_000_000);
+    for (UInt64 slot = startSlot;
+        slot.isLessThan(startSlot.plus(SLOTS));
+        slot = slot.plus(UInt64.ONE)) {
+      bh.consume(slot);
+    }
+  }
+
+  @Benchmark
+  public void slotIterationPrimitive(Blackhole bh) {
+    final long startSlot = 1_000_000;
+    final long endSlot = UInt64.addExact(startSlot, SLOTS);
+    for (long slot = startSlot; slot < endSlot; slot++) {
+      bh.consume(slot);
+    }
+  }
+}
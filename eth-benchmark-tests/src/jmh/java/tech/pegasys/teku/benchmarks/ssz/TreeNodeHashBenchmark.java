@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.ssz.tree.LeafNode;
+import tech.pegasys.teku.ssz.tree.TreeNode;
+import tech.pegasys.teku.ssz.tree.TreeUtil;
+
+/**
+ * Measures hashing a freshly built tree (every branch node calculates and caches its hash) and
+ * reading the cached root hash of an already hashed tree.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class TreeNodeHashBenchmark {
+
+  @Param({"1024", "65536"})
+  int leafCount;
+
+  private List<TreeNode> leaves;
+  private TreeNode hashedTree;
+
+  @Setup
+  public void setup() {
+    leaves =
+        LongStream.range(0, leafCount)
+            .mapToObj(i -> LeafNode.create(Bytes.ofUnsignedLong(i)))
+            .collect(Collectors.toList());
+    hashedTree = TreeUtil.createTree(leaves);
+    hashedTree.hashTreeRoot();
+  }
+
+  @Benchmark
+  public void hashNewTree(Blackhole bh) {
+    bh.consume(TreeUtil.createTree(leaves).hashTreeRoot());
+  }
+
+  @Benchmark
+  public void readCachedRoot(Blackhole bh) {
+    bh.consume(hashedTree.hashTreeRoot());
+  }
+}
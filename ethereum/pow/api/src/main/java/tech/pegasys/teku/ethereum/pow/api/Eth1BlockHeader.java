@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.pow.api;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/** The subset of an Eth1 block that is required to populate the Eth1 data cache. */
+public class Eth1BlockHeader {
+
+  private final UInt64 blockNumber;
+  private final Bytes32 blockHash;
+  private final UInt64 timestamp;
+
+  public Eth1BlockHeader(
+      final UInt64 blockNumber, final Bytes32 blockHash, final UInt64 timestamp) {
+    this.blockNumber = blockNumber;
+    this.blockHash = blockHash;
+    this.timestamp = timestamp;
+  }
+
+  public UInt64 getBlockNumber() {
+    return blockNumber;
+  }
+
+  public Bytes32 getBlockHash() {
+    return blockHash;
+  }
+
+  public UInt64 getTimestamp() {
+    return timestamp;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final Eth1BlockHeader that = (Eth1BlockHeader) o;
+    return Objects.equals(blockNumber, that.blockNumber)
+        && Objects.equals(blockHash, that.blockHash)
+        && Objects.equals(timestamp, that.timestamp);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(blockNumber, blockHash, timestamp);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("blockNumber", blockNumber)
+        .add("blockHash", blockHash)
+        .add("timestamp", timestamp)
+        .toString();
+  }
+}
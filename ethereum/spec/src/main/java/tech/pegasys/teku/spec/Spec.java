@@ -57,6 +57,7 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.datastructures.util.ForkAndSpecMilestone;
 import tech.pegasys.teku.spec.genesis.GenesisGenerator;
 import tech.pegasys.teku.spec.logic.StateTransition;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessingListener;
 import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationInvalidReason;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
@@ -455,10 +456,12 @@ public class Spec {
       final MutableStore store,
       final SignedBeaconBlock signedBlock,
       final BeaconState blockSlotState,
-      final IndexedAttestationCache indexedAttestationCache) {
+      final IndexedAttestationCache indexedAttestationCache,
+      final BlockProcessingListener blockProcessingListener) {
     return atBlock(signedBlock)
         .getForkChoiceUtil()
-        .onBlock(store, signedBlock, blockSlotState, indexedAttestationCache);
+        .onBlock(
+            store, signedBlock, blockSlotState, indexedAttestationCache, blockProcessingListener);
   }
 
   public boolean blockDescendsFromLatestFinalizedBlock(
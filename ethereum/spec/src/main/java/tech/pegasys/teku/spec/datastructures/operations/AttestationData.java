@@ -22,6 +22,7 @@ import tech.pegasys.teku.ssz.containers.ContainerSchema5;
 import tech.pegasys.teku.ssz.primitive.SszBytes32;
 import tech.pegasys.teku.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.ssz.sos.SszReader;
 import tech.pegasys.teku.ssz.tree.TreeNode;
 
 public class AttestationData
@@ -45,6 +46,15 @@ public class AttestationData
     public AttestationData createFromBackingNode(TreeNode node) {
       return new AttestationData(this, node);
     }
+
+    /**
+     * Most of the attestations received over gossip are ignored after checking just a few of the
+     * data fields, so keep the decoded data as packed bytes rather than a full tree
+     */
+    @Override
+    public TreeNode sszDeserializeTree(SszReader reader) {
+      return sszDeserializePacked(reader);
+    }
   }
 
   public static final AttestationDataSchema SSZ_SCHEMA = new AttestationDataSchema();
@@ -141,7 +141,7 @@ public enum BeaconStateFields {
                 SszListSchema.create(
                     Validator.SSZ_SCHEMA,
                     specConfig.getValidatorRegistryLimit(),
-                    SszSchemaHints.sszSuperNode(8)));
+                    SszSchemaHints.sszSuperNode(8, true)));
     SszField balancesField =
         new SszField(
             12,
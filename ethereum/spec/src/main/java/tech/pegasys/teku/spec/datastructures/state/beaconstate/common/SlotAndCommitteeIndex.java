@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import com.google.common.base.MoreObjects;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Beacon committee cache key. Holds the unsigned slot and committee index as primitive longs so
+ * that committee lookups don't have to create {@link UInt64} instances
+ */
+public final class SlotAndCommitteeIndex {
+  private final long slot;
+  private final long committeeIndex;
+
+  public SlotAndCommitteeIndex(final long slot, final long committeeIndex) {
+    this.slot = slot;
+    this.committeeIndex = committeeIndex;
+  }
+
+  public static SlotAndCommitteeIndex of(final UInt64 slot, final UInt64 committeeIndex) {
+    return new SlotAndCommitteeIndex(slot.longValue(), committeeIndex.longValue());
+  }
+
+  public UInt64 getSlot() {
+    return UInt64.fromLongBits(slot);
+  }
+
+  public UInt64 getCommitteeIndex() {
+    return UInt64.fromLongBits(committeeIndex);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    final SlotAndCommitteeIndex that = (SlotAndCommitteeIndex) o;
+    return slot == that.slot && committeeIndex == that.committeeIndex;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(slot) + Long.hashCode(committeeIndex);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("slot", getSlot())
+        .add("committeeIndex", getCommitteeIndex())
+        .toString();
+  }
+}
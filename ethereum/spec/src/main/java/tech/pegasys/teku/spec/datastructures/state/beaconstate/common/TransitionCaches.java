@@ -14,6 +14,8 @@
 package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,8 +23,9 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
-import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.collections.cache.CacheStats;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
+import tech.pegasys.teku.infrastructure.collections.cache.TinyLfuCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -46,6 +49,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
+          NoOpCache.getNoOpCache(),
           ValidatorIndexCache.NO_OP_INSTANCE,
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
@@ -57,6 +61,52 @@ public class TransitionCaches {
         }
       };
 
+  // Caches with room for at least this many entries admit new entries by frequency. The smaller
+  // ones only hold the values for the current and previous epochs, so plain LRU suits them
+  private static final int MIN_ADMISSION_CAPACITY = 64;
+  // Committee caches are mostly accessed by recency, so the window is larger than the default to
+  // let the entries of a new slot build up their frequency before competing for the main space
+  private static final int WINDOW_PERCENT = 20;
+  private static final int NO_ADMISSION_WINDOW_PERCENT = 100;
+
+  // Stats are shared by the same caches of all instances so that they can be published as metrics
+  private static final Map<String, CacheStats> CACHE_STATS = new LinkedHashMap<>();
+
+  private static CacheStats createStats(final String name) {
+    final CacheStats stats = new CacheStats();
+    CACHE_STATS.put(name, stats);
+    return stats;
+  }
+
+  private static final CacheStats ACTIVE_VALIDATORS_STATS = createStats("active_validators");
+  private static final CacheStats BEACON_PROPOSER_INDEX_STATS =
+      createStats("beacon_proposer_index");
+  private static final CacheStats BEACON_COMMITTEE_STATS = createStats("beacon_committee");
+  private static final CacheStats BEACON_COMMITTEE_AGGREGATE_PUB_KEY_STATS =
+      createStats("beacon_committee_aggregate_pub_key");
+  private static final CacheStats ATTESTERS_TOTAL_BALANCE_STATS =
+      createStats("attesters_total_balance");
+  private static final CacheStats TOTAL_ACTIVE_BALANCE_STATS = createStats("total_active_balance");
+  private static final CacheStats VALIDATORS_PUB_KEYS_STATS = createStats("validators_pub_keys");
+  private static final CacheStats COMMITTEE_SHUFFLE_STATS = createStats("committee_shuffle");
+  private static final CacheStats EFFECTIVE_BALANCES_STATS = createStats("effective_balances");
+  private static final CacheStats SYNC_COMMITTEE_STATS = createStats("sync_committee");
+
+  /**
+   * The caches are accessed from many threads and copied with every state, so use the concurrent
+   * cache which copies lazily
+   */
+  private static <K, V> Cache<K, V> createCache(final int capacity, final CacheStats stats) {
+    final int windowPercent =
+        capacity >= MIN_ADMISSION_CAPACITY ? WINDOW_PERCENT : NO_ADMISSION_WINDOW_PERCENT;
+    return TinyLfuCache.create(capacity, windowPercent, stats);
+  }
+
+  /** Returns the hit, miss and eviction counts of all instances by cache name */
+  public static Map<String, CacheStats> getCacheStats() {
+    return Collections.unmodifiableMap(CACHE_STATS);
+  }
+
   /** Creates new instance with clean caches */
   public static TransitionCaches createNewEmpty() {
     return new TransitionCaches();
@@ -69,7 +119,8 @@ public class TransitionCaches {
 
   private final Cache<UInt64, IntList> activeValidators;
   private final Cache<UInt64, Integer> beaconProposerIndex;
-  private final Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee;
+  private final Cache<SlotAndCommitteeIndex, IntList> beaconCommittee;
+  private final Cache<TekuPair<UInt64, UInt64>, BLSPublicKey> beaconCommitteeAggregatePubKey;
   private final Cache<UInt64, UInt64> attestersTotalBalance;
   private final Cache<UInt64, UInt64> totalActiveBalance;
   private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
@@ -82,22 +133,30 @@ public class TransitionCaches {
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
 
   private TransitionCaches() {
-    activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
-    beaconProposerIndex = LRUCache.create(MAX_BEACON_PROPOSER_INDEX_CACHE);
-    beaconCommittee = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
-    attestersTotalBalance = LRUCache.create(MAX_BEACON_COMMITTEE_CACHE);
-    totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
-    validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
+    activeValidators = createCache(MAX_ACTIVE_VALIDATORS_CACHE, ACTIVE_VALIDATORS_STATS);
+    beaconProposerIndex =
+        createCache(MAX_BEACON_PROPOSER_INDEX_CACHE, BEACON_PROPOSER_INDEX_STATS);
+    beaconCommittee = createCache(MAX_BEACON_COMMITTEE_CACHE, BEACON_COMMITTEE_STATS);
+    beaconCommitteeAggregatePubKey =
+        createCache(MAX_BEACON_COMMITTEE_CACHE, BEACON_COMMITTEE_AGGREGATE_PUB_KEY_STATS);
+    attestersTotalBalance =
+        createCache(MAX_BEACON_COMMITTEE_CACHE, ATTESTERS_TOTAL_BALANCE_STATS);
+    totalActiveBalance = createCache(MAX_TOTAL_ACTIVE_BALANCE_CACHE, TOTAL_ACTIVE_BALANCE_STATS);
+    // effectively unbounded so it never evicts and has no use for admission
+    validatorsPubKeys =
+        TinyLfuCache.create(
+            Integer.MAX_VALUE - 1, NO_ADMISSION_WINDOW_PERCENT, VALIDATORS_PUB_KEYS_STATS);
     validatorIndexCache = new ValidatorIndexCache();
-    committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
-    effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
-    syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
+    committeeShuffle = createCache(MAX_COMMITTEE_SHUFFLE_CACHE, COMMITTEE_SHUFFLE_STATS);
+    effectiveBalances = createCache(MAX_EFFECTIVE_BALANCE_CACHE, EFFECTIVE_BALANCES_STATS);
+    syncCommitteeCache = createCache(MAX_SYNC_COMMITTEE_CACHE, SYNC_COMMITTEE_STATS);
   }
 
   private TransitionCaches(
       Cache<UInt64, IntList> activeValidators,
       Cache<UInt64, Integer> beaconProposerIndex,
-      Cache<TekuPair<UInt64, UInt64>, IntList> beaconCommittee,
+      Cache<SlotAndCommitteeIndex, IntList> beaconCommittee,
+      Cache<TekuPair<UInt64, UInt64>, BLSPublicKey> beaconCommitteeAggregatePubKey,
       Cache<UInt64, UInt64> attestersTotalBalance,
       Cache<UInt64, UInt64> totalActiveBalance,
       Cache<UInt64, BLSPublicKey> validatorsPubKeys,
@@ -108,6 +167,7 @@ public class TransitionCaches {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
+    this.beaconCommitteeAggregatePubKey = beaconCommitteeAggregatePubKey;
     this.attestersTotalBalance = attestersTotalBalance;
     this.totalActiveBalance = totalActiveBalance;
     this.validatorsPubKeys = validatorsPubKeys;
@@ -136,10 +196,15 @@ public class TransitionCaches {
   }
 
   /** (slot, committeeIndex) -> (committee) cache */
-  public Cache<TekuPair<UInt64, UInt64>, IntList> getBeaconCommittee() {
+  public Cache<SlotAndCommitteeIndex, IntList> getBeaconCommittee() {
     return beaconCommittee;
   }
 
+  /** (slot, committeeIndex) -> (aggregate of all committee members' pub keys) cache */
+  public Cache<TekuPair<UInt64, UInt64>, BLSPublicKey> getBeaconCommitteeAggregatePubKey() {
+    return beaconCommitteeAggregatePubKey;
+  }
+
   /** (slot) -> (total effective balance of attesters in slot) */
   public Cache<UInt64, UInt64> getAttestersTotalBalance() {
     return attestersTotalBalance;
@@ -195,6 +260,7 @@ public class TransitionCaches {
         activeValidators.copy(),
         beaconProposerIndex.copy(),
         beaconCommittee.copy(),
+        beaconCommitteeAggregatePubKey.copy(),
         attestersTotalBalance.copy(),
         totalActiveBalance.copy(),
         validatorsPubKeys,
@@ -127,15 +127,27 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final BeaconState blockSlotState,
       final IndexedAttestationCache indexedAttestationCache)
       throws StateTransitionException {
+    return processAndValidateBlock(
+        signedBlock, blockSlotState, indexedAttestationCache, BlockProcessingListener.NOOP);
+  }
+
+  @Override
+  public BeaconState processAndValidateBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache,
+      final BlockProcessingListener listener)
+      throws StateTransitionException {
     final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
     final BeaconState result =
         processAndValidateBlock(
-            signedBlock, blockSlotState, indexedAttestationCache, signatureVerifier);
+            signedBlock, blockSlotState, indexedAttestationCache, signatureVerifier, listener);
     if (!signatureVerifier.batchVerify()) {
       throw new StateTransitionException(
           "Batch signature verification failed for block "
               + LogFormatter.formatBlock(signedBlock.getSlot(), signedBlock.getRoot()));
     }
+    listener.onSignaturesVerified();
     return result;
   }
 
@@ -146,11 +158,32 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final IndexedAttestationCache indexedAttestationCache,
       final BLSSignatureVerifier signatureVerifier)
       throws StateTransitionException {
+    return processAndValidateBlock(
+        signedBlock,
+        blockSlotState,
+        indexedAttestationCache,
+        signatureVerifier,
+        BlockProcessingListener.NOOP);
+  }
+
+  private BeaconState processAndValidateBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache,
+      final BLSSignatureVerifier signatureVerifier,
+      final BlockProcessingListener listener)
+      throws StateTransitionException {
     try {
       // Process_block
       BeaconState postState =
           processUnsignedBlock(
               blockSlotState, signedBlock.getMessage(), indexedAttestationCache, signatureVerifier);
+      listener.onBlockProcessed();
+
+      // Calculate the state root up front so hashing is measured separately from signature checks.
+      // The root is cached so validating the post state doesn't recalculate it.
+      postState.hashTreeRoot();
+      listener.onStateRootCalculated();
 
       BlockValidationResult blockValidationResult =
           validateBlock(
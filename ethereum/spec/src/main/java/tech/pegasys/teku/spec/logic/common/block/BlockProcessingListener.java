@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.block;
+
+/**
+ * Notified as each step of processing and validating a block completes, so callers can measure
+ * where the time is spent. Steps are only reported if they succeed.
+ */
+public interface BlockProcessingListener {
+  BlockProcessingListener NOOP = new BlockProcessingListener() {};
+
+  /** The block has been applied to the pre-state, with signatures collected but not verified. */
+  default void onBlockProcessed() {}
+
+  /** The hash tree root of the post-state has been calculated. */
+  default void onStateRootCalculated() {}
+
+  /** All signatures in the block have been verified. */
+  default void onSignaturesVerified() {}
+}
@@ -46,6 +46,13 @@ public interface BlockProcessor {
       IndexedAttestationCache indexedAttestationCache)
       throws StateTransitionException;
 
+  BeaconState processAndValidateBlock(
+      SignedBeaconBlock signedBlock,
+      BeaconState blockSlotState,
+      IndexedAttestationCache indexedAttestationCache,
+      BlockProcessingListener listener)
+      throws StateTransitionException;
+
   /**
    * Processes the given block on top of {@code blockSlotState} and optionally validates the block
    *
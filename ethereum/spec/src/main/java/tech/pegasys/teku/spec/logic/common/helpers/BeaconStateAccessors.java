@@ -20,6 +20,7 @@ import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uint64ToBy
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -34,10 +35,14 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.SlotAndCommitteeIndex;
 import tech.pegasys.teku.ssz.SszList;
 import tech.pegasys.teku.ssz.type.Bytes4;
 
 public abstract class BeaconStateAccessors {
+  private static final String STATE_TOO_OLD_FOR_COMMITTEE_QUERY =
+      "Committee information must be derived from a state no older than the previous epoch. State at slot %s is older than cutoff slot %s";
+
   protected final SpecConfig config;
   protected final Predicates predicates;
   protected final MiscHelpers miscHelpers;
@@ -263,29 +268,59 @@ public abstract class BeaconStateAccessors {
   }
 
   public IntList getBeaconCommittee(BeaconState state, UInt64 slot, UInt64 index) {
+    return getBeaconCommittee(state, slot.longValue(), index.longValue());
+  }
+
+  /**
+   * Same as {@link #getBeaconCommittee(BeaconState, UInt64, UInt64)} with the slot and committee
+   * index as unsigned longs, so that callers iterating over slots and committees only create
+   * {@link UInt64} instances when the committee has to be computed
+   */
+  public IntList getBeaconCommittee(BeaconState state, long slot, long index) {
     // Make sure state is within range of the slot being queried
     validateStateForCommitteeQuery(state, slot);
 
     return BeaconStateCache.getTransitionCaches(state)
         .getBeaconCommittee()
+        .get(
+            new SlotAndCommitteeIndex(slot, index),
+            key -> computeBeaconCommittee(state, key.getSlot(), key.getCommitteeIndex()));
+  }
+
+  private IntList computeBeaconCommittee(BeaconState state, UInt64 slot, UInt64 index) {
+    UInt64 epoch = miscHelpers.computeEpochAtSlot(slot);
+    UInt64 committees_per_slot = getCommitteeCountPerSlot(state, epoch);
+    int committeeIndex =
+        slot.mod(config.getSlotsPerEpoch()).times(committees_per_slot).plus(index).intValue();
+    int count = committees_per_slot.times(config.getSlotsPerEpoch()).intValue();
+    return miscHelpers.computeCommittee(
+        state,
+        getActiveValidatorIndices(state, epoch),
+        getSeed(state, epoch, Domain.BEACON_ATTESTER),
+        committeeIndex,
+        count);
+  }
+
+  /**
+   * Returns the aggregate of the public keys of every member of the beacon committee. The result
+   * is the G1 point at infinity if any member's public key is invalid.
+   */
+  public BLSPublicKey getBeaconCommitteeAggregatePubKey(
+      BeaconState state, UInt64 slot, UInt64 index) {
+    final IntList committee = getBeaconCommittee(state, slot, index);
+    return BeaconStateCache.getTransitionCaches(state)
+        .getBeaconCommitteeAggregatePubKey()
         .get(
             TekuPair.of(slot, index),
-            p -> {
-              UInt64 epoch = miscHelpers.computeEpochAtSlot(slot);
-              UInt64 committees_per_slot = getCommitteeCountPerSlot(state, epoch);
-              int committeeIndex =
-                  slot.mod(config.getSlotsPerEpoch())
-                      .times(committees_per_slot)
-                      .plus(index)
-                      .intValue();
-              int count = committees_per_slot.times(config.getSlotsPerEpoch()).intValue();
-              return miscHelpers.computeCommittee(
-                  state,
-                  getActiveValidatorIndices(state, epoch),
-                  getSeed(state, epoch, Domain.BEACON_ATTESTER),
-                  committeeIndex,
-                  count);
-            });
+            __ ->
+                BLSPublicKey.aggregate(
+                    committee
+                        .intStream()
+                        .mapToObj(
+                            validatorIndex ->
+                                getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
+                                    .orElseThrow())
+                        .collect(Collectors.toList())));
   }
 
   public void validateStateForCommitteeQuery(BeaconState state, UInt64 slot) {
@@ -293,7 +328,17 @@ public abstract class BeaconStateAccessors {
         miscHelpers.getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot(slot);
     checkArgument(
         state.getSlot().compareTo(oldestQueryableSlot) >= 0,
-        "Committee information must be derived from a state no older than the previous epoch. State at slot %s is older than cutoff slot %s",
+        STATE_TOO_OLD_FOR_COMMITTEE_QUERY,
+        state.getSlot(),
+        oldestQueryableSlot);
+  }
+
+  private void validateStateForCommitteeQuery(BeaconState state, long slot) {
+    final long oldestQueryableSlot =
+        miscHelpers.getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot(slot);
+    checkArgument(
+        Long.compareUnsigned(state.getSlot().longValue(), oldestQueryableSlot) >= 0,
+        STATE_TOO_OLD_FOR_COMMITTEE_QUERY,
         state.getSlot(),
         oldestQueryableSlot);
   }
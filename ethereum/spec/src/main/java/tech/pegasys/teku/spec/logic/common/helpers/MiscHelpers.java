@@ -120,6 +120,17 @@ public class MiscHelpers {
     return getEarliestQueryableSlotForBeaconCommitteeInTargetEpoch(epoch);
   }
 
+  /**
+   * Same as {@link #getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot(UInt64)} with the slot
+   * as an unsigned long
+   */
+  public long getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot(final long slot) {
+    final long slotsPerEpoch = specConfig.getSlotsPerEpoch();
+    final long epoch = Long.divideUnsigned(slot, slotsPerEpoch);
+    final long previousEpoch = epoch > 0 ? epoch - 1 : epoch;
+    return previousEpoch * slotsPerEpoch;
+  }
+
   public UInt64 getEarliestQueryableSlotForBeaconCommitteeInTargetEpoch(final UInt64 epoch) {
     final UInt64 previousEpoch = epoch.compareTo(UInt64.ZERO) > 0 ? epoch.minus(UInt64.ONE) : epoch;
     return computeStartSlotAtEpoch(previousEpoch);
@@ -204,8 +204,14 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     int validatorsCount = state.getValidators().size();
     for (int i = 0; i < validatorsCount; i++) {
       final RewardAndPenalty delta = attestationDeltas.getDelta(i);
-      balances.setElement(
-          i, balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty()));
+      final long balance = balances.getElement(i).longValue();
+      final long newBalance =
+          UInt64.subtractMinZero(
+              UInt64.addExact(balance, delta.getReward().longValue()),
+              delta.getPenalty().longValue());
+      if (newBalance != balance) {
+        balances.setElement(i, UInt64.fromLongBits(newBalance));
+      }
     }
   }
 
@@ -341,44 +347,56 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     // Update effective balances with hysteresis
     SszMutableList<Validator> validators = state.getValidators();
     SszUInt64List balances = state.getBalances();
+    // Loop invariants are calculated once and the per validator arithmetic is done on primitive
+    // values, so a new UInt64 is only created when an effective balance actually changes
+    final long effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement().longValue();
+    final long maxEffectiveBalance = specConfig.getMaxEffectiveBalance().longValue();
+    final long hysteresisIncrement =
+        specConfig
+            .getEffectiveBalanceIncrement()
+            .dividedBy(specConfig.getHysteresisQuotient())
+            .longValue();
+    final long downwardThreshold =
+        UInt64.multiplyExact(
+            hysteresisIncrement, specConfig.getHysteresisDownwardMultiplier().longValue());
+    final long upwardThreshold =
+        UInt64.multiplyExact(
+            hysteresisIncrement, specConfig.getHysteresisUpwardMultiplier().longValue());
     for (int index = 0; index < validators.size(); index++) {
       Validator validator = validators.get(index);
-      UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement =
-          specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
-      final UInt64 currentEffectiveBalance = validator.getEffective_balance();
-      if (shouldDecreaseEffectiveBalance(balance, hysteresisIncrement, currentEffectiveBalance)
+      final long balance = balances.getElement(index).longValue();
+      final long currentEffectiveBalance = validator.getEffective_balance().longValue();
+      if (shouldDecreaseEffectiveBalance(balance, downwardThreshold, currentEffectiveBalance)
           || shouldIncreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance)) {
-        final UInt64 newEffectiveBalance =
-            balance
-                .minus(balance.mod(specConfig.getEffectiveBalanceIncrement()))
-                .min(specConfig.getMaxEffectiveBalance());
-        validators.set(index, validator.withEffective_balance(newEffectiveBalance));
+              balance, upwardThreshold, currentEffectiveBalance, maxEffectiveBalance)) {
+        final long roundedBalance =
+            balance - Long.remainderUnsigned(balance, effectiveBalanceIncrement);
+        final long newEffectiveBalance =
+            Long.compareUnsigned(roundedBalance, maxEffectiveBalance) < 0
+                ? roundedBalance
+                : maxEffectiveBalance;
+        validators.set(
+            index, validator.withEffective_balance(UInt64.fromLongBits(newEffectiveBalance)));
       }
     }
   }
 
   private boolean shouldIncreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance) {
-    final UInt64 upwardThreshold =
-        hysteresisIncrement.times(specConfig.getHysteresisUpwardMultiplier());
+      final long balance,
+      final long upwardThreshold,
+      final long currentEffectiveBalance,
+      final long maxEffectiveBalance) {
     // This condition doesn't match the spec but is an optimisation to avoid creating a new
     // validator with the same effective balance when it's already at the maximum.
-    return !currentEffectiveBalance.equals(specConfig.getMaxEffectiveBalance())
-        && currentEffectiveBalance.plus(upwardThreshold).isLessThan(balance);
+    final long threshold = UInt64.addExact(currentEffectiveBalance, upwardThreshold);
+    return currentEffectiveBalance != maxEffectiveBalance
+        && Long.compareUnsigned(threshold, balance) < 0;
   }
 
   private boolean shouldDecreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance) {
-    final UInt64 downwardThreshold =
-        hysteresisIncrement.times(specConfig.getHysteresisDownwardMultiplier());
-    return balance.plus(downwardThreshold).isLessThan(currentEffectiveBalance);
+      final long balance, final long downwardThreshold, final long currentEffectiveBalance) {
+    final long increasedBalance = UInt64.addExact(balance, downwardThreshold);
+    return Long.compareUnsigned(increasedBalance, currentEffectiveBalance) < 0;
   }
 
   @Override
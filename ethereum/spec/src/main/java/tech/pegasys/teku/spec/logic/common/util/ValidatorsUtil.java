@@ -102,17 +102,17 @@ public class ValidatorsUtil {
     checkArgument(
         epoch.compareTo(next_epoch) <= 0, "get_committee_assignment: Epoch number too high");
 
-    UInt64 start_slot = miscHelpers.computeStartSlotAtEpoch(epoch);
-    for (UInt64 slot = start_slot;
-        slot.isLessThan(start_slot.plus(specConfig.getSlotsPerEpoch()));
-        slot = slot.plus(UInt64.ONE)) {
-
-      for (UInt64 index = UInt64.ZERO;
-          index.compareTo(committeeCountPerSlot) < 0;
-          index = index.plus(UInt64.ONE)) {
+    // Iterate over primitive values and only create UInt64 instances for the assignment found
+    final long startSlot = miscHelpers.computeStartSlotAtEpoch(epoch).longValue();
+    final long endSlot = UInt64.addExact(startSlot, specConfig.getSlotsPerEpoch());
+    final long committeeCount = committeeCountPerSlot.longValue();
+    for (long slot = startSlot; slot < endSlot; slot++) {
+      for (long index = 0; index < committeeCount; index++) {
         final IntList committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
         if (committee.contains(validator_index)) {
-          return Optional.of(new CommitteeAssignment(committee, index, slot));
+          return Optional.of(
+              new CommitteeAssignment(
+                  committee, UInt64.fromLongBits(index), UInt64.fromLongBits(slot)));
         }
       }
     }
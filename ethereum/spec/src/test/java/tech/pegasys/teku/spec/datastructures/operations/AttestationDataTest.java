@@ -14,6 +14,7 @@
 package tech.pegasys.teku.spec.datastructures.operations;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
@@ -28,6 +29,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.util.config.Constants;
 
 class AttestationDataTest {
@@ -164,4 +166,36 @@ class AttestationDataTest {
     assertEquals(
         attestationData, AttestationData.SSZ_SCHEMA.sszDeserialize(sszAttestationDataBytes));
   }
+
+  @Test
+  void deserializedDataShouldReadFieldsAndHashLikeTreeBackedData() {
+    final AttestationData deserialized =
+        AttestationData.SSZ_SCHEMA.sszDeserialize(attestationData.sszSerialize());
+
+    assertThat(deserialized.getSlot()).isEqualTo(slot);
+    assertThat(deserialized.getIndex()).isEqualTo(index);
+    assertThat(deserialized.getBeacon_block_root()).isEqualTo(beaconBlockRoot);
+    assertThat(deserialized.getSource()).isEqualTo(source);
+    assertThat(deserialized.getTarget().getEpoch()).isEqualTo(target_epoch);
+    assertThat(deserialized.getTarget().getRoot()).isEqualTo(target_root);
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(attestationData.hashTreeRoot());
+    assertThat(deserialized.sszSerialize()).isEqualTo(attestationData.sszSerialize());
+  }
+
+  @Test
+  void deserializedDataShouldBeUpdatable() {
+    final AttestationData deserialized =
+        AttestationData.SSZ_SCHEMA.sszDeserialize(attestationData.sszSerialize());
+    final UInt64 newSlot = slot.plus(ONE);
+
+    assertThat(new AttestationData(newSlot, deserialized))
+        .isEqualTo(new AttestationData(newSlot, attestationData));
+  }
+
+  @Test
+  void deserializeShouldFailWhenSszHasExtraBytes() {
+    final Bytes ssz = Bytes.concatenate(attestationData.sszSerialize(), Bytes.of(0));
+    assertThatThrownBy(() -> AttestationData.SSZ_SCHEMA.sszDeserialize(ssz))
+        .isInstanceOf(SszDeserializeException.class);
+  }
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.spec.logic.common.helpers;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -129,6 +130,29 @@ public class BeaconStateAccessorsTest {
     assertDoesNotThrow(() -> beaconStateAccessors.getBeaconCommittee(state, oldSlot, ONE));
   }
 
+  @Test
+  public void getBeaconCommittee_primitiveStateIsTooOld() {
+    final UInt64 epochSlot = spec.computeStartSlotAtEpoch(ONE);
+    final BeaconState state = dataStructureUtil.randomBeaconState(epochSlot);
+
+    final long outOfRangeSlot = spec.computeStartSlotAtEpoch(UInt64.valueOf(3)).longValue();
+    assertThatThrownBy(() -> beaconStateAccessors.getBeaconCommittee(state, outOfRangeSlot, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(
+            "Committee information must be derived from a state no older than the previous epoch");
+  }
+
+  @Test
+  public void getBeaconCommittee_primitiveShouldReturnSameCommitteeAsUInt64() {
+    final UInt64 epochSlot = spec.computeStartSlotAtEpoch(ONE);
+    final BeaconState state = dataStructureUtil.randomBeaconState(epochSlot);
+    final IntList committee =
+        beaconStateAccessors.getBeaconCommittee(state, epochSlot.plus(ONE), ONE);
+
+    assertThat(beaconStateAccessors.getBeaconCommittee(state, epochSlot.longValue() + 1, 1))
+        .isEqualTo(committee);
+  }
+
   private BeaconState createBeaconState() {
     return new BeaconStateTestBuilder(dataStructureUtil)
         .forkVersion(specConfig.getGenesisForkVersion())
@@ -152,6 +152,25 @@ class MiscHelpersTest {
     }
   }
 
+  @ParameterizedTest(name = "slot={0}")
+  @MethodSource("getSlotValues")
+  void getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot_primitiveShouldMatchUInt64(
+      final UInt64 slot) {
+    assertThat(miscHelpers.getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot(slot.longValue()))
+        .isEqualTo(
+            miscHelpers.getEarliestQueryableSlotForBeaconCommitteeAtTargetSlot(slot).longValue());
+  }
+
+  public static Stream<Arguments> getSlotValues() {
+    return Stream.of(
+        Arguments.of(UInt64.ZERO),
+        Arguments.of(UInt64.ONE),
+        Arguments.of(UInt64.valueOf(7)),
+        Arguments.of(UInt64.valueOf(8)),
+        Arguments.of(UInt64.valueOf(19)),
+        Arguments.of(UInt64.fromLongBits(Long.MIN_VALUE + 3)));
+  }
+
   public static Stream<Arguments> getNValues() {
     return Stream.of(
         Arguments.of(1), Arguments.of(2), Arguments.of(3), Arguments.of(4), Arguments.of(5));
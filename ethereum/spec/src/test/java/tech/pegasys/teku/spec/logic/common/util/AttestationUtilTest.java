@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.constants.Domain;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.ssz.collections.SszBitlist;
+
+class AttestationUtilTest {
+  private static final int VALIDATOR_COUNT = 64;
+  private static final UInt64 SLOT = UInt64.ONE;
+  private static final UInt64 COMMITTEE_INDEX = UInt64.ZERO;
+  private static final Bytes48 INFINITY_PUBKEY =
+      Bytes48.fromHexString(
+          "0xc00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000");
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationUtil attestationUtil = spec.getGenesisSpec().getAttestationUtil();
+  private final List<BLSKeyPair> keyPairs =
+      IntStream.range(0, VALIDATOR_COUNT)
+          .mapToObj(BLSTestUtil::randomKeyPair)
+          .collect(Collectors.toList());
+  private final CapturingSignatureVerifier signatureVerifier = new CapturingSignatureVerifier();
+
+  private final BeaconState state = createState();
+  private final IntList committee = spec.getBeaconCommittee(state, SLOT, COMMITTEE_INDEX);
+  private final AttestationData attestationData =
+      new AttestationData(
+          SLOT,
+          COMMITTEE_INDEX,
+          dataStructureUtil.randomBytes32(),
+          new Checkpoint(UInt64.ZERO, dataStructureUtil.randomBytes32()),
+          new Checkpoint(UInt64.ZERO, dataStructureUtil.randomBytes32()));
+
+  @Test
+  void isValidIndexedAttestation_shouldVerifyDenseAttestationAgainstCommitteeAggregate() {
+    final int[] participants = allButFirstCommitteePosition();
+    final Attestation attestation = createAttestation(participants, participants);
+
+    assertThat(validate(state, attestation)).isEqualTo(AttestationProcessingResult.SUCCESSFUL);
+    assertThat(signatureVerifier.publicKeyCounts).containsExactly(1);
+  }
+
+  @Test
+  void isValidIndexedAttestation_shouldVerifySparseAttestationAgainstParticipantKeys() {
+    final int[] participants = IntStream.range(0, committee.size() / 2).toArray();
+    final Attestation attestation = createAttestation(participants, participants);
+
+    assertThat(validate(state, attestation)).isEqualTo(AttestationProcessingResult.SUCCESSFUL);
+    assertThat(signatureVerifier.publicKeyCounts).containsExactly(participants.length);
+  }
+
+  @Test
+  void isValidIndexedAttestation_shouldVerifyAgainstParticipantKeysWhenCommitteeHasInvalidKey() {
+    final int[] participants = allButFirstCommitteePosition();
+    final int nonParticipantIndex = committee.getInt(0);
+    final BeaconState stateWithInvalidKey =
+        state.updated(
+            s -> {
+              final Validator validator = s.getValidators().get(nonParticipantIndex);
+              s.getValidators()
+                  .set(
+                      nonParticipantIndex,
+                      new Validator(
+                          INFINITY_PUBKEY,
+                          validator.getWithdrawal_credentials(),
+                          validator.getEffective_balance(),
+                          validator.isSlashed(),
+                          validator.getActivation_eligibility_epoch(),
+                          validator.getActivation_epoch(),
+                          validator.getExit_epoch(),
+                          validator.getWithdrawable_epoch()));
+            });
+    final Attestation attestation = createAttestation(participants, participants);
+
+    assertThat(validate(stateWithInvalidKey, attestation))
+        .isEqualTo(AttestationProcessingResult.SUCCESSFUL);
+    assertThat(signatureVerifier.publicKeyCounts).containsExactly(participants.length);
+  }
+
+  @Test
+  void isValidIndexedAttestation_shouldRejectDenseAttestationWithInvalidSignature() {
+    final int[] participants = allButFirstCommitteePosition();
+    // Signed by the whole committee, so doesn't match the participants in the aggregation bits
+    final int[] signers = IntStream.range(0, committee.size()).toArray();
+    final Attestation attestation = createAttestation(participants, signers);
+
+    final AttestationProcessingResult result = validate(state, attestation);
+    assertThat(result.isInvalid()).isTrue();
+    assertThat(signatureVerifier.publicKeyCounts).containsExactly(1);
+  }
+
+  private AttestationProcessingResult validate(
+      final BeaconState state, final Attestation attestation) {
+    return attestationUtil.isValidIndexedAttestation(
+        state.getFork(), state, ValidateableAttestation.from(spec, attestation), signatureVerifier);
+  }
+
+  private int[] allButFirstCommitteePosition() {
+    assertThat(committee.size()).isGreaterThan(2);
+    return IntStream.range(1, committee.size()).toArray();
+  }
+
+  private Attestation createAttestation(
+      final int[] participatingPositions, final int[] signingPositions) {
+    final SszBitlist aggregationBits =
+        Attestation.SSZ_SCHEMA
+            .getAggregationBitsSchema()
+            .ofBits(committee.size(), participatingPositions);
+    final Bytes32 domain =
+        spec.getDomain(
+            Domain.BEACON_ATTESTER,
+            attestationData.getTarget().getEpoch(),
+            state.getFork(),
+            state.getGenesis_validators_root());
+    final Bytes signingRoot =
+        spec.getGenesisSpec().miscHelpers().computeSigningRoot(attestationData, domain);
+    final List<BLSSignature> signatures =
+        Arrays.stream(signingPositions)
+            .mapToObj(
+                position ->
+                    BLS.sign(keyPairs.get(committee.getInt(position)).getSecretKey(), signingRoot))
+            .collect(Collectors.toList());
+    return new Attestation(aggregationBits, attestationData, BLS.aggregate(signatures));
+  }
+
+  private BeaconState createState() {
+    final UInt64 maxEffectiveBalance = spec.getGenesisSpecConfig().getMaxEffectiveBalance();
+    final Validator[] validators =
+        keyPairs.stream()
+            .map(
+                keyPair ->
+                    new Validator(
+                        keyPair.getPublicKey(),
+                        dataStructureUtil.randomBytes32(),
+                        maxEffectiveBalance,
+                        false,
+                        UInt64.ZERO,
+                        UInt64.ZERO,
+                        FAR_FUTURE_EPOCH,
+                        FAR_FUTURE_EPOCH))
+            .toArray(Validator[]::new);
+    final UInt64[] balances = new UInt64[VALIDATOR_COUNT];
+    Arrays.fill(balances, maxEffectiveBalance);
+    return dataStructureUtil
+        .stateBuilderPhase0(VALIDATOR_COUNT, 10)
+        .slot(SLOT)
+        .validators(validators)
+        .balances(balances)
+        .build();
+  }
+
+  private static class CapturingSignatureVerifier implements BLSSignatureVerifier {
+    private final List<Integer> publicKeyCounts = new ArrayList<>();
+
+    @Override
+    public boolean verify(
+        final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+      publicKeyCounts.add(publicKeys.size());
+      return BLSSignatureVerifier.SIMPLE.verify(publicKeys, message, signature);
+    }
+
+    @Override
+    public boolean verify(
+        final List<List<BLSPublicKey>> publicKeys,
+        final List<Bytes> messages,
+        final List<BLSSignature> signatures) {
+      publicKeys.forEach(keys -> publicKeyCounts.add(keys.size()));
+      return BLSSignatureVerifier.SIMPLE.verify(publicKeys, messages, signatures);
+    }
+  }
+}
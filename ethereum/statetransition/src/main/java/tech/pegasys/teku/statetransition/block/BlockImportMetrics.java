@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import static tech.pegasys.teku.infrastructure.logging.EventLogger.EVENT_LOG;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage;
+
+/**
+ * Records the time taken by each stage of successful block imports and keeps the most recent slow
+ * imports so they can be inspected after the fact.
+ */
+public class BlockImportMetrics {
+  static final long SLOW_IMPORT_THRESHOLD_MILLIS = 500;
+  static final int MAX_RECENT_SLOW_IMPORTS = 20;
+
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram totalDurationHistogram;
+  private final Map<Stage, MetricsHistogram> stageDurationHistograms;
+
+  private final Deque<BlockImportPerformance> recentSlowImports = new ArrayDeque<>();
+
+  @VisibleForTesting
+  BlockImportMetrics(
+      final TimeProvider timeProvider,
+      final MetricsHistogram totalDurationHistogram,
+      final Map<Stage, MetricsHistogram> stageDurationHistograms) {
+    this.timeProvider = timeProvider;
+    this.totalDurationHistogram = totalDurationHistogram;
+    this.stageDurationHistograms = stageDurationHistograms;
+  }
+
+  public static BlockImportMetrics create(
+      final MetricsSystem metricsSystem, final TimeProvider timeProvider) {
+    final MetricsHistogram totalDurationHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "block_import_duration",
+            "Histogram recording the time in milliseconds taken to import a block",
+            1);
+    final Map<Stage, MetricsHistogram> stageDurationHistograms = new EnumMap<>(Stage.class);
+    for (Stage stage : Stage.values()) {
+      stageDurationHistograms.put(
+          stage,
+          MetricsHistogram.create(
+              TekuMetricCategory.BEACON,
+              metricsSystem,
+              "block_import_" + stage.getDisplayName() + "_duration",
+              "Histogram recording the time in milliseconds taken by the "
+                  + stage.getDisplayName().replace('_', ' ')
+                  + " stage of block import",
+              1));
+    }
+    return new BlockImportMetrics(timeProvider, totalDurationHistogram, stageDurationHistograms);
+  }
+
+  public BlockImportPerformance startImport(final SignedBeaconBlock block) {
+    return new BlockImportPerformance(timeProvider, block.getSlot(), block.getRoot());
+  }
+
+  /**
+   * Records a successfully imported block.
+   *
+   * @param performance the timings captured while importing the block
+   * @param logIfSlow whether to log a summary if the import was slow. Blocks imported while syncing
+   *     are expected to queue up behind each other so shouldn't be reported.
+   */
+  public void onImportCompleted(final BlockImportPerformance performance, final boolean logIfSlow) {
+    performance.importCompleted();
+    final long totalDurationMillis = performance.getTotalDurationMillis().longValue();
+    totalDurationHistogram.recordValue(totalDurationMillis);
+    performance
+        .getStageDurationsMillis()
+        .forEach(
+            (stage, duration) ->
+                stageDurationHistograms.get(stage).recordValue(duration.longValue()));
+
+    if (totalDurationMillis < SLOW_IMPORT_THRESHOLD_MILLIS) {
+      return;
+    }
+    synchronized (recentSlowImports) {
+      if (recentSlowImports.size() >= MAX_RECENT_SLOW_IMPORTS) {
+        recentSlowImports.removeLast();
+      }
+      recentSlowImports.addFirst(performance);
+    }
+    if (logIfSlow) {
+      EVENT_LOG.slowBlockImport(
+          performance.getSlot(),
+          performance.getBlockRoot(),
+          totalDurationMillis,
+          performance.formatStageDurations());
+    }
+  }
+
+  /** Returns the most recent imports which exceeded the slow import threshold, newest first. */
+  public List<BlockImportPerformance> getRecentSlowImports() {
+    synchronized (recentSlowImports) {
+      return new ArrayList<>(recentSlowImports);
+    }
+  }
+}
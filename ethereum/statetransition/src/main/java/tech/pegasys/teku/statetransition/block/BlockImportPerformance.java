@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessingListener;
+
+/**
+ * Records how long each stage of importing a single block took.
+ *
+ * <p>Each stage is measured from the end of the previous one, so the stage durations add up to the
+ * total import time. Stages are completed in order but may be on different threads, each one
+ * handing over to the next via a future.
+ */
+public class BlockImportPerformance implements BlockProcessingListener {
+
+  public enum Stage {
+    WEAK_SUBJECTIVITY_CHECK("weak_subjectivity_check"),
+    PRE_STATE_RETRIEVAL("pre_state_retrieval"),
+    FORK_CHOICE_QUEUE("fork_choice_queue"),
+    BLOCK_PROCESSING("block_processing"),
+    STATE_ROOT("state_root"),
+    SIGNATURE_VERIFICATION("signature_verification"),
+    STORE_TRANSACTION("store_transaction"),
+    FORK_CHOICE_UPDATE("fork_choice_update");
+
+    private final String displayName;
+
+    Stage(final String displayName) {
+      this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+      return displayName;
+    }
+  }
+
+  private final TimeProvider timeProvider;
+  private final UInt64 slot;
+  private final Bytes32 blockRoot;
+  private final UInt64 startTimeMillis;
+  private final Map<Stage, UInt64> stageDurationsMillis = new EnumMap<>(Stage.class);
+  private UInt64 lastStageCompletedMillis;
+  private UInt64 totalDurationMillis = UInt64.ZERO;
+
+  BlockImportPerformance(
+      final TimeProvider timeProvider, final UInt64 slot, final Bytes32 blockRoot) {
+    this.timeProvider = timeProvider;
+    this.slot = slot;
+    this.blockRoot = blockRoot;
+    this.startTimeMillis = timeProvider.getTimeInMillis();
+    this.lastStageCompletedMillis = startTimeMillis;
+  }
+
+  public void stageCompleted(final Stage stage) {
+    final UInt64 now = timeProvider.getTimeInMillis();
+    stageDurationsMillis.put(stage, now.minusMinZero(lastStageCompletedMillis));
+    lastStageCompletedMillis = now;
+  }
+
+  void importCompleted() {
+    totalDurationMillis = timeProvider.getTimeInMillis().minusMinZero(startTimeMillis);
+  }
+
+  @Override
+  public void onBlockProcessed() {
+    stageCompleted(Stage.BLOCK_PROCESSING);
+  }
+
+  @Override
+  public void onStateRootCalculated() {
+    stageCompleted(Stage.STATE_ROOT);
+  }
+
+  @Override
+  public void onSignaturesVerified() {
+    stageCompleted(Stage.SIGNATURE_VERIFICATION);
+  }
+
+  public UInt64 getSlot() {
+    return slot;
+  }
+
+  public Bytes32 getBlockRoot() {
+    return blockRoot;
+  }
+
+  public UInt64 getTotalDurationMillis() {
+    return totalDurationMillis;
+  }
+
+  public Map<Stage, UInt64> getStageDurationsMillis() {
+    return Collections.unmodifiableMap(stageDurationsMillis);
+  }
+
+  public String formatStageDurations() {
+    return stageDurationsMillis.entrySet().stream()
+        .map(entry -> entry.getKey().getDisplayName() + "=" + entry.getValue() + "ms")
+        .collect(Collectors.joining(", "));
+  }
+}
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.statetransition.block;
 
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage.WEAK_SUBJECTIVITY_CHECK;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Objects;
 import java.util.Optional;
@@ -45,6 +47,7 @@ public class BlockImporter {
   private final RecentChainData recentChainData;
   private final ForkChoice forkChoice;
   private final WeakSubjectivityValidator weakSubjectivityValidator;
+  private final Optional<BlockImportMetrics> blockImportMetrics;
 
   private final Subscribers<VerifiedBlockAttestationListener> attestationSubscribers =
       Subscribers.create(true);
@@ -63,10 +66,25 @@ public class BlockImporter {
       final RecentChainData recentChainData,
       final ForkChoice forkChoice,
       final WeakSubjectivityValidator weakSubjectivityValidator) {
+    this(
+        blockImportNotifications,
+        recentChainData,
+        forkChoice,
+        weakSubjectivityValidator,
+        Optional.empty());
+  }
+
+  public BlockImporter(
+      final BlockImportNotifications blockImportNotifications,
+      final RecentChainData recentChainData,
+      final ForkChoice forkChoice,
+      final WeakSubjectivityValidator weakSubjectivityValidator,
+      final Optional<BlockImportMetrics> blockImportMetrics) {
     this.blockImportNotifications = blockImportNotifications;
     this.recentChainData = recentChainData;
     this.forkChoice = forkChoice;
     this.weakSubjectivityValidator = weakSubjectivityValidator;
+    this.blockImportMetrics = blockImportMetrics;
   }
 
   @CheckReturnValue
@@ -83,8 +101,12 @@ public class BlockImporter {
       return SafeFuture.completedFuture(BlockImportResult.FAILED_WEAK_SUBJECTIVITY_CHECKS);
     }
 
+    final Optional<BlockImportPerformance> blockImportPerformance =
+        blockImportMetrics.map(metrics -> metrics.startImport(block));
     return validateWeakSubjectivityPeriod()
-        .thenCompose(__ -> forkChoice.onBlock(block))
+        .thenPeek(
+            __ -> blockImportPerformance.ifPresent(p -> p.stageCompleted(WEAK_SUBJECTIVITY_CHECK)))
+        .thenCompose(__ -> forkChoice.onBlock(block, blockImportPerformance))
         .thenApply(
             result -> {
               if (!result.isSuccessful()) {
@@ -95,6 +117,11 @@ public class BlockImporter {
                 return result;
               }
               LOG.trace("Successfully imported block {}", () -> formatBlock(block));
+              blockImportPerformance.ifPresent(
+                  performance ->
+                      blockImportMetrics
+                          .orElseThrow()
+                          .onImportCompleted(performance, isRecentBlock(block)));
 
               blockImportNotifications.onBlockImported(block);
 
@@ -113,6 +140,13 @@ public class BlockImporter {
             });
   }
 
+  private boolean isRecentBlock(final SignedBeaconBlock block) {
+    return recentChainData
+        .getCurrentSlot()
+        .map(currentSlot -> block.getSlot().plus(1).isGreaterThanOrEqualTo(currentSlot))
+        .orElse(false);
+  }
+
   private SafeFuture<?> validateWeakSubjectivityPeriod() {
     return getLatestCheckpointState()
         .thenCombine(
@@ -15,6 +15,10 @@ package tech.pegasys.teku.statetransition.forkchoice;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.logging.P2PLogger.P2P_LOG;
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage.FORK_CHOICE_QUEUE;
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage.FORK_CHOICE_UPDATE;
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage.PRE_STATE_RETRIEVAL;
+import static tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage.STORE_TRANSACTION;
 import static tech.pegasys.teku.statetransition.forkchoice.StateRootCollector.addParentStateRoots;
 
 import com.google.common.base.Throwables;
@@ -43,8 +47,10 @@ import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessingListener;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
+import tech.pegasys.teku.statetransition.block.BlockImportPerformance;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.store.UpdatableStore;
 import tech.pegasys.teku.storage.store.UpdatableStore.StoreTransaction;
@@ -160,9 +166,21 @@ public class ForkChoice {
 
   /** Import a block to the store. */
   public SafeFuture<BlockImportResult> onBlock(final SignedBeaconBlock block) {
+    return onBlock(block, Optional.empty());
+  }
+
+  /**
+   * Import a block to the store, recording the time taken by each stage in the supplied
+   * blockImportPerformance if present.
+   */
+  public SafeFuture<BlockImportResult> onBlock(
+      final SignedBeaconBlock block,
+      final Optional<BlockImportPerformance> blockImportPerformance) {
     return recentChainData
         .retrieveStateAtSlot(new SlotAndBlockRoot(block.getSlot(), block.getParentRoot()))
-        .thenCompose(blockSlotState -> onBlock(block, blockSlotState));
+        .thenPeek(
+            __ -> blockImportPerformance.ifPresent(p -> p.stageCompleted(PRE_STATE_RETRIEVAL)))
+        .thenCompose(blockSlotState -> onBlock(block, blockSlotState, blockImportPerformance));
   }
 
   /**
@@ -170,7 +188,9 @@ public class ForkChoice {
    * processed to the same slot as the block.
    */
   private SafeFuture<BlockImportResult> onBlock(
-      final SignedBeaconBlock block, Optional<BeaconState> blockSlotState) {
+      final SignedBeaconBlock block,
+      final Optional<BeaconState> blockSlotState,
+      final Optional<BlockImportPerformance> blockImportPerformance) {
     if (blockSlotState.isEmpty()) {
       return SafeFuture.completedFuture(BlockImportResult.FAILED_UNKNOWN_PARENT);
     }
@@ -181,6 +201,7 @@ public class ForkChoice {
         blockSlotState.get().getSlot());
     return onForkChoiceThread(
         () -> {
+          blockImportPerformance.ifPresent(p -> p.stageCompleted(FORK_CHOICE_QUEUE));
           final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
           final StoreTransaction transaction = recentChainData.startStoreTransaction();
           final CapturingIndexedAttestationCache indexedAttestationCache =
@@ -189,7 +210,14 @@ public class ForkChoice {
           addParentStateRoots(blockSlotState.get(), transaction);
 
           final BlockImportResult result =
-              spec.onBlock(transaction, block, blockSlotState.get(), indexedAttestationCache);
+              spec.onBlock(
+                  transaction,
+                  block,
+                  blockSlotState.get(),
+                  indexedAttestationCache,
+                  blockImportPerformance
+                      .map(BlockProcessingListener.class::cast)
+                      .orElse(BlockProcessingListener.NOOP));
 
           if (!result.isSuccessful()) {
             if (result.getFailureReason() != FailureReason.BLOCK_IS_FROM_FUTURE) {
@@ -205,6 +233,7 @@ public class ForkChoice {
           }
           // Note: not using thenRun here because we want to ensure each step is on the event thread
           transaction.commit().join();
+          blockImportPerformance.ifPresent(p -> p.stageCompleted(STORE_TRANSACTION));
           updateForkChoiceForImportedBlock(block, blockSlotState.get(), result, forkChoiceStrategy);
           final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(transaction));
 
@@ -215,6 +244,7 @@ public class ForkChoice {
               .isGreaterThanOrEqualTo(currentEpoch.minusMinZero(1))) {
             applyVotesFromBlock(forkChoiceStrategy, currentEpoch, indexedAttestationCache);
           }
+          blockImportPerformance.ifPresent(p -> p.stageCompleted(FORK_CHOICE_UPDATE));
           return result;
         });
   }
@@ -16,20 +16,17 @@ package tech.pegasys.teku.statetransition.synccommittee;
 import static tech.pegasys.teku.spec.constants.NetworkConstants.SYNC_COMMITTEE_SUBNET_COUNT;
 import static tech.pegasys.teku.statetransition.validation.InternalValidationResult.ACCEPT;
 import static tech.pegasys.teku.statetransition.validation.InternalValidationResult.IGNORE;
-import static tech.pegasys.teku.util.config.Constants.VALID_CONTRIBUTION_AND_PROOF_SET_SIZE;
 
 import com.google.errorprone.annotations.FormatMethod;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.collections.BucketedSeenFilter;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -50,8 +47,13 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 public class SignedContributionAndProofValidator {
   private static final Logger LOG = LogManager.getLogger();
   private final Spec spec;
-  private final Set<UniquenessKey> seenIndices =
-      LimitedSet.create(VALID_CONTRIBUTION_AND_PROOF_SET_SIZE);
+  // Contributions are only accepted for the current slot, allowing for clock disparity either side
+  private static final int RETAINED_SLOTS = 4;
+  private static final int EXPECTED_CONTRIBUTIONS_PER_SLOT = 128;
+  private static final long NOT_TRACKED = -1;
+
+  private final BucketedSeenFilter seenIndices =
+      BucketedSeenFilter.withHashBuckets(RETAINED_SLOTS, EXPECTED_CONTRIBUTIONS_PER_SLOT);
   private final SyncCommitteeStateUtils syncCommitteeStateUtils;
   private final SyncCommitteeCurrentSlotUtil slotUtil;
 
@@ -73,8 +75,8 @@ public class SignedContributionAndProofValidator {
     // aggregator with index contribution_and_proof.aggregator_index for the slot contribution.slot.
     // (this requires maintaining a cache of size `SYNC_COMMITTEE_SIZE` for this topic that can be
     // flushed after each slot).
-    final UniquenessKey uniquenessKey = getUniquenessKey(contributionAndProof, contribution);
-    if (seenIndices.contains(uniquenessKey)) {
+    final long uniquenessKey = getUniquenessKey(contributionAndProof, contribution);
+    if (seenIndices.contains(contribution.getSlot().longValue(), uniquenessKey)) {
       return SafeFuture.completedFuture(IGNORE);
     }
 
@@ -143,7 +145,7 @@ public class SignedContributionAndProofValidator {
       final ContributionAndProof contributionAndProof,
       final SyncCommitteeContribution contribution,
       final SyncCommitteeUtil syncCommitteeUtil,
-      final UniquenessKey uniquenessKey,
+      final long uniquenessKey,
       final BeaconStateAltair state) {
     final BeaconStateAccessors beaconStateAccessors =
         spec.atSlot(contribution.getSlot()).beaconStateAccessors();
@@ -242,7 +244,8 @@ public class SignedContributionAndProofValidator {
           contribution.getSignature());
     }
 
-    if (!seenIndices.add(uniquenessKey)) {
+    if (uniquenessKey != NOT_TRACKED
+        && !seenIndices.add(contribution.getSlot().longValue(), uniquenessKey)) {
       // Got added by another thread while we were validating it
       return IGNORE;
     }
@@ -273,43 +276,16 @@ public class SignedContributionAndProofValidator {
         .contains(contribution.getSubcommitteeIndex().intValue());
   }
 
-  private UniquenessKey getUniquenessKey(
+  private long getUniquenessKey(
       final ContributionAndProof contributionAndProof, SyncCommitteeContribution contribution) {
-    return new UniquenessKey(
-        contributionAndProof.getAggregatorIndex(),
-        contribution.getSlot(),
-        contribution.getSubcommitteeIndex());
-  }
-
-  private static class UniquenessKey {
-    private final UInt64 aggregatorIndex;
-    private final UInt64 slot;
-    private final UInt64 subcommitteeIndex;
-
-    private UniquenessKey(
-        final UInt64 aggregatorIndex, final UInt64 slot, final UInt64 subcommitteeIndex) {
-      this.aggregatorIndex = aggregatorIndex;
-      this.slot = slot;
-      this.subcommitteeIndex = subcommitteeIndex;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final UniquenessKey that = (UniquenessKey) o;
-      return Objects.equals(aggregatorIndex, that.aggregatorIndex)
-          && Objects.equals(slot, that.slot)
-          && Objects.equals(subcommitteeIndex, that.subcommitteeIndex);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(aggregatorIndex, slot, subcommitteeIndex);
+    final UInt64 aggregatorIndex = contributionAndProof.getAggregatorIndex();
+    final UInt64 subcommitteeIndex = contribution.getSubcommitteeIndex();
+    if (subcommitteeIndex.isGreaterThanOrEqualTo(SYNC_COMMITTEE_SUBNET_COUNT)
+        || aggregatorIndex.isGreaterThan(Long.MAX_VALUE / SYNC_COMMITTEE_SUBNET_COUNT - 1)) {
+      // Can't be valid so will be rejected before being added
+      return NOT_TRACKED;
     }
+    return aggregatorIndex.longValue() * SYNC_COMMITTEE_SUBNET_COUNT
+        + subcommitteeIndex.longValue();
   }
 }
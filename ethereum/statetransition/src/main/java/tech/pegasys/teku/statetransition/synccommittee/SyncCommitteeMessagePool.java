@@ -13,17 +13,19 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
-import java.util.ArrayList;
+import static tech.pegasys.teku.spec.constants.NetworkConstants.SYNC_COMMITTEE_SUBNET_COUNT;
+
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -47,10 +49,11 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
   private final SyncCommitteeMessageValidator validator;
   /**
    * Effectively provides a mapping from (slot, blockRoot, subcommitteeIndex) -> ContributionData
-   * but using a nested map under slot so that pruning based on slot is efficient.
+   * but using a nested map under slot so that pruning based on slot is efficient. The contribution
+   * data for each block root is held in an array indexed by subcommittee.
    */
-  private final NavigableMap<UInt64, Map<BlockRootAndCommitteeIndex, ContributionData>>
-      committeeContributionData = new TreeMap<>();
+  private final NavigableMap<UInt64, Map<Bytes32, ContributionData[]>> committeeContributionData =
+      new TreeMap<>();
 
   public SyncCommitteeMessagePool(final Spec spec, final SyncCommitteeMessageValidator validator) {
     this.spec = spec;
@@ -77,20 +80,31 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
   private synchronized void doAdd(final ValidateableSyncCommitteeMessage message) {
     final SyncSubcommitteeAssignments assignments =
         message.getSubcommitteeAssignments().orElseThrow();
-    final Map<BlockRootAndCommitteeIndex, ContributionData> blockRootAndCommitteeIndexToMessages =
+    final Map<Bytes32, ContributionData[]> blockRootToContributionData =
         committeeContributionData.computeIfAbsent(message.getSlot(), __ -> new HashMap<>());
-    assignments
-        .getAssignedSubcommittees()
-        .forEach(
-            subcommitteeIndex ->
-                blockRootAndCommitteeIndexToMessages
-                    .computeIfAbsent(
-                        new BlockRootAndCommitteeIndex(
-                            message.getBeaconBlockRoot(), subcommitteeIndex),
-                        __ -> new ContributionData())
-                    .add(
-                        assignments.getParticipationBitIndices(subcommitteeIndex),
-                        message.getMessage().getSignature()));
+    final BLSSignature signature = message.getMessage().getSignature();
+    for (int subcommitteeIndex : assignments.getAssignedSubcommittees()) {
+      final ContributionData[] contributionDataBySubcommittee =
+          blockRootToContributionData.compute(
+              message.getBeaconBlockRoot(),
+              (__, existing) -> ensureCapacity(existing, subcommitteeIndex));
+      ContributionData contributionData = contributionDataBySubcommittee[subcommitteeIndex];
+      if (contributionData == null) {
+        contributionData = new ContributionData();
+        contributionDataBySubcommittee[subcommitteeIndex] = contributionData;
+      }
+      contributionData.add(assignments.getParticipationBitIndices(subcommitteeIndex), signature);
+    }
+  }
+
+  private static ContributionData[] ensureCapacity(
+      final ContributionData[] existing, final int subcommitteeIndex) {
+    if (existing == null) {
+      return new ContributionData[Math.max(SYNC_COMMITTEE_SUBNET_COUNT, subcommitteeIndex + 1)];
+    } else if (existing.length <= subcommitteeIndex) {
+      return Arrays.copyOf(existing, subcommitteeIndex + 1);
+    }
+    return existing;
   }
 
   public synchronized Optional<SyncCommitteeContribution> createContribution(
@@ -120,58 +134,46 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
 
   private Optional<ContributionData> getContributionData(
       final UInt64 slot, final Bytes32 blockRoot, final int subcommitteeIndex) {
-    return Optional.ofNullable(
-        committeeContributionData
-            .getOrDefault(slot, Collections.emptyMap())
-            .get(new BlockRootAndCommitteeIndex(blockRoot, subcommitteeIndex)));
-  }
-
-  private static class BlockRootAndCommitteeIndex {
-    private final Bytes32 blockRoot;
-    private final int committeeIndex;
-
-    private BlockRootAndCommitteeIndex(final Bytes32 blockRoot, final int committeeIndex) {
-      this.blockRoot = blockRoot;
-      this.committeeIndex = committeeIndex;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final BlockRootAndCommitteeIndex that = (BlockRootAndCommitteeIndex) o;
-      return committeeIndex == that.committeeIndex && Objects.equals(blockRoot, that.blockRoot);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(blockRoot, committeeIndex);
+    final ContributionData[] contributionDataBySubcommittee =
+        committeeContributionData.getOrDefault(slot, Collections.emptyMap()).get(blockRoot);
+    if (contributionDataBySubcommittee == null
+        || subcommitteeIndex < 0
+        || subcommitteeIndex >= contributionDataBySubcommittee.length) {
+      return Optional.empty();
     }
+    return Optional.ofNullable(contributionDataBySubcommittee[subcommitteeIndex]);
   }
 
+  /**
+   * Accumulates the messages for a single subcommittee. Participation is tracked as a bitset of
+   * subcommittee positions and the signature is aggregated as each message arrives, so creating a
+   * contribution doesn't need to aggregate every signature received for the slot.
+   */
   private static class ContributionData {
-    private final Set<Integer> participationIndices = new HashSet<>();
-    private final List<BLSSignature> signatures = new ArrayList<>();
+    private final BitSet participationBits = new BitSet();
+    private BLSSignature aggregatedSignature;
 
     public void add(final Set<Integer> participationIndices, final BLSSignature signature) {
-      this.participationIndices.addAll(participationIndices);
-      this.signatures.add(signature);
-    }
-
-    public boolean isEmpty() {
-      return signatures.isEmpty();
+      // Positions are unique to a validator so any overlap means we've already aggregated this
+      // validator's signature and adding it again would make the aggregate invalid.
+      for (int participationIndex : participationIndices) {
+        if (participationBits.get(participationIndex)) {
+          return;
+        }
+      }
+      participationIndices.forEach(participationBits::set);
+      aggregatedSignature =
+          aggregatedSignature == null
+              ? signature
+              : BLS.aggregate(List.of(aggregatedSignature, signature));
     }
 
-    public Set<Integer> getParticipationIndices() {
-      return participationIndices;
+    public Iterable<Integer> getParticipationIndices() {
+      return participationBits.stream().boxed().collect(Collectors.toList());
     }
 
     public BLSSignature getAggregatedSignature() {
-      return signatures.isEmpty() ? BLSSignature.infinity() : BLS.aggregate(signatures);
+      return aggregatedSignature == null ? BLSSignature.infinity() : aggregatedSignature;
     }
   }
 }
@@ -13,22 +13,21 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
-import static java.util.stream.Collectors.toList;
+import static tech.pegasys.teku.spec.constants.NetworkConstants.SYNC_COMMITTEE_SUBNET_COUNT;
 import static tech.pegasys.teku.statetransition.validation.InternalValidationResult.ACCEPT;
 import static tech.pegasys.teku.statetransition.validation.InternalValidationResult.IGNORE;
 import static tech.pegasys.teku.statetransition.validation.InternalValidationResult.reject;
-import static tech.pegasys.teku.util.config.Constants.VALID_SYNC_COMMITTEE_MESSAGE_SET_SIZE;
 
-import java.util.List;
-import java.util.Objects;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.Optional;
-import java.util.Set;
+import java.util.OptionalLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.collections.BucketedSeenFilter;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -43,8 +42,13 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class SyncCommitteeMessageValidator {
   private static final Logger LOG = LogManager.getLogger();
-  private final Set<UniquenessKey> seenIndices =
-      LimitedSet.create(VALID_SYNC_COMMITTEE_MESSAGE_SET_SIZE);
+  // Messages are only accepted for the current slot, allowing for clock disparity either side
+  private static final int RETAINED_SLOTS = 4;
+  private static final int EXPECTED_MESSAGES_PER_SLOT = 1024;
+  private static final long NOT_TRACKED = -1;
+
+  private final BucketedSeenFilter seenIndices =
+      BucketedSeenFilter.withHashBuckets(RETAINED_SLOTS, EXPECTED_MESSAGES_PER_SLOT);
   private final Spec spec;
   private final SyncCommitteeStateUtils syncCommitteeStateUtils;
   private final AsyncBLSSignatureVerifier signatureVerifier;
@@ -91,16 +95,16 @@ public class SyncCommitteeMessageValidator {
     // SYNC_COMMITTEE_SUBNET_COUNT` for each subnet that can be flushed after each slot).
     // Note this validation is _per topic_ so that for a given `slot`, multiple messages could be
     // forwarded with the same `validator_index` as long as the `subnet_id`s are distinct.
-    final Optional<UniquenessKey> uniquenessKey;
+    final OptionalLong uniquenessKey;
     if (validateableMessage.getReceivedSubnetId().isPresent()) {
-      final UniquenessKey key =
+      final long key =
           getUniquenessKey(message, validateableMessage.getReceivedSubnetId().getAsInt());
-      if (seenIndices.contains(key)) {
+      if (seenIndices.contains(message.getSlot().longValue(), key)) {
         return SafeFuture.completedFuture(IGNORE);
       }
-      uniquenessKey = Optional.of(key);
+      uniquenessKey = OptionalLong.of(key);
     } else {
-      uniquenessKey = Optional.empty();
+      uniquenessKey = OptionalLong.empty();
     }
 
     return syncCommitteeStateUtils
@@ -123,7 +127,7 @@ public class SyncCommitteeMessageValidator {
       final SyncCommitteeMessage message,
       final SyncCommitteeUtil syncCommitteeUtil,
       final BeaconStateAltair state,
-      final Optional<UniquenessKey> maybeUniquenessKey) {
+      final OptionalLong maybeUniquenessKey) {
     final UInt64 messageEpoch = spec.computeEpochAtSlot(message.getSlot());
 
     // Always calculate the applicable subcommittees to ensure they are cached and can be used to
@@ -142,18 +146,19 @@ public class SyncCommitteeMessageValidator {
 
     // For messages received via gossip, it has to be unique based on the subnet it was on
     // For locally produced messages we should accept it if it hasn't been seen on any subnet
-    final List<UniquenessKey> uniquenessKeys =
-        maybeUniquenessKey
-            .map(List::of)
-            .orElseGet(
-                () ->
-                    assignedSubcommittees.getAssignedSubcommittees().stream()
-                        .map(subnetId -> getUniquenessKey(message, subnetId))
-                        .collect(toList()));
+    final LongList uniquenessKeys = new LongArrayList();
+    if (maybeUniquenessKey.isPresent()) {
+      uniquenessKeys.add(maybeUniquenessKey.getAsLong());
+    } else {
+      assignedSubcommittees
+          .getAssignedSubcommittees()
+          .forEach(subnetId -> uniquenessKeys.add(getUniquenessKey(message, subnetId)));
+    }
+    final long slot = message.getSlot().longValue();
 
     // [IGNORE] There has been no other valid sync committee message for the declared slot for the
     // validator referenced by sync_committee_message.validator_index.
-    if (seenIndices.containsAll(uniquenessKeys)) {
+    if (containsAll(slot, uniquenessKeys)) {
       return SafeFuture.completedFuture(IGNORE);
     }
 
@@ -186,7 +191,7 @@ public class SyncCommitteeMessageValidator {
               if (!signatureValid) {
                 return reject("Rejecting sync committee message because the signature is invalid");
               }
-              if (!seenIndices.addAll(uniquenessKeys)) {
+              if (!addAll(slot, uniquenessKeys)) {
                 return reject(
                     "Ignoring sync committee message as a duplicate was processed during validation");
               }
@@ -194,38 +199,32 @@ public class SyncCommitteeMessageValidator {
             });
   }
 
-  private UniquenessKey getUniquenessKey(final SyncCommitteeMessage message, final int subnetId) {
-    return new UniquenessKey(message.getValidatorIndex(), message.getSlot(), subnetId);
-  }
-
-  private static class UniquenessKey {
-    private final UInt64 validatorIndex;
-    private final UInt64 slot;
-    private final int subnetId;
-
-    private UniquenessKey(final UInt64 validatorIndex, final UInt64 slot, final int subnetId) {
-      this.validatorIndex = validatorIndex;
-      this.slot = slot;
-      this.subnetId = subnetId;
+  private boolean containsAll(final long slot, final LongList uniquenessKeys) {
+    for (int i = 0; i < uniquenessKeys.size(); i++) {
+      if (!seenIndices.contains(slot, uniquenessKeys.getLong(i))) {
+        return false;
+      }
     }
+    return true;
+  }
 
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
+  private boolean addAll(final long slot, final LongList uniquenessKeys) {
+    boolean added = false;
+    for (int i = 0; i < uniquenessKeys.size(); i++) {
+      final long key = uniquenessKeys.getLong(i);
+      if (key != NOT_TRACKED) {
+        added |= seenIndices.add(slot, key);
       }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final UniquenessKey that = (UniquenessKey) o;
-      return subnetId == that.subnetId
-          && Objects.equals(validatorIndex, that.validatorIndex)
-          && Objects.equals(slot, that.slot);
     }
+    return added;
+  }
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(validatorIndex, slot, subnetId);
+  private long getUniquenessKey(final SyncCommitteeMessage message, final int subnetId) {
+    final UInt64 validatorIndex = message.getValidatorIndex();
+    if (validatorIndex.isGreaterThan(Long.MAX_VALUE / SYNC_COMMITTEE_SUBNET_COUNT - 1)) {
+      // Can't be a known validator so will be rejected once the state is available
+      return NOT_TRACKED;
     }
+    return validatorIndex.longValue() * SYNC_COMMITTEE_SUBNET_COUNT + subnetId;
   }
 }
@@ -19,16 +19,13 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.ACCEPT;
 import static tech.pegasys.teku.util.config.Constants.ATTESTATION_PROPAGATION_SLOT_RANGE;
-import static tech.pegasys.teku.util.config.Constants.VALID_ATTESTATION_SET_SIZE;
 
 import it.unimi.dsi.fastutil.ints.IntList;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
-import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.collections.BucketedSeenFilter;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
@@ -46,8 +43,17 @@ public class AttestationValidator {
   private static final UInt64 MAXIMUM_GOSSIP_CLOCK_DISPARITY =
       UInt64.valueOf(Constants.MAXIMUM_GOSSIP_CLOCK_DISPARITY);
 
-  private final Set<ValidatorAndTargetEpoch> receivedValidAttestations =
-      LimitedSet.create(VALID_ATTESTATION_SET_SIZE);
+  // Attestations are accepted for ATTESTATION_PROPAGATION_SLOT_RANGE slots after their slot and up
+  // to MAX_FUTURE_SLOT_ALLOWANCE slots before it, plus a slot of slack either side
+  private static final int RETAINED_SLOTS =
+      ATTESTATION_PROPAGATION_SLOT_RANGE.plus(MAX_FUTURE_SLOT_ALLOWANCE).intValue() + 2;
+  private static final long NOT_TRACKED = -1;
+
+  // Within a slot, committee index and position identify the validator exactly, so this is
+  // equivalent to tracking validator and target epoch without resolving the validator index
+  private final BucketedSeenFilter receivedValidAttestations;
+  private final int maxCommitteesPerSlot;
+  private final int maxValidatorsPerCommittee;
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncBLSSignatureVerifier signatureVerifier;
@@ -59,6 +65,11 @@ public class AttestationValidator {
     this.recentChainData = recentChainData;
     this.spec = spec;
     this.signatureVerifier = signatureVerifier;
+    this.maxCommitteesPerSlot = spec.getGenesisSpecConfig().getMaxCommitteesPerSlot();
+    this.maxValidatorsPerCommittee = spec.getGenesisSpecConfig().getMaxValidatorsPerCommittee();
+    this.receivedValidAttestations =
+        BucketedSeenFilter.withBitsetBuckets(
+            RETAINED_SLOTS, (long) maxCommitteesPerSlot * maxValidatorsPerCommittee);
   }
 
   public SafeFuture<InternalValidationResult> validate(
@@ -84,13 +95,20 @@ public class AttestationValidator {
   }
 
   public void addSeenAttestation(final ValidateableAttestation attestation) {
-    receivedValidAttestations.add(getValidatorAndTargetEpoch(attestation.getAttestation()));
+    final Attestation seenAttestation = attestation.getAttestation();
+    final long validatorKey = getValidatorKey(seenAttestation);
+    if (validatorKey != NOT_TRACKED) {
+      receivedValidAttestations.add(seenAttestation.getData().getSlot().longValue(), validatorKey);
+    }
   }
 
   private InternalValidationResult addAndCheckFirstValidAttestation(final Attestation attestation) {
     // The attestation is the first valid attestation received for the participating validator for
     // the slot, attestation.data.slot.
-    if (!receivedValidAttestations.add(getValidatorAndTargetEpoch(attestation))) {
+    final long validatorKey = getValidatorKey(attestation);
+    if (validatorKey != NOT_TRACKED
+        && !receivedValidAttestations.add(
+            attestation.getData().getSlot().longValue(), validatorKey)) {
       return InternalValidationResult.IGNORE;
     }
     return InternalValidationResult.ACCEPT;
@@ -106,7 +124,8 @@ public class AttestationValidator {
 
     // The attestation is the first valid attestation received for the participating validator for
     // the slot, attestation.data.slot.
-    if (receivedValidAttestations.contains(getValidatorAndTargetEpoch(attestation))) {
+    if (receivedValidAttestations.contains(
+        attestation.getData().getSlot().longValue(), getValidatorKey(attestation))) {
       return InternalValidationResult.IGNORE;
     }
     return InternalValidationResult.ACCEPT;
@@ -261,11 +280,18 @@ public class AttestationValidator {
     }
   }
 
-  private ValidatorAndTargetEpoch getValidatorAndTargetEpoch(final Attestation attestation) {
-    return new ValidatorAndTargetEpoch(
-        attestation.getData().getTarget().getEpoch(),
-        attestation.getData().getIndex(),
-        attestation.getAggregationBits().streamAllSetBits().findFirst().orElseThrow());
+  private long getValidatorKey(final Attestation attestation) {
+    // Validator is identified via committee index and position to avoid resolving the actual
+    // validator ID before checking for duplicates
+    final UInt64 committeeIndex = attestation.getData().getIndex();
+    final int committeePosition =
+        attestation.getAggregationBits().streamAllSetBits().findFirst().orElseThrow();
+    if (committeeIndex.isGreaterThanOrEqualTo(maxCommitteesPerSlot)
+        || committeePosition >= maxValidatorsPerCommittee) {
+      // Can't be valid so will be rejected once the committee is known
+      return NOT_TRACKED;
+    }
+    return committeeIndex.longValue() * maxValidatorsPerCommittee + committeePosition;
   }
 
   private boolean isCurrentTimeBeforeMinimumAttestationBroadcastTime(
@@ -319,40 +345,6 @@ public class AttestationValidator {
     return secondsToMillis(lastAllowedTime).plus(MAXIMUM_GOSSIP_CLOCK_DISPARITY);
   }
 
-  private static class ValidatorAndTargetEpoch {
-    private final UInt64 targetEpoch;
-    // Validator is identified via committee index and position to avoid resolving the actual
-    // validator ID before checking for duplicates
-    private final UInt64 committeeIndex;
-    private final int committeePosition;
-
-    private ValidatorAndTargetEpoch(
-        final UInt64 targetEpoch, final UInt64 committeeIndex, final int committeePosition) {
-      this.targetEpoch = targetEpoch;
-      this.committeeIndex = committeeIndex;
-      this.committeePosition = committeePosition;
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final ValidatorAndTargetEpoch that = (ValidatorAndTargetEpoch) o;
-      return committeePosition == that.committeePosition
-          && Objects.equals(targetEpoch, that.targetEpoch)
-          && Objects.equals(committeeIndex, that.committeeIndex);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(targetEpoch, committeeIndex, committeePosition);
-    }
-  }
-
   private int secondsPerSlot(final UInt64 slot) {
     return spec.getSecondsPerSlot(slot);
   }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.block.BlockImportPerformance.Stage;
+
+class BlockImportMetricsTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(10_000);
+  private final MetricsHistogram totalDurationHistogram = mock(MetricsHistogram.class);
+  private final Map<Stage, MetricsHistogram> stageDurationHistograms = createStageHistograms();
+
+  private final BlockImportMetrics metrics =
+      new BlockImportMetrics(timeProvider, totalDurationHistogram, stageDurationHistograms);
+
+  @Test
+  void shouldRecordDurationOfEachStageSinceThePreviousStage() {
+    final BlockImportPerformance performance = metrics.startImport(randomBlock(1));
+    timeProvider.advanceTimeByMillis(10);
+    performance.stageCompleted(Stage.PRE_STATE_RETRIEVAL);
+    timeProvider.advanceTimeByMillis(20);
+    performance.onBlockProcessed();
+    timeProvider.advanceTimeByMillis(5);
+    performance.onStateRootCalculated();
+
+    metrics.onImportCompleted(performance, true);
+
+    verify(totalDurationHistogram).recordValue(35);
+    verify(stageDurationHistograms.get(Stage.PRE_STATE_RETRIEVAL)).recordValue(10);
+    verify(stageDurationHistograms.get(Stage.BLOCK_PROCESSING)).recordValue(20);
+    verify(stageDurationHistograms.get(Stage.STATE_ROOT)).recordValue(5);
+    verifyNoInteractions(stageDurationHistograms.get(Stage.SIGNATURE_VERIFICATION));
+  }
+
+  @Test
+  void shouldNotKeepImportsFasterThanThreshold() {
+    final BlockImportPerformance performance = metrics.startImport(randomBlock(1));
+    timeProvider.advanceTimeByMillis(BlockImportMetrics.SLOW_IMPORT_THRESHOLD_MILLIS - 1);
+
+    metrics.onImportCompleted(performance, true);
+
+    assertThat(metrics.getRecentSlowImports()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepMostRecentSlowImportsNewestFirst() {
+    final int importCount = BlockImportMetrics.MAX_RECENT_SLOW_IMPORTS + 2;
+    for (int i = 0; i < importCount; i++) {
+      final BlockImportPerformance performance = metrics.startImport(randomBlock(i));
+      timeProvider.advanceTimeByMillis(BlockImportMetrics.SLOW_IMPORT_THRESHOLD_MILLIS);
+      performance.onBlockProcessed();
+      metrics.onImportCompleted(performance, false);
+    }
+
+    assertThat(metrics.getRecentSlowImports())
+        .hasSize(BlockImportMetrics.MAX_RECENT_SLOW_IMPORTS)
+        .extracting(BlockImportPerformance::getSlot)
+        .startsWith(UInt64.valueOf(importCount - 1), UInt64.valueOf(importCount - 2))
+        .doesNotContain(UInt64.ZERO, UInt64.ONE);
+    assertThat(metrics.getRecentSlowImports().get(0).getStageDurationsMillis())
+        .containsExactly(
+            Map.entry(
+                Stage.BLOCK_PROCESSING,
+                UInt64.valueOf(BlockImportMetrics.SLOW_IMPORT_THRESHOLD_MILLIS)));
+  }
+
+  private SignedBeaconBlock randomBlock(final long slot) {
+    return dataStructureUtil.randomSignedBeaconBlock(slot);
+  }
+
+  private static Map<Stage, MetricsHistogram> createStageHistograms() {
+    final Map<Stage, MetricsHistogram> histograms = new EnumMap<>(Stage.class);
+    for (Stage stage : Stage.values()) {
+      histograms.put(stage, mock(MetricsHistogram.class));
+    }
+    return histograms;
+  }
+}
@@ -155,6 +155,24 @@ class SyncCommitteeMessagePoolTest {
         .contains(createContributionFrom(subcommitteeIndex, message1, message2));
   }
 
+  @Test
+  void shouldNotAggregateSignatureAgainWhenSameMessageAddedTwice() {
+    final ValidateableSyncCommitteeMessage message =
+        ValidateableSyncCommitteeMessage.fromValidator(
+            dataStructureUtil.randomSyncCommitteeMessage());
+    final int subcommitteeIndex = 3;
+    message.setSubcommitteeAssignments(
+        SyncSubcommitteeAssignments.builder().addAssignment(subcommitteeIndex, 3).build());
+
+    addValid(message);
+    addValid(message);
+
+    final Optional<SyncCommitteeContribution> contribution =
+        pool.createContribution(message.getSlot(), message.getBeaconBlockRoot(), subcommitteeIndex);
+
+    assertThat(contribution).contains(createContributionFrom(subcommitteeIndex, message));
+  }
+
   @Test
   void shouldIncludeMessageInContributionForAllApplicableSubnets() {
     final ValidateableSyncCommitteeMessage message =
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * Records which non-negative {@code long} keys have been seen, grouped into buckets such as epochs
+ * or slots. Unlike {@link LimitedSet} nothing is evicted while its bucket is retained, so lookups
+ * are exact, and neither lookups nor insertions allocate or take locks.
+ *
+ * <p>Only the most recent {@code retainedBuckets} buckets are kept. Each bucket occupies a fixed
+ * slot in a ring, and the first insertion into a newer bucket drops the bucket previously held by
+ * that slot as a whole. Keys of buckets which have already been dropped are never added: {@link
+ * #add} returns false for them, so callers ignore them like duplicates since any message they
+ * belong to is too old to be relevant, while {@link #contains} returns false as it only reports
+ * keys held by retained buckets.
+ */
+public final class BucketedSeenFilter {
+
+  private final AtomicReferenceArray<Bucket> buckets;
+  private final LongFunction<Bucket> bucketFactory;
+
+  private BucketedSeenFilter(final int retainedBuckets, final LongFunction<Bucket> bucketFactory) {
+    checkArgument(retainedBuckets > 0, "At least one bucket must be retained");
+    this.buckets = new AtomicReferenceArray<>(retainedBuckets);
+    this.bucketFactory = bucketFactory;
+  }
+
+  /**
+   * Creates a filter where each bucket is a bitset, suited to dense keys in a known range such as
+   * committee positions.
+   *
+   * @param retainedBuckets the number of most recent buckets to keep
+   * @param keysPerBucket the exclusive upper bound of the keys
+   * @return the new filter
+   */
+  public static BucketedSeenFilter withBitsetBuckets(
+      final int retainedBuckets, final long keysPerBucket) {
+    checkArgument(keysPerBucket > 0, "Key range must not be empty");
+    return new BucketedSeenFilter(
+        retainedBuckets, bucketNumber -> new BitsetBucket(bucketNumber, keysPerBucket));
+  }
+
+  /**
+   * Creates a filter where each bucket is a hash set, suited to sparse keys such as validator
+   * indices. Buckets grow past {@code expectedKeysPerBucket} if needed.
+   *
+   * @param retainedBuckets the number of most recent buckets to keep
+   * @param expectedKeysPerBucket the number of keys a bucket is initially sized for
+   * @return the new filter
+   */
+  public static BucketedSeenFilter withHashBuckets(
+      final int retainedBuckets, final int expectedKeysPerBucket) {
+    checkArgument(expectedKeysPerBucket > 0, "Expected keys must be positive");
+    return new BucketedSeenFilter(
+        retainedBuckets, bucketNumber -> new HashBucket(bucketNumber, expectedKeysPerBucket));
+  }
+
+  /**
+   * Returns true if the key has been added to the given bucket and the bucket is still retained.
+   */
+  public boolean contains(final long bucketNumber, final long key) {
+    final Bucket bucket = buckets.get(slotOf(bucketNumber));
+    return bucket != null && bucket.bucketNumber == bucketNumber && bucket.contains(key);
+  }
+
+  /**
+   * Adds the key to the given bucket, dropping whichever older bucket shares its slot.
+   *
+   * @return true if the key was not seen before, false if it was already present or the bucket
+   *     has already been dropped
+   */
+  public boolean add(final long bucketNumber, final long key) {
+    checkArgument(key >= 0, "Key must not be negative");
+    final int slot = slotOf(bucketNumber);
+    while (true) {
+      final Bucket bucket = buckets.get(slot);
+      if (bucket != null) {
+        if (bucket.bucketNumber == bucketNumber) {
+          return bucket.add(key);
+        }
+        if (bucket.bucketNumber > bucketNumber) {
+          return false;
+        }
+      }
+      buckets.compareAndSet(slot, bucket, bucketFactory.apply(bucketNumber));
+    }
+  }
+
+  private int slotOf(final long bucketNumber) {
+    return (int) Math.floorMod(bucketNumber, (long) buckets.length());
+  }
+
+  private abstract static class Bucket {
+    final long bucketNumber;
+
+    Bucket(final long bucketNumber) {
+      this.bucketNumber = bucketNumber;
+    }
+
+    abstract boolean contains(long key);
+
+    abstract boolean add(long key);
+  }
+
+  private static final class BitsetBucket extends Bucket {
+    private final AtomicLongArray words;
+    private final long keyCount;
+
+    BitsetBucket(final long bucketNumber, final long keyCount) {
+      super(bucketNumber);
+      this.keyCount = keyCount;
+      this.words = new AtomicLongArray(Math.toIntExact((keyCount + 63) >>> 6));
+    }
+
+    @Override
+    boolean contains(final long key) {
+      return key >= 0 && key < keyCount && (words.get((int) (key >>> 6)) & (1L << key)) != 0;
+    }
+
+    @Override
+    boolean add(final long key) {
+      checkArgument(key < keyCount, "Key %s out of range %s", key, keyCount);
+      final int index = (int) (key >>> 6);
+      final long mask = 1L << key;
+      long word;
+      do {
+        word = words.get(index);
+        if ((word & mask) != 0) {
+          return false;
+        }
+      } while (!words.compareAndSet(index, word, word | mask));
+      return true;
+    }
+  }
+
+  /**
+   * Insert-only open addressing set. A key lives in the first free cell of its probe sequence,
+   * continuing into the next (twice as large) table when a sequence is exhausted. Cells are never
+   * cleared, so every thread probing for the same key walks the same filled cells and stops at the
+   * same free one, which keeps concurrent inserts of the same key exact without locking.
+   */
+  private static final class HashBucket extends Bucket {
+    private static final int MAX_PROBES = 16;
+    private final HashTable head;
+
+    HashBucket(final long bucketNumber, final int expectedKeys) {
+      super(bucketNumber);
+      int capacity = MAX_PROBES;
+      while (capacity < expectedKeys * 2 && capacity < (1 << 30)) {
+        capacity <<= 1;
+      }
+      head = new HashTable(capacity);
+    }
+
+    @Override
+    boolean contains(final long key) {
+      if (key < 0) {
+        return false;
+      }
+      // Cells hold key + 1 so that zero can mark a free cell
+      final long stored = key + 1;
+      final long hash = spread(key);
+      for (HashTable table = head; table != null; table = table.next.get()) {
+        final int mask = table.cells.length() - 1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+          final long cell = table.cells.get((int) (hash + probe) & mask);
+          if (cell == stored) {
+            return true;
+          }
+          if (cell == 0) {
+            return false;
+          }
+        }
+      }
+      return false;
+    }
+
+    @Override
+    boolean add(final long key) {
+      final long stored = key + 1;
+      final long hash = spread(key);
+      HashTable table = head;
+      while (true) {
+        final int mask = table.cells.length() - 1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+          final int index = (int) (hash + probe) & mask;
+          long cell = table.cells.get(index);
+          if (cell == 0) {
+            if (table.cells.compareAndSet(index, 0, stored)) {
+              return true;
+            }
+            cell = table.cells.get(index);
+          }
+          if (cell == stored) {
+            return false;
+          }
+        }
+        table = table.nextOrCreate();
+      }
+    }
+
+    private static long spread(final long key) {
+      final long hash = key * 0x9E3779B97F4A7C15L;
+      return hash ^ (hash >>> 32);
+    }
+  }
+
+  private static final class HashTable {
+    private final AtomicLongArray cells;
+    private final AtomicReference<HashTable> next = new AtomicReference<>();
+
+    HashTable(final int capacity) {
+      this.cells = new AtomicLongArray(capacity);
+    }
+
+    HashTable nextOrCreate() {
+      final HashTable existing = next.get();
+      if (existing != null) {
+        return existing;
+      }
+      next.compareAndSet(null, new HashTable(cells.length() * 2));
+      return next.get();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often keys were accessed recently. Every key
+ * maps to 4 counters, the estimate is the minimum of them. Once the number of increments reaches
+ * the sample size all the counters are halved, so the estimates decay over time.
+ *
+ * <p>Updates are intentionally not synchronized: a lost increment under a race only makes the
+ * estimate a bit less accurate, which is fine for an admission heuristic.
+ */
+final class FrequencySketch<K> {
+  private static final int MAX_WIDTH = 1 << 16;
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+
+  private final long[] table;
+  private final int sampleSize;
+  private int additions;
+
+  FrequencySketch(final int capacity) {
+    int width = 8;
+    while (width < capacity && width < MAX_WIDTH) {
+      width <<= 1;
+    }
+    table = new long[width];
+    sampleSize = 10 * width;
+  }
+
+  int frequency(final K key) {
+    final int hash = spread(key.hashCode());
+    final int start = (hash & 3) << 2;
+    int frequency = 15;
+    for (int i = 0; i < 4; i++) {
+      final int shift = (start + i) << 2;
+      final int count = (int) ((table[indexOf(hash, i)] >>> shift) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  void increment(final K key) {
+    final int hash = spread(key.hashCode());
+    final int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      final int index = indexOf(hash, i);
+      final int shift = (start + i) << 2;
+      final long mask = 0xfL << shift;
+      if ((table[index] & mask) != mask) {
+        table[index] += 1L << shift;
+        added = true;
+      }
+    }
+    if (added && ++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions = sampleSize / 2;
+  }
+
+  private int indexOf(final int hash, final int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return (int) h & (table.length - 1);
+  }
+
+  private static int spread(final int hashCode) {
+    int h = hashCode * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded cache safe for concurrent access, an alternative to {@link LRUCache} for caches accessed
+ * from many threads.
+ *
+ * <ul>
+ *   <li>Entries are spread across independently locked segments, so concurrent accesses to
+ *       different keys rarely contend on the same lock
+ *   <li>Eviction follows the W-TinyLFU policy: a new entry first goes to a small LRU window. An
+ *       entry evicted from the window is admitted to the main LRU space only if it was accessed
+ *       more frequently (as estimated by a {@link FrequencySketch}) than the main space entry it
+ *       would evict. This keeps one-off keys from flushing the frequently used ones
+ *   <li>{@link #copy()} doesn't copy the entries: the copy shares them with this cache and a
+ *       segment is copied lazily on its first modification by either cache. Reading a shared
+ *       segment doesn't update its LRU order
+ *   <li>Hit, miss and eviction counts are tracked in {@link CacheStats}. They are shared by this
+ *       cache and all its copies, as is the frequency sketch
+ * </ul>
+ *
+ * @param <K> Keys type
+ * @param <V> Values type
+ */
+public class TinyLfuCache<K, V> implements Cache<K, V> {
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_CAPACITY = 32;
+  private static final int DEFAULT_WINDOW_PERCENT = 1;
+
+  private final Segment<K, V>[] segments;
+  private final FrequencySketch<K> sketch; // null if admission is disabled
+  private final CacheStats stats;
+
+  public static <K, V> TinyLfuCache<K, V> create(final int capacity) {
+    return create(capacity, DEFAULT_WINDOW_PERCENT);
+  }
+
+  /**
+   * Creates a cache with the specified part of the capacity reserved for the LRU window. With 100%
+   * window the frequency based admission is disabled and the cache evicts just the least recently
+   * used entries, which suits caches where recent keys are the most likely to be accessed again
+   */
+  public static <K, V> TinyLfuCache<K, V> create(final int capacity, final int windowPercent) {
+    return create(capacity, windowPercent, new CacheStats());
+  }
+
+  /**
+   * Creates a cache which records its hit, miss and eviction counts to the specified {@link
+   * CacheStats}, possibly shared with other caches
+   */
+  public static <K, V> TinyLfuCache<K, V> create(
+      final int capacity, final int windowPercent, final CacheStats stats) {
+    checkArgument(capacity > 0, "Cache capacity should be positive: %s", capacity);
+    checkArgument(
+        windowPercent > 0 && windowPercent <= 100, "Invalid window percent: %s", windowPercent);
+    int segmentCount = 1;
+    while (segmentCount < MAX_SEGMENTS
+        && (long) segmentCount * 2 * MIN_SEGMENT_CAPACITY <= capacity) {
+      segmentCount *= 2;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Segment<K, V>[] segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      // distribute the remainder so the total capacity is exactly as requested
+      final int extra = i < capacity % segmentCount ? 1 : 0;
+      segments[i] = new Segment<>(capacity / segmentCount + extra, windowPercent);
+    }
+    // the sketch is not needed when there is no main space to admit entries to
+    final FrequencySketch<K> sketch = windowPercent < 100 ? new FrequencySketch<>(capacity) : null;
+    return new TinyLfuCache<>(segments, sketch, stats);
+  }
+
+  private TinyLfuCache(
+      final Segment<K, V>[] segments, final FrequencySketch<K> sketch, final CacheStats stats) {
+    this.segments = segments;
+    this.sketch = sketch;
+    this.stats = stats;
+  }
+
+  @Override
+  public V get(final K key, final Function<K, V> fallback) {
+    recordAccess(key);
+    final Segment<K, V> segment = segmentFor(key);
+    V result = segment.get(key);
+    if (result != null) {
+      stats.recordHit();
+      return result;
+    }
+    stats.recordMiss();
+    result = fallback.apply(key);
+    if (result != null) {
+      stats.recordEvictions(segment.put(key, result, sketch));
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<V> getCached(final K key) {
+    recordAccess(key);
+    final V result = segmentFor(key).get(key);
+    if (result != null) {
+      stats.recordHit();
+    } else {
+      stats.recordMiss();
+    }
+    return Optional.ofNullable(result);
+  }
+
+  @Override
+  public void invalidateWithNewValue(final K key, final V newValue) {
+    stats.recordEvictions(segmentFor(key).put(key, newValue, sketch));
+  }
+
+  @Override
+  public Cache<K, V> copy() {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Segment<K, V>[] segmentsCopy = new Segment[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      segmentsCopy[i] = segments[i].share();
+    }
+    return new TinyLfuCache<>(segmentsCopy, sketch, stats);
+  }
+
+  @Override
+  public void invalidate(final K key) {
+    segmentFor(key).remove(key);
+  }
+
+  @Override
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  public CacheStats getStats() {
+    return stats;
+  }
+
+  public long getHitCount() {
+    return stats.getHitCount();
+  }
+
+  public long getMissCount() {
+    return stats.getMissCount();
+  }
+
+  public long getEvictionCount() {
+    return stats.getEvictionCount();
+  }
+
+  private void recordAccess(final K key) {
+    if (sketch != null) {
+      sketch.increment(key);
+    }
+  }
+
+  private Segment<K, V> segmentFor(final K key) {
+    final int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+  }
+
+  private static final class Segment<K, V> {
+    private final int windowCapacity;
+    private final int mainCapacity;
+    // both maps are in LRU order: the eldest entry goes first
+    private LinkedHashMap<K, V> window;
+    private LinkedHashMap<K, V> main;
+    // the maps are shared with a copy of the segment and should be copied before modification
+    private boolean shared;
+
+    private Segment(final int capacity, final int windowPercent) {
+      this.windowCapacity = (int) Math.max(1, (long) capacity * windowPercent / 100);
+      this.mainCapacity = capacity - windowCapacity;
+      this.window = new LinkedHashMap<>();
+      this.main = new LinkedHashMap<>();
+    }
+
+    private Segment(final Segment<K, V> origin) {
+      this.windowCapacity = origin.windowCapacity;
+      this.mainCapacity = origin.mainCapacity;
+      this.window = origin.window;
+      this.main = origin.main;
+      this.shared = true;
+    }
+
+    synchronized Segment<K, V> share() {
+      shared = true;
+      return new Segment<>(this);
+    }
+
+    synchronized V get(final K key) {
+      V value = window.get(key);
+      if (value != null) {
+        touch(window, key, value);
+        return value;
+      }
+      value = main.get(key);
+      if (value != null) {
+        touch(main, key, value);
+      }
+      return value;
+    }
+
+    private void touch(final LinkedHashMap<K, V> map, final K key, final V value) {
+      if (!shared) {
+        map.remove(key);
+        map.put(key, value);
+      }
+    }
+
+    /** Returns the number of evicted entries */
+    synchronized int put(final K key, final V value, final FrequencySketch<K> sketch) {
+      ensureOwned();
+      if (main.remove(key) != null) {
+        main.put(key, value);
+        return 0;
+      }
+      window.remove(key);
+      window.put(key, value);
+      if (window.size() <= windowCapacity) {
+        return 0;
+      }
+
+      final Map.Entry<K, V> windowEldest = window.entrySet().iterator().next();
+      final K candidateKey = windowEldest.getKey();
+      final V candidateValue = windowEldest.getValue();
+      window.remove(candidateKey);
+      if (main.size() < mainCapacity) {
+        main.put(candidateKey, candidateValue);
+        return 0;
+      }
+      if (mainCapacity > 0) {
+        final Iterator<K> mainKeys = main.keySet().iterator();
+        final K victimKey = mainKeys.next();
+        if (sketch.frequency(candidateKey) > sketch.frequency(victimKey)) {
+          mainKeys.remove();
+          main.put(candidateKey, candidateValue);
+        }
+      }
+      return 1;
+    }
+
+    synchronized void remove(final K key) {
+      ensureOwned();
+      if (window.remove(key) == null) {
+        main.remove(key);
+      }
+    }
+
+    synchronized void clear() {
+      window = new LinkedHashMap<>();
+      main = new LinkedHashMap<>();
+      shared = false;
+    }
+
+    synchronized int size() {
+      return window.size() + main.size();
+    }
+
+    private void ensureOwned() {
+      if (shared) {
+        window = new LinkedHashMap<>(window);
+        main = new LinkedHashMap<>(main);
+        shared = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class BucketedSeenFilterTest {
+
+  static Stream<Arguments> filters() {
+    return Stream.of(
+        Arguments.of("bitset", BucketedSeenFilter.withBitsetBuckets(3, 100_000)),
+        Arguments.of("hash", BucketedSeenFilter.withHashBuckets(3, 4)));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("filters")
+  void add_shouldOnlyReportKeyAsNewTheFirstTime(
+      final String name, final BucketedSeenFilter filter) {
+    assertThat(filter.contains(1, 5)).isFalse();
+    assertThat(filter.add(1, 5)).isTrue();
+    assertThat(filter.contains(1, 5)).isTrue();
+    assertThat(filter.add(1, 5)).isFalse();
+
+    assertThat(filter.contains(1, 6)).isFalse();
+    assertThat(filter.contains(2, 5)).isFalse();
+    assertThat(filter.add(2, 5)).isTrue();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("filters")
+  void add_shouldKeepAllKeysOfRetainedBuckets(final String name, final BucketedSeenFilter filter) {
+    for (long key = 0; key < 10_000; key++) {
+      assertThat(filter.add(7, key)).isTrue();
+    }
+    for (long key = 0; key < 10_000; key++) {
+      assertThat(filter.contains(7, key)).isTrue();
+      assertThat(filter.add(7, key)).isFalse();
+    }
+    assertThat(filter.contains(7, 10_000)).isFalse();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("filters")
+  void add_shouldDropWholeBucketWhenNewerBucketTakesItsSlot(
+      final String name, final BucketedSeenFilter filter) {
+    filter.add(1, 10);
+    filter.add(2, 20);
+    filter.add(3, 30);
+    assertThat(filter.contains(1, 10)).isTrue();
+
+    filter.add(4, 40);
+    assertThat(filter.contains(1, 10)).isFalse();
+    assertThat(filter.contains(2, 20)).isTrue();
+    assertThat(filter.contains(3, 30)).isTrue();
+    assertThat(filter.contains(4, 40)).isTrue();
+
+    // Dropped buckets are treated as already seen
+    assertThat(filter.add(1, 11)).isFalse();
+    assertThat(filter.contains(1, 11)).isFalse();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("filters")
+  void add_shouldRejectNegativeKeys(final String name, final BucketedSeenFilter filter) {
+    assertThat(filter.contains(1, -1)).isFalse();
+    assertThatThrownBy(() -> filter.add(1, -1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("filters")
+  void add_shouldReportEachKeyAsNewExactlyOnceUnderConcurrentAdds(
+      final String name, final BucketedSeenFilter filter) {
+    final int threadCount = 8;
+    final int keyCount = 20_000;
+    final AtomicInteger added = new AtomicInteger();
+    final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                for (long key = 0; key < keyCount; key++) {
+                  if (filter.add(0, key)) {
+                    added.incrementAndGet();
+                  }
+                }
+              }));
+    }
+    futures.forEach(CompletableFuture::join);
+
+    assertThat(added.get()).isEqualTo(keyCount);
+  }
+}
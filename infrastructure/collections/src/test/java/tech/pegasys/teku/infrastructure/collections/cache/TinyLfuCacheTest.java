@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class TinyLfuCacheTest {
+
+  private final int maxCacheSize = 16;
+  private final TinyLfuCache<Integer, Integer> tinyLfuCache =
+      TinyLfuCache.create(maxCacheSize, 100);
+
+  @Test
+  void get_shouldCreateAnEntryWhenMissAndReturnItWhenHit() {
+    assertThat(tinyLfuCache.get(1, __ -> 777)).isEqualTo(777);
+    assertThat(tinyLfuCache.get(1, __ -> 888)).isEqualTo(777);
+    assertThat(tinyLfuCache.size()).isEqualTo(1);
+    assertThat(tinyLfuCache.getMissCount()).isEqualTo(1);
+    assertThat(tinyLfuCache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldEvictLeastRecentlyAccessedWhenWindowIsFullCapacity() {
+    for (int i = 0; i < maxCacheSize; i++) {
+      tinyLfuCache.get(i, key -> key);
+    }
+    tinyLfuCache.get(0, key -> key);
+
+    tinyLfuCache.get(maxCacheSize, key -> key);
+    assertThat(tinyLfuCache.size()).isEqualTo(maxCacheSize);
+    assertThat(tinyLfuCache.getCached(0)).contains(0);
+    assertThat(tinyLfuCache.getCached(1)).isEmpty();
+    assertThat(tinyLfuCache.getCached(2)).contains(2);
+    assertThat(tinyLfuCache.getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldKeepFrequentlyUsedEntriesOnScan() {
+    final int capacity = 1024;
+    final TinyLfuCache<Integer, Integer> cache = TinyLfuCache.create(capacity);
+    final List<Integer> hotKeys = new ArrayList<>();
+    for (int i = 0; i < capacity / 2; i++) {
+      hotKeys.add(i);
+    }
+    for (int round = 0; round < 4; round++) {
+      hotKeys.forEach(key -> cache.get(key, k -> k));
+    }
+
+    // one-off keys exceeding the cache capacity
+    IntStream.range(capacity, capacity * 4).forEach(key -> cache.get(key, k -> k));
+
+    assertThat(cache.size()).isLessThanOrEqualTo(capacity);
+    final long retainedHotKeys =
+        hotKeys.stream().filter(key -> cache.getCached(key).isPresent()).count();
+    assertThat(retainedHotKeys).isGreaterThan(hotKeys.size() * 9L / 10);
+  }
+
+  @Test
+  void create_shouldNotExceedCapacityWithMultipleSegments() {
+    final int capacity = 1000;
+    final TinyLfuCache<Integer, Integer> cache = TinyLfuCache.create(capacity);
+    IntStream.range(0, capacity * 10).forEach(key -> cache.get(key, k -> k));
+    assertThat(cache.size()).isLessThanOrEqualTo(capacity);
+  }
+
+  @Test
+  void create_shouldRecordCombinedCountsToSharedStats() {
+    final CacheStats stats = new CacheStats();
+    final TinyLfuCache<Integer, Integer> cache1 = TinyLfuCache.create(1, 100, stats);
+    final TinyLfuCache<Integer, Integer> cache2 = TinyLfuCache.create(1, 100, stats);
+
+    cache1.get(0, key -> key);
+    cache1.get(0, key -> key);
+    cache2.get(1, key -> key);
+    cache2.get(2, key -> key);
+
+    assertThat(stats.getHitCount()).isEqualTo(1);
+    assertThat(stats.getMissCount()).isEqualTo(3);
+    assertThat(stats.getEvictionCount()).isEqualTo(1);
+    assertThat(cache1.getStats()).isSameAs(stats);
+  }
+
+  @Test
+  void copy_shouldCreateIsolatedInstance() {
+    tinyLfuCache.get(0, __ -> 100);
+    tinyLfuCache.get(1, __ -> 101);
+
+    final Cache<Integer, Integer> copy = tinyLfuCache.copy();
+    copy.invalidate(1);
+    copy.get(2, __ -> 102);
+    tinyLfuCache.invalidateWithNewValue(0, 200);
+
+    assertThat(tinyLfuCache.size()).isEqualTo(2);
+    assertThat(tinyLfuCache.getCached(0)).contains(200);
+    assertThat(tinyLfuCache.getCached(1)).contains(101);
+    assertThat(tinyLfuCache.getCached(2)).isEmpty();
+
+    assertThat(copy.size()).isEqualTo(2);
+    assertThat(copy.getCached(0)).contains(100);
+    assertThat(copy.getCached(1)).isEmpty();
+    assertThat(copy.getCached(2)).contains(102);
+  }
+
+  @Test
+  void clear_shouldNotAffectCopy() {
+    tinyLfuCache.get(0, __ -> 100);
+    final Cache<Integer, Integer> copy = tinyLfuCache.copy();
+    tinyLfuCache.clear();
+
+    assertThat(tinyLfuCache.size()).isZero();
+    assertThat(copy.getCached(0)).contains(100);
+  }
+
+  @Test
+  void concurrentAccessShouldReturnConsistentValues() {
+    final int capacity = 256;
+    final TinyLfuCache<Integer, Integer> cache = TinyLfuCache.create(capacity);
+    final CompletableFuture<?>[] futures =
+        IntStream.range(0, 8)
+            .mapToObj(
+                __ ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          final ThreadLocalRandom random = ThreadLocalRandom.current();
+                          Cache<Integer, Integer> current = cache;
+                          for (int i = 0; i < 100_000; i++) {
+                            final int key = random.nextInt(capacity * 2);
+                            assertThat(current.get(key, k -> k)).isEqualTo(key);
+                            if (i % 1000 == 0) {
+                              current = current.copy();
+                            } else if (i % 100 == 0) {
+                              current.invalidate(key);
+                            }
+                          }
+                          assertThat(current.size()).isLessThanOrEqualTo(capacity);
+                        }))
+            .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+  }
+}
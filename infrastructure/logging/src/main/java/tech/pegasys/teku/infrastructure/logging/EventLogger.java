@@ -131,6 +131,21 @@ public class EventLogger {
         Color.GREEN);
   }
 
+  public void slowBlockImport(
+      final UInt64 slot,
+      final Bytes32 blockRoot,
+      final long totalDurationMillis,
+      final String stageDurations) {
+    final String slowBlockImportLog =
+        String.format(
+            "Slow Block  *** Slot: %s, Block: %s, Import time: %sms, Stages: %s",
+            slot,
+            LogFormatter.formatHashRoot(blockRoot),
+            totalDurationMillis,
+            stageDurations);
+    warn(slowBlockImportLog, Color.YELLOW);
+  }
+
   private void info(final String message, final Color color) {
     log.info(print(message, color));
   }
@@ -130,10 +130,23 @@ public final class UInt64 implements Comparable<UInt64> {
   }
 
   private UInt64 plus(final long longBits1, final long longBits2) {
+    return fromLongBits(addExact(longBits1, longBits2));
+  }
+
+  /**
+   * Return the sum of two unsigned values without creating {@link UInt64} instances. Intended for
+   * hot loops (e.g. over all the validators) which would otherwise allocate on every operation.
+   *
+   * @param longBits1 the first unsigned value
+   * @param longBits2 the second unsigned value
+   * @return the unsigned sum
+   * @throws ArithmeticException if the result exceeds {@link #MAX_VALUE}
+   */
+  public static long addExact(final long longBits1, final long longBits2) {
     if (longBits1 != 0 && Long.compareUnsigned(longBits2, MAX_VALUE.longValue() - longBits1) > 0) {
       throw new ArithmeticException("uint64 overflow");
     }
-    return fromLongBits(longBits1 + longBits2);
+    return longBits1 + longBits2;
   }
 
   /**
@@ -191,10 +204,34 @@ public final class UInt64 implements Comparable<UInt64> {
   }
 
   private UInt64 minus(final long longBits1, final long longBits2) {
+    return fromLongBits(subtractExact(longBits1, longBits2));
+  }
+
+  /**
+   * Return the difference of two unsigned values without creating {@link UInt64} instances.
+   *
+   * @param longBits1 the unsigned value to subtract from
+   * @param longBits2 the unsigned value to subtract
+   * @return the unsigned difference
+   * @throws ArithmeticException if the result is less than zero.
+   */
+  public static long subtractExact(final long longBits1, final long longBits2) {
     if (Long.compareUnsigned(longBits1, longBits2) < 0) {
       throw new ArithmeticException("uint64 underflow");
     }
-    return fromLongBits(longBits1 - longBits2);
+    return longBits1 - longBits2;
+  }
+
+  /**
+   * Return the difference of two unsigned values or zero if the result would be negative, without
+   * creating {@link UInt64} instances.
+   *
+   * @param longBits1 the unsigned value to subtract from
+   * @param longBits2 the unsigned value to subtract
+   * @return the unsigned difference or zero
+   */
+  public static long subtractMinZero(final long longBits1, final long longBits2) {
+    return Long.compareUnsigned(longBits1, longBits2) > 0 ? longBits1 - longBits2 : 0;
   }
 
   public UInt64 minusMinZero(final long other) {
@@ -229,10 +266,22 @@ public final class UInt64 implements Comparable<UInt64> {
     return times(value, other.value);
   }
 
-  /** Naive long-multiplication is quite efficient */
   private UInt64 times(final long longBits1, final long longBits2) {
+    return fromLongBits(multiplyExact(longBits1, longBits2));
+  }
+
+  /**
+   * Return the product of two unsigned values without creating {@link UInt64} instances. Naive
+   * long-multiplication is quite efficient.
+   *
+   * @param longBits1 the first unsigned value
+   * @param longBits2 the second unsigned value
+   * @return the unsigned product
+   * @throws ArithmeticException if the result exceeds {@link #MAX_VALUE}
+   */
+  public static long multiplyExact(final long longBits1, final long longBits2) {
     if (Long.numberOfLeadingZeros(longBits1) + Long.numberOfLeadingZeros(longBits2) >= 64) {
-      return UInt64.fromLongBits(longBits1 * longBits2);
+      return longBits1 * longBits2;
     }
     final long longBits1Hi = longBits1 >>> 32;
     final long longBits1Lo = longBits1 & LOW_MASK;
@@ -247,7 +296,7 @@ public final class UInt64 implements Comparable<UInt64> {
     if ((crossProduct & HIGH_MASK) != 0) {
       throw new ArithmeticException("uint64 overflow");
     }
-    return plus(crossProduct << 32, longBits1Lo * longBits2Lo);
+    return addExact(crossProduct << 32, longBits1Lo * longBits2Lo);
   }
 
   /**
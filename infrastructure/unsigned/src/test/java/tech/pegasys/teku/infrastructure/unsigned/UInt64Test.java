@@ -469,6 +469,64 @@ class UInt64Test {
     assertThatThrownBy(() -> UInt64.ONE.times(-1)).isInstanceOf(IllegalArgumentException.class);
   }
 
+  @ParameterizedTest
+  @MethodSource("additionNumbers")
+  void addExact_shouldAddWhenNotOverflowing(
+      final long value1, final long value2, final long sumOfValues) {
+    assertThat(UInt64.addExact(value1, value2)).isEqualTo(sumOfValues);
+    assertThat(UInt64.addExact(value2, value1)).isEqualTo(sumOfValues);
+  }
+
+  @Test
+  void addExact_shouldThrowArithmeticExceptionWhenResultOverflows() {
+    assertThatThrownBy(() -> UInt64.addExact(-1, 1)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.addExact(-2, 2)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.addExact(Long.MIN_VALUE, Long.MIN_VALUE))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @ParameterizedTest
+  @MethodSource("additionNumbers")
+  void subtractExact_shouldSubtractWhenNotUnderflowing(
+      final long value1, final long value2, final long sumOfValues) {
+    assertThat(UInt64.subtractExact(sumOfValues, value1)).isEqualTo(value2);
+    assertThat(UInt64.subtractExact(sumOfValues, value2)).isEqualTo(value1);
+  }
+
+  @Test
+  void subtractExact_shouldThrowArithmeticExceptionWhenResultUnderflows() {
+    assertThatThrownBy(() -> UInt64.subtractExact(0, 1)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.subtractExact(Long.MAX_VALUE, Long.MIN_VALUE))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void subtractMinZero_shouldReturnZeroWhenResultUnderflows() {
+    assertThat(UInt64.subtractMinZero(10, 11)).isZero();
+    assertThat(UInt64.subtractMinZero(10, 10)).isZero();
+    assertThat(UInt64.subtractMinZero(Long.MAX_VALUE, -1)).isZero();
+    assertThat(UInt64.subtractMinZero(-1, Long.MAX_VALUE)).isEqualTo(Long.MIN_VALUE);
+    assertThat(UInt64.subtractMinZero(10, 8)).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @MethodSource("multiplicationNumbers")
+  void multiplyExact_shouldMultiplyWhenResultDoesNotOverflow(
+      final long value1, final long value2, final long expectedResult) {
+    assertThat(UInt64.multiplyExact(value1, value2)).isEqualTo(expectedResult);
+    assertThat(UInt64.multiplyExact(value2, value1)).isEqualTo(expectedResult);
+  }
+
+  @ParameterizedTest
+  @MethodSource("timesOverflowCases")
+  void multiplyExact_shouldThrowArithmeticExceptionWhenResultOverflows(
+      final long value1, final long value2) {
+    assertThatThrownBy(() -> UInt64.multiplyExact(value1, value2))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.multiplyExact(value2, value1))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
   @ParameterizedTest
   @MethodSource("multiplicationNumbers")
   void dividedBy_shouldPerformIntegerDivision(
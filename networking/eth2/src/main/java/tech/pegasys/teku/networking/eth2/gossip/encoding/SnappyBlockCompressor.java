@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.eth2.gossip.encoding;
 
 import java.io.IOException;
+import java.util.Arrays;
 import org.apache.tuweni.bytes.Bytes;
 import org.xerial.snappy.Snappy;
 import tech.pegasys.teku.ssz.sos.SszLengthBounds;
@@ -23,29 +24,54 @@ import tech.pegasys.teku.ssz.sos.SszLengthBounds;
  * https://github.com/google/snappy/blob/master/format_description.txt
  */
 public class SnappyBlockCompressor {
+  // Compression output is first written to a per-thread scratch buffer sized for the worst case,
+  // so only the exact sized result is allocated per message
+  private static final ThreadLocal<byte[]> COMPRESSION_BUFFER =
+      ThreadLocal.withInitial(() -> new byte[0]);
 
   public Bytes uncompress(final Bytes compressedData, final SszLengthBounds lengthBounds)
       throws DecodingException {
 
     try {
-      final int actualLength = Snappy.uncompressedLength(compressedData.toArrayUnsafe());
+      final byte[] compressed = compressedData.toArrayUnsafe();
+      final int actualLength = Snappy.uncompressedLength(compressed);
       if (!lengthBounds.isWithinBounds(actualLength)) {
         throw new DecodingException(
             String.format(
                 "Uncompressed length %d is not within expected bounds %s",
                 actualLength, lengthBounds.toString()));
       }
-      return Bytes.wrap(Snappy.uncompress(compressedData.toArrayUnsafe()));
+      // Decompress straight into the result rather than letting Snappy parse the length again
+      final byte[] uncompressed = new byte[actualLength];
+      Snappy.uncompress(compressed, 0, compressed.length, uncompressed, 0);
+      return Bytes.wrap(uncompressed);
     } catch (IOException e) {
       throw new DecodingException("Failed to uncompress", e);
     }
   }
 
   public Bytes compress(final Bytes data) {
+    final byte[] bytes = data.toArrayUnsafe();
+    return compress(bytes, 0, bytes.length);
+  }
+
+  /** Compresses {@code length} bytes of {@code data} starting from {@code offset} */
+  public Bytes compress(final byte[] data, final int offset, final int length) {
     try {
-      return Bytes.wrap(Snappy.compress(data.toArrayUnsafe()));
+      final byte[] compressed = getCompressionBuffer(Snappy.maxCompressedLength(length));
+      final int compressedLength = Snappy.compress(data, offset, length, compressed, 0);
+      return Bytes.wrap(Arrays.copyOf(compressed, compressedLength));
     } catch (IOException e) {
       throw new RuntimeException("Unable to compress data", e);
     }
   }
+
+  private static byte[] getCompressionBuffer(final int minimumSize) {
+    byte[] buffer = COMPRESSION_BUFFER.get();
+    if (buffer.length < minimumSize) {
+      buffer = new byte[minimumSize];
+      COMPRESSION_BUFFER.set(buffer);
+    }
+    return buffer;
+  }
 }
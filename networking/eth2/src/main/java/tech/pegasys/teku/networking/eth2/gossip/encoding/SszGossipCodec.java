@@ -17,6 +17,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.ssz.SSZException;
 import tech.pegasys.teku.ssz.SszData;
 import tech.pegasys.teku.ssz.schema.SszSchema;
+import tech.pegasys.teku.ssz.sos.SszWriter;
 
 class SszGossipCodec {
 
@@ -24,6 +25,10 @@ class SszGossipCodec {
     return value.sszSerialize();
   }
 
+  public <T extends SszData> void encode(final T value, final SszWriter writer) {
+    value.sszSerialize(writer);
+  }
+
   public <T extends SszData> T decode(final Bytes data, final SszSchema<T> valueType)
       throws DecodingException {
     try {
@@ -18,6 +18,7 @@ import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage.GossipDecodingException;
 import tech.pegasys.teku.ssz.SszData;
 import tech.pegasys.teku.ssz.schema.SszSchema;
+import tech.pegasys.teku.ssz.sos.SszScratchWriter;
 
 class SszSnappyEncoding implements GossipEncoding {
   private static final String NAME = "ssz_snappy";
@@ -35,7 +36,11 @@ class SszSnappyEncoding implements GossipEncoding {
 
   @Override
   public <T extends SszData> Bytes encode(final T value) {
-    return snappyCompressor.compress(sszCodec.encode(value));
+    // compress straight from the scratch buffer to avoid materializing the uncompressed message
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      sszCodec.encode(value, writer);
+      return snappyCompressor.compress(writer.getBytesArray(), 0, writer.getLength());
+    }
   }
 
   @Override
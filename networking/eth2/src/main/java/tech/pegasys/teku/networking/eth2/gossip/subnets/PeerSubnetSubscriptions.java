@@ -13,19 +13,18 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.subnets;
 
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import tech.pegasys.teku.networking.eth2.SubnetSubscriptionService;
 import tech.pegasys.teku.networking.eth2.peers.PeerScorer;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
@@ -124,6 +123,14 @@ public class PeerSubnetSubscriptions {
     return syncCommitteeSubnetSubscriptions.getSubnetSubscriptions(peerId);
   }
 
+  SubnetSubscriptions getAttestationSubnets() {
+    return attestationSubnetSubscriptions;
+  }
+
+  SubnetSubscriptions getSyncCommitteeSubnets() {
+    return syncCommitteeSubnetSubscriptions;
+  }
+
   public boolean isSyncCommitteeSubnetRelevant(final int subnetId) {
     return syncCommitteeSubnetSubscriptions.isSubnetRelevant(subnetId);
   }
@@ -164,21 +171,27 @@ public class PeerSubnetSubscriptions {
     PeerSubnetSubscriptions create(GossipNetwork gossipNetwork);
   }
 
+  /**
+   * Subscriptions of peers to one kind of subnet, stored as primitive bitmasks indexed by subnet
+   * id so that scoring peers doesn't need to allocate.
+   */
   public static class SubnetSubscriptions {
     private final SszBitvectorSchema<?> subscriptionSchema;
-    private final Set<Integer> relevantSubnets;
-    private final Map<Integer, Integer> subscriberCountBySubnetId;
-    private final Map<NodeId, SszBitvector> subscriptionsByPeer;
+    private final long[] relevantSubnets;
+    private final int[] subscriberCountBySubnetId;
+    private final Map<NodeId, long[]> subscriptionsByPeer;
+    private final Optional<Integer> minSubscriberCount;
 
     private SubnetSubscriptions(
         final SszBitvectorSchema<?> subscriptionSchema,
-        final Set<Integer> relevantSubnets,
-        final Map<Integer, Integer> subscriberCountBySubnetId,
-        final Map<NodeId, SszBitvector> subscriptionsByPeer) {
+        final long[] relevantSubnets,
+        final int[] subscriberCountBySubnetId,
+        final Map<NodeId, long[]> subscriptionsByPeer) {
       this.subscriptionSchema = subscriptionSchema;
       this.relevantSubnets = relevantSubnets;
       this.subscriberCountBySubnetId = subscriberCountBySubnetId;
       this.subscriptionsByPeer = subscriptionsByPeer;
+      this.minSubscriberCount = calculateMinSubscriberCount();
     }
 
     public static Builder builder(SszBitvectorSchema<?> subscriptionSchema) {
@@ -186,11 +199,19 @@ public class PeerSubnetSubscriptions {
     }
 
     public boolean isSubnetRelevant(final int subnetId) {
-      return relevantSubnets.contains(subnetId);
+      return subnetId >= 0
+          && subnetId < subscriberCountBySubnetId.length
+          && isBitSet(relevantSubnets, subnetId);
     }
 
-    private Stream<Integer> streamRelevantSubnets() {
-      return relevantSubnets.stream();
+    private Optional<Integer> calculateMinSubscriberCount() {
+      int min = Integer.MAX_VALUE;
+      for (int subnetId = 0; subnetId < subscriberCountBySubnetId.length; subnetId++) {
+        if (isBitSet(relevantSubnets, subnetId)) {
+          min = Math.min(min, subscriberCountBySubnetId[subnetId]);
+        }
+      }
+      return min == Integer.MAX_VALUE ? Optional.empty() : Optional.of(min);
     }
 
     /**
@@ -198,42 +219,115 @@ public class PeerSubnetSubscriptions {
      *     there are no relevant subnets.
      */
     public Optional<Integer> getMinSubscriberCount() {
-      return streamRelevantSubnets().map(this::getSubscriberCountForSubnet).min(Integer::compare);
+      return minSubscriberCount;
     }
 
     public int getSubscriberCountForSubnet(final int subnetId) {
-      return subscriberCountBySubnetId.getOrDefault(subnetId, 0);
+      return subnetId >= 0 && subnetId < subscriberCountBySubnetId.length
+          ? subscriberCountBySubnetId[subnetId]
+          : 0;
     }
 
     public SszBitvector getSubnetSubscriptions(final NodeId peerId) {
-      return subscriptionsByPeer.getOrDefault(peerId, subscriptionSchema.getDefault());
+      final long[] subscriptions = subscriptionsByPeer.get(peerId);
+      if (subscriptions == null) {
+        return subscriptionSchema.getDefault();
+      }
+      return subscriptionSchema.ofBits(
+          IntStream.range(0, subscriberCountBySubnetId.length)
+              .filter(subnetId -> isBitSet(subscriptions, subnetId))
+              .toArray());
+    }
+
+    /**
+     * Sums the score of each relevant subnet the peer is subscribed to, given the subnet's
+     * subscriber count.
+     */
+    int scoreSubscriptions(final NodeId peerId, final IntUnaryOperator subscriberCountToScore) {
+      final long[] subscriptions = subscriptionsByPeer.get(peerId);
+      if (subscriptions == null) {
+        return 0;
+      }
+      int score = 0;
+      for (int word = 0; word < subscriptions.length; word++) {
+        long bits = subscriptions[word] & relevantSubnets[word];
+        while (bits != 0) {
+          final int subnetId = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+          score += subscriberCountToScore.applyAsInt(subscriberCountBySubnetId[subnetId]);
+          bits &= bits - 1;
+        }
+      }
+      return score;
+    }
+
+    /**
+     * Sums the score of each relevant subnet set in the supplied subscriptions, given the subnet's
+     * subscriber count.
+     */
+    int scoreSubscriptions(
+        final SszBitvector subscriptions, final IntUnaryOperator subscriberCountToScore) {
+      final int subnetCount = Math.min(subscriptions.size(), subscriberCountBySubnetId.length);
+      int score = 0;
+      for (int word = 0; word < relevantSubnets.length; word++) {
+        long bits = relevantSubnets[word];
+        while (bits != 0) {
+          final int subnetId = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+          if (subnetId >= subnetCount) {
+            return score;
+          }
+          if (subscriptions.getBit(subnetId)) {
+            score += subscriberCountToScore.applyAsInt(subscriberCountBySubnetId[subnetId]);
+          }
+          bits &= bits - 1;
+        }
+      }
+      return score;
+    }
+
+    private static boolean isBitSet(final long[] bits, final int index) {
+      return (bits[index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    private static boolean setBit(final long[] bits, final int index) {
+      final long mask = 1L << index;
+      final int word = index / Long.SIZE;
+      final boolean alreadySet = (bits[word] & mask) != 0;
+      bits[word] |= mask;
+      return !alreadySet;
     }
 
     public static class Builder {
       private final SszBitvectorSchema<?> subscriptionSchema;
+      private final int subnetCount;
 
-      private final Set<Integer> relevantSubnets = new HashSet<>();
-      private final Map<Integer, Integer> subscriberCountBySubnetId = new HashMap<>();
-      private final Map<NodeId, SszBitvector> subscriptionsByPeer = new HashMap<>();
+      private final long[] relevantSubnets;
+      private final int[] subscriberCountBySubnetId;
+      private final Map<NodeId, long[]> subscriptionsByPeer = new HashMap<>();
 
       private Builder(final SszBitvectorSchema<?> subscriptionSchema) {
         this.subscriptionSchema = subscriptionSchema;
+        this.subnetCount = subscriptionSchema.getLength();
+        this.relevantSubnets = new long[wordCount(subnetCount)];
+        this.subscriberCountBySubnetId = new int[subnetCount];
+      }
+
+      private static int wordCount(final int subnetCount) {
+        return (subnetCount + Long.SIZE - 1) / Long.SIZE;
       }
 
       public Builder addRelevantSubnet(final int subnetId) {
-        relevantSubnets.add(subnetId);
+        checkElementIndex(subnetId, subnetCount, "subnetId");
+        setBit(relevantSubnets, subnetId);
         return this;
       }
 
       public Builder addSubscriber(final int subnetId, final NodeId peer) {
-        subscriberCountBySubnetId.put(
-            subnetId, subscriberCountBySubnetId.getOrDefault(subnetId, 0) + 1);
-        subscriptionsByPeer.compute(
-            peer,
-            (__, existingVector) ->
-                existingVector == null
-                    ? subscriptionSchema.ofBits(subnetId)
-                    : existingVector.withBit(subnetId));
+        checkElementIndex(subnetId, subnetCount, "subnetId");
+        final long[] subscriptions =
+            subscriptionsByPeer.computeIfAbsent(peer, __ -> new long[wordCount(subnetCount)]);
+        if (setBit(subscriptions, subnetId)) {
+          subscriberCountBySubnetId[subnetId]++;
+        }
         return this;
       }
 
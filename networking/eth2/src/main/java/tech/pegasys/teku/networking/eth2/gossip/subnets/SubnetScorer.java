@@ -22,6 +22,8 @@ import tech.pegasys.teku.ssz.collections.SszBitvector;
 public class SubnetScorer implements PeerScorer {
   private static final int MAX_SUBNET_SCORE = 1000;
   private final PeerSubnetSubscriptions peerSubnetSubscriptions;
+  private final IntUnaryOperator existingPeerSubnetScore = this::scoreSubnetForExistingPeer;
+  private final IntUnaryOperator candidatePeerSubnetScore = this::scoreSubnetForCandidatePeer;
 
   private SubnetScorer(final PeerSubnetSubscriptions peerSubnetSubscriptions) {
     this.peerSubnetSubscriptions = peerSubnetSubscriptions;
@@ -33,52 +35,24 @@ public class SubnetScorer implements PeerScorer {
 
   @Override
   public int scoreExistingPeer(final NodeId peerId) {
-    final SszBitvector attSubscriptions =
-        peerSubnetSubscriptions.getAttestationSubnetSubscriptions(peerId);
-    final SszBitvector syncCommitteeSubscriptions =
-        peerSubnetSubscriptions.getSyncCommitteeSubscriptions(peerId);
-    return score(attSubscriptions, syncCommitteeSubscriptions, this::scoreSubnetForExistingPeer);
+    return peerSubnetSubscriptions
+            .getAttestationSubnets()
+            .scoreSubscriptions(peerId, existingPeerSubnetScore)
+        + peerSubnetSubscriptions
+            .getSyncCommitteeSubnets()
+            .scoreSubscriptions(peerId, existingPeerSubnetScore);
   }
 
   @Override
   public int scoreCandidatePeer(
       final SszBitvector attSubnetSubscriptions,
       final SszBitvector syncCommitteeSubnetSubscriptions) {
-    return score(
-        attSubnetSubscriptions,
-        syncCommitteeSubnetSubscriptions,
-        this::scoreSubnetForCandidatePeer);
-  }
-
-  private int score(
-      final SszBitvector attestationSubnetSubscriptions,
-      final SszBitvector syncCommitteeSubnetSubscriptions,
-      final IntUnaryOperator subscriberCountToScore) {
-    final int attestationSubnetScore =
-        attestationSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isAttestationSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForAttestationSubnet(subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    final int syncCommitteeSubnetScore =
-        syncCommitteeSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isSyncCommitteeSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForSyncCommitteeSubnet(subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    return attestationSubnetScore + syncCommitteeSubnetScore;
+    return peerSubnetSubscriptions
+            .getAttestationSubnets()
+            .scoreSubscriptions(attSubnetSubscriptions, candidatePeerSubnetScore)
+        + peerSubnetSubscriptions
+            .getSyncCommitteeSubnets()
+            .scoreSubscriptions(syncCommitteeSubnetSubscriptions, candidatePeerSubnetScore);
   }
 
   private int scoreSubnetForExistingPeer(final int subscriberCount) {
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.eth2.peers;
 
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVALID_REQUEST_CODE;
+import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.RESOURCE_UNAVAILABLE;
 import static tech.pegasys.teku.util.config.Constants.MAX_REQUEST_BLOCKS;
 
 import com.google.common.base.MoreObjects;
@@ -66,8 +67,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
   private final Subscribers<PeerStatusSubscriber> statusSubscribers = Subscribers.create(true);
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
   private final AtomicInteger unansweredPings = new AtomicInteger();
-  private final RateTracker blockRequestTracker;
-  private final RateTracker requestTracker;
+  private final PeerRateLimiter rateLimiter;
 
   DefaultEth2Peer(
       final Peer peer,
@@ -75,15 +75,13 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
       final StatusMessageFactory statusMessageFactory,
       final MetadataMessagesFactory metadataMessagesFactory,
       final PeerChainValidator peerChainValidator,
-      final RateTracker blockRequestTracker,
-      final RateTracker requestTracker) {
+      final PeerRateLimiter rateLimiter) {
     super(peer);
     this.rpcMethods = rpcMethods;
     this.statusMessageFactory = statusMessageFactory;
     this.metadataMessagesFactory = metadataMessagesFactory;
     this.peerChainValidator = peerChainValidator;
-    this.blockRequestTracker = blockRequestTracker;
-    this.requestTracker = requestTracker;
+    this.rateLimiter = rateLimiter;
   }
 
   @Override
@@ -233,19 +231,26 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
   @Override
   public boolean wantToReceiveObjects(
       final ResponseCallback<SignedBeaconBlock> callback, final long objectCount) {
-    if (blockRequestTracker.wantToRequestObjects(objectCount) == 0L) {
-      LOG.debug("Peer {} disconnected due to block rate limits", getId());
-      callback.completeWithErrorResponse(
-          new RpcException(INVALID_REQUEST_CODE, "Peer has been rate limited"));
-      disconnectCleanly(DisconnectReason.RATE_LIMITING).reportExceptions();
-      return false;
+    switch (rateLimiter.tryRequestBlocks(objectCount)) {
+      case PEER_LIMIT_EXCEEDED:
+        LOG.debug("Peer {} disconnected due to block rate limits", getId());
+        callback.completeWithErrorResponse(
+            new RpcException(INVALID_REQUEST_CODE, "Peer has been rate limited"));
+        disconnectCleanly(DisconnectReason.RATE_LIMITING).reportExceptions();
+        return false;
+      case NODE_LIMIT_EXCEEDED:
+        LOG.debug("Refusing block request from peer {} due to node rate limits", getId());
+        callback.completeWithErrorResponse(
+            new RpcException(RESOURCE_UNAVAILABLE, "Node is too busy to serve blocks"));
+        return false;
+      default:
+        return true;
     }
-    return true;
   }
 
   @Override
   public boolean wantToMakeRequest() {
-    if (requestTracker.wantToRequestObjects(1L) == 0L) {
+    if (!rateLimiter.tryMakeRequest()) {
       LOG.debug("Peer {} disconnected due to request rate limits", getId());
       disconnectCleanly(DisconnectReason.RATE_LIMITING).reportExceptions();
       return false;
@@ -40,16 +40,14 @@ public interface Eth2Peer extends Peer, SyncSource {
       final StatusMessageFactory statusMessageFactory,
       final MetadataMessagesFactory metadataMessagesFactory,
       final PeerChainValidator peerChainValidator,
-      final RateTracker blockRequestTracker,
-      final RateTracker requestTracker) {
+      final PeerRateLimiter rateLimiter) {
     return new DefaultEth2Peer(
         peer,
         rpcMethods,
         statusMessageFactory,
         metadataMessagesFactory,
         peerChainValidator,
-        blockRequestTracker,
-        requestTracker);
+        rateLimiter);
   }
 
   void updateStatus(PeerStatus status);
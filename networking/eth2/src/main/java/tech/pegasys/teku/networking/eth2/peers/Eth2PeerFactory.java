@@ -25,16 +25,16 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
 public class Eth2PeerFactory {
+  // Allows the equivalent of this many peers requesting blocks at their full rate at once
+  private static final int NODE_BLOCK_LIMIT_PEER_MULTIPLE = 10;
 
   private final Spec spec;
   private final StatusMessageFactory statusMessageFactory;
   private final MetadataMessagesFactory metadataMessagesFactory;
   private final MetricsSystem metricsSystem;
   private final CombinedChainDataClient chainDataClient;
-  private final TimeProvider timeProvider;
   private final Optional<Checkpoint> requiredCheckpoint;
-  private final int peerRateLimit;
-  private final int peerRequestLimit;
+  private final PeerRateLimiter.Factory rateLimiterFactory;
 
   public Eth2PeerFactory(
       final Spec spec,
@@ -49,12 +49,16 @@ public class Eth2PeerFactory {
     this.spec = spec;
     this.metricsSystem = metricsSystem;
     this.chainDataClient = chainDataClient;
-    this.timeProvider = timeProvider;
     this.statusMessageFactory = statusMessageFactory;
     this.metadataMessagesFactory = metadataMessagesFactory;
     this.requiredCheckpoint = requiredCheckpoint;
-    this.peerRateLimit = peerRateLimit;
-    this.peerRequestLimit = peerRequestLimit;
+    this.rateLimiterFactory =
+        new PeerRateLimiter.Factory(
+            metricsSystem,
+            timeProvider,
+            peerRateLimit,
+            peerRequestLimit,
+            peerRateLimit * NODE_BLOCK_LIMIT_PEER_MULTIPLE);
   }
 
   public Eth2Peer create(final Peer peer, final BeaconChainMethods rpcMethods) {
@@ -64,7 +68,6 @@ public class Eth2PeerFactory {
         statusMessageFactory,
         metadataMessagesFactory,
         PeerChainValidator.create(spec, metricsSystem, chainDataClient, requiredCheckpoint),
-        new RateTracker(peerRateLimit, 60, timeProvider),
-        new RateTracker(peerRequestLimit, 60, timeProvider));
+        rateLimiterFactory.create());
   }
 }
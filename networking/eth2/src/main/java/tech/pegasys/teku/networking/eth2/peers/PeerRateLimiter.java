@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import java.time.Duration;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * Applies the RPC rate limits of a single peer. Every incoming request costs one request token and
+ * requests for blocks additionally cost one block token per requested block, both from the peer's
+ * own budget. Blocks are also charged to a block budget shared by all peers which bounds the total
+ * load block requests put on storage, however many peers are connected.
+ *
+ * <p>A peer exceeding its own budget is misbehaving, while exceeding the node budget is our
+ * limitation, so callers should only penalise the peer for the former. A block request refused
+ * because of the node budget is refunded to the peer's budget, both its blocks and its request
+ * token.
+ */
+public class PeerRateLimiter {
+  static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+
+  public enum BlockRequestResult {
+    ALLOWED,
+    PEER_LIMIT_EXCEEDED,
+    NODE_LIMIT_EXCEEDED
+  }
+
+  private final TokenBucket blockBucket;
+  private final TokenBucket requestBucket;
+  private final TokenBucket nodeBlockBucket;
+  private final Counter peerBlockLimitCounter;
+  private final Counter peerRequestLimitCounter;
+  private final Counter nodeBlockLimitCounter;
+
+  private PeerRateLimiter(
+      final TokenBucket blockBucket,
+      final TokenBucket requestBucket,
+      final TokenBucket nodeBlockBucket,
+      final LabelledMetric<Counter> rateLimitedCounter) {
+    this.blockBucket = blockBucket;
+    this.requestBucket = requestBucket;
+    this.nodeBlockBucket = nodeBlockBucket;
+    this.peerBlockLimitCounter = rateLimitedCounter.labels("peer_blocks");
+    this.peerRequestLimitCounter = rateLimitedCounter.labels("peer_requests");
+    this.nodeBlockLimitCounter = rateLimitedCounter.labels("node_blocks");
+  }
+
+  /**
+   * Charges the blocks of a request which has already been charged by {@link #tryMakeRequest()}.
+   */
+  public BlockRequestResult tryRequestBlocks(final long blockCount) {
+    if (!blockBucket.tryConsume(blockCount)) {
+      peerBlockLimitCounter.inc();
+      return BlockRequestResult.PEER_LIMIT_EXCEEDED;
+    }
+    if (!nodeBlockBucket.tryConsume(blockCount)) {
+      // The request isn't served so it shouldn't count against the peer's own budget
+      blockBucket.refund(blockCount);
+      requestBucket.refund(1);
+      nodeBlockLimitCounter.inc();
+      return BlockRequestResult.NODE_LIMIT_EXCEEDED;
+    }
+    return BlockRequestResult.ALLOWED;
+  }
+
+  public boolean tryMakeRequest() {
+    if (!requestBucket.tryConsume(1)) {
+      peerRequestLimitCounter.inc();
+      return false;
+    }
+    return true;
+  }
+
+  /** Creates the rate limiters of each peer, sharing a single node wide block budget. */
+  public static class Factory {
+    private final TimeProvider timeProvider;
+    private final int peerBlockLimit;
+    private final int peerRequestLimit;
+    private final TokenBucket nodeBlockBucket;
+    private final LabelledMetric<Counter> rateLimitedCounter;
+
+    public Factory(
+        final MetricsSystem metricsSystem,
+        final TimeProvider timeProvider,
+        final int peerBlockLimit,
+        final int peerRequestLimit,
+        final int nodeBlockLimit) {
+      this.timeProvider = timeProvider;
+      this.peerBlockLimit = peerBlockLimit;
+      this.peerRequestLimit = peerRequestLimit;
+      this.nodeBlockBucket = TokenBucket.create(nodeBlockLimit, REFILL_PERIOD, timeProvider);
+      this.rateLimitedCounter =
+          metricsSystem.createLabelledCounter(
+              TekuMetricCategory.NETWORK,
+              "rpc_rate_limited_requests_total",
+              "Number of incoming RPC requests refused due to rate limits",
+              "limit");
+      metricsSystem.createGauge(
+          TekuMetricCategory.NETWORK,
+          "rpc_node_block_budget_available",
+          "Number of blocks peers may request before the node wide limit applies",
+          nodeBlockBucket::getAvailableTokens);
+    }
+
+    public PeerRateLimiter create() {
+      return new PeerRateLimiter(
+          TokenBucket.create(peerBlockLimit, REFILL_PERIOD, timeProvider),
+          TokenBucket.create(peerRequestLimit, REFILL_PERIOD, timeProvider),
+          nodeBlockBucket,
+          rateLimitedCounter);
+    }
+  }
+}
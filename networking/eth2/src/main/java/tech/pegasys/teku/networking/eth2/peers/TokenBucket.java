@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * A lock-free token bucket which refills {@code capacity} tokens evenly over {@code refillPeriod}.
+ *
+ * <p>Rather than a token count the bucket tracks the time at which all tokens consumed so far will
+ * have been refilled, so its whole state is a single {@link AtomicLong}. Times are kept in units of
+ * {@code 1 / capacity} milliseconds, which makes the refill time of one token exactly {@code
+ * refillPeriod} in milliseconds and avoids any rounding.
+ *
+ * <p>Matching the previous sliding window tracker, a request is allowed as long as at least one
+ * token is available and is then charged in full, possibly leaving the bucket in debt. This ensures
+ * requests larger than the capacity can still be served.
+ */
+public class TokenBucket {
+  private final TimeProvider timeProvider;
+  private final long capacity;
+  private final long tokenRefillTime;
+  private final long startTimeMillis;
+  private final AtomicLong refilledAt;
+
+  private TokenBucket(
+      final TimeProvider timeProvider, final long capacity, final long refillPeriodMillis) {
+    this.timeProvider = timeProvider;
+    this.capacity = capacity;
+    this.tokenRefillTime = refillPeriodMillis;
+    this.startTimeMillis = timeProvider.getTimeInMillis().longValue();
+    this.refilledAt = new AtomicLong(0);
+  }
+
+  public static TokenBucket create(
+      final long capacity, final Duration refillPeriod, final TimeProvider timeProvider) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    checkArgument(!refillPeriod.isNegative() && !refillPeriod.isZero(), "Invalid refill period");
+    return new TokenBucket(timeProvider, capacity, refillPeriod.toMillis());
+  }
+
+  /**
+   * Consumes the given number of tokens if at least one token is available.
+   *
+   * @param tokens the number of tokens to consume
+   * @return true if the tokens were consumed, false if the bucket is empty
+   */
+  public boolean tryConsume(final long tokens) {
+    final long now = now();
+    final long maxDebt = (capacity - 1) * tokenRefillTime;
+    while (true) {
+      final long current = refilledAt.get();
+      final long start = Math.max(current, now);
+      if (start - now > maxDebt) {
+        return false;
+      }
+      if (refilledAt.compareAndSet(current, start + tokens * tokenRefillTime)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Returns tokens to the bucket which were consumed for a request that was not served after all.
+   * The bucket never holds more than its capacity.
+   *
+   * @param tokens the number of tokens to return
+   */
+  public void refund(final long tokens) {
+    final long now = now();
+    refilledAt.getAndUpdate(current -> Math.max(now, current - tokens * tokenRefillTime));
+  }
+
+  /** Returns the number of whole tokens currently available, which is negative while in debt. */
+  public long getAvailableTokens() {
+    final long now = now();
+    final long debt = Math.max(0, refilledAt.get() - now);
+    return capacity - Math.floorDiv(debt + tokenRefillTime - 1, tokenRefillTime);
+  }
+
+  private long now() {
+    return (timeProvider.getTimeInMillis().longValue() - startTimeMillis) * capacity;
+  }
+}
@@ -18,9 +18,13 @@ import static tech.pegasys.teku.util.config.Constants.MAX_BLOCK_BY_RANGE_REQUEST
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.networking.eth2.peers.PeerLookup;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BeaconBlocksByRangeMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.BeaconBlocksByRootMessageHandler;
@@ -57,6 +61,7 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class BeaconChainMethods {
+  private static final int ENCODED_BLOCKS_BY_ROOT_RESPONSE_CACHE_SIZE = 64;
 
   private final Eth2RpcMethod<StatusMessage, StatusMessage> status;
   private final Eth2RpcMethod<GoodbyeMessage, GoodbyeMessage> goodBye;
@@ -166,6 +171,10 @@ public class BeaconChainMethods {
     final RpcContextCodec<Bytes, SignedBeaconBlock> noContextCodec =
         RpcContextCodec.noop(phase0BlockSchema);
 
+    // Both versions encode blocks identically, only the context differs, so can share a cache
+    final Optional<Cache<Bytes32, Bytes>> encodedBlockCache =
+        Optional.of(LRUCache.create(ENCODED_BLOCKS_BY_ROOT_RESPONSE_CACHE_SIZE));
+
     final SingleProtocolEth2RpcMethod<BeaconBlocksByRootRequestMessage, SignedBeaconBlock>
         v1Method =
             new SingleProtocolEth2RpcMethod<>(
@@ -177,7 +186,8 @@ public class BeaconChainMethods {
                 expectResponseToRequest,
                 noContextCodec,
                 beaconBlocksByRootHandler,
-                peerLookup);
+                peerLookup,
+                encodedBlockCache);
 
     if (spec.isMilestoneSupported(SpecMilestone.ALTAIR)) {
       final RpcContextCodec<Bytes4, SignedBeaconBlock> forkDigestContextCodec =
@@ -195,7 +205,8 @@ public class BeaconChainMethods {
                   expectResponseToRequest,
                   forkDigestContextCodec,
                   beaconBlocksByRootHandler,
-                  peerLookup);
+                  peerLookup,
+                  encodedBlockCache);
 
       return VersionedEth2RpcMethod.create(
           rpcEncoding, requestType, expectResponseToRequest, List.of(v2Method, v1Method));
@@ -16,16 +16,20 @@ package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.nio.channels.ClosedChannelException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
-import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -38,9 +42,18 @@ public class BeaconBlocksByRootMessageHandler
     extends PeerRequiredLocalMessageHandler<BeaconBlocksByRootRequestMessage, SignedBeaconBlock> {
   private static final org.apache.logging.log4j.Logger LOG = LogManager.getLogger();
 
+  // Blocks never change so cached blocks can't go stale, the limit just bounds memory use
+  private static final int RECENTLY_SERVED_BLOCKS_CACHE_SIZE = 64;
+
   private final Spec spec;
   private final RecentChainData storageClient;
 
+  // Peers tend to request the same few blocks at once, typically the parent of a new gossip block
+  private final Cache<Bytes32, SignedBeaconBlock> recentlyServedBlocks =
+      LRUCache.create(RECENTLY_SERVED_BLOCKS_CACHE_SIZE);
+  private final Map<Bytes32, SafeFuture<Optional<SignedBeaconBlock>>> pendingBlockLookups =
+      new ConcurrentHashMap<>();
+
   public BeaconBlocksByRootMessageHandler(final Spec spec, final RecentChainData storageClient) {
     this.spec = spec;
     this.storageClient = storageClient;
@@ -55,8 +68,8 @@ public class BeaconBlocksByRootMessageHandler
     LOG.trace("Peer {} requested BeaconBlocks with roots: {}", peer.getId(), message);
     if (storageClient.getStore() != null) {
       SafeFuture<Void> future = SafeFuture.COMPLETE;
+      // The peer disconnects itself if it exceeds its own limits
       if (!peer.wantToMakeRequest() || !peer.wantToReceiveObjects(callback, message.size())) {
-        peer.disconnectCleanly(DisconnectReason.RATE_LIMITING).reportExceptions();
         return;
       }
 
@@ -64,9 +77,7 @@ public class BeaconBlocksByRootMessageHandler
         future =
             future.thenCompose(
                 __ ->
-                    storageClient
-                        .getStore()
-                        .retrieveSignedBlock(blockRoot.get())
+                    retrieveBlock(blockRoot.get())
                         .thenCompose(
                             block -> {
                               final Optional<RpcException> validationResult =
@@ -83,6 +94,30 @@ public class BeaconBlocksByRootMessageHandler
     }
   }
 
+  /**
+   * Retrieves the block with the given root, sharing the result between concurrent requests for the
+   * same root and keeping recently served blocks on hand for the requests that follow.
+   */
+  private SafeFuture<Optional<SignedBeaconBlock>> retrieveBlock(final Bytes32 blockRoot) {
+    final Optional<SignedBeaconBlock> cachedBlock = recentlyServedBlocks.getCached(blockRoot);
+    if (cachedBlock.isPresent()) {
+      return SafeFuture.completedFuture(cachedBlock);
+    }
+    final SafeFuture<Optional<SignedBeaconBlock>> lookup = new SafeFuture<>();
+    final SafeFuture<Optional<SignedBeaconBlock>> pendingLookup =
+        pendingBlockLookups.putIfAbsent(blockRoot, lookup);
+    if (pendingLookup != null) {
+      return pendingLookup;
+    }
+    SafeFuture.of(() -> storageClient.getStore().retrieveSignedBlock(blockRoot))
+        .thenPeek(
+            maybeBlock ->
+                maybeBlock.ifPresent(block -> recentlyServedBlocks.get(blockRoot, __ -> block)))
+        .alwaysRun(() -> pendingBlockLookups.remove(blockRoot, lookup))
+        .propagateTo(lookup);
+    return lookup;
+  }
+
   private void handleError(
       final ResponseCallback<SignedBeaconBlock> callback, final Throwable error) {
     final Throwable rootCause = Throwables.getRootCause(error);
@@ -15,7 +15,10 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCESS_RESPONSE_CODE;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 import tech.pegasys.teku.ssz.SszData;
@@ -23,17 +26,36 @@ import tech.pegasys.teku.ssz.SszData;
 public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
   private final RpcEncoding encoding;
   private final RpcContextCodec<TContext, TPayload> contextCodec;
+  private final Optional<Cache<Bytes32, Bytes>> encodedPayloadCache;
 
   public RpcResponseEncoder(
       final RpcEncoding encoding, final RpcContextCodec<TContext, TPayload> contextCodec) {
+    this(encoding, contextCodec, Optional.empty());
+  }
+
+  /**
+   * @param encodedPayloadCache if present, encoded payloads are cached by the hash tree root of the
+   *     response so that responses sent repeatedly are only serialized and compressed once. The
+   *     cache may be shared between encoders using the same encoding.
+   */
+  public RpcResponseEncoder(
+      final RpcEncoding encoding,
+      final RpcContextCodec<TContext, TPayload> contextCodec,
+      final Optional<Cache<Bytes32, Bytes>> encodedPayloadCache) {
     this.encoding = encoding;
     this.contextCodec = contextCodec;
+    this.encodedPayloadCache = encodedPayloadCache;
   }
 
   public Bytes encodeSuccessfulResponse(TPayload response) {
     final Bytes context = contextCodec.encodeContext(response);
-    return Bytes.concatenate(
-        Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
+    return Bytes.concatenate(Bytes.of(SUCCESS_RESPONSE_CODE), context, encodePayload(response));
+  }
+
+  private Bytes encodePayload(final TPayload response) {
+    return encodedPayloadCache
+        .map(cache -> cache.get(response.hashTreeRoot(), __ -> encoding.encodePayload(response)))
+        .orElseGet(() -> encoding.encodePayload(response));
   }
 
   public Bytes encodeErrorResponse(RpcException error) {
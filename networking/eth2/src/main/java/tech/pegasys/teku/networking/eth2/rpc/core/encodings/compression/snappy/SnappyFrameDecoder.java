@@ -13,10 +13,12 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
+import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.peekUncompressedLength;
 import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.validateChecksum;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.compression.DecompressionException;
 import io.netty.handler.codec.compression.Snappy;
 import java.util.Optional;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.AbstractByteBufDecoder;
@@ -44,6 +46,7 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
 
   private static final int SNAPPY_IDENTIFIER_LEN = 6;
   private static final int MAX_UNCOMPRESSED_DATA_SIZE = 65536 + 4;
+  private static final int MAX_DECOMPRESSED_DATA_SIZE = 65536;
 
   private final Snappy snappy = new Snappy();
   private final boolean validateChecksums;
@@ -170,7 +173,19 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
 
           in.skipBytes(4);
           int checksum = in.readIntLE();
-          ByteBuf uncompressed = Unpooled.buffer();
+          // Decode straight into a pooled buffer sized by the block's length preamble. A chunk
+          // never holds more than 64KiB of uncompressed data so reject it before allocating if the
+          // preamble claims more than that
+          final int uncompressedLength =
+              peekUncompressedLength(in, in.readerIndex(), chunkLength - 4);
+          if (uncompressedLength > MAX_DECOMPRESSED_DATA_SIZE) {
+            throw new CompressionException(
+                "Received COMPRESSED_DATA which decompresses to more than 65536 bytes: "
+                    + uncompressedLength);
+          }
+          ByteBuf uncompressed =
+              PooledByteBufAllocator.DEFAULT.directBuffer(
+                  Math.max(0, uncompressedLength), MAX_DECOMPRESSED_DATA_SIZE);
           try {
             if (validateChecksums) {
               int oldWriterIndex = in.writerIndex();
@@ -186,6 +201,9 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
             }
             ret = uncompressed;
             uncompressed = null;
+          } catch (DecompressionException | IndexOutOfBoundsException e) {
+            // Malformed data or more output than a chunk can hold
+            throw new CompressionException("Failed to decompress Snappy chunk", e);
           } finally {
             if (uncompressed != null) {
               uncompressed.release();
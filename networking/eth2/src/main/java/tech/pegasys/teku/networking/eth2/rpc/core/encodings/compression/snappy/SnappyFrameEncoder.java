@@ -16,6 +16,8 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.calculateChecksum;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.compression.Snappy;
 import org.apache.tuweni.bytes.Bytes;
@@ -49,18 +51,28 @@ public class SnappyFrameEncoder {
 
   public Bytes encode(Bytes in) {
     ByteBuf inBuf = Unpooled.wrappedBuffer(in.toArrayUnsafe());
-    ByteBuf outBuf = Unpooled.buffer(in.size() / 2);
+    // Sized for the worst case up front so the pooled buffer is never reallocated while encoding
+    ByteBuf outBuf = PooledByteBufAllocator.DEFAULT.directBuffer(maxEncodedLength(in.size()));
     try {
       encode(inBuf, outBuf);
-      byte[] bytes = new byte[outBuf.readableBytes()];
-      outBuf.readBytes(bytes);
-      return Bytes.wrap(bytes);
+      return Bytes.wrap(ByteBufUtil.getBytes(outBuf));
     } finally {
       inBuf.release();
       outBuf.release();
     }
   }
 
+  /**
+   * Returns the maximum number of bytes {@link #encode(ByteBuf, ByteBuf)} can write for {@code
+   * length} bytes of input, including the stream identifier.
+   */
+  public static int maxEncodedLength(final int length) {
+    final int chunkCount = length / Short.MAX_VALUE + 1;
+    // Each chunk has a 4 byte header, a 4 byte checksum and up to 32 bytes snappy overhead on top
+    // of expanding its data by a sixth in the worst case
+    return STREAM_START.length + chunkCount * (8 + 32) + length + length / 6;
+  }
+
   public void encode(ByteBuf in, ByteBuf out) {
     if (!in.isReadable()) {
       return;
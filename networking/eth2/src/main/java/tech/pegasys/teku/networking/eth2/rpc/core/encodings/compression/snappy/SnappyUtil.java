@@ -15,19 +15,23 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.compression.DecompressionException;
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 
 class SnappyUtil {
+  private static final ThreadLocal<CRC32C> CRC32C_INSTANCE = ThreadLocal.withInitial(CRC32C::new);
 
   static int calculateChecksum(ByteBuf data) {
     return calculateChecksum(data, data.readerIndex(), data.readableBytes());
   }
 
   static int calculateChecksum(ByteBuf data, int offset, int length) {
-    CRC32C crc32 = new CRC32C();
+    final CRC32C crc32 = CRC32C_INSTANCE.get();
     try {
-      for (int i = offset; i < offset + length; i++) {
-        crc32.update(data.getByte(i));
+      // Checksum the underlying buffers in bulk rather than byte by byte. For composite buffers
+      // these are the components' own buffers, so nothing is copied
+      for (ByteBuffer buffer : data.nioBuffers(offset, length)) {
+        crc32.update(buffer);
       }
       return maskChecksum((int) crc32.getValue());
     } finally {
@@ -35,6 +39,24 @@ class SnappyUtil {
     }
   }
 
+  /**
+   * Reads the uncompressed length preamble of a snappy compressed block without moving the reader
+   * index.
+   *
+   * @return the uncompressed length, or -1 if the preamble is incomplete or invalid
+   */
+  static int peekUncompressedLength(ByteBuf data, int offset, int length) {
+    int result = 0;
+    for (int i = 0; i < Math.min(length, 5); i++) {
+      final int b = data.getUnsignedByte(offset + i);
+      result |= (b & 0x7f) << (7 * i);
+      if ((b & 0x80) == 0) {
+        return result < 0 ? -1 : result;
+      }
+    }
+    return -1;
+  }
+
   static int maskChecksum(int checksum) {
     return (checksum >>> 15 | checksum << 17) + 0xa282ead8;
   }
@@ -17,7 +17,11 @@ import static tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMetho
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.networking.eth2.peers.PeerLookup;
 import tech.pegasys.teku.networking.eth2.rpc.core.Eth2IncomingRequestHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.Eth2OutgoingRequestHandler;
@@ -55,10 +59,34 @@ public class SingleProtocolEth2RpcMethod<
       final RpcContextCodec<?, TResponse> contextCodec,
       final LocalMessageHandler<TRequest, TResponse> localMessageHandler,
       final PeerLookup peerLookup) {
+    this(
+        asyncRunner,
+        protocolIdPrefix,
+        protocolVersion,
+        encoding,
+        requestType,
+        expectResponseToRequest,
+        contextCodec,
+        localMessageHandler,
+        peerLookup,
+        Optional.empty());
+  }
+
+  public SingleProtocolEth2RpcMethod(
+      final AsyncRunner asyncRunner,
+      final String protocolIdPrefix,
+      final int protocolVersion,
+      final RpcEncoding encoding,
+      final SszSchema<TRequest> requestType,
+      final boolean expectResponseToRequest,
+      final RpcContextCodec<?, TResponse> contextCodec,
+      final LocalMessageHandler<TRequest, TResponse> localMessageHandler,
+      final PeerLookup peerLookup,
+      final Optional<Cache<Bytes32, Bytes>> encodedResponseCache) {
     super(encoding, requestType, expectResponseToRequest);
     this.asyncRunner = asyncRunner;
     this.contextCodec = contextCodec;
-    this.responseEncoder = new RpcResponseEncoder<>(encoding, contextCodec);
+    this.responseEncoder = new RpcResponseEncoder<>(encoding, contextCodec, encodedResponseCache);
     this.protocolId = getMethodId(protocolIdPrefix, protocolVersion, encoding);
     this.protocolVersion = protocolVersion;
     this.localMessageHandler = localMessageHandler;
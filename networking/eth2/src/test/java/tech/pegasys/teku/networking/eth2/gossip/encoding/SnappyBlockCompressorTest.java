@@ -34,6 +34,17 @@ public class SnappyBlockCompressorTest {
     assertThat(uncompressed).isEqualTo(original);
   }
 
+  @Test
+  public void compressArraySlice_shouldMatchCompressedBytes() throws DecodingException {
+    final Bytes original = Bytes.fromHexString("0x010203040506");
+    final byte[] buffer = Bytes.concatenate(Bytes.of(9, 9), original, Bytes.of(9)).toArray();
+
+    final Bytes compressed = compressor.compress(buffer, 2, original.size());
+    assertThat(compressed).isEqualTo(compressor.compress(original));
+    assertThat(compressor.uncompress(compressed, SszLengthBounds.ofBytes(0, 1000)))
+        .isEqualTo(original);
+  }
+
   @Test
   public void uncompress_randomData() {
     final Bytes data = Bytes.fromHexString("0x0102");
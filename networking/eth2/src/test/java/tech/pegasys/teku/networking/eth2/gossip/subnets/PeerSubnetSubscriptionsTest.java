@@ -193,6 +193,19 @@ class PeerSubnetSubscriptionsTest {
     assertThat(subscriptions.isAttestationSubnetRelevant(attSubnetsCount + 1)).isFalse();
   }
 
+  @Test
+  public void builder_shouldCountRepeatedSubscriberOnce() {
+    final PeerSubnetSubscriptions subscriptions =
+        PeerSubnetSubscriptions.builder(currentSchemaDefinitions)
+            .attestationSubnetSubscriptions(
+                b -> b.addRelevantSubnet(1).addSubscriber(1, PEER1).addSubscriber(1, PEER1))
+            .build();
+
+    assertThat(subscriptions.getSubscriberCountForAttestationSubnet(1)).isEqualTo(1);
+    assertThat(subscriptions.getAttestationSubnetSubscriptions(PEER1))
+        .isEqualTo(createAttnetsBitvector(1));
+  }
+
   private PeerSubnetSubscriptions createPeerSubnetSubscriptions() {
     return PeerSubnetSubscriptions.create(
         currentSchemaDefinitions,
@@ -39,8 +39,7 @@ class Eth2PeerTest {
   private final MetadataMessagesFactory metadataMessagesFactory =
       mock(MetadataMessagesFactory.class);
   private final PeerChainValidator peerChainValidator = mock(PeerChainValidator.class);
-  private final RateTracker blockRateTracker = mock(RateTracker.class);
-  private final RateTracker rateTracker = mock(RateTracker.class);
+  private final PeerRateLimiter rateLimiter = mock(PeerRateLimiter.class);
 
   private final PeerStatus randomPeerStatus = randomPeerStatus();
 
@@ -51,8 +50,7 @@ class Eth2PeerTest {
           statusMessageFactory,
           metadataMessagesFactory,
           peerChainValidator,
-          blockRateTracker,
-          rateTracker);
+          rateLimiter);
 
   @Test
   void updateStatus_shouldNotUpdateUntilValidationPasses() {
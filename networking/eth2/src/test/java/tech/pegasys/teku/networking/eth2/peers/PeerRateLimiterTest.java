@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.networking.eth2.peers.PeerRateLimiter.BlockRequestResult;
+
+public class PeerRateLimiterTest {
+  private static final int PEER_BLOCK_LIMIT = 100;
+  private static final int PEER_REQUEST_LIMIT = 5;
+  private static final int NODE_BLOCK_LIMIT = 150;
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final PeerRateLimiter.Factory factory =
+      new PeerRateLimiter.Factory(
+          metricsSystem, timeProvider, PEER_BLOCK_LIMIT, PEER_REQUEST_LIMIT, NODE_BLOCK_LIMIT);
+
+  @Test
+  public void shouldAllowBlocksWithinPeerAndNodeLimits() {
+    final PeerRateLimiter limiter = factory.create();
+    assertThat(limiter.tryRequestBlocks(PEER_BLOCK_LIMIT)).isEqualTo(BlockRequestResult.ALLOWED);
+    assertThat(getNodeBlockBudget()).isEqualTo(NODE_BLOCK_LIMIT - PEER_BLOCK_LIMIT);
+  }
+
+  @Test
+  public void shouldNotChargeNodeBudgetWhenPeerLimitExceeded() {
+    final PeerRateLimiter limiter = factory.create();
+    assertThat(limiter.tryRequestBlocks(PEER_BLOCK_LIMIT)).isEqualTo(BlockRequestResult.ALLOWED);
+
+    assertThat(limiter.tryRequestBlocks(10)).isEqualTo(BlockRequestResult.PEER_LIMIT_EXCEEDED);
+    assertThat(getNodeBlockBudget()).isEqualTo(NODE_BLOCK_LIMIT - PEER_BLOCK_LIMIT);
+    assertThat(getRateLimitedCount("peer_blocks")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldShareNodeBudgetBetweenPeers() {
+    final PeerRateLimiter peer1 = factory.create();
+    final PeerRateLimiter peer2 = factory.create();
+    assertThat(peer1.tryRequestBlocks(NODE_BLOCK_LIMIT)).isEqualTo(BlockRequestResult.ALLOWED);
+
+    assertThat(peer2.tryRequestBlocks(1)).isEqualTo(BlockRequestResult.NODE_LIMIT_EXCEEDED);
+    assertThat(getRateLimitedCount("node_blocks")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRefundPeerBudgetWhenNodeLimitExceeded() {
+    final PeerRateLimiter busyPeer = factory.create();
+    final PeerRateLimiter peer = factory.create();
+    assertThat(busyPeer.tryRequestBlocks(NODE_BLOCK_LIMIT)).isEqualTo(BlockRequestResult.ALLOWED);
+
+    // Refused by the node budget every time, but the peer's own budget is untouched
+    for (int i = 0; i < 5; i++) {
+      assertThat(peer.tryRequestBlocks(PEER_BLOCK_LIMIT))
+          .isEqualTo(BlockRequestResult.NODE_LIMIT_EXCEEDED);
+    }
+
+    // Once the node budget has refilled the peer can use its full budget
+    timeProvider.advanceTimeBySeconds(PeerRateLimiter.REFILL_PERIOD.toSeconds());
+    assertThat(peer.tryRequestBlocks(PEER_BLOCK_LIMIT)).isEqualTo(BlockRequestResult.ALLOWED);
+    assertThat(getRateLimitedCount("peer_blocks")).isZero();
+  }
+
+  @Test
+  public void shouldRefundRequestTokenWhenNodeLimitExceeded() {
+    final PeerRateLimiter busyPeer = factory.create();
+    final PeerRateLimiter peer = factory.create();
+    assertThat(busyPeer.tryRequestBlocks(NODE_BLOCK_LIMIT)).isEqualTo(BlockRequestResult.ALLOWED);
+
+    // More refused block requests than the peer's request limit
+    for (int i = 0; i <= PEER_REQUEST_LIMIT; i++) {
+      assertThat(peer.tryMakeRequest()).isTrue();
+      assertThat(peer.tryRequestBlocks(1)).isEqualTo(BlockRequestResult.NODE_LIMIT_EXCEEDED);
+    }
+
+    assertThat(peer.tryMakeRequest()).isTrue();
+    assertThat(getRateLimitedCount("peer_requests")).isZero();
+  }
+
+  @Test
+  public void shouldLimitRequestsPerPeer() {
+    final PeerRateLimiter limiter = factory.create();
+    for (int i = 0; i < PEER_REQUEST_LIMIT; i++) {
+      assertThat(limiter.tryMakeRequest()).isTrue();
+    }
+    assertThat(limiter.tryMakeRequest()).isFalse();
+    assertThat(factory.create().tryMakeRequest()).isTrue();
+    assertThat(getRateLimitedCount("peer_requests")).isEqualTo(1);
+  }
+
+  private long getNodeBlockBudget() {
+    return (long)
+        metricsSystem
+            .getGauge(TekuMetricCategory.NETWORK, "rpc_node_block_budget_available")
+            .getValue();
+  }
+
+  private long getRateLimitedCount(final String limit) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.NETWORK, "rpc_rate_limited_requests_total")
+        .getValue(limit);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+public class TokenBucketTest {
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+
+  @Test
+  public void shouldAllowConsumingTokensWithinCapacity() {
+    final TokenBucket bucket = TokenBucket.create(10, Duration.ofSeconds(10), timeProvider);
+    assertThat(bucket.tryConsume(4)).isTrue();
+    assertThat(bucket.tryConsume(6)).isTrue();
+    assertThat(bucket.getAvailableTokens()).isZero();
+    assertThat(bucket.tryConsume(1)).isFalse();
+  }
+
+  @Test
+  public void shouldChargeRequestsInFullWhenAtLeastOneTokenIsAvailable() {
+    final TokenBucket bucket = TokenBucket.create(10, Duration.ofSeconds(10), timeProvider);
+    assertThat(bucket.tryConsume(9)).isTrue();
+    assertThat(bucket.tryConsume(5)).isTrue();
+    assertThat(bucket.getAvailableTokens()).isEqualTo(-4);
+    assertThat(bucket.tryConsume(1)).isFalse();
+
+    // Debt must be repaid before the next request
+    timeProvider.advanceTimeBySeconds(4);
+    assertThat(bucket.getAvailableTokens()).isZero();
+    assertThat(bucket.tryConsume(1)).isFalse();
+    timeProvider.advanceTimeBySeconds(1);
+    assertThat(bucket.tryConsume(1)).isTrue();
+  }
+
+  @Test
+  public void shouldRefillEvenlyOverTime() {
+    final TokenBucket bucket = TokenBucket.create(10, Duration.ofSeconds(10), timeProvider);
+    assertThat(bucket.tryConsume(10)).isTrue();
+
+    timeProvider.advanceTimeByMillis(999);
+    assertThat(bucket.getAvailableTokens()).isZero();
+    assertThat(bucket.tryConsume(1)).isFalse();
+
+    timeProvider.advanceTimeByMillis(1);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(1);
+    assertThat(bucket.tryConsume(1)).isTrue();
+    assertThat(bucket.tryConsume(1)).isFalse();
+  }
+
+  @Test
+  public void shouldReturnRefundedTokens() {
+    final TokenBucket bucket = TokenBucket.create(10, Duration.ofSeconds(10), timeProvider);
+    assertThat(bucket.tryConsume(15)).isTrue();
+    assertThat(bucket.tryConsume(1)).isFalse();
+
+    bucket.refund(15);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(10);
+    assertThat(bucket.tryConsume(10)).isTrue();
+  }
+
+  @Test
+  public void shouldNotRefundBeyondCapacity() {
+    final TokenBucket bucket = TokenBucket.create(10, Duration.ofSeconds(10), timeProvider);
+    assertThat(bucket.tryConsume(5)).isTrue();
+    timeProvider.advanceTimeBySeconds(5);
+
+    bucket.refund(5);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(10);
+    assertThat(bucket.tryConsume(10)).isTrue();
+    assertThat(bucket.tryConsume(1)).isFalse();
+  }
+
+  @Test
+  public void shouldNotAccumulateMoreThanCapacity() {
+    final TokenBucket bucket = TokenBucket.create(10, Duration.ofSeconds(10), timeProvider);
+    timeProvider.advanceTimeBySeconds(100);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(10);
+    assertThat(bucket.tryConsume(10)).isTrue();
+    assertThat(bucket.tryConsume(1)).isFalse();
+  }
+
+  @Test
+  public void shouldSupportRefillPeriodShorterThanTokenCount() {
+    final TokenBucket bucket = TokenBucket.create(5000, Duration.ofSeconds(1), timeProvider);
+    assertThat(bucket.tryConsume(5000)).isTrue();
+    assertThat(bucket.tryConsume(1)).isFalse();
+
+    timeProvider.advanceTimeByMillis(1);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(5);
+  }
+}
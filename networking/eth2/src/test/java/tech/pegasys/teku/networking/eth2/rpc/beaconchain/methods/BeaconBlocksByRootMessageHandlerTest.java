@@ -35,6 +35,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
@@ -162,6 +163,51 @@ public class BeaconBlocksByRootMessageHandlerTest {
     verify(callback, never()).completeSuccessfully();
   }
 
+  @Test
+  public void onIncomingMessage_shouldShareConcurrentLookupsOfSameBlock() {
+    final SignedBeaconBlock block = buildChain(1).get(0);
+    final SafeFuture<Optional<SignedBeaconBlock>> lookup = new SafeFuture<>();
+    when(store.retrieveSignedBlock(block.getRoot())).thenReturn(lookup);
+    @SuppressWarnings("unchecked")
+    final ResponseCallback<SignedBeaconBlock> callback2 = mock(ResponseCallback.class);
+
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, createRequest(List.of(block)), callback);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, createRequest(List.of(block)), callback2);
+    verify(callback, never()).respond(any());
+
+    lookup.complete(Optional.of(block));
+
+    verify(store, times(1)).retrieveSignedBlock(block.getRoot());
+    verify(callback).respond(block);
+    verify(callback2).respond(block);
+  }
+
+  @Test
+  public void onIncomingMessage_shouldServeRecentlyServedBlockWithoutLookup() {
+    final List<SignedBeaconBlock> blocks = buildChain(2);
+
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, createRequest(blocks), callback);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, createRequest(blocks), callback);
+
+    for (SignedBeaconBlock block : blocks) {
+      verify(store, times(1)).retrieveSignedBlock(block.getRoot());
+      verify(callback, times(2)).respond(block);
+    }
+  }
+
+  @Test
+  public void onIncomingMessage_shouldLookUpUnknownBlocksForEachRequest() {
+    final Bytes32 unknownRoot = Bytes32.fromHexStringLenient("0x1234");
+    final BeaconBlocksByRootRequestMessage message =
+        new BeaconBlocksByRootRequestMessage(List.of(unknownRoot));
+
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
+
+    verify(store, times(2)).retrieveSignedBlock(unknownRoot);
+    verify(callback, never()).respond(any());
+  }
+
   @Test
   public void validateResponse_phase0Spec_v1Request() {
     final Optional<RpcException> result =
@@ -15,9 +15,12 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
@@ -48,4 +51,21 @@ final class RpcResponseEncoderTest {
     final Bytes actual = responseEncoder.encodeSuccessfulResponse(RECORDED_STATUS_MESSAGE_DATA);
     assertThat(actual).isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
   }
+
+  @Test
+  public void shouldEncodeSuccessfulResponseUsingCachedPayload() {
+    final Cache<Bytes32, Bytes> cache = LRUCache.create(10);
+    final RpcResponseEncoder<StatusMessage, ?> cachingEncoder =
+        new RpcResponseEncoder<>(RpcEncoding.SSZ_SNAPPY, contextCodec, Optional.of(cache));
+
+    assertThat(cachingEncoder.encodeSuccessfulResponse(RECORDED_STATUS_MESSAGE_DATA))
+        .isEqualTo(RECORDED_STATUS_RESPONSE_BYTES);
+    assertThat(cache.getCached(RECORDED_STATUS_MESSAGE_DATA.hashTreeRoot())).isPresent();
+
+    // Replace the cached payload to check it is used rather than encoding the message again
+    final Bytes cachedPayload = Bytes.fromHexString("0x1234");
+    cache.invalidateWithNewValue(RECORDED_STATUS_MESSAGE_DATA.hashTreeRoot(), cachedPayload);
+    assertThat(cachingEncoder.encodeSuccessfulResponse(RECORDED_STATUS_MESSAGE_DATA))
+        .isEqualTo(Bytes.concatenate(Bytes.of(0), cachedPayload));
+  }
 }
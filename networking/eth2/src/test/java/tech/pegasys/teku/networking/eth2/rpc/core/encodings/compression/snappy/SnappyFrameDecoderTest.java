@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.DecompressionException;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
+
+class SnappyFrameDecoderTest {
+  private static final Bytes STREAM_IDENTIFIER = Bytes.fromHexString("0xff060000734e61507059");
+
+  private final SnappyFrameDecoder decoder = new SnappyFrameDecoder();
+
+  @Test
+  void shouldDecodeCompressedChunkIntoExactlySizedDirectBuffer() throws Exception {
+    final Bytes data = Bytes.wrap(new byte[1000]);
+    final ByteBuf in = toByteBuf(new SnappyFrameEncoder().encode(data));
+    try {
+      final Optional<ByteBuf> result = decoder.decodeOneMessage(in);
+      assertThat(result).isPresent();
+      final ByteBuf uncompressed = result.get();
+      try {
+        assertThat(uncompressed.isDirect()).isTrue();
+        assertThat(uncompressed.capacity()).isEqualTo(data.size());
+        assertThat(Bytes.wrapByteBuf(uncompressed)).isEqualTo(data);
+      } finally {
+        uncompressed.release();
+      }
+    } finally {
+      in.release();
+    }
+  }
+
+  @Test
+  void shouldRejectCompressedChunkClaimingMoreThanMaxChunkSize() {
+    // Compressed chunk with an empty checksum and a preamble claiming 65537 bytes
+    final Bytes chunk = Bytes.fromHexString("0x0007000000000000818004");
+    final ByteBuf in = toByteBuf(Bytes.concatenate(STREAM_IDENTIFIER, chunk));
+    try {
+      assertThatThrownBy(() -> decoder.decodeOneMessage(in))
+          .isInstanceOf(CompressionException.class)
+          .hasMessageContaining("65537")
+          .hasNoCause();
+    } finally {
+      in.release();
+    }
+  }
+
+  @Test
+  void shouldWrapChecksumMismatchInCompressionException() {
+    final Bytes encoded = new SnappyFrameEncoder().encode(Bytes.wrap(new byte[1000]));
+    final byte[] corrupted = encoded.toArray();
+    // First checksum byte follows the stream identifier and the chunk header
+    corrupted[STREAM_IDENTIFIER.size() + 4] ^= 0x01;
+    final ByteBuf in = Unpooled.wrappedBuffer(corrupted);
+    try {
+      assertThatThrownBy(() -> decoder.decodeOneMessage(in))
+          .isInstanceOf(CompressionException.class)
+          .hasCauseInstanceOf(DecompressionException.class);
+    } finally {
+      in.release();
+    }
+  }
+
+  private ByteBuf toByteBuf(final Bytes bytes) {
+    return Unpooled.wrappedBuffer(bytes.toArrayUnsafe());
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SnappyFrameEncoderTest {
+  private final Random random = new Random(1);
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 18, 19, 1000, Short.MAX_VALUE, Short.MAX_VALUE + 1, 200_000})
+  void maxEncodedLength_shouldCoverIncompressibleData(final int length) {
+    final byte[] data = new byte[length];
+    random.nextBytes(data);
+    final ByteBuf in = Unpooled.wrappedBuffer(data);
+    // Fails with an IndexOutOfBoundsException if the encoder writes beyond the max length
+    final ByteBuf out = Unpooled.buffer(0, SnappyFrameEncoder.maxEncodedLength(length));
+    try {
+      new SnappyFrameEncoder().encode(in, out);
+      assertThat(out.readableBytes())
+          .isLessThanOrEqualTo(SnappyFrameEncoder.maxEncodedLength(length));
+    } finally {
+      in.release();
+      out.release();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 1000, 200_000})
+  void encode_shouldEncodeViaPooledBuffer(final int length) {
+    final byte[] data = new byte[length];
+    random.nextBytes(data);
+    final Bytes input = Bytes.wrap(data);
+
+    final ByteBuf expected = Unpooled.buffer();
+    final ByteBuf in = Unpooled.wrappedBuffer(data);
+    try {
+      new SnappyFrameEncoder().encode(in, expected);
+      assertThat(new SnappyFrameEncoder().encode(input)).isEqualTo(Bytes.wrapByteBuf(expected));
+    } finally {
+      in.release();
+      expected.release();
+    }
+  }
+}
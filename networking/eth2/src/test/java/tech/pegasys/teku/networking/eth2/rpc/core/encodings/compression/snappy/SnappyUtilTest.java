@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+class SnappyUtilTest {
+
+  @Test
+  void peekUncompressedLength_shouldReadSingleBytePreamble() {
+    assertThat(peek(0x05, 0x00)).isEqualTo(5);
+  }
+
+  @Test
+  void peekUncompressedLength_shouldReadMultiBytePreamble() {
+    assertThat(peek(0x81, 0x80, 0x04)).isEqualTo(65537);
+  }
+
+  @Test
+  void peekUncompressedLength_shouldNotMoveReaderIndex() {
+    final ByteBuf data = Unpooled.wrappedBuffer(new byte[] {0x01, (byte) 0x80, 0x02});
+    try {
+      assertThat(SnappyUtil.peekUncompressedLength(data, 1, 2)).isEqualTo(256);
+      assertThat(data.readerIndex()).isZero();
+    } finally {
+      data.release();
+    }
+  }
+
+  @Test
+  void peekUncompressedLength_shouldReturnMinusOneWhenPreambleIsIncomplete() {
+    final ByteBuf data = Unpooled.wrappedBuffer(new byte[] {(byte) 0x81, (byte) 0x80, 0x04});
+    try {
+      assertThat(SnappyUtil.peekUncompressedLength(data, 0, 2)).isEqualTo(-1);
+    } finally {
+      data.release();
+    }
+  }
+
+  @Test
+  void peekUncompressedLength_shouldReturnMinusOneWhenPreambleIsTooLong() {
+    assertThat(peek(0x80, 0x80, 0x80, 0x80, 0x80, 0x01)).isEqualTo(-1);
+  }
+
+  @Test
+  void peekUncompressedLength_shouldReturnMinusOneWhenPreambleOverflows() {
+    assertThat(peek(0xff, 0xff, 0xff, 0xff, 0x0f)).isEqualTo(-1);
+  }
+
+  private int peek(final int... bytes) {
+    final ByteBuf data = Unpooled.buffer(bytes.length);
+    for (int b : bytes) {
+      data.writeByte(b);
+    }
+    try {
+      return SnappyUtil.peekUncompressedLength(data, 0, bytes.length);
+    } finally {
+      data.release();
+    }
+  }
+}
@@ -44,6 +44,10 @@ public class StubSyncSource implements SyncSource {
     currentRequest.orElseThrow().completeExceptionally(error);
   }
 
+  public SafeFuture<Void> getCurrentRequest() {
+    return currentRequest.orElseThrow();
+  }
+
   @Override
   public SafeFuture<Void> requestBlocksByRange(
       final UInt64 startSlot,
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.gossip;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.ByteString;
+import io.libp2p.pubsub.PubsubMessage;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.List;
+import pubsub.pb.Rpc.Message;
+
+/**
+ * Calculates the 'fast' message id libp2p uses to recognise messages it has already seen before
+ * asking for the real message id. Computing the real id requires decompressing and hashing the
+ * payload, so duplicates delivered by other mesh peers are resolved to the previously seen message,
+ * along with its cached id and validation result, without doing either.
+ *
+ * <p>The id is a 64 bit SipHash over the raw topics and payload. The key is chosen randomly on
+ * startup so peers can't craft payloads which collide with a message they want to suppress.
+ */
+class FastMessageIdCalculator {
+  private final HashFunction hashFunction;
+
+  FastMessageIdCalculator(final long k0, final long k1) {
+    this.hashFunction = Hashing.sipHash24(k0, k1);
+  }
+
+  static FastMessageIdCalculator createRandomlyKeyed() {
+    final SecureRandom random = new SecureRandom();
+    return new FastMessageIdCalculator(random.nextLong(), random.nextLong());
+  }
+
+  public Object calculateFastId(final PubsubMessage message) {
+    return calculateFastId(message.getProtobufMessage());
+  }
+
+  long calculateFastId(final Message message) {
+    return calculateFastId(message.getTopicIDsList(), message.getData());
+  }
+
+  long calculateFastId(final List<String> topics, final ByteString data) {
+    final Hasher hasher = hashFunction.newHasher();
+    for (String topic : topics) {
+      hasher.putInt(topic.length()).putString(topic, StandardCharsets.UTF_8);
+    }
+    // Hash the payload in place rather than copying it to an array first
+    return hasher.putBytes(data.asReadOnlyByteBuffer()).hash().asLong();
+  }
+}
@@ -49,7 +49,6 @@ import kotlin.jvm.functions.Function0;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
-import org.apache.tuweni.crypto.Hash;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -103,6 +102,8 @@ public class LibP2PGossipNetwork implements GossipNetwork {
     final GossipScoreParams scoreParams =
         LibP2PParamsFactory.createGossipScoreParams(gossipConfig.getScoringConfig());
 
+    final FastMessageIdCalculator fastMessageIdCalculator =
+        FastMessageIdCalculator.createRandomlyKeyed();
     final TopicSubscriptionFilter subscriptionFilter =
         new MaxCountTopicSubscriptionFilter(100, 200, gossipTopicFilter::isRelevantTopic);
     GossipRouter router =
@@ -111,10 +112,7 @@ public class LibP2PGossipNetwork implements GossipNetwork {
 
           final SeenCache<Optional<ValidationResult>> seenCache =
               new TTLSeenCache<>(
-                  new FastIdSeenCache<>(
-                      msg ->
-                          Bytes.wrap(
-                              Hash.sha2_256(msg.getProtobufMessage().getData().toByteArray()))),
+                  new FastIdSeenCache<>(fastMessageIdCalculator::calculateFastId),
                   gossipParams.getSeenTTL(),
                   getCurTimeMillis());
 
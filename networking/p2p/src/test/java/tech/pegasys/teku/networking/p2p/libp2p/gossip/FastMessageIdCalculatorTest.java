@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.gossip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class FastMessageIdCalculatorTest {
+  private static final ByteString DATA = ByteString.copyFrom(new byte[] {1, 2, 3, 4});
+  private static final List<String> TOPICS = List.of("topic");
+
+  private final FastMessageIdCalculator calculator = new FastMessageIdCalculator(1, 2);
+
+  @Test
+  public void shouldCalculateSameIdForIdenticalMessages() {
+    assertThat(calculator.calculateFastId(TOPICS, DATA))
+        .isEqualTo(
+            calculator.calculateFastId(
+                List.of("topic"), ByteString.copyFrom(new byte[] {1, 2, 3, 4})));
+  }
+
+  @Test
+  public void shouldCalculateDifferentIdsForDifferentData() {
+    assertThat(calculator.calculateFastId(TOPICS, DATA))
+        .isNotEqualTo(
+            calculator.calculateFastId(TOPICS, ByteString.copyFrom(new byte[] {1, 2, 3, 5})));
+  }
+
+  @Test
+  public void shouldCalculateDifferentIdsForDifferentTopics() {
+    assertThat(calculator.calculateFastId(TOPICS, DATA))
+        .isNotEqualTo(calculator.calculateFastId(List.of("other"), DATA));
+  }
+
+  @Test
+  public void shouldNotAllowDataToShiftIntoTopic() {
+    assertThat(calculator.calculateFastId(List.of("ab"), ByteString.copyFromUtf8("c")))
+        .isNotEqualTo(calculator.calculateFastId(List.of("abc"), ByteString.EMPTY));
+  }
+
+  @Test
+  public void shouldCalculateDifferentIdsWithDifferentKeys() {
+    assertThat(calculator.calculateFastId(TOPICS, DATA))
+        .isNotEqualTo(new FastMessageIdCalculator(3, 4).calculateFastId(TOPICS, DATA));
+  }
+}
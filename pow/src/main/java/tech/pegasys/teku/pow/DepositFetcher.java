@@ -21,7 +21,9 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.base.Throwables;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -54,6 +56,7 @@ public class DepositFetcher {
   private final Eth1BlockFetcher eth1BlockFetcher;
   private final AsyncRunner asyncRunner;
   private final int maxBlockRange;
+  private final int maxConcurrentBatches;
 
   public DepositFetcher(
       final Eth1Provider eth1Provider,
@@ -62,12 +65,32 @@ public class DepositFetcher {
       final Eth1BlockFetcher eth1BlockFetcher,
       final AsyncRunner asyncRunner,
       final int maxBlockRange) {
+    this(
+        eth1Provider,
+        eth1EventsChannel,
+        depositEventsAccessor,
+        eth1BlockFetcher,
+        asyncRunner,
+        maxBlockRange,
+        1);
+  }
+
+  public DepositFetcher(
+      final Eth1Provider eth1Provider,
+      final Eth1EventsChannel eth1EventsChannel,
+      final DepositEventsAccessor depositEventsAccessor,
+      final Eth1BlockFetcher eth1BlockFetcher,
+      final AsyncRunner asyncRunner,
+      final int maxBlockRange,
+      final int maxConcurrentBatches) {
+    checkArgument(maxConcurrentBatches > 0, "Must allow at least one concurrent batch");
     this.eth1Provider = eth1Provider;
     this.eth1EventsChannel = eth1EventsChannel;
     this.depositEventsAccessor = depositEventsAccessor;
     this.eth1BlockFetcher = eth1BlockFetcher;
     this.asyncRunner = asyncRunner;
     this.maxBlockRange = maxBlockRange;
+    this.maxConcurrentBatches = maxConcurrentBatches;
   }
 
   // Inclusive on both sides
@@ -84,65 +107,68 @@ public class DepositFetcher {
         toBlockNumber);
 
     final DepositFetchState fetchState = new DepositFetchState(fromBlockNumber, toBlockNumber);
-    return sendNextBatchRequest(fetchState);
+    return processNextBatch(fetchState);
   }
 
-  private SafeFuture<Void> sendNextBatchRequest(final DepositFetchState fetchState) {
-    final BigInteger nextBatchEnd = fetchState.getNextBatchEnd();
-    LOG.debug(
-        "Requesting deposits between {} and {}. Batch size: {}",
-        fetchState.nextBatchStart,
-        nextBatchEnd,
-        fetchState.batchSize);
-    return processDepositsInBatch(fetchState.nextBatchStart, nextBatchEnd)
-        .exceptionallyCompose(
-            (err) -> {
-              LOG.debug(
-                  "Failed to request deposit events for block numbers in the range ({}, {}). Retrying.",
-                  fetchState.nextBatchStart,
-                  nextBatchEnd,
-                  err);
-
-              final Throwable rootCause = Throwables.getRootCause(err);
-              if (rootCause instanceof InvalidDepositEventsException) {
-                STATUS_LOG.eth1DepositEventsFailure(rootCause);
-              } else if (rootCause instanceof Eth1RequestException
-                  && ((Eth1RequestException) rootCause)
-                      .containsExceptionSolvableWithSmallerRange()) {
-                STATUS_LOG.eth1FetchDepositsRequiresSmallerRange(fetchState.batchSize);
-                fetchState.reduceBatchSize();
-              }
-
-              return asyncRunner.runAfterDelay(
-                  () -> sendNextBatchRequest(fetchState),
-                  Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT);
-            })
+  private SafeFuture<Void> processNextBatch(final DepositFetchState fetchState) {
+    // Keep up to maxConcurrentBatches log requests in flight but post the results strictly in order
+    final PendingBatch batch = fetchState.requestNextBatches();
+    return batch
+        .depositEvents
         .thenCompose(
-            __ -> {
-              fetchState.moveToNextBatch();
+            eventResponsesByBlockHash ->
+                postDepositEvents(
+                    getListOfEthBlockFutures(eventResponsesByBlockHash.keySet()),
+                    eventResponsesByBlockHash,
+                    batch.fromBlock,
+                    batch.toBlock))
+        .handleComposed(
+            (__, err) -> {
+              if (err != null) {
+                return retryBatch(fetchState, batch, err);
+              }
+              fetchState.onBatchCompleted(batch);
               LOG.trace("Batch request completed. Done? {}", fetchState.isDone());
               if (fetchState.isDone()) {
                 return SafeFuture.COMPLETE;
               } else {
-                return sendNextBatchRequest(fetchState);
+                return processNextBatch(fetchState);
               }
             });
   }
 
-  private SafeFuture<Void> processDepositsInBatch(
-      final BigInteger fromBlockNumber, final BigInteger toBlockNumber) {
+  private SafeFuture<Void> retryBatch(
+      final DepositFetchState fetchState, final PendingBatch batch, final Throwable err) {
+    LOG.debug(
+        "Failed to request deposit events for block numbers in the range ({}, {}). Retrying.",
+        batch.fromBlock,
+        batch.toBlock,
+        err);
+
+    final Throwable rootCause = Throwables.getRootCause(err);
+    if (rootCause instanceof InvalidDepositEventsException) {
+      STATUS_LOG.eth1DepositEventsFailure(rootCause);
+    } else if (rootCause instanceof Eth1RequestException
+        && ((Eth1RequestException) rootCause).containsExceptionSolvableWithSmallerRange()) {
+      STATUS_LOG.eth1FetchDepositsRequiresSmallerRange(fetchState.batchSize);
+      fetchState.reduceBatchSize();
+    }
+    // Any batches requested after the failed one are discarded and requested again
+    fetchState.restartFrom(batch);
+
+    return asyncRunner.runAfterDelay(
+        () -> processNextBatch(fetchState), Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT);
+  }
+
+  private SafeFuture<NavigableMap<BlockNumberAndHash, List<DepositEventEventResponse>>>
+      requestDepositEventsInBatch(
+          final BigInteger fromBlockNumber, final BigInteger toBlockNumber) {
+    LOG.debug("Requesting deposits between {} and {}", fromBlockNumber, toBlockNumber);
     return depositEventsAccessor
         .depositEventInRange(
             DefaultBlockParameter.valueOf(fromBlockNumber),
             DefaultBlockParameter.valueOf(toBlockNumber))
-        .thenApply(this::groupDepositEventResponsesByBlockHash)
-        .thenCompose(
-            eventResponsesByBlockHash ->
-                postDepositEvents(
-                    getListOfEthBlockFutures(eventResponsesByBlockHash.keySet()),
-                    eventResponsesByBlockHash,
-                    fromBlockNumber,
-                    toBlockNumber));
+        .thenApply(this::groupDepositEventResponsesByBlockHash);
   }
 
   private SafeFuture<Void> postDepositEvents(
@@ -229,6 +255,9 @@ public class DepositFetcher {
   }
 
   private class DepositFetchState {
+    // Contiguous, ordered batches whose deposit logs have been requested but not yet posted
+    final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+
     // Both inclusive
     BigInteger nextBatchStart;
 
@@ -240,29 +269,63 @@ public class DepositFetcher {
       this.lastBlock = toBlockNumber;
     }
 
-    public void moveToNextBatch() {
-      nextBatchStart = getNextBatchEnd().add(BigInteger.ONE);
-      if (batchSize < maxBlockRange) {
-        // Grow the batch size slowly as we may be past a large blob of logs that caused trouble
-        // +1 to guarantee it grows by at least 1
-        batchSize = Math.min(maxBlockRange, (int) (batchSize * 1.1 + 1));
+    public synchronized PendingBatch requestNextBatches() {
+      while (pendingBatches.size() < maxConcurrentBatches
+          && nextBatchStart.compareTo(lastBlock) <= 0) {
+        final BigInteger batchEnd =
+            lastBlock.min(nextBatchStart.add(BigInteger.valueOf(batchSize)));
+        LOG.trace(
+            "Queuing batch between {} and {}. Batch size: {}", nextBatchStart, batchEnd, batchSize);
+        pendingBatches.addLast(
+            new PendingBatch(
+                nextBatchStart, batchEnd, requestDepositEventsInBatch(nextBatchStart, batchEnd)));
+        nextBatchStart = batchEnd.add(BigInteger.ONE);
+        if (batchSize < maxBlockRange) {
+          // Grow the batch size slowly as we may be past a large blob of logs that caused trouble
+          // +1 to guarantee it grows by at least 1
+          batchSize = Math.min(maxBlockRange, (int) (batchSize * 1.1 + 1));
+        }
       }
+      return pendingBatches.getFirst();
+    }
+
+    public synchronized void onBatchCompleted(final PendingBatch batch) {
+      pendingBatches.remove(batch);
     }
 
-    private BigInteger getNextBatchEnd() {
-      return lastBlock.min(nextBatchStart.add(BigInteger.valueOf(batchSize)));
+    public synchronized void restartFrom(final PendingBatch batch) {
+      pendingBatches.clear();
+      nextBatchStart = batch.fromBlock;
     }
 
-    public boolean isDone() {
-      return nextBatchStart.compareTo(lastBlock) >= 0;
+    public synchronized boolean isDone() {
+      return pendingBatches.isEmpty() && nextBatchStart.compareTo(lastBlock) > 0;
     }
 
-    public void reduceBatchSize() {
+    public synchronized void reduceBatchSize() {
       batchSize = Math.max(1, batchSize / 2);
       LOG.debug("Reduced batch size to {}", batchSize);
     }
   }
 
+  private static class PendingBatch {
+    // Both inclusive
+    private final BigInteger fromBlock;
+    private final BigInteger toBlock;
+    private final SafeFuture<NavigableMap<BlockNumberAndHash, List<DepositEventEventResponse>>>
+        depositEvents;
+
+    private PendingBatch(
+        final BigInteger fromBlock,
+        final BigInteger toBlock,
+        final SafeFuture<NavigableMap<BlockNumberAndHash, List<DepositEventEventResponse>>>
+            depositEvents) {
+      this.fromBlock = fromBlock;
+      this.toBlock = toBlock;
+      this.depositEvents = depositEvents;
+    }
+  }
+
   private static class BlockNumberAndHash implements Comparable<BlockNumberAndHash> {
     private static final Comparator<BlockNumberAndHash> COMPARATOR =
         Comparator.comparing(BlockNumberAndHash::getNumber)
@@ -13,31 +13,43 @@
 
 package tech.pegasys.teku.pow;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.web3j.protocol.core.methods.response.EthBlock.Block;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.pow.api.Eth1EventsChannel;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 
 public class Eth1BlockFetcher {
   private static final Logger LOG = LogManager.getLogger();
 
   private final Eth1Provider eth1Provider;
+  private final Optional<Eth1DepositStorageChannel> eth1DepositStorageChannel;
   private final TimeProvider timeProvider;
   private final UInt64 cacheDuration;
+  private final int maxConcurrentRequests;
   private final Eth1EventsChannel eth1EventsChannel;
   private final NavigableSet<UInt64> blocksToRequest = new TreeSet<>();
-  private boolean requestInProgress = false;
+  // Block number to timestamp for blocks already posted, either from storage or the Eth1 node
+  private final NavigableMap<UInt64, UInt64> knownBlockTimestamps = new TreeMap<>();
+  private int requestsInProgress = 0;
   private boolean active = false;
 
   public Eth1BlockFetcher(
@@ -45,10 +57,23 @@ public class Eth1BlockFetcher {
       final Eth1Provider eth1Provider,
       final TimeProvider timeProvider,
       final UInt64 cacheDuration) {
+    this(eth1EventsChannel, eth1Provider, Optional.empty(), timeProvider, cacheDuration, 1);
+  }
+
+  public Eth1BlockFetcher(
+      final Eth1EventsChannel eth1EventsChannel,
+      final Eth1Provider eth1Provider,
+      final Optional<Eth1DepositStorageChannel> eth1DepositStorageChannel,
+      final TimeProvider timeProvider,
+      final UInt64 cacheDuration,
+      final int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "Must allow at least one concurrent request");
     this.eth1EventsChannel = eth1EventsChannel;
     this.eth1Provider = eth1Provider;
+    this.eth1DepositStorageChannel = eth1DepositStorageChannel;
     this.timeProvider = timeProvider;
     this.cacheDuration = cacheDuration;
+    this.maxConcurrentRequests = maxConcurrentRequests;
   }
 
   public synchronized void onInSync(final UInt64 latestCanonicalBlockNumber) {
@@ -56,8 +81,13 @@ public class Eth1BlockFetcher {
       return;
     }
     active = true;
-    LOG.debug("Beginning back-fill of Eth1 blocks");
-    backfillEth1Blocks(latestCanonicalBlockNumber);
+    loadStoredBlocks()
+        .finish(
+            () -> {
+              LOG.debug("Beginning back-fill of Eth1 blocks");
+              backfillEth1Blocks(latestCanonicalBlockNumber);
+            },
+            error -> LOG.error("Unexpected error while back-filling ETH1 blocks", error));
   }
 
   public void fetch(final BigInteger fromBlock, final BigInteger toBlock) {
@@ -70,32 +100,61 @@ public class Eth1BlockFetcher {
       for (BigInteger block = fromBlock;
           block.compareTo(toBlock) <= 0;
           block = block.add(BigInteger.ONE)) {
-        blocksToRequest.add(UInt64.valueOf(block));
+        final UInt64 blockNumber = UInt64.valueOf(block);
+        if (!knownBlockTimestamps.containsKey(blockNumber)) {
+          blocksToRequest.add(blockNumber);
+        }
       }
     }
-    requestNextBlockIfRequired();
+    requestNextBlocksIfRequired();
   }
 
-  private void requestNextBlockIfRequired() {
-    UInt64 blockToRequest;
-    synchronized (this) {
-      if (requestInProgress || blocksToRequest.isEmpty()) {
-        return;
-      }
-      blockToRequest = blocksToRequest.last();
-      blocksToRequest.remove(blockToRequest);
-      requestInProgress = true;
+  private SafeFuture<Void> loadStoredBlocks() {
+    if (eth1DepositStorageChannel.isEmpty()) {
+      return SafeFuture.COMPLETE;
     }
-    requestBlock(blockToRequest)
-        .always(
-            () -> {
-              synchronized (Eth1BlockFetcher.this) {
-                requestInProgress = false;
+    return eth1DepositStorageChannel
+        .get()
+        .loadEth1BlockHeaders(getCacheRangeLowerBound(timeProvider.getTimeInSeconds()))
+        .thenAccept(
+            headers -> {
+              LOG.debug("Loaded {} Eth1 blocks from storage", headers.size());
+              synchronized (this) {
+                headers.forEach(
+                    header ->
+                        knownBlockTimestamps.put(header.getBlockNumber(), header.getTimestamp()));
               }
-              requestNextBlockIfRequired();
+              headers.forEach(
+                  header ->
+                      eth1EventsChannel.onEth1Block(header.getBlockHash(), header.getTimestamp()));
+            })
+        .exceptionallyCompose(
+            error -> {
+              LOG.warn("Failed to load stored Eth1 blocks. Fetching from Eth1 node instead", error);
+              return SafeFuture.COMPLETE;
             });
   }
 
+  private void requestNextBlocksIfRequired() {
+    final List<UInt64> blocks = new ArrayList<>();
+    synchronized (this) {
+      while (requestsInProgress < maxConcurrentRequests && !blocksToRequest.isEmpty()) {
+        blocks.add(blocksToRequest.pollLast());
+        requestsInProgress++;
+      }
+    }
+    blocks.forEach(
+        blockToRequest ->
+            requestBlock(blockToRequest)
+                .always(
+                    () -> {
+                      synchronized (Eth1BlockFetcher.this) {
+                        requestsInProgress--;
+                      }
+                      requestNextBlocksIfRequired();
+                    }));
+  }
+
   private SafeFuture<Void> requestBlock(final UInt64 blockNumberToRequest) {
     // Note: Not using guaranteed requests here - if the Eth1 chain is temporarily unavailable
     // we may miss some blocks but that's better than potentially getting stuck retrying a block
@@ -106,7 +165,7 @@ public class Eth1BlockFetcher {
         .thenAccept(
             block -> {
               if (isAboveLowerBound(UInt64.valueOf(block.getTimestamp()))) {
-                postBlock(block);
+                postBlocks(List.of(block));
               } else {
                 // Every block before the one we just fetched must be outside of the range
                 synchronized (Eth1BlockFetcher.this) {
@@ -122,29 +181,104 @@ public class Eth1BlockFetcher {
             });
   }
 
-  private void postBlock(final Block block) {
-    eth1EventsChannel.onEth1Block(
-        Bytes32.fromHexString(block.getHash()), UInt64.valueOf(block.getTimestamp()));
+  private void postBlocks(final List<Block> blocks) {
+    final List<Eth1BlockHeader> headers = new ArrayList<>(blocks.size());
+    for (Block block : blocks) {
+      final Eth1BlockHeader header =
+          new Eth1BlockHeader(
+              UInt64.valueOf(block.getNumber()),
+              Bytes32.fromHexString(block.getHash()),
+              UInt64.valueOf(block.getTimestamp()));
+      eth1EventsChannel.onEth1Block(header.getBlockHash(), header.getTimestamp());
+      headers.add(header);
+    }
+    final List<UInt64> prunedBlockNumbers;
+    synchronized (this) {
+      headers.forEach(
+          header -> knownBlockTimestamps.put(header.getBlockNumber(), header.getTimestamp()));
+      prunedBlockNumbers = pruneKnownBlocks();
+    }
+    eth1DepositStorageChannel.ifPresent(
+        storageChannel -> {
+          storageChannel
+              .storeEth1BlockHeaders(headers)
+              .finish(error -> LOG.warn("Failed to store Eth1 block headers", error));
+          if (!prunedBlockNumbers.isEmpty()) {
+            storageChannel
+                .pruneEth1BlockHeaders(prunedBlockNumbers)
+                .finish(error -> LOG.warn("Failed to prune stored Eth1 block headers", error));
+          }
+        });
+  }
+
+  /**
+   * Removes the blocks which have fallen out of the cache period. Every known block is also stored
+   * so the stored headers are pruned to match.
+   *
+   * @return the numbers of the removed blocks
+   */
+  private List<UInt64> pruneKnownBlocks() {
+    final List<UInt64> prunedBlockNumbers = new ArrayList<>();
+    Map.Entry<UInt64, UInt64> earliestBlock = knownBlockTimestamps.firstEntry();
+    while (earliestBlock != null && !isAboveLowerBound(earliestBlock.getValue())) {
+      prunedBlockNumbers.add(earliestBlock.getKey());
+      knownBlockTimestamps.pollFirstEntry();
+      earliestBlock = knownBlockTimestamps.firstEntry();
+    }
+    return prunedBlockNumbers;
   }
 
   private void backfillEth1Blocks(final UInt64 nextBlockToRequest) {
-    // Walk backwards from blockNumber until we reach the start of the voting period
-    eth1Provider
-        .getGuaranteedEth1Block(nextBlockToRequest)
+    // Walk backwards from blockNumber until we reach the start of the voting period, skipping
+    // blocks we already have and requesting up to maxConcurrentRequests blocks at a time
+    final List<SafeFuture<Block>> requests = new ArrayList<>();
+    UInt64 blockNumber = nextBlockToRequest;
+    boolean reachedEnd = false;
+    while (requests.size() < maxConcurrentRequests) {
+      final Optional<UInt64> knownTimestamp = getKnownTimestamp(blockNumber);
+      if (knownTimestamp.isEmpty()) {
+        requests.add(eth1Provider.getGuaranteedEth1Block(blockNumber));
+      } else if (!isAboveLowerBound(knownTimestamp.get())) {
+        reachedEnd = true;
+        break;
+      }
+      if (blockNumber.equals(ZERO)) {
+        reachedEnd = true;
+        break;
+      }
+      blockNumber = blockNumber.minus(ONE);
+    }
+
+    final boolean reachedEndOfRange = reachedEnd;
+    final UInt64 nextBatchStart = blockNumber;
+    SafeFuture.collectAll(requests.stream())
         .finish(
-            block -> {
-              if (isAboveLowerBound(UInt64.valueOf(block.getTimestamp()))) {
-                postBlock(block);
-                if (!nextBlockToRequest.equals(ZERO)) {
-                  backfillEth1Blocks(nextBlockToRequest.minus(ONE));
+            blocks -> {
+              final List<Block> blocksInRange = new ArrayList<>();
+              boolean complete = reachedEndOfRange;
+              for (Block block : blocks) {
+                if (isAboveLowerBound(UInt64.valueOf(block.getTimestamp()))) {
+                  blocksInRange.add(block);
+                } else {
+                  complete = true;
                 }
-              } else {
+              }
+              if (!blocksInRange.isEmpty()) {
+                postBlocks(blocksInRange);
+              }
+              if (complete) {
                 LOG.debug("Completed back-fill of Eth1 blocks");
+              } else {
+                backfillEth1Blocks(nextBatchStart);
               }
             },
             error -> LOG.error("Unexpected error while back-filling ETH1 blocks", error));
   }
 
+  private synchronized Optional<UInt64> getKnownTimestamp(final UInt64 blockNumber) {
+    return Optional.ofNullable(knownBlockTimestamps.get(blockNumber));
+  }
+
   private boolean isAboveLowerBound(UInt64 timestamp) {
     return timestamp.compareTo(getCacheRangeLowerBound(timeProvider.getTimeInSeconds())) >= 0;
   }
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -193,6 +194,69 @@ public class DepositsFetcherTest {
     verifyNoMoreInteractions(depositEventsAccessor);
   }
 
+  @Test
+  void shouldRequestConcurrentBatchesButPostResultsInOrder() {
+    final DepositFetcher concurrentFetcher =
+        new DepositFetcher(
+            eth1Provider,
+            eth1EventsChannel,
+            depositEventsAccessor,
+            eth1BlockFetcher,
+            asyncRunner,
+            MAX_BLOCK_RANGE,
+            2);
+    final BigInteger batch1End = BigInteger.valueOf(MAX_BLOCK_RANGE);
+    final BigInteger batch2Start = batch1End.add(BigInteger.ONE);
+    final BigInteger batch2End = batch2Start.add(BigInteger.valueOf(MAX_BLOCK_RANGE));
+    final BigInteger batch3Start = batch2End.add(BigInteger.ONE);
+    final BigInteger toBlockNumber = BigInteger.valueOf(3 * MAX_BLOCK_RANGE - 10);
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch1Response =
+        new SafeFuture<>();
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch2Response =
+        new SafeFuture<>();
+    final SafeFuture<List<DepositContract.DepositEventEventResponse>> batch3Response =
+        new SafeFuture<>();
+
+    when(depositEventsAccessor.depositEventInRange(any(), any()))
+        .thenReturn(batch1Response)
+        .thenReturn(batch2Response)
+        .thenReturn(batch3Response);
+
+    final SafeFuture<Void> result =
+        concurrentFetcher.fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+
+    // First two batches are requested immediately
+    verify(depositEventsAccessor)
+        .depositEventInRange(
+            refEq(DefaultBlockParameter.valueOf(BigInteger.ZERO)),
+            refEq(DefaultBlockParameter.valueOf(batch1End)));
+    verify(depositEventsAccessor)
+        .depositEventInRange(
+            refEq(DefaultBlockParameter.valueOf(batch2Start)),
+            refEq(DefaultBlockParameter.valueOf(batch2End)));
+    verifyNoMoreInteractions(depositEventsAccessor);
+
+    // Second batch completing first doesn't cause anything to be posted
+    batch2Response.complete(emptyList());
+    verifyNoInteractions(eth1BlockFetcher);
+    verifyNoMoreInteractions(depositEventsAccessor);
+
+    // Once the first batch completes, both are processed in order and the last batch requested
+    batch1Response.complete(emptyList());
+    final InOrder inOrder = inOrder(eth1BlockFetcher);
+    inOrder.verify(eth1BlockFetcher).fetch(BigInteger.ZERO, batch1End);
+    inOrder.verify(eth1BlockFetcher).fetch(batch2Start, batch2End);
+    verify(depositEventsAccessor)
+        .depositEventInRange(
+            refEq(DefaultBlockParameter.valueOf(batch3Start)),
+            refEq(DefaultBlockParameter.valueOf(toBlockNumber)));
+    verifyNoMoreInteractions(depositEventsAccessor);
+    assertThat(result).isNotDone();
+
+    batch3Response.complete(emptyList());
+    assertThat(result).isCompleted();
+  }
+
   private void mockBlockForEth1Provider(String blockHash, long blockNumber, long timestamp) {
     EthBlock.Block block = mock(EthBlock.Block.class);
     when(block.getTimestamp()).thenReturn(BigInteger.valueOf(timestamp));
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.pow;
 
 import static java.util.stream.Collectors.toMap;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -25,6 +26,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
@@ -32,10 +34,12 @@ import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.web3j.protocol.core.methods.response.EthBlock.Block;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.pow.api.Eth1EventsChannel;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 
 class Eth1BlockFetcherTest {
 
@@ -214,6 +218,104 @@ class Eth1BlockFetcherTest {
     verifyNoMoreBlocksSent();
   }
 
+  @Test
+  void shouldUseStoredBlocksInsteadOfRequestingThemDuringBackfill() {
+    final Eth1DepositStorageChannel storageChannel = mock(Eth1DepositStorageChannel.class);
+    final Eth1BlockFetcher fetcher =
+        new Eth1BlockFetcher(
+            eth1EventsChannel,
+            eth1Provider,
+            Optional.of(storageChannel),
+            timeProvider,
+            CACHE_DURATION,
+            1);
+    final Eth1BlockHeader storedBlock99 =
+        new Eth1BlockHeader(UInt64.valueOf(99), Bytes32.random(random), IN_CACHE_PERIOD_2);
+    final Eth1BlockHeader storedBlock98 =
+        new Eth1BlockHeader(UInt64.valueOf(98), Bytes32.random(random), IN_CACHE_PERIOD_1);
+    when(storageChannel.loadEth1BlockHeaders(UInt64.valueOf(CURRENT_TIME).minus(CACHE_DURATION)))
+        .thenReturn(SafeFuture.completedFuture(List.of(storedBlock98, storedBlock99)));
+    when(storageChannel.storeEth1BlockHeaders(any())).thenReturn(SafeFuture.COMPLETE);
+    final Map<Integer, Block> blocks =
+        withBlocks(block(100, IN_CACHE_PERIOD_3), block(97, BEFORE_CACHE_PERIOD));
+
+    fetcher.onInSync(UInt64.valueOf(100));
+
+    verify(eth1EventsChannel)
+        .onEth1Block(storedBlock98.getBlockHash(), storedBlock98.getTimestamp());
+    verify(eth1EventsChannel)
+        .onEth1Block(storedBlock99.getBlockHash(), storedBlock99.getTimestamp());
+    verifyBlockSent(blocks.get(100));
+    verifyNoMoreBlocksSent();
+
+    verify(eth1Provider).getGuaranteedEth1Block(UInt64.valueOf(100));
+    verify(eth1Provider).getGuaranteedEth1Block(UInt64.valueOf(97));
+    verifyNoMoreInteractions(eth1Provider);
+
+    // Only the newly fetched block is stored
+    verify(storageChannel)
+        .storeEth1BlockHeaders(
+            List.of(
+                new Eth1BlockHeader(
+                    UInt64.valueOf(100),
+                    Bytes32.fromHexString(blocks.get(100).getHash()),
+                    IN_CACHE_PERIOD_3)));
+  }
+
+  @Test
+  void shouldPruneStoredBlocksWhenTheyFallOutOfTheCachePeriod() {
+    final Eth1DepositStorageChannel storageChannel = mock(Eth1DepositStorageChannel.class);
+    final Eth1BlockFetcher fetcher =
+        new Eth1BlockFetcher(
+            eth1EventsChannel,
+            eth1Provider,
+            Optional.of(storageChannel),
+            timeProvider,
+            CACHE_DURATION,
+            1);
+    when(storageChannel.loadEth1BlockHeaders(any()))
+        .thenReturn(SafeFuture.completedFuture(List.of()));
+    when(storageChannel.storeEth1BlockHeaders(any())).thenReturn(SafeFuture.COMPLETE);
+    when(storageChannel.pruneEth1BlockHeaders(any())).thenReturn(SafeFuture.COMPLETE);
+    withBlocks(block(0, BEFORE_CACHE_PERIOD), block(5, IN_CACHE_PERIOD_1));
+    fetcher.onInSync(ZERO);
+
+    fetcher.fetch(BigInteger.valueOf(5), BigInteger.valueOf(5));
+    verify(storageChannel, never()).pruneEth1BlockHeaders(any());
+
+    // Block 5 is now before the cache period
+    timeProvider.advanceTimeBySeconds(2);
+    withBlocks(block(6, timeProvider.getTimeInSeconds()));
+    fetcher.fetch(BigInteger.valueOf(6), BigInteger.valueOf(6));
+
+    verify(storageChannel).pruneEth1BlockHeaders(List.of(UInt64.valueOf(5)));
+  }
+
+  @Test
+  void shouldRequestMultipleBlocksConcurrently() {
+    final Eth1BlockFetcher fetcher =
+        new Eth1BlockFetcher(
+            eth1EventsChannel, eth1Provider, Optional.empty(), timeProvider, CACHE_DURATION, 2);
+    when(eth1Provider.getGuaranteedEth1Block(ZERO))
+        .thenReturn(SafeFuture.completedFuture(block(0, BEFORE_CACHE_PERIOD)));
+    final SafeFuture<Optional<Block>> block3Future = new SafeFuture<>();
+    final SafeFuture<Optional<Block>> block4Future = new SafeFuture<>();
+    final SafeFuture<Optional<Block>> block5Future = new SafeFuture<>();
+    when(eth1Provider.getEth1Block(UInt64.valueOf(3))).thenReturn(block3Future);
+    when(eth1Provider.getEth1Block(UInt64.valueOf(4))).thenReturn(block4Future);
+    when(eth1Provider.getEth1Block(UInt64.valueOf(5))).thenReturn(block5Future);
+
+    fetcher.onInSync(ZERO);
+    fetcher.fetch(BigInteger.valueOf(3), BigInteger.valueOf(5));
+
+    verify(eth1Provider).getEth1Block(UInt64.valueOf(5));
+    verify(eth1Provider).getEth1Block(UInt64.valueOf(4));
+    verify(eth1Provider, never()).getEth1Block(UInt64.valueOf(3));
+
+    block4Future.complete(Optional.of(block(4, IN_CACHE_PERIOD_2)));
+    verify(eth1Provider).getEth1Block(UInt64.valueOf(3));
+  }
+
   private void verifyBlockNotRequested(final int blockNumber) {
     verify(eth1Provider, never()).getEth1Block(UInt64.valueOf(blockNumber));
     verify(eth1Provider, never()).getGuaranteedEth1Block(UInt64.valueOf(blockNumber));
@@ -77,6 +77,7 @@ import tech.pegasys.teku.statetransition.OperationsReOrgManager;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
 import tech.pegasys.teku.statetransition.block.BlockImportChannel;
+import tech.pegasys.teku.statetransition.block.BlockImportMetrics;
 import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 import tech.pegasys.teku.statetransition.block.BlockManager;
@@ -152,6 +153,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private volatile ForkChoice forkChoice;
   private volatile ForkChoiceTrigger forkChoiceTrigger;
   private volatile BlockImporter blockImporter;
+  private volatile BlockImportMetrics blockImportMetrics;
   private volatile RecentChainData recentChainData;
   private volatile Eth2P2PNetwork p2pNetwork;
   private volatile Optional<BeaconRestApi> beaconRestAPI = Optional.empty();
@@ -713,7 +715,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             attesterSlashingPool,
             proposerSlashingPool,
             voluntaryExitPool,
-            syncCommitteeContributionPool);
+            syncCommitteeContributionPool,
+            blockImportMetrics);
     if (beaconConfig.beaconRestApiConfig().isRestApiEnabled()) {
 
       beaconRestAPI =
@@ -722,7 +725,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
                   dataProvider,
                   beaconConfig.beaconRestApiConfig(),
                   eventChannels,
-                  eventAsyncRunner));
+                  eventAsyncRunner,
+                  performanceTracker));
     } else {
       LOG.info("rest-api-enabled is false, not starting rest api.");
     }
@@ -730,12 +734,14 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   public void initBlockImporter() {
     LOG.debug("BeaconChainController.initBlockImporter()");
+    blockImportMetrics = BlockImportMetrics.create(metricsSystem, timeProvider);
     blockImporter =
         new BlockImporter(
             eventChannels.getPublisher(BlockImportNotifications.class),
             recentChainData,
             forkChoice,
-            weakSubjectivityValidator);
+            weakSubjectivityValidator,
+            Optional.of(blockImportMetrics));
   }
 
   public void initBlockManager() {
@@ -20,6 +20,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
+import tech.pegasys.teku.infrastructure.collections.cache.CacheStats;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -31,6 +32,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.analysis.ValidatorStats.CorrectAndLiveValidators;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.validator.coordinator.Eth1DataCache;
@@ -186,6 +188,9 @@ public class BeaconChainMetrics implements SlotEventsChannel {
             "previous_epoch_total_weight",
             "Total effective balance of all active validators in the previous epoch");
 
+    TransitionCaches.getCacheStats()
+        .forEach((name, stats) -> registerCacheMetrics(metricsSystem, name, stats));
+
     final String version = VersionProvider.IMPLEMENTATION_VERSION.replaceAll("^v", "");
     final LabelledMetric<Counter> versionCounter =
         metricsSystem.createLabelledCounter(
@@ -196,6 +201,25 @@ public class BeaconChainMetrics implements SlotEventsChannel {
     versionCounter.labels(version).inc();
   }
 
+  private static void registerCacheMetrics(
+      final MetricsSystem metricsSystem, final String name, final CacheStats stats) {
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.BEACON,
+        name + "_cache_hits",
+        "Number of hits of the " + name + " state caches",
+        stats::getHitCount);
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.BEACON,
+        name + "_cache_misses",
+        "Number of misses of the " + name + " state caches",
+        stats::getMissCount);
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.BEACON,
+        name + "_cache_evictions",
+        "Number of entries evicted from the " + name + " state caches",
+        stats::getEvictionCount);
+  }
+
   @Override
   public void onSlot(final UInt64 slot) {
     recentChainData.getChainHead().ifPresent(this::updateMetrics);
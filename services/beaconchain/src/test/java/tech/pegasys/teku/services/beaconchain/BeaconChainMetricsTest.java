@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.BEACON;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -43,6 +44,7 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.PendingAttestation;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.phase0.BeaconStatePhase0;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.ssz.collections.SszBitlist;
@@ -137,6 +139,23 @@ class BeaconChainMetricsTest {
         .isEqualTo(NODE_SLOT_VALUE.longValue());
   }
 
+  @Test
+  void transitionCacheMetrics_shouldReportCombinedCountsOfAllInstances() {
+    final double hits = metricsSystem.getGauge(BEACON, "active_validators_cache_hits").getValue();
+    final double misses =
+        metricsSystem.getGauge(BEACON, "active_validators_cache_misses").getValue();
+
+    TransitionCaches.createNewEmpty().getActiveValidators().get(ONE, __ -> IntList.of(1));
+    final TransitionCaches caches = TransitionCaches.createNewEmpty();
+    caches.getActiveValidators().get(ONE, __ -> IntList.of(1));
+    caches.copy().getActiveValidators().get(ONE, __ -> IntList.of(1));
+
+    assertThat(metricsSystem.getGauge(BEACON, "active_validators_cache_hits").getValue())
+        .isEqualTo(hits + 1);
+    assertThat(metricsSystem.getGauge(BEACON, "active_validators_cache_misses").getValue())
+        .isEqualTo(misses + 2);
+  }
+
   @Test
   void getHeadSlotValue_shouldSupplyValueWhenStoreIsPresent() {
     when(recentChainData.isPreGenesis()).thenReturn(false);
@@ -15,6 +15,7 @@ package tech.pegasys.teku.services.powchain;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.pow.api.Eth1DataCachePeriodCalculator.calculateEth1DataCacheDurationPriorToCurrentTime;
+import static tech.pegasys.teku.util.config.Constants.MAXIMUM_CONCURRENT_ETH1_DEPOSIT_LOG_BATCHES;
 import static tech.pegasys.teku.util.config.Constants.MAXIMUM_CONCURRENT_ETH1_REQUESTS;
 
 import java.util.List;
@@ -108,8 +109,10 @@ public class PowchainService extends Service {
         new Eth1BlockFetcher(
             eth1EventsPublisher,
             eth1Provider,
+            Optional.of(eth1DepositStorageChannel),
             serviceConfig.getTimeProvider(),
-            calculateEth1DataCacheDurationPriorToCurrentTime());
+            calculateEth1DataCacheDurationPriorToCurrentTime(),
+            MAXIMUM_CONCURRENT_ETH1_REQUESTS);
 
     final DepositFetcher depositFetcher =
         new DepositFetcher(
@@ -118,7 +121,8 @@ public class PowchainService extends Service {
             depositEventsAccessor,
             eth1BlockFetcher,
             asyncRunner,
-            powConfig.getEth1LogsMaxBlockRange());
+            powConfig.getEth1LogsMaxBlockRange(),
+            MAXIMUM_CONCURRENT_ETH1_DEPOSIT_LOG_BATCHES);
 
     if (powConfig.useTimeBasedHeadTracking()) {
       headTracker =
@@ -15,9 +15,6 @@ package tech.pegasys.teku.ssz.collections.impl;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import tech.pegasys.teku.ssz.SszPrimitive;
 import tech.pegasys.teku.ssz.collections.SszMutablePrimitiveCollection;
 import tech.pegasys.teku.ssz.collections.SszPrimitiveCollection;
@@ -60,17 +57,16 @@ public abstract class AbstractSszMutablePrimitiveCollection<
    */
   @Override
   protected TreeUpdates changesToNewNodes(
-      Stream<Map.Entry<Integer, SszElementT>> newChildValues, TreeNode original) {
+      int[] childIndices, List<SszElementT> newChildValues, TreeNode original) {
     SszCollectionSchema<?, ?> type = getSchema();
     int elementsPerChunk = type.getElementsPerChunk();
 
-    List<Map.Entry<Integer, SszElementT>> newChildren = newChildValues.collect(Collectors.toList());
     int prevChildNodeIndex = 0;
     List<NodeUpdate<ElementT, SszElementT>> nodeUpdates = new ArrayList<>();
     NodeUpdate<ElementT, SszElementT> curNodeUpdate = null;
 
-    for (Map.Entry<Integer, SszElementT> entry : newChildren) {
-      int childIndex = entry.getKey();
+    for (int i = 0; i < childIndices.length; i++) {
+      int childIndex = childIndices[i];
       int childNodeIndex = childIndex / elementsPerChunk;
 
       if (curNodeUpdate == null || childNodeIndex != prevChildNodeIndex) {
@@ -79,21 +75,21 @@ public abstract class AbstractSszMutablePrimitiveCollection<
         nodeUpdates.add(curNodeUpdate);
         prevChildNodeIndex = childNodeIndex;
       }
-      curNodeUpdate.addUpdate(childIndex % elementsPerChunk, entry.getValue());
+      curNodeUpdate.addUpdate(childIndex % elementsPerChunk, newChildValues.get(i));
     }
 
-    List<Long> gIndexes = new ArrayList<>();
-    List<TreeNode> newValues = new ArrayList<>();
+    long[] gIndexes = new long[nodeUpdates.size()];
+    TreeNode[] newValues = new TreeNode[nodeUpdates.size()];
     SszPrimitiveSchema<ElementT, SszElementT> elementType = getPrimitiveElementSchema();
-    for (NodeUpdate<ElementT, SszElementT> nodeUpdate : nodeUpdates) {
+    for (int i = 0; i < nodeUpdates.size(); i++) {
+      NodeUpdate<ElementT, SszElementT> nodeUpdate = nodeUpdates.get(i);
       long gIndex = nodeUpdate.getNodeGIndex();
       TreeNode originalNode =
           nodeUpdate.getUpdates().size() < elementsPerChunk
               ? original.get(gIndex)
               : LeafNode.EMPTY_LEAF;
-      TreeNode newNode = elementType.updatePackedNode(originalNode, nodeUpdate.getUpdates());
-      newValues.add(newNode);
-      gIndexes.add(gIndex);
+      newValues[i] = elementType.updatePackedNode(originalNode, nodeUpdate.getUpdates());
+      gIndexes[i] = gIndex;
     }
 
     return new TreeUpdates(gIndexes, newValues);
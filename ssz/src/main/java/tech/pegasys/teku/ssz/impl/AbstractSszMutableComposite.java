@@ -15,10 +15,9 @@ package tech.pegasys.teku.ssz.impl;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 import tech.pegasys.teku.ssz.InvalidValueSchemaException;
 import tech.pegasys.teku.ssz.SszComposite;
 import tech.pegasys.teku.ssz.SszData;
@@ -51,20 +50,15 @@ public abstract class AbstractSszMutableComposite<
 
   protected AbstractSszComposite<SszChildT> backingImmutableData;
   private Consumer<SszMutableData> invalidator;
-  private final Map<Integer, ChildChangeRecord<SszChildT, SszMutableChildT>> childrenChanges =
-      new HashMap<>();
-  private Integer sizeCache;
-  private final SszCompositeSchema<?> cachedSchema;
-
-  private ChildChangeRecord<SszChildT, SszMutableChildT> createChangeRecordByValue(
-      SszChildT newValue) {
-    return new ChildChangeRecord<>(newValue, null);
-  }
+  /**
+   * Changed children by index. A child set by value is always immutable while a child obtained by
+   * reference is always {@link SszMutableData}, so the two kinds of changes are told apart by type
+   * without an extra record per change
+   */
+  private final ChildChangeMap<SszChildT> childrenChanges = new ChildChangeMap<>();
 
-  private ChildChangeRecord<SszChildT, SszMutableChildT> createChangeRecordByRef(
-      SszMutableChildT childRef) {
-    return new ChildChangeRecord<>(null, childRef);
-  }
+  private int sizeCache;
+  private final SszCompositeSchema<?> cachedSchema;
 
   /** Creates a new mutable instance with backing immutable data */
   protected AbstractSszMutableComposite(AbstractSszComposite<SszChildT> backingImmutableData) {
@@ -87,7 +81,7 @@ public abstract class AbstractSszMutableComposite<
       immutableValue = value;
     }
 
-    childrenChanges.put(index, createChangeRecordByValue(immutableValue));
+    childrenChanges.put(index, immutableValue);
 
     sizeCache = index >= sizeCache ? index + 1 : sizeCache;
     invalidate();
@@ -106,36 +100,24 @@ public abstract class AbstractSszMutableComposite<
   @Override
   public SszChildT get(int index) {
     checkIndex(index, false);
-    ChildChangeRecord<SszChildT, SszMutableChildT> changeRecord = childrenChanges.get(index);
-    if (changeRecord == null) {
-      return backingImmutableData.get(index);
-    } else if (changeRecord.isByValue()) {
-      return changeRecord.getNewValue();
-    } else {
-      return changeRecord.getRefValue();
-    }
+    SszChildT changedValue = childrenChanges.get(index);
+    return changedValue != null ? changedValue : backingImmutableData.get(index);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public SszMutableChildT getByRef(int index) {
-    ChildChangeRecord<SszChildT, SszMutableChildT> changeRecord = childrenChanges.get(index);
-    if (changeRecord != null && changeRecord.isByRef()) {
-      return changeRecord.getRefValue();
+    SszChildT changedValue = childrenChanges.get(index);
+    if (changedValue instanceof SszMutableData) {
+      return (SszMutableChildT) changedValue;
     } else {
       SszChildT readView = get(index);
-      @SuppressWarnings("unchecked")
       SszMutableChildT w = (SszMutableChildT) readView.createWritableCopy();
-      ChildChangeRecord<SszChildT, SszMutableChildT> newChangeRecord = createChangeRecordByRef(w);
-      childrenChanges.put(index, newChangeRecord);
+      childrenChanges.put(index, w);
       if (w instanceof SszMutableComposite) {
-        ((SszMutableComposite<?>) w)
-            .setInvalidator(
-                viewWrite -> {
-                  newChangeRecord.invalidateRefValue();
-                  invalidate();
-                });
+        ((SszMutableComposite<?>) w).setInvalidator(viewWrite -> invalidate());
       }
-      return newChangeRecord.getRefValue();
+      return w;
     }
   }
 
@@ -165,26 +147,22 @@ public abstract class AbstractSszMutableComposite<
       return backingImmutableData;
     } else {
       IntCache<SszChildT> cache = backingImmutableData.transferCache();
-      Stream<Map.Entry<Integer, SszChildT>> changesList =
-          childrenChanges.entrySet().stream()
-              .map(
-                  entry -> {
-                    ChildChangeRecord<SszChildT, SszMutableChildT> changeRecord = entry.getValue();
-                    Integer childIndex = entry.getKey();
-                    final SszChildT newValue;
-                    if (changeRecord.isByValue()) {
-                      newValue = changeRecord.getNewValue();
-                    } else {
-                      newValue =
-                          (SszChildT) ((SszMutableData) changeRecord.getRefValue()).commitChanges();
-                    }
-                    return Map.entry(childIndex, newValue);
-                  })
-              .sorted(Map.Entry.comparingByKey())
-              // pre-fill the read cache with changed values
-              .peek(e -> cache.invalidateWithNewValue(e.getKey(), e.getValue()));
+      int[] childIndices = childrenChanges.sortedKeys();
+      List<SszChildT> newChildValues = new ArrayList<>(childIndices.length);
+      for (int childIndex : childIndices) {
+        SszChildT changedValue = childrenChanges.get(childIndex);
+        final SszChildT newValue;
+        if (changedValue instanceof SszMutableData) {
+          newValue = (SszChildT) ((SszMutableData) changedValue).commitChanges();
+        } else {
+          newValue = changedValue;
+        }
+        // pre-fill the read cache with changed values
+        cache.invalidateWithNewValue(childIndex, newValue);
+        newChildValues.add(newValue);
+      }
       TreeNode originalBackingTree = backingImmutableData.getBackingNode();
-      TreeUpdates changes = changesToNewNodes(changesList, originalBackingTree);
+      TreeUpdates changes = changesToNewNodes(childIndices, newChildValues, originalBackingTree);
       TreeNode newBackingTree = originalBackingTree.updated(changes);
       TreeNode finalBackingTree = doFinalTreeUpdates(newBackingTree);
       return createImmutableSszComposite(finalBackingTree, cache);
@@ -195,20 +173,27 @@ public abstract class AbstractSszMutableComposite<
     return updatedTree;
   }
 
-  /** Converts a set of changed view with their indexes to the {@link TreeUpdates} instance */
+  /**
+   * Converts a set of changed views with their indexes to the {@link TreeUpdates} instance
+   *
+   * @param childIndices the changed child indexes in ascending order
+   * @param newChildValues the new child values, in the same order as {@code childIndices}
+   * @param original the original backing tree
+   */
   protected TreeUpdates changesToNewNodes(
-      Stream<Map.Entry<Integer, SszChildT>> newChildValues, TreeNode original) {
+      int[] childIndices, List<SszChildT> newChildValues, TreeNode original) {
     SszCompositeSchema<?> type = getSchema();
     if (type.getElementsPerChunk() > 1) {
       throw new IllegalStateException(
           "Packed primitive types are not supported by this implementation");
     }
-    return newChildValues
-        .map(
-            e ->
-                new TreeUpdates.Update(
-                    type.getChildGeneralizedIndex(e.getKey()), e.getValue().getBackingNode()))
-        .collect(TreeUpdates.collector());
+    long[] gIndexes = new long[childIndices.length];
+    TreeNode[] newNodes = new TreeNode[childIndices.length];
+    for (int i = 0; i < childIndices.length; i++) {
+      gIndexes[i] = type.getChildGeneralizedIndex(childIndices[i]);
+      newNodes[i] = newChildValues.get(i).getBackingNode();
+    }
+    return new TreeUpdates(gIndexes, newNodes);
   }
 
   /**
@@ -242,41 +227,4 @@ public abstract class AbstractSszMutableComposite<
    * @throws IndexOutOfBoundsException is index is not valid
    */
   protected abstract void checkIndex(int index, boolean set);
-
-  private static final class ChildChangeRecord<
-      SszChildT extends SszData, SszMutableChildT extends SszChildT> {
-
-    private final SszChildT newValue;
-    private final SszMutableChildT refValue;
-    private boolean refValueInvalidated;
-
-    private ChildChangeRecord(SszChildT newValue, SszMutableChildT refValue) {
-      this.newValue = newValue;
-      this.refValue = refValue;
-    }
-
-    public void invalidateRefValue() {
-      refValueInvalidated = true;
-    }
-
-    public boolean isByRef() {
-      return refValue != null;
-    }
-
-    public boolean isByValue() {
-      return newValue != null;
-    }
-
-    public SszChildT getNewValue() {
-      return newValue;
-    }
-
-    public SszMutableChildT getRefValue() {
-      return refValue;
-    }
-
-    public boolean isRefValueInvalidated() {
-      return refValueInvalidated;
-    }
-  }
 }
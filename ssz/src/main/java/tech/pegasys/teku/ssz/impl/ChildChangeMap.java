@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.impl;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing map from a non-negative child index to the changed child value.
+ *
+ * <p>Used by {@link AbstractSszMutableComposite} in place of a {@code HashMap<Integer, ...>} so
+ * that bulk updates (e.g. all the validator balances in epoch processing) don't box an index and
+ * allocate a map entry per change. Entries can't be removed individually, only all at once with
+ * {@link #clear()}
+ *
+ * <p>The class is NOT thread safe
+ */
+final class ChildChangeMap<V> {
+  private static final int FREE = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int[] keys;
+  private Object[] values;
+  private int size;
+
+  ChildChangeMap() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    Arrays.fill(keys, FREE);
+    values = new Object[capacity];
+    size = 0;
+  }
+
+  private int slot(int key) {
+    int h = key * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & (keys.length - 1);
+  }
+
+  private int find(int key) {
+    int mask = keys.length - 1;
+    int pos = slot(key);
+    while (keys[pos] != FREE) {
+      if (keys[pos] == key) {
+        return pos;
+      }
+      pos = (pos + 1) & mask;
+    }
+    return -pos - 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  V get(int key) {
+    int pos = find(key);
+    return pos >= 0 ? (V) values[pos] : null;
+  }
+
+  void put(int key, V value) {
+    if (key < 0) {
+      throw new IllegalArgumentException("Negative child index: " + key);
+    }
+    int pos = find(key);
+    if (pos >= 0) {
+      values[pos] = value;
+      return;
+    }
+    pos = -pos - 1;
+    keys[pos] = key;
+    values[pos] = value;
+    size++;
+    // keep the load factor under 1/2
+    if (size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    }
+  }
+
+  private void rehash(int newCapacity) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    int oldSize = size;
+    allocate(newCapacity);
+    int mask = newCapacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int pos = slot(oldKeys[i]);
+        while (keys[pos] != FREE) {
+          pos = (pos + 1) & mask;
+        }
+        keys[pos] = oldKeys[i];
+        values[pos] = oldValues[i];
+      }
+    }
+    size = oldSize;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void clear() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  /** Returns the keys of all the entries in ascending order */
+  int[] sortedKeys() {
+    int[] ret = new int[size];
+    int i = 0;
+    for (int key : keys) {
+      if (key != FREE) {
+        ret[i++] = key;
+      }
+    }
+    Arrays.sort(ret);
+    return ret;
+  }
+}
@@ -33,17 +33,31 @@ public class SszSchemaHints {
    * <p>The <code>depth</code> parameter specifies the maximum number (<code>2 ^ depth</code>) of
    * list/vector elements a single node can contain. Increasing this parameter saves memory but
    * makes list/vector update and hashTreeRoot recalculation more CPU expensive
+   *
+   * <p>When <code>cacheElementRoots</code> is set each node additionally keeps the hash tree roots
+   * of its elements (32 bytes per element) so that after an update only the changed elements need
+   * to be rehashed. This trades some memory for a much cheaper hashTreeRoot of updated nodes
    */
   public static final class SszSuperNodeHint extends SszSchemaHint {
     private final int depth;
+    private final boolean cacheElementRoots;
 
     public SszSuperNodeHint(int depth) {
+      this(depth, false);
+    }
+
+    public SszSuperNodeHint(int depth, boolean cacheElementRoots) {
       this.depth = depth;
+      this.cacheElementRoots = cacheElementRoots;
     }
 
     public int getDepth() {
       return depth;
     }
+
+    public boolean isCacheElementRoots() {
+      return cacheElementRoots;
+    }
   }
 
   public static SszSchemaHints of(SszSchemaHint... hints) {
@@ -58,6 +72,10 @@ public class SszSchemaHints {
     return of(new SszSuperNodeHint(superNodeDepth));
   }
 
+  public static SszSchemaHints sszSuperNode(int superNodeDepth, boolean cacheElementRoots) {
+    return of(new SszSuperNodeHint(superNodeDepth, cacheElementRoots));
+  }
+
   private final List<SszSchemaHint> hints;
 
   private SszSchemaHints(List<SszSchemaHint> hints) {
@@ -19,6 +19,7 @@ import tech.pegasys.teku.ssz.sos.SszByteArrayWriter;
 import tech.pegasys.teku.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.ssz.sos.SszReader;
+import tech.pegasys.teku.ssz.sos.SszScratchWriter;
 import tech.pegasys.teku.ssz.sos.SszWriter;
 import tech.pegasys.teku.ssz.tree.TreeNode;
 
@@ -59,11 +60,29 @@ public interface SszType {
     return getSszFixedPartSize() + getSszVariablePartSize(node);
   }
 
-  /** SSZ serializes the backing tree instance of this type */
+  /**
+   * SSZ serializes the backing tree instance of this type
+   *
+   * <p>Variable size types which always fit into a retained scratch buffer are written to it and
+   * then copied, rather than traversing the tree once more to calculate the exact size up front.
+   * Larger types (e.g. states) are written to a buffer of their exact size instead, as growing the
+   * scratch buffer to fit them would repeatedly copy a large array only to discard it
+   */
   default Bytes sszSerializeTree(TreeNode node) {
-    SszByteArrayWriter writer = new SszByteArrayWriter(getSszSize(node));
-    sszSerializeTree(node, writer);
-    return writer.toBytes();
+    if (isFixedSize()) {
+      SszByteArrayWriter writer = new SszByteArrayWriter(getSszFixedPartSize());
+      sszSerializeTree(node, writer);
+      return writer.toBytes();
+    }
+    if (getSszLengthBounds().getMaxBytes() > SszScratchWriter.MAX_RETAINED_CAPACITY) {
+      SszByteArrayWriter writer = new SszByteArrayWriter(getSszSize(node));
+      sszSerializeTree(node, writer);
+      return writer.toBytes();
+    }
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      sszSerializeTree(node, writer);
+      return writer.toBytes();
+    }
   }
 
   /**
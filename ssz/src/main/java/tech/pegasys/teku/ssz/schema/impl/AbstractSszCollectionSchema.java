@@ -173,7 +173,7 @@ public abstract class AbstractSszCollectionSchema<
     if (getElementSchema().isFixedSize()) {
       Optional<SszSuperNodeHint> sszSuperNodeHint = getHints().getHint(SszSuperNodeHint.class);
       if (sszSuperNodeHint.isPresent()) {
-        return sszDeserializeSupernode(reader, sszSuperNodeHint.get().getDepth());
+        return sszDeserializeSupernode(reader, sszSuperNodeHint.get());
       } else {
         return sszDeserializeFixed(reader);
       }
@@ -182,7 +182,9 @@ public abstract class AbstractSszCollectionSchema<
     }
   }
 
-  private DeserializedData sszDeserializeSupernode(SszReader reader, int supernodeDepth) {
+  private DeserializedData sszDeserializeSupernode(SszReader reader, SszSuperNodeHint hint) {
+    int supernodeDepth = hint.getDepth();
+    boolean cacheElementRoots = hint.isCacheElementRoots();
     SszNodeTemplate template = elementSszSupernodeTemplate.get();
     int sszSize = reader.getAvailableBytes();
     if (sszSize % template.getSszLength() != 0) {
@@ -196,13 +198,13 @@ public abstract class AbstractSszCollectionSchema<
       int toRead = min(bytesRemain, chunkSize);
       bytesRemain -= toRead;
       Bytes bytes = reader.read(toRead);
-      SszSuperNode node = new SszSuperNode(supernodeDepth, template, bytes);
+      SszSuperNode node = new SszSuperNode(supernodeDepth, template, bytes, cacheElementRoots);
       sszNodes.add(node);
     }
     TreeNode tree =
         TreeUtil.createTree(
             sszNodes,
-            new SszSuperNode(supernodeDepth, template, Bytes.EMPTY),
+            new SszSuperNode(supernodeDepth, template, Bytes.EMPTY, cacheElementRoots),
             treeDepth() - supernodeDepth);
     return new DeserializedData(tree, elementsCount);
   }
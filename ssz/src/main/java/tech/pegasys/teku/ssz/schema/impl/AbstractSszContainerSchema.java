@@ -16,13 +16,12 @@ package tech.pegasys.teku.ssz.schema.impl;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Suppliers;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -35,6 +34,8 @@ import tech.pegasys.teku.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.ssz.sos.SszReader;
 import tech.pegasys.teku.ssz.sos.SszWriter;
+import tech.pegasys.teku.ssz.tree.SszNodeTemplate;
+import tech.pegasys.teku.ssz.tree.SszSuperNode;
 import tech.pegasys.teku.ssz.tree.TreeNode;
 import tech.pegasys.teku.ssz.tree.TreeUtil;
 
@@ -70,6 +71,8 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   private final Supplier<SszLengthBounds> sszLengthBounds =
       Suppliers.memoize(this::computeSszLengthBounds);
+  private final Supplier<SszNodeTemplate> sszNodeTemplate =
+      Suppliers.memoize(() -> SszNodeTemplate.createFromType(this));
   private final String containerName;
   private final List<String> childrenNames = new ArrayList<>();
   private final Map<String, Integer> childrenNamesToFieldIndex = new HashMap<>();
@@ -77,6 +80,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
   private final TreeNode defaultTree;
   private final long treeWidth;
   private final int fixedPartSize;
+  private final boolean isFixedSize;
 
   protected AbstractSszContainerSchema(String name, List<NamedSchema<?>> childrenSchemas) {
     this.containerName = name;
@@ -93,6 +97,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
     this.fixedPartSize = calcSszFixedPartSize();
+    this.isFixedSize = calcIsFixedSize();
   }
 
   protected AbstractSszContainerSchema(List<SszSchema<?>> childrenSchemas) {
@@ -106,6 +111,7 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     this.defaultTree = createDefaultTree();
     this.treeWidth = SszContainerSchema.super.treeWidth();
     this.fixedPartSize = calcSszFixedPartSize();
+    this.isFixedSize = calcIsFixedSize();
   }
 
   @Override
@@ -182,6 +188,10 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
 
   @Override
   public boolean isFixedSize() {
+    return isFixedSize;
+  }
+
+  private boolean calcIsFixedSize() {
     for (int i = 0; i < getFieldsCount(); i++) {
       if (!getChildSchema(i).isFixedSize()) {
         return false;
@@ -257,59 +267,75 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
   public TreeNode sszDeserializeTree(SszReader reader) {
     int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
-    Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
-    List<Integer> variableChildrenOffsets = new ArrayList<>(childCount);
+    // fixed size children are deserialized in place while the variable size children
+    // have their offsets recorded at the field index, in order of appearance
+    TreeNode[] childrenSubtrees = new TreeNode[childCount];
+    int[] variableChildrenIndices = new int[childCount];
+    int[] variableChildrenOffsets = new int[childCount + 1];
+    int variableChildrenCount = 0;
     for (int i = 0; i < childCount; i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
         try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          fixedChildrenSubtrees.add(childNode);
+          childrenSubtrees[i] = childType.sszDeserializeTree(sszReader);
         }
       } else {
-        int childOffset = SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
-        variableChildrenOffsets.add(childOffset);
+        variableChildrenIndices[variableChildrenCount] = i;
+        variableChildrenOffsets[variableChildrenCount] =
+            SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
+        variableChildrenCount++;
       }
     }
 
-    if (variableChildrenOffsets.isEmpty()) {
+    if (variableChildrenCount == 0) {
       if (reader.getAvailableBytes() > 0) {
         throw new SszDeserializeException("Invalid SSZ: unread bytes for fixed size container");
       }
     } else {
-      if (variableChildrenOffsets.get(0) != endOffset - reader.getAvailableBytes()) {
+      if (variableChildrenOffsets[0] != endOffset - reader.getAvailableBytes()) {
         throw new SszDeserializeException(
             "First variable element offset doesn't match the end of fixed part");
       }
     }
 
-    variableChildrenOffsets.add(endOffset);
-
-    ArrayDeque<Integer> variableChildrenSizes =
-        new ArrayDeque<>(variableChildrenOffsets.size() - 1);
-    for (int i = 0; i < variableChildrenOffsets.size() - 1; i++) {
-      variableChildrenSizes.add(
-          variableChildrenOffsets.get(i + 1) - variableChildrenOffsets.get(i));
-    }
-
-    if (variableChildrenSizes.stream().anyMatch(s -> s < 0)) {
-      throw new SszDeserializeException("Invalid SSZ: wrong child offsets");
+    variableChildrenOffsets[variableChildrenCount] = endOffset;
+    for (int i = 0; i < variableChildrenCount; i++) {
+      if (variableChildrenOffsets[i + 1] < variableChildrenOffsets[i]) {
+        throw new SszDeserializeException("Invalid SSZ: wrong child offsets");
+      }
     }
 
-    List<TreeNode> childrenSubtrees = new ArrayList<>(childCount);
-    for (int i = 0; i < childCount; i++) {
-      SszSchema<?> childType = getChildSchema(i);
-      if (childType.isFixedSize()) {
-        childrenSubtrees.add(fixedChildrenSubtrees.remove());
-      } else {
-        try (SszReader sszReader = reader.slice(variableChildrenSizes.remove())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          childrenSubtrees.add(childNode);
-        }
+    for (int i = 0; i < variableChildrenCount; i++) {
+      int childIndex = variableChildrenIndices[i];
+      int childSize = variableChildrenOffsets[i + 1] - variableChildrenOffsets[i];
+      try (SszReader sszReader = reader.slice(childSize)) {
+        childrenSubtrees[childIndex] = getChildSchema(childIndex).sszDeserializeTree(sszReader);
       }
     }
 
-    return TreeUtil.createTree(childrenSubtrees);
+    return TreeUtil.createTree(Arrays.asList(childrenSubtrees));
+  }
+
+  /**
+   * Deserializes a fixed size container into a single {@link SszSuperNode} which wraps the raw SSZ
+   * bytes instead of building the tree of branch and leaf nodes. Fields are then read directly
+   * from the bytes at their fixed offsets and the tree nodes are only created for those fields
+   * which are actually accessed. The hash tree root is calculated from the bytes on demand
+   *
+   * <p>Subclasses may use this in {@link #sszDeserializeTree(SszReader)} for small containers which
+   * are frequently decoded and then mostly discarded (e.g. gossiped attestation data). Should
+   * only be used when none of the fields need validating on deserialization (like booleans do)
+   */
+  protected TreeNode sszDeserializePacked(SszReader reader) {
+    checkArgument(isFixedSize(), "Only fixed size container can be packed");
+    if (reader.getAvailableBytes() != getSszFixedPartSize()) {
+      throw new SszDeserializeException(
+          "Invalid SSZ: expected "
+              + getSszFixedPartSize()
+              + " bytes for fixed size container, but got "
+              + reader.getAvailableBytes());
+    }
+    return new SszSuperNode(0, sszNodeTemplate.get(), reader.read(getSszFixedPartSize()));
   }
 
   @Override
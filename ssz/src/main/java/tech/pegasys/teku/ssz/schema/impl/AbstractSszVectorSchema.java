@@ -77,7 +77,11 @@ public abstract class AbstractSszVectorSchema<
       if (sszSuperNodeHint.isPresent()) {
         int superNodeDepth = sszSuperNodeHint.get().getDepth();
         SszSuperNode defaultSuperSszNode =
-            new SszSuperNode(superNodeDepth, elementSszSupernodeTemplate.get(), Bytes.EMPTY);
+            new SszSuperNode(
+                superNodeDepth,
+                elementSszSupernodeTemplate.get(),
+                Bytes.EMPTY,
+                sszSuperNodeHint.get().isCacheElementRoots());
         int binaryDepth = treeDepth() - superNodeDepth;
         return TreeUtil.createTree(emptyList(), defaultSuperSszNode, binaryDepth);
       } else {
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.sos;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Growable {@link SszWriter} backed by a per-thread scratch buffer which is reused across
+ * serializations. It allows serializing a variable size structure without calculating its exact
+ * SSZ size up front (which requires an additional traversal of the whole tree) and lets the caller
+ * consume the result (e.g. compress it) straight from the buffer without an intermediate copy.
+ *
+ * <p>An instance is obtained with {@link #acquire()} and must be {@link #close() closed} once the
+ * data is consumed. The content of {@link #getBytesArray()} must not be used after that. Nested
+ * acquisitions on the same thread are safe: they just get a new non-cached instance.
+ *
+ * <p>Buffers grown over {@link #MAX_RETAINED_CAPACITY} are not retained to avoid pinning large
+ * arrays to the thread. Types which may exceed that size (e.g. states) are better serialized into
+ * a buffer of their exact size.
+ */
+public class SszScratchWriter implements SszWriter, Closeable {
+  static final int INITIAL_CAPACITY = 4 * 1024;
+  public static final int MAX_RETAINED_CAPACITY = 4 * 1024 * 1024;
+
+  private static final ThreadLocal<SszScratchWriter> SCRATCH_WRITER = new ThreadLocal<>();
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int size = 0;
+
+  private SszScratchWriter() {}
+
+  /** Returns the writer cached for the current thread or a new one if it is already in use */
+  public static SszScratchWriter acquire() {
+    final SszScratchWriter cached = SCRATCH_WRITER.get();
+    if (cached == null) {
+      return new SszScratchWriter();
+    }
+    SCRATCH_WRITER.set(null);
+    return cached;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    ensureCapacity(size + length);
+    System.arraycopy(bytes, offset, buffer, size, length);
+    size += length;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+  }
+
+  /** Returns the underlying buffer. Only first {@link #getLength()} bytes are valid */
+  public byte[] getBytesArray() {
+    return buffer;
+  }
+
+  public int getLength() {
+    return size;
+  }
+
+  /** Returns a copy of the written bytes which stays valid after this writer is closed */
+  public Bytes toBytes() {
+    return Bytes.wrap(Arrays.copyOf(buffer, size));
+  }
+
+  /** Returns this writer to the current thread cache */
+  @Override
+  public void close() {
+    size = 0;
+    if (buffer.length <= MAX_RETAINED_CAPACITY) {
+      SCRATCH_WRITER.set(this);
+    }
+  }
+}
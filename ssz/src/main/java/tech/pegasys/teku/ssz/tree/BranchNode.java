@@ -17,6 +17,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.function.Function;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.crypto.Hash;
@@ -113,4 +114,28 @@ public interface BranchNode extends TreeNode {
       }
     }
   }
+
+  /**
+   * Applies all the updates in a single top-down pass: the updates are split between the left and
+   * right subtree at every level so each affected branch is rebound exactly once instead of
+   * rebuilding the whole path from this node for every single update
+   */
+  @Override
+  default TreeNode updated(TreeUpdates newNodes) {
+    if (newNodes.isEmpty()) {
+      return this;
+    } else if (newNodes.isFinal()) {
+      return newNodes.getNode(0);
+    } else {
+      Pair<TreeUpdates, TreeUpdates> children = newNodes.splitAtPivot();
+      BranchNode ret = this;
+      if (!children.getLeft().isEmpty()) {
+        ret = ret.rebind(true, left().updated(children.getLeft()));
+      }
+      if (!children.getRight().isEmpty()) {
+        ret = ret.rebind(false, ret.right().updated(children.getRight()));
+      }
+      return ret;
+    }
+  }
 }
@@ -15,8 +15,8 @@ package tech.pegasys.teku.ssz.tree;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-import com.google.common.base.Supplier;
-import com.google.common.base.Suppliers;
+import java.util.Arrays;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
@@ -42,6 +42,10 @@ import tech.pegasys.teku.ssz.tree.SszNodeTemplate.Location;
  * <p>This node favors memory efficiency over update performance and thus is the best choice for
  * rarely updated and space consuming structures (e.g. Eth2 <code>BeaconState.validators</code>
  * list)
+ *
+ * <p>Optionally the node may cache <code>hash_tree_root</code> of every element (32 bytes per
+ * element). The cache is passed on to the nodes created with {@link #updated(TreeUpdates)} so the
+ * updated node only needs to rehash the elements which were actually changed
  */
 public class SszSuperNode implements TreeNode, LeafDataNode {
   private static final TreeNode DEFAULT_NODE = LeafNode.EMPTY_LEAF;
@@ -49,12 +53,32 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
   private final int depth;
   private final SszNodeTemplate elementTemplate;
   private final Bytes ssz;
-  private final Supplier<Bytes32> hashTreeRoot = Suppliers.memoize(this::calcHashTreeRoot);
+  private final boolean cacheElementRoots;
+  private volatile Bytes32 cachedHashTreeRoot;
+  // element roots this node may reuse: either calculated by this node or inherited from the node
+  // it was updated from. Replaced with the own roots once the hashTreeRoot is calculated
+  private volatile ElementRoots elementRoots;
 
   public SszSuperNode(int depth, SszNodeTemplate elementTemplate, Bytes ssz) {
+    this(depth, elementTemplate, ssz, false);
+  }
+
+  public SszSuperNode(
+      int depth, SszNodeTemplate elementTemplate, Bytes ssz, boolean cacheElementRoots) {
+    this(depth, elementTemplate, ssz, cacheElementRoots, null);
+  }
+
+  private SszSuperNode(
+      int depth,
+      SszNodeTemplate elementTemplate,
+      Bytes ssz,
+      boolean cacheElementRoots,
+      ElementRoots inheritedElementRoots) {
     this.depth = depth;
     this.elementTemplate = elementTemplate;
     this.ssz = ssz;
+    this.cacheElementRoots = cacheElementRoots;
+    this.elementRoots = inheritedElementRoots;
     checkArgument(ssz.size() % elementTemplate.getSszLength() == 0);
     checkArgument(getElementsCount() <= getMaxElements());
   }
@@ -69,11 +93,76 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
 
   @Override
   public Bytes32 hashTreeRoot() {
-    return hashTreeRoot.get();
+    Bytes32 hash = cachedHashTreeRoot;
+    if (hash == null) {
+      hash = calcHashTreeRoot();
+      cachedHashTreeRoot = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Sets the hash previously calculated for identical node content (e.g. restored from storage
+   * along with the tree data) so that it doesn't need to be recalculated
+   */
+  void setCachedHash(Bytes32 hash) {
+    if (cachedHashTreeRoot == null) {
+      cachedHashTreeRoot = hash;
+    }
+  }
+
+  /** Returns the hash if it was already calculated or set, without calculating it. */
+  Optional<Bytes32> getCachedHash() {
+    return Optional.ofNullable(cachedHashTreeRoot);
+  }
+
+  /** Calculates the hash tree root from the node content ignoring any cached value */
+  Bytes32 recalculateHashTreeRoot() {
+    return new SszSuperNode(depth, elementTemplate, ssz).calcHashTreeRoot();
   }
 
   private Bytes32 calcHashTreeRoot() {
-    return hashTreeRoot(0, 0);
+    if (!cacheElementRoots) {
+      return hashTreeRoot(0, 0);
+    }
+    byte[] roots = calcElementRoots();
+    elementRoots = new ElementRoots(roots, new int[0]);
+    return hashTreeRoot(roots, 0, 0);
+  }
+
+  private byte[] calcElementRoots() {
+    int elementsCount = getElementsCount();
+    byte[] roots = new byte[elementsCount * Bytes32.SIZE];
+    ElementRoots inherited = elementRoots;
+    int reusableCount = 0;
+    if (inherited != null) {
+      reusableCount = Math.min(inherited.roots.length / Bytes32.SIZE, elementsCount);
+      System.arraycopy(inherited.roots, 0, roots, 0, reusableCount * Bytes32.SIZE);
+    }
+    int sszLength = elementTemplate.getSszLength();
+    for (int i = 0; i < elementsCount; i++) {
+      if (i >= reusableCount || inherited.isStale(i)) {
+        elementTemplate
+            .calculateHashTreeRoot(ssz, i * sszLength)
+            .copyTo(MutableBytes.wrap(roots), i * Bytes32.SIZE);
+      }
+    }
+    return roots;
+  }
+
+  private Bytes32 hashTreeRoot(byte[] roots, int curDepth, int elementIndex) {
+    int offset = elementIndex * Bytes32.SIZE;
+    if (offset >= roots.length) {
+      return TreeUtil.ZERO_TREES[depth - curDepth].hashTreeRoot();
+    } else if (curDepth == depth) {
+      return Bytes32.wrap(roots, offset);
+    } else {
+      return Hash.sha2_256(
+          Bytes.wrap(
+              hashTreeRoot(roots, curDepth + 1, elementIndex),
+              hashTreeRoot(
+                  roots, curDepth + 1, elementIndex + (1 << ((depth - curDepth) - 1)))));
+    }
   }
 
   private Bytes32 hashTreeRoot(int curDepth, int offset) {
@@ -140,16 +229,28 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
             ? ssz
             : Bytes.wrap(ssz, Bytes.wrap(new byte[newSszSize - ssz.size()]));
     MutableBytes mutableCopy = updatedSizeSsz.mutableCopy();
+    int[] updatedChildIndices = new int[newNodes.size()];
+    int updatedChildCount = 0;
     for (int i = 0; i < newNodes.size(); i++) {
       long updateGIndex = newNodes.getRelativeGIndex(i);
       int childIndex = GIndexUtil.gIdxGetChildIndex(updateGIndex, depth);
+      // updates are sorted so the updates of a single child are adjacent
+      if (updatedChildCount == 0 || updatedChildIndices[updatedChildCount - 1] != childIndex) {
+        updatedChildIndices[updatedChildCount++] = childIndex;
+      }
       long childGIndex = GIndexUtil.gIdxGetRelativeGIndex(updateGIndex, depth);
       int childOffset = childIndex * elementTemplate.getSszLength();
       MutableBytes childMutableSlice =
           mutableCopy.mutableSlice(childOffset, elementTemplate.getSszLength());
       elementTemplate.update(childGIndex, newNodes.getNode(i), childMutableSlice);
     }
-    return new SszSuperNode(depth, elementTemplate, mutableCopy);
+    ElementRoots currentRoots = cacheElementRoots ? elementRoots : null;
+    ElementRoots inheritedRoots =
+        currentRoots == null
+            ? null
+            : currentRoots.withStale(Arrays.copyOf(updatedChildIndices, updatedChildCount));
+    return new SszSuperNode(
+        depth, elementTemplate, mutableCopy, cacheElementRoots, inheritedRoots);
   }
 
   @Override
@@ -157,6 +258,16 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
     return ssz;
   }
 
+  /**
+   * Returns true if the other node stores the same data with the same depth and element template,
+   * i.e. represents exactly the same subtree
+   */
+  boolean isContentEqual(SszSuperNode other) {
+    return depth == other.depth
+        && elementTemplate == other.elementTemplate
+        && ssz.equals(other.ssz);
+  }
+
   @Override
   public String toString() {
     int sszLength = elementTemplate.getSszLength();
@@ -166,4 +277,42 @@ public class SszSuperNode implements TreeNode, LeafDataNode {
             .collect(Collectors.joining(", "))
         + "}";
   }
+
+  /** Packed element roots and the sorted indices of elements whose roots are no longer valid */
+  private static class ElementRoots {
+    private final byte[] roots;
+    private final int[] staleIndices;
+
+    private ElementRoots(byte[] roots, int[] staleIndices) {
+      this.roots = roots;
+      this.staleIndices = staleIndices;
+    }
+
+    private boolean isStale(int elementIndex) {
+      return Arrays.binarySearch(staleIndices, elementIndex) >= 0;
+    }
+
+    private ElementRoots withStale(int[] sortedIndices) {
+      if (staleIndices.length == 0) {
+        return new ElementRoots(roots, sortedIndices);
+      }
+      int[] merged = new int[staleIndices.length + sortedIndices.length];
+      int i = 0;
+      int j = 0;
+      int size = 0;
+      while (i < staleIndices.length || j < sortedIndices.length) {
+        int next;
+        if (j == sortedIndices.length
+            || (i < staleIndices.length && staleIndices[i] <= sortedIndices[j])) {
+          next = staleIndices[i++];
+        } else {
+          next = sortedIndices[j++];
+        }
+        if (size == 0 || merged[size - 1] != next) {
+          merged[size++] = next;
+        }
+      }
+      return new ElementRoots(roots, Arrays.copyOf(merged, size));
+    }
+  }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.tree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.apache.tuweni.crypto.Hash;
+import tech.pegasys.teku.ssz.tree.TreeNodeImpl.BranchNodeImpl;
+
+/**
+ * Captures the already calculated hashes of the large subtrees of a tree so they could be stored
+ * next to the tree SSZ data, and restores them onto the tree deserialized from that SSZ data. This
+ * saves recalculating the full tree hash (e.g. of a {@code BeaconState}) after it is loaded.
+ *
+ * <p>Hashes are captured for {@link SszSuperNode}s and for branch nodes with subtrees of at least
+ * {@link #MIN_SUBTREE_HEIGHT} levels. The hashes of smaller subtrees are cheap to recalculate.
+ * Default (zero) subtrees are skipped as their hashes are always cached. Every hash is stored
+ * along with the node generalized index as: <code>[gIndex: 8 bytes][hash: 32 bytes]</code>
+ */
+public class StoredTreeHashes {
+  static final int MIN_SUBTREE_HEIGHT = 6;
+
+  private static final int ENTRY_SIZE = Long.BYTES + Bytes32.SIZE;
+  // stop before the generalized index could overflow
+  private static final long MAX_G_INDEX = 1L << 61;
+
+  private final List<Long> gIndexes = new ArrayList<>();
+  private final List<Bytes32> hashes = new ArrayList<>();
+
+  private StoredTreeHashes() {}
+
+  /** Captures (calculating if necessary) the hashes of the large subtrees of the tree */
+  public static Bytes capture(TreeNode root) {
+    StoredTreeHashes captured = new StoredTreeHashes();
+    captured.capture(root, GIndexUtil.SELF_G_INDEX);
+    MutableBytes out = MutableBytes.create(captured.gIndexes.size() * ENTRY_SIZE);
+    for (int i = 0; i < captured.gIndexes.size(); i++) {
+      out.setLong(i * ENTRY_SIZE, captured.gIndexes.get(i));
+      captured.hashes.get(i).copyTo(out, i * ENTRY_SIZE + Long.BYTES);
+    }
+    return out;
+  }
+
+  private int capture(TreeNode node, long gIndex) {
+    if (node instanceof SszSuperNode) {
+      addEntry(gIndex, node.hashTreeRoot());
+      return 0;
+    }
+    if (!(node instanceof BranchNodeImpl) || gIndex >= MAX_G_INDEX) {
+      return 0;
+    }
+    BranchNode branch = (BranchNode) node;
+    int leftHeight = capture(branch.left(), GIndexUtil.gIdxLeftGIndex(gIndex));
+    // the same subtree instance is a common pattern for default subtrees, visit it just once
+    int rightHeight =
+        branch.right() == branch.left()
+            ? leftHeight
+            : capture(branch.right(), GIndexUtil.gIdxRightGIndex(gIndex));
+    int height = Math.max(leftHeight, rightHeight) + 1;
+    if (height >= MIN_SUBTREE_HEIGHT
+        && (height >= TreeUtil.ZERO_TREES.length || node != TreeUtil.ZERO_TREES[height])) {
+      addEntry(gIndex, node.hashTreeRoot());
+    }
+    return height;
+  }
+
+  private void addEntry(long gIndex, Bytes32 hash) {
+    gIndexes.add(gIndex);
+    hashes.add(hash);
+  }
+
+  /**
+   * Restores the hashes captured with {@link #capture(TreeNode)} onto the tree deserialized from
+   * the same data. The captured hashes are expected to be already checked for integrity (e.g. with
+   * a checksum stored along with them), this method checks they fit the tree.
+   *
+   * <p>Nothing is written to the tree until every entry is found to refer to a node of the
+   * expected type which doesn't have a hash yet (so shared nodes like default subtrees are never
+   * touched) and {@code spotCheckCount} randomly selected entries (every entry if there are no
+   * more than that) match the hashes recalculated from their children.
+   *
+   * @return {@code false} if the hashes don't match the tree. The tree is left unchanged in this
+   *     case
+   */
+  public static boolean restore(TreeNode root, Bytes capturedHashes, int spotCheckCount) {
+    if (capturedHashes.size() % ENTRY_SIZE != 0) {
+      return false;
+    }
+    int entryCount = capturedHashes.size() / ENTRY_SIZE;
+    Map<Long, Bytes32> hashesByGIndex = new HashMap<>();
+    long[] gIndexes = new long[entryCount];
+    TreeNode[] nodes = new TreeNode[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      long gIndex = capturedHashes.getLong(i * ENTRY_SIZE);
+      Bytes32 hash = Bytes32.wrap(capturedHashes.slice(i * ENTRY_SIZE + Long.BYTES, Bytes32.SIZE));
+      TreeNode node;
+      try {
+        node = root.get(gIndex);
+      } catch (IllegalArgumentException e) {
+        return false;
+      }
+      if (!canRestoreHash(node) || hashesByGIndex.put(gIndex, hash) != null) {
+        return false;
+      }
+      gIndexes[i] = gIndex;
+      nodes[i] = node;
+    }
+
+    boolean checkAll = spotCheckCount >= entryCount;
+    Random random = ThreadLocalRandom.current();
+    for (int i = 0; i < Math.min(spotCheckCount, entryCount); i++) {
+      int entry = checkAll ? i : random.nextInt(entryCount);
+      Bytes32 recalculated = recalculateHash(gIndexes[entry], nodes[entry], hashesByGIndex);
+      if (!recalculated.equals(hashesByGIndex.get(gIndexes[entry]))) {
+        return false;
+      }
+    }
+
+    for (int i = 0; i < entryCount; i++) {
+      Bytes32 hash = hashesByGIndex.get(gIndexes[i]);
+      if (nodes[i] instanceof SszSuperNode) {
+        ((SszSuperNode) nodes[i]).setCachedHash(hash);
+      } else {
+        ((BranchNodeImpl) nodes[i]).setCachedHash(hash);
+      }
+    }
+    return true;
+  }
+
+  private static boolean canRestoreHash(TreeNode node) {
+    if (node instanceof SszSuperNode) {
+      return ((SszSuperNode) node).getCachedHash().isEmpty();
+    } else if (node instanceof BranchNodeImpl) {
+      return !((BranchNodeImpl) node).isHashCached();
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Recalculates the node hash from its content. For a branch node the hashes of its children are
+   * used, taking the captured ones where available, so a check is cheap while it still validates
+   * the captured hash is consistent with the rest of the captured hashes and the tree
+   */
+  private static Bytes32 recalculateHash(
+      long gIndex, TreeNode node, Map<Long, Bytes32> hashesByGIndex) {
+    if (node instanceof SszSuperNode) {
+      return ((SszSuperNode) node).recalculateHashTreeRoot();
+    } else {
+      BranchNode branch = (BranchNode) node;
+      return Hash.sha2_256(
+          Bytes.wrap(
+              childHash(branch.left(), GIndexUtil.gIdxLeftGIndex(gIndex), hashesByGIndex),
+              childHash(branch.right(), GIndexUtil.gIdxRightGIndex(gIndex), hashesByGIndex)));
+    }
+  }
+
+  private static Bytes32 childHash(
+      TreeNode child, long childGIndex, Map<Long, Bytes32> hashesByGIndex) {
+    Bytes32 capturedHash = hashesByGIndex.get(childGIndex);
+    return capturedHash != null ? capturedHash : child.hashTreeRoot();
+  }
+}
@@ -17,9 +17,15 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.apache.tuweni.crypto.Hash;
 import org.jetbrains.annotations.NotNull;
 
 abstract class TreeNodeImpl implements TreeNode {
@@ -80,9 +86,22 @@ abstract class TreeNodeImpl implements TreeNode {
   }
 
   static class BranchNodeImpl extends TreeNodeImpl implements BranchNode {
+    /**
+     * Update sets of at least this size are applied to the left and right subtrees in parallel.
+     * Smaller sets are not worth the fork/join overhead
+     */
+    static final int PARALLEL_UPDATE_THRESHOLD = 4096;
+
     private final TreeNode left;
     private final TreeNode right;
-    private volatile Bytes32 cachedHash = null;
+    // The cached hash is stored inline as 4 big-endian longs rather than a Bytes32 instance: the
+    // latter costs two extra objects (the wrapper and its byte[]) for every branch node retained
+    // in a state tree. The longs are published by the volatile write to hashCached
+    private long cachedHash0;
+    private long cachedHash1;
+    private long cachedHash2;
+    private long cachedHash3;
+    private volatile boolean hashCached = false;
 
     public BranchNodeImpl(TreeNode left, TreeNode right) {
       this.left = left;
@@ -112,6 +131,11 @@ abstract class TreeNodeImpl implements TreeNode {
         return this;
       } else if (newNodes.isFinal()) {
         return newNodes.getNode(0);
+      } else if (newNodes.size() >= PARALLEL_UPDATE_THRESHOLD) {
+        ParallelUpdateTask task = new ParallelUpdateTask(this, newNodes);
+        return ForkJoinTask.inForkJoinPool()
+            ? task.invoke()
+            : ForkJoinPool.commonPool().invoke(task);
       } else {
         Pair<TreeUpdates, TreeUpdates> children = newNodes.splitAtPivot();
         return new BranchNodeImpl(
@@ -121,15 +145,112 @@ abstract class TreeNodeImpl implements TreeNode {
 
     @Override
     public Bytes32 hashTreeRoot() {
-      if (cachedHash == null) {
-        cachedHash = BranchNode.super.hashTreeRoot();
+      byte[] hash = new byte[Bytes32.SIZE];
+      writeHashTo(hash, 0);
+      return Bytes32.wrap(hash);
+    }
+
+    /**
+     * Writes the hash of this node to {@code dest} calculating it first if needed. Parent nodes
+     * hash their children through this method so that calculating the hash of a subtree doesn't
+     * allocate a {@link Bytes32} per node
+     */
+    void writeHashTo(byte[] dest, int offset) {
+      if (!hashCached) {
+        byte[] children = new byte[2 * Bytes32.SIZE];
+        writeHashTo(left, children, 0);
+        writeHashTo(right, children, Bytes32.SIZE);
+        cacheHash(Hash.sha2_256(children));
+      }
+      putLong(dest, offset, cachedHash0);
+      putLong(dest, offset + Long.BYTES, cachedHash1);
+      putLong(dest, offset + 2 * Long.BYTES, cachedHash2);
+      putLong(dest, offset + 3 * Long.BYTES, cachedHash3);
+    }
+
+    private static void writeHashTo(TreeNode node, byte[] dest, int offset) {
+      if (node instanceof BranchNodeImpl) {
+        ((BranchNodeImpl) node).writeHashTo(dest, offset);
+      } else {
+        node.hashTreeRoot().copyTo(MutableBytes.wrap(dest), offset);
+      }
+    }
+
+    private void cacheHash(byte[] hash) {
+      cachedHash0 = getLong(hash, 0);
+      cachedHash1 = getLong(hash, Long.BYTES);
+      cachedHash2 = getLong(hash, 2 * Long.BYTES);
+      cachedHash3 = getLong(hash, 3 * Long.BYTES);
+      hashCached = true;
+    }
+
+    /**
+     * Sets the hash previously calculated for an identical subtree (e.g. restored from storage
+     * along with the tree data) so that it doesn't need to be recalculated. An already cached hash
+     * is never replaced
+     */
+    void setCachedHash(Bytes32 hash) {
+      if (!hashCached) {
+        cacheHash(hash.toArrayUnsafe());
+      }
+    }
+
+    /** Returns true if the hash was already calculated or set */
+    boolean isHashCached() {
+      return hashCached;
+    }
+
+    /** Returns the hash if it was already calculated or set, without calculating it. */
+    Optional<Bytes32> getCachedHash() {
+      return hashCached ? Optional.of(hashTreeRoot()) : Optional.empty();
+    }
+
+    private static long getLong(byte[] src, int offset) {
+      long value = 0;
+      for (int i = 0; i < Long.BYTES; i++) {
+        value = (value << 8) | (src[offset + i] & 0xFF);
+      }
+      return value;
+    }
+
+    private static void putLong(byte[] dest, int offset, long value) {
+      for (int i = Long.BYTES - 1; i >= 0; i--) {
+        dest[offset + i] = (byte) value;
+        value >>>= 8;
       }
-      return cachedHash;
     }
 
     @Override
     public String toString() {
       return left == right ? ("(2x " + left + ")") : ("(" + left + ", " + right + ')');
     }
+
+    /**
+     * Applies a large set of updates splitting it at each branch and rebuilding the left subtree
+     * in a forked task. Once the subset gets below {@link #PARALLEL_UPDATE_THRESHOLD} (or the
+     * subtree is not a plain branch) the rest is applied sequentially on the current thread
+     */
+    private static class ParallelUpdateTask extends RecursiveTask<TreeNode> {
+      private final TreeNode node;
+      private final TreeUpdates updates;
+
+      private ParallelUpdateTask(TreeNode node, TreeUpdates updates) {
+        this.node = node;
+        this.updates = updates;
+      }
+
+      @Override
+      protected TreeNode compute() {
+        if (updates.size() < PARALLEL_UPDATE_THRESHOLD || !(node instanceof BranchNodeImpl)) {
+          return node.updated(updates);
+        }
+        BranchNodeImpl branch = (BranchNodeImpl) node;
+        Pair<TreeUpdates, TreeUpdates> children = updates.splitAtPivot();
+        ParallelUpdateTask leftTask = new ParallelUpdateTask(branch.left, children.getLeft());
+        leftTask.fork();
+        TreeNode newRight = new ParallelUpdateTask(branch.right, children.getRight()).compute();
+        return new BranchNodeImpl(leftTask.join(), newRight);
+      }
+    }
   }
 }
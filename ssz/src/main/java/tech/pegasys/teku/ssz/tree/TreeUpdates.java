@@ -14,7 +14,7 @@
 package tech.pegasys.teku.ssz.tree;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -52,8 +52,10 @@ public class TreeUpdates {
     return Collectors.collectingAndThen(Collectors.toList(), TreeUpdates::new);
   }
 
-  private final List<Long> gIndexes;
-  private final List<TreeNode> nodes;
+  private final long[] gIndexes;
+  private final TreeNode[] nodes;
+  private final int fromIndex;
+  private final int toIndex;
 
   private final long prefix;
   private final int heightFromLeaf;
@@ -74,29 +76,48 @@ public class TreeUpdates {
    */
   public TreeUpdates(List<Update> updates) {
     this(
-        updates.stream().map(Update::getGeneralizedIndex).collect(Collectors.toList()),
-        updates.stream().map(Update::getNewNode).collect(Collectors.toList()));
+        updates.stream().mapToLong(Update::getGeneralizedIndex).toArray(),
+        updates.stream().map(Update::getNewNode).toArray(TreeNode[]::new));
   }
 
   public TreeUpdates(List<Long> gIndexes, List<TreeNode> nodes) {
-    this(gIndexes, nodes, 1, getDepthAndValidate(gIndexes));
+    this(gIndexes.stream().mapToLong(Long::longValue).toArray(), nodes.toArray(new TreeNode[0]));
   }
 
   public TreeUpdates(List<Long> gIndexes, List<TreeNode> nodes, int depth) {
-    this(gIndexes, nodes, 1, depth);
-    assert depth == getDepthAndValidate(gIndexes);
+    this(
+        gIndexes.stream().mapToLong(Long::longValue).toArray(),
+        nodes.toArray(new TreeNode[0]),
+        depth);
+  }
+
+  /**
+   * Creates a new instance from parallel arrays of target generalized indexes and new nodes. The
+   * arrays are taken as is (not copied) and should conform to the same prerequisites as {@link
+   * #TreeUpdates(List)}
+   */
+  public TreeUpdates(long[] gIndexes, TreeNode[] nodes) {
+    this(gIndexes, nodes, 0, gIndexes.length, 1, getDepthAndValidate(gIndexes));
   }
 
-  private static TreeUpdates create(
-      List<Long> gIndexes, List<TreeNode> nodes, long prefix, int heightFromLeaf) {
-    return new TreeUpdates(gIndexes, nodes, prefix, heightFromLeaf);
+  public TreeUpdates(long[] gIndexes, TreeNode[] nodes, int depth) {
+    this(gIndexes, nodes, 0, gIndexes.length, 1, depth);
+    assert depth == getDepthAndValidate(gIndexes);
   }
 
-  private TreeUpdates(List<Long> gIndexes, List<TreeNode> nodes, long prefix, int heightFromLeaf) {
-    assert gIndexes.size() == nodes.size();
+  private TreeUpdates(
+      long[] gIndexes,
+      TreeNode[] nodes,
+      int fromIndex,
+      int toIndex,
+      long prefix,
+      int heightFromLeaf) {
+    assert gIndexes.length == nodes.length;
 
     this.gIndexes = gIndexes;
     this.nodes = nodes;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
     this.prefix = prefix;
     this.heightFromLeaf = heightFromLeaf;
   }
@@ -115,21 +136,16 @@ public class TreeUpdates {
     long rPrefix = lPrefix | 1;
     long pivotGIndex = rPrefix << (heightFromLeaf - 1);
 
-    int idx = Collections.binarySearch(gIndexes, pivotGIndex);
+    int idx = Arrays.binarySearch(gIndexes, fromIndex, toIndex, pivotGIndex);
     int insIdx = idx < 0 ? -idx - 1 : idx;
     return Pair.of(
-        TreeUpdates.create(
-            gIndexes.subList(0, insIdx), nodes.subList(0, insIdx), lPrefix, heightFromLeaf - 1),
-        TreeUpdates.create(
-            gIndexes.subList(insIdx, gIndexes.size()),
-            nodes.subList(insIdx, nodes.size()),
-            rPrefix,
-            heightFromLeaf - 1));
+        new TreeUpdates(gIndexes, nodes, fromIndex, insIdx, lPrefix, heightFromLeaf - 1),
+        new TreeUpdates(gIndexes, nodes, insIdx, toIndex, rPrefix, heightFromLeaf - 1));
   }
 
   /** Number of updated nodes in this set */
   public int size() {
-    return gIndexes.size();
+    return toIndex - fromIndex;
   }
 
   public boolean isEmpty() {
@@ -139,35 +155,36 @@ public class TreeUpdates {
   /** Gets generalized index for update at position [index] */
   @VisibleForTesting
   long getGIndex(int index) {
-    return gIndexes.get(index);
+    return gIndexes[fromIndex + index];
   }
 
   /** Calculates and returns relative generalized index */
   public long getRelativeGIndex(int index) {
-    return GIndexUtil.gIdxGetRelativeGIndex(gIndexes.get(index), GIndexUtil.gIdxGetDepth(prefix));
+    return GIndexUtil.gIdxGetRelativeGIndex(getGIndex(index), GIndexUtil.gIdxGetDepth(prefix));
   }
 
   /** Gets new tree node for update at position [index] */
   public TreeNode getNode(int index) {
-    return nodes.get(index);
+    return nodes[fromIndex + index];
   }
 
-  private static int getDepthAndValidate(List<Long> gIndexes) {
-    if (gIndexes.isEmpty()) {
+  private static int getDepthAndValidate(long[] gIndexes) {
+    if (gIndexes.length == 0) {
       return 0;
     }
-    long highestBit = Long.highestOneBit(gIndexes.get(0));
+    long highestBit = Long.highestOneBit(gIndexes[0]);
     long mask = highestBit - 1;
     long checkMask = ~mask;
 
     long lastGIdx = -1;
-    for (int i = 0; i < gIndexes.size(); i++) {
-      long gIdx = gIndexes.get(i);
+    for (int i = 0; i < gIndexes.length; i++) {
+      long gIdx = gIndexes[i];
       if (gIdx < 1) {
         throw new IllegalArgumentException("Invalid gIndex: " + gIdx);
       }
       if (gIdx <= lastGIdx) {
-        throw new IllegalArgumentException("Invalid gIndex ordering: " + gIndexes);
+        throw new IllegalArgumentException(
+            "Invalid gIndex ordering: " + Arrays.toString(gIndexes));
       }
       if ((gIdx & checkMask) != highestBit) {
         throw new IllegalArgumentException("Indexes are of different depth: [0] and [" + i + "]");
@@ -187,18 +204,17 @@ public class TreeUpdates {
       throw new IllegalArgumentException(
           "Non-zero heightFromLeaf for the leaf node: " + heightFromLeaf);
     }
-    if (gIndexes.size() != 1) {
-      throw new IllegalArgumentException(
-          "Number of nodes should be 1 for a leaf node: " + gIndexes.size());
+    if (size() != 1) {
+      throw new IllegalArgumentException("Number of nodes should be 1 for a leaf node: " + size());
     }
-    if (gIndexes.get(0) != prefix) {
+    if (getGIndex(0) != prefix) {
       throw new IllegalArgumentException(
-          "Leaf gIndex != prefix: " + gIndexes.get(0) + " != " + prefix);
+          "Leaf gIndex != prefix: " + getGIndex(0) + " != " + prefix);
     }
   }
 
   /** Indicates that this update should be applied to the node target generalized index */
   public boolean isFinal() {
-    return (gIndexes.size() == 1 && gIndexes.get(0) == prefix);
+    return (size() == 1 && getGIndex(0) == prefix);
   }
 }
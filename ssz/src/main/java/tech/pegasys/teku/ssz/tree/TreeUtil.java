@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ssz.tree.TreeNodeImpl.BranchNodeImpl;
 import tech.pegasys.teku.ssz.tree.TreeNodeImpl.LeafNodeImpl;
 
@@ -39,10 +40,18 @@ public class TreeUtil {
 
   private static class ZeroBranchNode extends BranchNodeImpl {
     private final int height;
+    // zero trees are few and their hashes are read very often so keep the ready instance
+    private final Bytes32 hash;
 
     public ZeroBranchNode(TreeNode left, TreeNode right, int height) {
       super(left, right);
       this.height = height;
+      this.hash = super.hashTreeRoot();
+    }
+
+    @Override
+    public Bytes32 hashTreeRoot() {
+      return hash;
     }
 
     @Override
@@ -58,7 +67,6 @@ public class TreeUtil {
     ZERO_TREES[0] = LeafNode.EMPTY_LEAF;
     for (int i = 1; i < ZERO_TREES.length; i++) {
       ZERO_TREES[i] = new ZeroBranchNode(ZERO_TREES[i - 1], ZERO_TREES[i - 1], i);
-      ZERO_TREES[i].hashTreeRoot(); // pre-cache
     }
   }
 
@@ -195,4 +203,52 @@ public class TreeUtil {
         tree, GIndexUtil.LEFTMOST_G_INDEX, GIndexUtil.RIGHTMOST_G_INDEX, leavesData::add);
     return Bytes.wrap(leavesData.toArray(new Bytes[0]));
   }
+
+  /**
+   * Returns a tree equal to the {@code tree} where every subtree structurally identical to the
+   * subtree at the same position of the {@code reference} tree is replaced with that {@code
+   * reference} subtree instance. When the trees are similar (e.g. consecutive states) the resulting
+   * tree shares most of its nodes with the {@code reference} and only the differing nodes need to
+   * be retained in memory.
+   *
+   * <p>Subtrees are compared node by node (same node classes and equal leaf or {@link SszSuperNode}
+   * data) rather than by hash: leaves of packed lists with trailing zero elements hash the same as
+   * shorter leaves, but serialize differently. Both trees should be backing views of the same
+   * schema.
+   */
+  public static TreeNode shareSubtrees(TreeNode tree, TreeNode reference) {
+    if (tree == reference) {
+      return reference;
+    }
+    if (tree.getClass() != reference.getClass()) {
+      return tree;
+    }
+    if (tree instanceof LeafNode) {
+      return ((LeafNode) tree).getData().equals(((LeafNode) reference).getData())
+          ? reference
+          : tree;
+    }
+    if (tree instanceof SszSuperNode) {
+      return ((SszSuperNode) tree).isContentEqual((SszSuperNode) reference) ? reference : tree;
+    }
+    if (!(tree instanceof BranchNode)) {
+      return tree;
+    }
+    BranchNode branch = (BranchNode) tree;
+    BranchNode referenceBranch = (BranchNode) reference;
+    TreeNode left = shareSubtrees(branch.left(), referenceBranch.left());
+    TreeNode right = shareSubtrees(branch.right(), referenceBranch.right());
+    if (left == referenceBranch.left() && right == referenceBranch.right()) {
+      return reference;
+    }
+    if (left == branch.left() && right == branch.right()) {
+      return tree;
+    }
+    BranchNode shared = BranchNode.create(left, right);
+    if (tree instanceof BranchNodeImpl && shared instanceof BranchNodeImpl) {
+      // the content is the same, no need to hash it again
+      ((BranchNodeImpl) tree).getCachedHash().ifPresent(((BranchNodeImpl) shared)::setCachedHash);
+    }
+    return shared;
+  }
 }
@@ -225,6 +225,59 @@ public class SszListHintsTest {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("listTypesTestParameters")
+  <TElement extends SszData> void testSuperNodeElementRootsCache(
+      SszSchema<TElement> listElementType,
+      long maxListSize,
+      Supplier<TElement> listElementsFactory) {
+    SszListSchema<TElement, ?> plainType = SszListSchema.create(listElementType, maxListSize);
+    SszListSchema<TElement, ?> cachingType =
+        SszListSchema.create(
+            listElementType,
+            maxListSize,
+            SszSchemaHints.sszSuperNode(maxListSize > 16 ? 3 : 1, true));
+    int size = (int) Math.min(maxListSize - 1, 20);
+
+    SszMutableList<TElement> plainWritable = plainType.getDefault().createWritableCopy();
+    SszMutableList<TElement> cachingWritable = cachingType.getDefault().createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      TElement element = listElementsFactory.get();
+      plainWritable.append(element);
+      cachingWritable.append(element);
+    }
+    SszList<TElement> plain = plainWritable.commitChanges();
+    SszList<TElement> caching = cachingWritable.commitChanges();
+    assertThat(caching.hashTreeRoot()).isEqualTo(plain.hashTreeRoot());
+
+    for (int round = 0; round < 4; round++) {
+      plainWritable = plain.createWritableCopy();
+      cachingWritable = caching.createWritableCopy();
+      for (int idx = round; idx < size; idx += 3) {
+        TElement element = listElementsFactory.get();
+        plainWritable.set(idx, element);
+        cachingWritable.set(idx, element);
+      }
+      if (round == 1) {
+        // append to the last node
+        TElement element = listElementsFactory.get();
+        plainWritable.append(element);
+        cachingWritable.append(element);
+      }
+      plain = plainWritable.commitChanges();
+      caching = cachingWritable.commitChanges();
+      // check hashes only every other round so that updates of not yet hashed nodes are chained
+      if (round % 2 == 1) {
+        assertThat(caching.hashTreeRoot()).isEqualTo(plain.hashTreeRoot());
+        assertThat(
+                cachingType
+                    .sszDeserialize(SszReader.fromBytes(caching.sszSerialize()))
+                    .hashTreeRoot())
+            .isEqualTo(plain.hashTreeRoot());
+      }
+    }
+  }
+
   <TElement extends SszData> void testList(
       SszListSchema<TElement, ?> type,
       Supplier<TElement> listElementsFactory,
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class ChildChangeMapTest {
+
+  @Test
+  void shouldMatchHashMapBehaviour() {
+    ChildChangeMap<String> map = new ChildChangeMap<>();
+    Map<Integer, String> expected = new HashMap<>();
+    Random random = new Random(1);
+    for (int i = 0; i < 10_000; i++) {
+      int key = random.nextInt(5_000);
+      String value = "value" + i;
+      map.put(key, value);
+      expected.put(key, value);
+    }
+
+    assertThat(map.size()).isEqualTo(expected.size());
+    for (int key = 0; key < 5_000; key++) {
+      assertThat(map.get(key)).isEqualTo(expected.get(key));
+    }
+    assertThat(map.sortedKeys())
+        .containsExactly(expected.keySet().stream().mapToInt(i -> i).sorted().toArray());
+  }
+
+  @Test
+  void clearShouldRemoveAllEntries() {
+    ChildChangeMap<String> map = new ChildChangeMap<>();
+    for (int i = 0; i < 100; i++) {
+      map.put(i, "value" + i);
+    }
+
+    map.clear();
+
+    assertThat(map.isEmpty()).isTrue();
+    assertThat(map.get(5)).isNull();
+    assertThat(map.sortedKeys()).isEmpty();
+  }
+}
@@ -13,12 +13,21 @@
 
 package tech.pegasys.teku.ssz.schema;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteOrder;
 import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ssz.SszDataAssert;
+import tech.pegasys.teku.ssz.TestContainers.ContainerReadImpl;
 import tech.pegasys.teku.ssz.TestContainers.TestSmallContainer;
 import tech.pegasys.teku.ssz.TestContainers.TestSubContainer;
 import tech.pegasys.teku.ssz.TestContainers.VariableSizeContainer;
 import tech.pegasys.teku.ssz.TestContainers.WritableContainer;
 import tech.pegasys.teku.ssz.TestContainers.WritableSubContainer;
+import tech.pegasys.teku.ssz.sos.SszDeserializeException;
 
 public class SszContainerSchemaTest implements SszCompositeSchemaTestBase {
 
@@ -35,4 +44,50 @@ public class SszContainerSchemaTest implements SszCompositeSchemaTestBase {
   public Stream<SszContainerSchema<?>> testSchemas() {
     return testContainerSchemas();
   }
+
+  // WritableContainer fixed part: long1, long2, sub1 (2 longs), list1 and list2 offsets, vector1
+  private static final int LIST1_OFFSET_POSITION = 8 + 8 + 16;
+  private static final int LIST2_OFFSET_POSITION = LIST1_OFFSET_POSITION + 4;
+  private static final int FIXED_PART_SIZE = LIST2_OFFSET_POSITION + 4 + 2 * (8 + 32);
+
+  @Test
+  void sszDeserialize_shouldPlaceInterleavedFixedAndVariableFieldsAtTheirIndices() {
+    final ContainerReadImpl data = randomSsz.randomData(WritableContainer.SSZ_SCHEMA);
+    final Bytes ssz = data.sszSerialize();
+    assertThat(readOffset(ssz, LIST1_OFFSET_POSITION)).isEqualTo(FIXED_PART_SIZE);
+
+    SszDataAssert.assertThatSszData(WritableContainer.SSZ_SCHEMA.sszDeserialize(ssz))
+        .isEqualByAllMeansTo(data);
+  }
+
+  @Test
+  void sszDeserialize_shouldRejectDecreasingVariableFieldOffsets() {
+    final Bytes ssz = randomSsz.randomData(WritableContainer.SSZ_SCHEMA).sszSerialize();
+    final Bytes invalidSsz = withOffset(ssz, LIST2_OFFSET_POSITION, FIXED_PART_SIZE - 8);
+
+    assertThatThrownBy(() -> WritableContainer.SSZ_SCHEMA.sszDeserialize(invalidSsz))
+        .isInstanceOf(SszDeserializeException.class)
+        .hasMessageContaining("wrong child offsets");
+  }
+
+  @Test
+  void sszDeserialize_shouldRejectFirstOffsetNotAtTheEndOfFixedPart() {
+    final Bytes ssz = randomSsz.randomData(WritableContainer.SSZ_SCHEMA).sszSerialize();
+    final Bytes invalidSsz = withOffset(ssz, LIST1_OFFSET_POSITION, FIXED_PART_SIZE + 8);
+
+    assertThatThrownBy(() -> WritableContainer.SSZ_SCHEMA.sszDeserialize(invalidSsz))
+        .isInstanceOf(SszDeserializeException.class)
+        .hasMessageContaining("First variable element offset");
+  }
+
+  private static int readOffset(final Bytes ssz, final int position) {
+    return ssz.slice(position, 4).toInt(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static Bytes withOffset(final Bytes ssz, final int position, final int offset) {
+    return Bytes.concatenate(
+        ssz.slice(0, position),
+        Bytes.ofUnsignedInt(offset, ByteOrder.LITTLE_ENDIAN),
+        ssz.slice(position + 4));
+  }
 }
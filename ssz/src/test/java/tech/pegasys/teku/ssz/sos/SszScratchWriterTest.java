@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.sos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.ssz.schema.collections.SszUInt64ListSchema;
+
+public class SszScratchWriterTest {
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    final Bytes data = Bytes.random(SszScratchWriter.INITIAL_CAPACITY * 3 + 5);
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      writer.write(data.slice(0, 10));
+      writer.write(data.slice(10));
+      assertThat(writer.getLength()).isEqualTo(data.size());
+      assertThat(writer.toBytes()).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void shouldReuseWriterOnTheSameThreadOnceClosed() {
+    final SszScratchWriter writer1 = SszScratchWriter.acquire();
+    writer1.write(Bytes.of(1, 2, 3));
+    writer1.close();
+
+    try (SszScratchWriter writer2 = SszScratchWriter.acquire()) {
+      assertThat(writer2).isSameAs(writer1);
+      assertThat(writer2.getLength()).isZero();
+    }
+  }
+
+  @Test
+  void shouldNotShareWriterWhenAcquiredWhileInUse() {
+    try (SszScratchWriter outer = SszScratchWriter.acquire()) {
+      outer.write(Bytes.of(1, 2));
+      try (SszScratchWriter inner = SszScratchWriter.acquire()) {
+        assertThat(inner).isNotSameAs(outer);
+        inner.write(Bytes.of(3));
+      }
+      assertThat(outer.toBytes()).isEqualTo(Bytes.of(1, 2));
+    }
+  }
+
+  @Test
+  void toBytesShouldStayValidAfterClose() {
+    final Bytes result;
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      writer.write(Bytes.of(1, 2, 3));
+      result = writer.toBytes();
+    }
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      writer.write(Bytes.of(4, 5, 6));
+    }
+    assertThat(result).isEqualTo(Bytes.of(1, 2, 3));
+  }
+
+  @Test
+  void shouldSerializeSmallTypesThroughScratchWriter() {
+    final SszUInt64ListSchema<SszUInt64List> schema = SszUInt64ListSchema.create(1024);
+    assertThat(schema.getSszLengthBounds().getMaxBytes())
+        .isLessThanOrEqualTo(SszScratchWriter.MAX_RETAINED_CAPACITY);
+    final SszUInt64List list = createList(schema, 1024);
+
+    final SszScratchWriter cached = SszScratchWriter.acquire();
+    cached.close();
+    final Bytes serialized = list.sszSerialize();
+
+    assertThat(serialized.size()).isEqualTo(1024 * Long.BYTES);
+    assertThat(schema.sszDeserialize(serialized)).isEqualTo(list);
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      assertThat(writer).isSameAs(cached);
+      assertThat(writer.getBytesArray().length).isGreaterThanOrEqualTo(serialized.size());
+    }
+  }
+
+  @Test
+  void shouldSerializeTypesLargerThanRetainedCapacityWithoutScratchWriter() {
+    final SszUInt64ListSchema<SszUInt64List> schema = SszUInt64ListSchema.create(1 << 20);
+    assertThat(schema.getSszLengthBounds().getMaxBytes())
+        .isGreaterThan(SszScratchWriter.MAX_RETAINED_CAPACITY);
+
+    final SszScratchWriter cached = SszScratchWriter.acquire();
+    final byte[] cachedBuffer = cached.getBytesArray();
+    cached.close();
+    // Large enough that the scratch writer would have to grow to hold it
+    final SszUInt64List list = createList(schema, cachedBuffer.length / Long.BYTES + 1);
+    final Bytes serialized = list.sszSerialize();
+
+    assertThat(schema.sszDeserialize(serialized)).isEqualTo(list);
+    try (SszScratchWriter writer = SszScratchWriter.acquire()) {
+      assertThat(writer).isSameAs(cached);
+      assertThat(writer.getBytesArray()).isSameAs(cachedBuffer);
+    }
+  }
+
+  private SszUInt64List createList(
+      final SszUInt64ListSchema<SszUInt64List> schema, final long length) {
+    final List<UInt64> elements =
+        LongStream.range(0, length).mapToObj(UInt64::valueOf).collect(Collectors.toList());
+    return schema.of(elements);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ssz.tree.TreeNodeImpl.BranchNodeImpl;
+
+public class StoredTreeHashesTest {
+
+  private static TreeNode createTestTree(int leafCount, int depth) {
+    List<LeafNode> leaves =
+        IntStream.range(0, leafCount).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    return TreeUtil.createTree(leaves, depth);
+  }
+
+  @Test
+  void restoredHashesShouldMatchCalculated() {
+    TreeNode tree = createTestTree(200, 10);
+    Bytes captured = StoredTreeHashes.capture(tree);
+    assertThat(captured.isEmpty()).isFalse();
+
+    TreeNode restoredTree = createTestTree(200, 10);
+    assertThat(StoredTreeHashes.restore(restoredTree, captured, Integer.MAX_VALUE)).isTrue();
+    assertThat(restoredTree.hashTreeRoot()).isEqualTo(tree.hashTreeRoot());
+  }
+
+  @Test
+  void smallTreeShouldHaveNoStoredHashes() {
+    TreeNode tree = createTestTree(4, StoredTreeHashes.MIN_SUBTREE_HEIGHT - 1);
+    assertThat(StoredTreeHashes.capture(tree).isEmpty()).isTrue();
+  }
+
+  @Test
+  void restoreShouldFailOnCorruptedHashes() {
+    MutableBytes captured = StoredTreeHashes.capture(createTestTree(200, 10)).mutableCopy();
+    for (int pos = Long.BYTES; pos < captured.size(); pos += Long.BYTES + 32) {
+      captured.set(pos, (byte) (captured.get(pos) ^ 1));
+    }
+    assertThat(StoredTreeHashes.restore(createTestTree(200, 10), captured, 1)).isFalse();
+  }
+
+  @Test
+  void restoreShouldFailOnDifferentTreeStructure() {
+    Bytes captured = StoredTreeHashes.capture(createTestTree(200, 10));
+    assertThat(StoredTreeHashes.restore(createTestTree(2, 1), captured, 0)).isFalse();
+  }
+
+  @Test
+  void restoreShouldLeaveTreeUnchangedOnFailure() {
+    TreeNode tree = createTestTree(200, 10);
+    MutableBytes captured = StoredTreeHashes.capture(tree).mutableCopy();
+    // corrupt just the last (root) hash so that all the other entries would pass the checks
+    int lastHashPos = captured.size() - 32;
+    captured.set(lastHashPos, (byte) (captured.get(lastHashPos) ^ 1));
+
+    TreeNode restoredTree = createTestTree(200, 10);
+    assertThat(StoredTreeHashes.restore(restoredTree, captured, Integer.MAX_VALUE)).isFalse();
+    assertThat(((BranchNodeImpl) restoredTree.get(0b10)).getCachedHash()).isEmpty();
+    assertThat(restoredTree.hashTreeRoot()).isEqualTo(tree.hashTreeRoot());
+  }
+
+  @Test
+  void restoreShouldNotOverwriteExistingHashes() {
+    Bytes captured = StoredTreeHashes.capture(createTestTree(200, 10));
+    TreeNode hashedTree = createTestTree(200, 10);
+    hashedTree.hashTreeRoot();
+
+    assertThat(StoredTreeHashes.restore(hashedTree, captured, 0)).isFalse();
+  }
+}
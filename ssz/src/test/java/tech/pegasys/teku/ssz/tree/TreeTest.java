@@ -23,9 +23,12 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.ssz.TestUtil;
+import tech.pegasys.teku.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.ssz.tree.TreeNodeImpl.BranchNodeImpl;
 import tech.pegasys.teku.ssz.tree.TreeUpdates.Update;
 
 public class TreeTest {
@@ -123,6 +126,87 @@ public class TreeTest {
     assertThat(zeroTree.hashTreeRoot()).isEqualTo(zeroTree_.hashTreeRoot());
   }
 
+  @Test
+  public void testUpdatedWithLargeUpdateSetMatchesSingleUpdates() {
+    int depth = 14;
+    long firstLeafGIndex = 1L << depth;
+    TreeNode zeroTree = TreeUtil.createDefaultTree(1 << depth, LeafNode.EMPTY_LEAF);
+    List<Update> updates =
+        IntStream.range(0, 3 * BranchNodeImpl.PARALLEL_UPDATE_THRESHOLD)
+            .filter(i -> i % 3 != 1)
+            .mapToObj(i -> new Update(firstLeafGIndex + i, newTestLeaf(i)))
+            .collect(Collectors.toList());
+
+    TreeNode bulkUpdated = zeroTree.updated(new TreeUpdates(updates));
+
+    TreeNode singleUpdated = zeroTree;
+    for (Update update : updates) {
+      singleUpdated = singleUpdated.updated(update.getGeneralizedIndex(), update.getNewNode());
+    }
+    assertThat(bulkUpdated.hashTreeRoot()).isEqualTo(singleUpdated.hashTreeRoot());
+    assertThat(bulkUpdated.get(firstLeafGIndex + 3)).isEqualTo(newTestLeaf(3));
+    assertThat(bulkUpdated.get(firstLeafGIndex + 4)).isSameAs(LeafNode.EMPTY_LEAF);
+  }
+
+  @Test
+  public void testCachedBranchHashMatchesCalculated() {
+    TreeNode left = newTestLeaf(0x0102030405060708L);
+    TreeNode right = newTestLeaf(-1L);
+    BranchNode branch = BranchNode.create(left, right);
+    Bytes32 expectedHash = Hash.sha2_256(Bytes.wrap(left.hashTreeRoot(), right.hashTreeRoot()));
+
+    assertThat(branch.hashTreeRoot()).isEqualTo(expectedHash);
+    // the second call returns the cached value
+    assertThat(branch.hashTreeRoot()).isEqualTo(expectedHash);
+  }
+
+  @Test
+  public void testBranchHashIncludesNestedBranchHashes() {
+    TreeNode tree =
+        TreeUtil.createTree(
+            IntStream.range(0, 5).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()));
+    Bytes32 expectedHash = calcHashTreeRoot(tree);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(expectedHash);
+    assertThat(tree.hashTreeRoot()).isEqualTo(expectedHash);
+  }
+
+  @Test
+  public void testSetCachedHashDoesNotReplaceExistingHash() {
+    BranchNodeImpl branch = (BranchNodeImpl) BranchNode.create(newTestLeaf(1), newTestLeaf(2));
+    assertThat(branch.getCachedHash()).isEmpty();
+    assertThat(branch.isHashCached()).isFalse();
+
+    Bytes32 hash = branch.hashTreeRoot();
+    branch.setCachedHash(Bytes32.ZERO);
+    assertThat(branch.isHashCached()).isTrue();
+    assertThat(branch.getCachedHash()).contains(hash);
+    assertThat(branch.hashTreeRoot()).isEqualTo(hash);
+  }
+
+  @Test
+  public void testSetCachedHashIsReturnedWithoutCalculating() {
+    BranchNodeImpl branch = (BranchNodeImpl) BranchNode.create(newTestLeaf(1), newTestLeaf(2));
+    Bytes32 hash = Bytes32.fromHexString("0x" + "0123456789abcdef".repeat(4));
+
+    branch.setCachedHash(hash);
+
+    assertThat(branch.hashTreeRoot()).isEqualTo(hash);
+    // parents take the cached longs of their children
+    BranchNode parent = BranchNode.create(branch, newTestLeaf(3));
+    assertThat(parent.hashTreeRoot())
+        .isEqualTo(Hash.sha2_256(Bytes.wrap(hash, newTestLeaf(3).hashTreeRoot())));
+  }
+
+  private static Bytes32 calcHashTreeRoot(TreeNode node) {
+    if (node instanceof BranchNode) {
+      BranchNode branch = (BranchNode) node;
+      return Hash.sha2_256(
+          Bytes.wrap(calcHashTreeRoot(branch.left()), calcHashTreeRoot(branch.right())));
+    }
+    return node.hashTreeRoot();
+  }
+
   @Test
   // The threading test is probabilistic and may have false positives
   // (i.e. pass on incorrect implementation)
@@ -240,6 +324,59 @@ public class TreeTest {
     assertThat(iteratedIndices).containsExactly(0b1L, 0b11L, 0b110L, 0b111L);
   }
 
+  @Test
+  void testShareSubtreesReusesMatchingReferenceSubtrees() {
+    List<LeafNode> leaves =
+        IntStream.range(0, 100).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+    TreeNode reference = TreeUtil.createTree(leaves, 8);
+    leaves.set(5, newTestLeaf(1000));
+    TreeNode tree = TreeUtil.createTree(leaves, 8);
+
+    TreeNode shared = TreeUtil.shareSubtrees(tree, reference);
+
+    assertThat(shared.hashTreeRoot()).isEqualTo(tree.hashTreeRoot());
+    assertThat(shared.get(0b11)).isSameAs(reference.get(0b11));
+    assertThat(shared.get(256 + 4)).isSameAs(reference.get(256 + 4));
+    assertThat(shared.get(256 + 5)).isSameAs(tree.get(256 + 5));
+    assertThat(TreeUtil.shareSubtrees(reference, reference)).isSameAs(reference);
+  }
+
+  @Test
+  void testShareSubtreesDoesNotShareLeavesOnlyMatchingByHash() {
+    // a packed leaf with a trailing zero element hashes the same as the leaf without it
+    TreeNode reference =
+        TreeUtil.createTree(
+            List.of(newTestLeaf(1), LeafNode.create(Bytes.fromHexString("0x0102030405060708"))), 1);
+    TreeNode tree =
+        TreeUtil.createTree(
+            List.of(
+                newTestLeaf(1),
+                LeafNode.create(Bytes.fromHexString("0x01020304050607080000000000000000"))),
+            1);
+    assertThat(tree.hashTreeRoot()).isEqualTo(reference.hashTreeRoot());
+
+    TreeNode shared = TreeUtil.shareSubtrees(tree, reference);
+
+    assertThat(shared.get(0b10)).isSameAs(reference.get(0b10));
+    assertThat(shared.get(0b11)).isSameAs(tree.get(0b11));
+    assertThat(((LeafNode) shared.get(0b11)).getData())
+        .isEqualTo(((LeafNode) tree.get(0b11)).getData());
+  }
+
+  @Test
+  void testShareSubtreesSharesSuperNodesWithEqualData() {
+    SszNodeTemplate template = SszNodeTemplate.createFromType(SszPrimitiveSchemas.UINT64_SCHEMA);
+    Bytes data = Bytes.fromHexString("0x01000000000000000200000000000000");
+    TreeNode reference = new SszSuperNode(2, template, data);
+
+    assertThat(TreeUtil.shareSubtrees(new SszSuperNode(2, template, data.copy()), reference))
+        .isSameAs(reference);
+    SszSuperNode differentData = new SszSuperNode(2, template, data.slice(0, 8));
+    assertThat(TreeUtil.shareSubtrees(differentData, reference)).isSameAs(differentData);
+    SszSuperNode differentDepth = new SszSuperNode(3, template, data);
+    assertThat(TreeUtil.shareSubtrees(differentDepth, reference)).isSameAs(differentDepth);
+  }
+
   static List<LeafNode> collectLeaves(TreeNode n, long from, long to) {
     List<LeafNode> ret = new ArrayList<>();
     TreeUtil.iterateLeaves(n, from, to, ret::add);
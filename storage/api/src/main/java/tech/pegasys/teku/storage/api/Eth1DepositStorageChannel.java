@@ -13,10 +13,31 @@
 
 package tech.pegasys.teku.storage.api;
 
+import java.util.List;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.events.ChannelInterface;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.storage.api.schema.ReplayDepositsResult;
 
 public interface Eth1DepositStorageChannel extends ChannelInterface {
   SafeFuture<ReplayDepositsResult> replayDepositEvents();
+
+  /**
+   * Loads the stored Eth1 block headers, pruning any with a timestamp before {@code
+   * earliestTimestamp}.
+   *
+   * @param earliestTimestamp the timestamp of the earliest block that is still required
+   * @return the stored headers from {@code earliestTimestamp} onwards, ordered by block number
+   */
+  SafeFuture<List<Eth1BlockHeader>> loadEth1BlockHeaders(UInt64 earliestTimestamp);
+
+  SafeFuture<Void> storeEth1BlockHeaders(List<Eth1BlockHeader> headers);
+
+  /**
+   * Deletes the stored Eth1 block headers which are no longer required.
+   *
+   * @param blockNumbers the numbers of the blocks to delete headers for
+   */
+  SafeFuture<Void> pruneEth1BlockHeaders(List<UInt64> blockNumbers);
 }
@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
@@ -118,12 +119,19 @@ public interface Database extends AutoCloseable {
   @MustBeClosed
   Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
 
+  @MustBeClosed
+  Stream<Eth1BlockHeader> streamEth1BlockHeaders();
+
   Optional<ProtoArraySnapshot> getProtoArraySnapshot();
 
   void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event);
 
   void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+  void addEth1BlockHeaders(final List<Eth1BlockHeader> headers);
+
+  void deleteEth1BlockHeaders(final List<UInt64> blockNumbers);
+
   void putProtoArraySnapshot(final ProtoArraySnapshot protoArray);
 
   void storeVotes(Map<UInt64, VoteTracker> votes);
@@ -15,12 +15,15 @@ package tech.pegasys.teku.storage.server;
 
 import com.google.common.base.Suppliers;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -54,6 +57,40 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     return replayResult.get();
   }
 
+  @Override
+  public SafeFuture<List<Eth1BlockHeader>> loadEth1BlockHeaders(final UInt64 earliestTimestamp) {
+    return SafeFuture.of(
+        () -> {
+          final List<Eth1BlockHeader> headers = new ArrayList<>();
+          final List<UInt64> expiredBlockNumbers = new ArrayList<>();
+          try (Stream<Eth1BlockHeader> headerStream = database.streamEth1BlockHeaders()) {
+            headerStream.forEach(
+                header -> {
+                  if (header.getTimestamp().isLessThan(earliestTimestamp)) {
+                    expiredBlockNumbers.add(header.getBlockNumber());
+                  } else {
+                    headers.add(header);
+                  }
+                });
+          }
+          if (!expiredBlockNumbers.isEmpty()) {
+            LOG.debug("Pruning {} expired Eth1 block headers", expiredBlockNumbers.size());
+            database.deleteEth1BlockHeaders(expiredBlockNumbers);
+          }
+          return headers;
+        });
+  }
+
+  @Override
+  public SafeFuture<Void> storeEth1BlockHeaders(final List<Eth1BlockHeader> headers) {
+    return SafeFuture.fromRunnable(() -> database.addEth1BlockHeaders(headers));
+  }
+
+  @Override
+  public SafeFuture<Void> pruneEth1BlockHeaders(final List<UInt64> blockNumbers) {
+    return SafeFuture.fromRunnable(() -> database.deleteEth1BlockHeaders(blockNumbers));
+  }
+
   private ReplayDepositsResult replayDeposits() {
     final DepositSequencer depositSequencer =
         new DepositSequencer(eth1EventsChannel, database.getMinGenesisTimeBlock());
@@ -55,6 +55,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean storeStateTreeHashes;
 
   public VersionedDatabaseFactory(
       final MetricsSystem metricsSystem,
@@ -83,6 +84,28 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
       final Eth1Address eth1Address,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
+    this(
+        metricsSystem,
+        dataPath,
+        dataStorageMode,
+        createDatabaseVersion,
+        stateStorageFrequency,
+        eth1Address,
+        storeNonCanonicalBlocks,
+        false,
+        spec);
+  }
+
+  public VersionedDatabaseFactory(
+      final MetricsSystem metricsSystem,
+      final Path dataPath,
+      final StateStorageMode dataStorageMode,
+      final DatabaseVersion createDatabaseVersion,
+      final long stateStorageFrequency,
+      final Eth1Address eth1Address,
+      final boolean storeNonCanonicalBlocks,
+      final boolean storeStateTreeHashes,
+      final Spec spec) {
     this.metricsSystem = metricsSystem;
     this.dataDirectory = dataPath.toFile();
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -92,6 +115,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageFrequency = stateStorageFrequency;
     this.eth1Address = eth1Address;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
+    this.storeStateTreeHashes = storeStateTreeHashes;
     this.spec = spec;
 
     this.createDatabaseVersion = createDatabaseVersion;
@@ -182,6 +206,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeStateTreeHashes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read configuration file", e);
@@ -206,6 +231,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeStateTreeHashes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -220,8 +246,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
       return RocksDbDatabaseFactory.createV6(
           metricsSystem,
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
-          new V4SchemaHot(spec),
-          new V6SnapshotSchemaFinalized(spec),
+          new V4SchemaHot(spec, storeStateTreeHashes),
+          new V6SnapshotSchemaFinalized(spec, storeStateTreeHashes),
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
@@ -249,6 +275,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeStateTreeHashes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -265,6 +292,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeStateTreeHashes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -280,6 +308,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           storeNonCanonicalBlocks,
+          storeStateTreeHashes,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -40,6 +40,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -82,6 +83,7 @@ import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHot;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaFinalized;
 import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaHot;
 import tech.pegasys.teku.storage.server.state.StateRootRecorder;
+import tech.pegasys.teku.storage.server.state.StateSubtreeInterner;
 import tech.pegasys.teku.storage.store.StoreBuilder;
 
 public class KvStoreDatabase implements Database {
@@ -100,6 +102,7 @@ public class KvStoreDatabase implements Database {
 
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final StateSubtreeInterner stateInterner = new StateSubtreeInterner();
 
   public static Database createV4(
       final MetricsSystem metricsSystem,
@@ -108,13 +111,14 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeStateTreeHashes,
       final Spec spec) {
     return createWithStateSnapshots(
         metricsSystem,
         hotDb,
         finalizedDb,
-        new V4SchemaHot(spec),
-        new V4SchemaFinalized(spec),
+        new V4SchemaHot(spec, storeStateTreeHashes),
+        new V4SchemaFinalized(spec, storeStateTreeHashes),
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
@@ -427,7 +431,7 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<BeaconState> getLatestAvailableFinalizedState(final UInt64 maxSlot) {
-    return finalizedDao.getLatestAvailableFinalizedState(maxSlot);
+    return finalizedDao.getLatestAvailableFinalizedState(maxSlot).map(stateInterner::intern);
   }
 
   @Override
@@ -440,7 +444,7 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
-    return hotDao.getHotState(root);
+    return hotDao.getHotState(root).map(stateInterner::intern);
   }
 
   @Override
@@ -510,6 +514,12 @@ public class KvStoreDatabase implements Database {
     return eth1Dao.streamDepositsFromBlocks();
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<Eth1BlockHeader> streamEth1BlockHeaders() {
+    return eth1Dao.streamEth1BlockHeaders();
+  }
+
   @Override
   public Optional<ProtoArraySnapshot> getProtoArraySnapshot() {
     return protoArrayDao.getProtoArraySnapshot();
@@ -531,6 +541,22 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public void addEth1BlockHeaders(final List<Eth1BlockHeader> headers) {
+    try (final Eth1Updater updater = eth1Dao.eth1Updater()) {
+      headers.forEach(updater::addEth1BlockHeader);
+      updater.commit();
+    }
+  }
+
+  @Override
+  public void deleteEth1BlockHeaders(final List<UInt64> blockNumbers) {
+    try (final Eth1Updater updater = eth1Dao.eth1Updater()) {
+      blockNumbers.forEach(updater::deleteEth1BlockHeader);
+      updater.commit();
+    }
+  }
+
   @Override
   public void putProtoArraySnapshot(final ProtoArraySnapshot protoArraySnapshot) {
     try (final KvStoreHotDao.HotUpdater hotUpdater = hotDao.hotUpdater()) {
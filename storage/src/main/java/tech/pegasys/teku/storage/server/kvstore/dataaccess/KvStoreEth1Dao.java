@@ -17,7 +17,9 @@ import com.google.errorprone.annotations.MustBeClosed;
 import java.util.Optional;
 import java.util.stream.Stream;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 /**
  * Provides an abstract "data access object" interface for working with ETH1 data from the
@@ -28,6 +30,9 @@ public interface KvStoreEth1Dao extends AutoCloseable {
   @MustBeClosed
   Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
 
+  @MustBeClosed
+  Stream<Eth1BlockHeader> streamEth1BlockHeaders();
+
   Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock();
 
   Eth1Updater eth1Updater();
@@ -37,6 +42,10 @@ public interface KvStoreEth1Dao extends AutoCloseable {
 
     void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+    void addEth1BlockHeader(final Eth1BlockHeader header);
+
+    void deleteEth1BlockHeader(final UInt64 blockNumber);
+
     void commit();
 
     void cancel();
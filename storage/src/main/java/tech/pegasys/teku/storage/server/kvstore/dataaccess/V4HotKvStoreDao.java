@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
@@ -134,6 +135,12 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
     return db.stream(schema.getColumnDepositsFromBlockEvents()).map(ColumnEntry::getValue);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<Eth1BlockHeader> streamEth1BlockHeaders() {
+    return db.stream(schema.getColumnEth1BlockHeaders()).map(ColumnEntry::getValue);
+  }
+
   @Override
   public Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock() {
     return db.get(schema.getVariableMinGenesisTimeBlock());
@@ -331,6 +338,16 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
       transaction.put(schema.getColumnDepositsFromBlockEvents(), event.getBlockNumber(), event);
     }
 
+    @Override
+    public void addEth1BlockHeader(final Eth1BlockHeader header) {
+      transaction.put(schema.getColumnEth1BlockHeaders(), header.getBlockNumber(), header);
+    }
+
+    @Override
+    public void deleteEth1BlockHeader(final UInt64 blockNumber) {
+      transaction.delete(schema.getColumnEth1BlockHeaders(), blockNumber);
+    }
+
     @Override
     public void deleteProtoArraySnapshot() {
       transaction.delete(schema.getVariableProtoArraySnapshot());
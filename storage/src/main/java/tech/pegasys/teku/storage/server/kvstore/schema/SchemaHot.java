@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
@@ -39,6 +40,8 @@ public interface SchemaHot extends Schema {
 
   KvStoreColumn<UInt64, DepositsFromBlockEvent> getColumnDepositsFromBlockEvents();
 
+  KvStoreColumn<UInt64, Eth1BlockHeader> getColumnEth1BlockHeaders();
+
   KvStoreColumn<Bytes32, SlotAndBlockRoot> getColumnStateRootToSlotAndBlockRoot();
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
@@ -56,7 +59,8 @@ public interface SchemaHot extends Schema {
         "DEPOSITS_FROM_BLOCK_EVENTS", getColumnDepositsFromBlockEvents(),
         "STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot(),
         "HOT_STATES_BY_ROOT", getColumnHotStatesByRoot(),
-        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot());
+        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot(),
+        "ETH1_BLOCK_HEADERS", getColumnEth1BlockHeaders());
   }
 
   // Variables
@@ -39,11 +39,18 @@ public class V4SchemaFinalized implements SchemaFinalizedSnapshotState {
       KvStoreColumn.create(6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
 
   public V4SchemaFinalized(final Spec spec) {
+    this(spec, false);
+  }
+
+  public V4SchemaFinalized(final Spec spec, final boolean storeStateTreeHashes) {
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             2, UINT64_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
     this.finalizedStatesBySlot =
-        KvStoreColumn.create(3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+        KvStoreColumn.create(
+            3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec, storeStateTreeHashes));
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             5, BYTES32_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.ETH1_BLOCK_HEADER_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.PROTO_ARRAY_SNAPSHOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_SERIALIZER;
@@ -25,6 +26,7 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
@@ -51,6 +53,8 @@ public class V4SchemaHot implements SchemaHot {
   private static final KvStoreColumn<Bytes32, CheckpointEpochs>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
           KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+  private static final KvStoreColumn<UInt64, Eth1BlockHeader> ETH1_BLOCK_HEADERS =
+      KvStoreColumn.create(8, UINT64_SERIALIZER, ETH1_BLOCK_HEADER_SERIALIZER);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -72,12 +76,16 @@ public class V4SchemaHot implements SchemaHot {
       KvStoreVariable.create(9, CHECKPOINT_SERIALIZER);
 
   public V4SchemaHot(final Spec spec) {
+    this(spec, false);
+  }
+
+  public V4SchemaHot(final Spec spec, final boolean storeStateTreeHashes) {
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
         KvStoreSerializer.createSignedBlockSerializer(spec);
     hotBlocksByRoot = KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer);
 
     final KvStoreSerializer<BeaconState> stateSerializer =
-        KvStoreSerializer.createStateSerializer(spec);
+        KvStoreSerializer.createStateSerializer(spec, storeStateTreeHashes);
     checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer);
     hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer);
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
@@ -108,6 +116,11 @@ public class V4SchemaHot implements SchemaHot {
     return DEPOSITS_FROM_BLOCK_EVENTS;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Eth1BlockHeader> getColumnEth1BlockHeaders() {
+    return ETH1_BLOCK_HEADERS;
+  }
+
   @Override
   public KvStoreColumn<Bytes32, SlotAndBlockRoot> getColumnStateRootToSlotAndBlockRoot() {
     return STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT;
@@ -45,12 +45,18 @@ public class V6SnapshotSchemaFinalized implements SchemaFinalizedSnapshotState {
       KvStoreColumn.create(ID_OFFSET + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
 
   public V6SnapshotSchemaFinalized(final Spec spec) {
+    this(spec, false);
+  }
+
+  public V6SnapshotSchemaFinalized(final Spec spec, final boolean storeStateTreeHashes) {
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             ID_OFFSET + 2, UINT64_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            ID_OFFSET + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            ID_OFFSET + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec, storeStateTreeHashes));
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             ID_OFFSET + 5, BYTES32_SERIALIZER, KvStoreSerializer.createSignedBlockSerializer(spec));
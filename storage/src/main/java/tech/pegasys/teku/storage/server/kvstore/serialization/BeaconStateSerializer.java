@@ -14,26 +14,89 @@
 package tech.pegasys.teku.storage.server.kvstore.serialization;
 
 import java.util.Objects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.apache.tuweni.crypto.Hash;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.ssz.tree.StoredTreeHashes;
 
+/**
+ * Stores the state as plain SSZ or, if enabled, as SSZ followed by the hashes of its large
+ * subtrees, so that the state tree hash doesn't need to be recalculated from scratch after
+ * loading:
+ *
+ * <pre>
+ * [state SSZ][subtree hashes][checksum: 32 bytes][SSZ length: 4 bytes][TRAILER_MAGIC: 8 bytes]
+ * </pre>
+ *
+ * The checksum is the SHA-256 of the state SSZ and subtree hashes, so corrupted hashes are never
+ * restored onto the state tree. States stored as plain SSZ are always readable, but states stored
+ * with the hashes can't be read by versions which don't support them, so storing them is opt in.
+ */
 class BeaconStateSerializer implements KvStoreSerializer<BeaconState> {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int DEFAULT_SPOT_CHECK_COUNT = 8;
+  static final long TRAILER_MAGIC = 0x7465_6b75_4853_4832L;
+  static final int TRAILER_SIZE = Bytes32.SIZE + Integer.BYTES + Long.BYTES;
 
   private final Spec spec;
+  private final boolean storeTreeHashes;
+  private final int spotCheckCount;
 
-  BeaconStateSerializer(final Spec spec) {
+  BeaconStateSerializer(final Spec spec, final boolean storeTreeHashes) {
+    this(spec, storeTreeHashes, DEFAULT_SPOT_CHECK_COUNT);
+  }
+
+  BeaconStateSerializer(final Spec spec, final boolean storeTreeHashes, final int spotCheckCount) {
     this.spec = spec;
+    this.storeTreeHashes = storeTreeHashes;
+    this.spotCheckCount = spotCheckCount;
   }
 
   @Override
   public BeaconState deserialize(final byte[] data) {
-    return spec.deserializeBeaconState(Bytes.wrap(data));
+    final Bytes bytes = Bytes.wrap(data);
+    if (!hasStoredHashes(bytes)) {
+      return spec.deserializeBeaconState(bytes);
+    }
+    final Bytes content = bytes.slice(0, bytes.size() - TRAILER_SIZE);
+    final Bytes32 checksum = Bytes32.wrap(bytes.slice(content.size(), Bytes32.SIZE));
+    final int sszLength = bytes.getInt(content.size() + Bytes32.SIZE);
+    final BeaconState state = spec.deserializeBeaconState(content.slice(0, sszLength));
+    if (!Hash.sha2_256(content).equals(checksum)) {
+      LOG.warn("Stored hashes are corrupted for state at slot {}, recalculating", state.getSlot());
+    } else if (!StoredTreeHashes.restore(
+        state.getBackingNode(), content.slice(sszLength), spotCheckCount)) {
+      LOG.warn("Stored hashes don't match state at slot {}, recalculating", state.getSlot());
+    }
+    return state;
+  }
+
+  private boolean hasStoredHashes(final Bytes bytes) {
+    if (bytes.size() < TRAILER_SIZE || bytes.getLong(bytes.size() - Long.BYTES) != TRAILER_MAGIC) {
+      return false;
+    }
+    final int sszLength = bytes.getInt(bytes.size() - Long.BYTES - Integer.BYTES);
+    return sszLength >= 0 && sszLength <= bytes.size() - TRAILER_SIZE;
   }
 
   @Override
   public byte[] serialize(final BeaconState value) {
-    return value.sszSerialize().toArrayUnsafe();
+    final Bytes ssz = value.sszSerialize();
+    if (!storeTreeHashes) {
+      return ssz.toArrayUnsafe();
+    }
+    final Bytes content = Bytes.wrap(ssz, StoredTreeHashes.capture(value.getBackingNode()));
+    final MutableBytes trailer = MutableBytes.create(TRAILER_SIZE);
+    Hash.sha2_256(content).copyTo(trailer, 0);
+    trailer.setInt(Bytes32.SIZE, ssz.size());
+    trailer.setLong(Bytes32.SIZE + Integer.BYTES, TRAILER_MAGIC);
+    return Bytes.concatenate(content, trailer).toArrayUnsafe();
   }
 
   @Override
@@ -41,11 +104,11 @@ class BeaconStateSerializer implements KvStoreSerializer<BeaconState> {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     final BeaconStateSerializer that = (BeaconStateSerializer) o;
-    return Objects.equals(spec, that.spec);
+    return storeTreeHashes == that.storeTreeHashes && Objects.equals(spec, that.spec);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(spec);
+    return Objects.hash(spec, storeTreeHashes);
   }
 }
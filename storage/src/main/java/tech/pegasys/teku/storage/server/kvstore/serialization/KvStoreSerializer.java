@@ -17,6 +17,7 @@ import java.util.Set;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
@@ -38,6 +39,7 @@ public interface KvStoreSerializer<T> {
       new DepositsFromBlockEventSerializer();
   KvStoreSerializer<MinGenesisTimeBlockEvent> MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER =
       new MinGenesisTimeBlockEventSerializer();
+  KvStoreSerializer<Eth1BlockHeader> ETH1_BLOCK_HEADER_SERIALIZER = new Eth1BlockHeaderSerializer();
   KvStoreSerializer<ProtoArraySnapshot> PROTO_ARRAY_SNAPSHOT_SERIALIZER =
       new ProtoArraySnapshotSerializer();
   KvStoreSerializer<SlotAndBlockRoot> SLOT_AND_BLOCK_ROOT_SERIALIZER =
@@ -46,8 +48,9 @@ public interface KvStoreSerializer<T> {
       new CheckpointEpochsSerializer();
   KvStoreSerializer<Set<Bytes32>> BLOCK_ROOTS_SERIALIZER = new Bytes32SetSerializer();
 
-  static KvStoreSerializer<BeaconState> createStateSerializer(final Spec spec) {
-    return new BeaconStateSerializer(spec);
+  static KvStoreSerializer<BeaconState> createStateSerializer(
+      final Spec spec, final boolean storeTreeHashes) {
+    return new BeaconStateSerializer(spec, storeTreeHashes);
   }
 
   static KvStoreSerializer<SignedBeaconBlock> createSignedBlockSerializer(final Spec spec) {
@@ -42,8 +42,9 @@ public class LevelDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeStateTreeHashes,
       final Spec spec) {
-    final V4SchemaFinalized schemaFinalized = new V4SchemaFinalized(spec);
+    final V4SchemaFinalized schemaFinalized = new V4SchemaFinalized(spec, storeStateTreeHashes);
     final Collection<KvStoreColumn<?, ?>> v4FinalizedColumns = schemaFinalized.getAllColumns();
     final KvStoreAccessor hotDb =
         LevelDbInstanceFactory.create(
@@ -58,6 +59,7 @@ public class LevelDbDatabaseFactory {
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        storeStateTreeHashes,
         spec);
   }
 
@@ -67,10 +69,12 @@ public class LevelDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeStateTreeHashes,
       final Spec spec) {
     final KvStoreAccessor db;
-    final V4SchemaHot schemaHot = new V4SchemaHot(spec);
-    final V6SnapshotSchemaFinalized schemaFinalized = new V6SnapshotSchemaFinalized(spec);
+    final V4SchemaHot schemaHot = new V4SchemaHot(spec, storeStateTreeHashes);
+    final V6SnapshotSchemaFinalized schemaFinalized =
+        new V6SnapshotSchemaFinalized(spec, storeStateTreeHashes);
     final List<KvStoreColumn<?, ?>> allColumns = new ArrayList<>(schemaHot.getAllColumns());
     allColumns.addAll(schemaFinalized.getAllColumns());
     db = LevelDbInstanceFactory.create(metricsSystem, STORAGE, hotConfiguration, allColumns);
@@ -92,9 +96,10 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeStateTreeHashes,
       final Spec spec) {
 
-    final V4SchemaHot schemaHot = new V4SchemaHot(spec);
+    final V4SchemaHot schemaHot = new V4SchemaHot(spec, storeStateTreeHashes);
     final V6TrieSchemaFinalized schemaFinalized = new V6TrieSchemaFinalized(spec);
     final List<KvStoreColumn<?, ?>> allColumns = new ArrayList<>(schemaHot.getAllColumns());
     allColumns.addAll(schemaFinalized.getAllColumns());
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ProtoArraySnapshot;
@@ -159,6 +160,11 @@ public class NoOpDatabase implements Database {
     return Stream.empty();
   }
 
+  @Override
+  public Stream<Eth1BlockHeader> streamEth1BlockHeaders() {
+    return Stream.empty();
+  }
+
   @Override
   public Optional<ProtoArraySnapshot> getProtoArraySnapshot() {
     return Optional.empty();
@@ -170,6 +176,12 @@ public class NoOpDatabase implements Database {
   @Override
   public void addDepositsFromBlockEvent(final DepositsFromBlockEvent event) {}
 
+  @Override
+  public void addEth1BlockHeaders(final List<Eth1BlockHeader> headers) {}
+
+  @Override
+  public void deleteEth1BlockHeaders(final List<UInt64> blockNumbers) {}
+
   @Override
   public void putProtoArraySnapshot(final ProtoArraySnapshot protoArray) {}
 
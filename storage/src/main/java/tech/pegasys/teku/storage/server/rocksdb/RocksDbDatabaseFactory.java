@@ -41,6 +41,7 @@ public class RocksDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeStateTreeHashes,
       final Spec spec) {
     final KvStoreAccessor hotDb =
         RocksDbInstanceFactory.create(
@@ -58,6 +59,7 @@ public class RocksDbDatabaseFactory {
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        storeStateTreeHashes,
         spec);
   }
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.state;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
+import tech.pegasys.teku.ssz.tree.TreeNode;
+import tech.pegasys.teku.ssz.tree.TreeUpdates;
+import tech.pegasys.teku.ssz.tree.TreeUpdates.Update;
+import tech.pegasys.teku.ssz.tree.TreeUtil;
+
+/**
+ * Makes states loaded from the database share identical subtrees (e.g. the validator registry)
+ * with the previously loaded state instead of holding independent copies of the whole tree. So the
+ * memory retained by the state caches grows with the differences between the states rather than
+ * with the number of states.
+ *
+ * <p>A state with the same hash tree root as the reference is replaced with the reference itself.
+ * Otherwise only the fields which differ from the reference are walked node by node, so loading
+ * a state doesn't traverse the whole tree of both states.
+ *
+ * <p>The reference state is weakly referenced, so it is only used while something else (e.g. a
+ * state cache) still retains it and the interner itself never keeps a state reachable.
+ */
+public class StateSubtreeInterner {
+
+  private final AtomicReference<WeakReference<BeaconState>> lastState =
+      new AtomicReference<>(new WeakReference<>(null));
+
+  public BeaconState intern(final BeaconState state) {
+    final BeaconState reference = lastState.get().get();
+    final BeaconState result;
+    if (reference == null
+        || reference == state
+        || !reference.getBeaconStateSchema().equals(state.getBeaconStateSchema())) {
+      result = state;
+    } else if (state.hashTreeRoot().equals(reference.hashTreeRoot())) {
+      result = reference;
+    } else {
+      result =
+          state
+              .getBeaconStateSchema()
+              .createFromBackingNode(
+                  shareFields(
+                      state.getBeaconStateSchema(),
+                      state.getBackingNode(),
+                      reference.getBackingNode()));
+    }
+    lastState.set(new WeakReference<>(result));
+    return result;
+  }
+
+  /**
+   * Shares the top level fields of the state with the reference. Fields with equal hash tree roots
+   * hold equal values so the reference field is used as is, and only the changed fields are walked
+   * to share their unchanged subtrees.
+   */
+  private static TreeNode shareFields(
+      final BeaconStateSchema<?, ?> schema, final TreeNode tree, final TreeNode reference) {
+    final List<Update> updates = new ArrayList<>();
+    for (int i = 0; i < schema.getFieldsCount(); i++) {
+      final long gIndex = schema.getChildGeneralizedIndex(i);
+      final TreeNode field = tree.get(gIndex);
+      final TreeNode referenceField = reference.get(gIndex);
+      final TreeNode sharedField =
+          field.hashTreeRoot().equals(referenceField.hashTreeRoot())
+              ? referenceField
+              : TreeUtil.shareSubtrees(field, referenceField);
+      if (sharedField != field) {
+        updates.add(new Update(gIndex, sharedField));
+      }
+    }
+    return updates.isEmpty() ? tree : tree.updated(new TreeUpdates(updates));
+  }
+}
@@ -16,7 +16,6 @@ package tech.pegasys.teku.storage.store;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.dataproviders.generators.StateAtSlotTask.AsyncStateProvider.fromAnchor;
 import static tech.pegasys.teku.dataproviders.lookup.BlockProvider.fromDynamicMap;
-import static tech.pegasys.teku.dataproviders.lookup.BlockProvider.fromMap;
 
 import com.google.common.collect.Maps;
 import java.util.ArrayList;
@@ -27,10 +26,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
@@ -43,7 +45,10 @@ import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
-import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.CacheStats;
+import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
+import tech.pegasys.teku.infrastructure.collections.cache.TinyLfuCache;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -70,6 +75,9 @@ import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 
 class Store implements UpdatableStore {
   private static final Logger LOG = LogManager.getLogger();
+  // Blocks near the head are accessed the most, so recent blocks get a large window while the
+  // frequently accessed ones are protected in the main space
+  private static final int BLOCK_CACHE_WINDOW_PERCENT = 20;
 
   private final int hotStatePersistenceFrequencyInEpochs;
 
@@ -91,7 +99,8 @@ class Store implements UpdatableStore {
   Checkpoint justified_checkpoint;
   Checkpoint best_justified_checkpoint;
   final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
-  final Map<Bytes32, SignedBeaconBlock> blocks;
+  final Cache<Bytes32, SignedBeaconBlock> blocks;
+  private final CacheStats blockCacheStats;
   final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
   final Map<UInt64, VoteTracker> votes;
   UInt64 highestVotedValidatorIndex;
@@ -112,7 +121,8 @@ class Store implements UpdatableStore {
       final Checkpoint best_justified_checkpoint,
       final BlockMetadataStore blockMetadata,
       final Map<UInt64, VoteTracker> votes,
-      final Map<Bytes32, SignedBeaconBlock> blocks,
+      final Cache<Bytes32, SignedBeaconBlock> blocks,
+      final CacheStats blockCacheStats,
       final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates) {
     checkArgument(
         time.isGreaterThanOrEqualTo(genesis_time),
@@ -136,6 +146,7 @@ class Store implements UpdatableStore {
     this.justified_checkpoint = justified_checkpoint;
     this.best_justified_checkpoint = best_justified_checkpoint;
     this.blocks = blocks;
+    this.blockCacheStats = blockCacheStats;
     this.votes = new HashMap<>(votes);
     this.highestVotedValidatorIndex =
         this.votes.keySet().stream().max(Comparator.naturalOrder()).orElse(UInt64.ZERO);
@@ -154,7 +165,7 @@ class Store implements UpdatableStore {
                         .getSignedBeaconBlock()
                         .map((b) -> Map.of(b.getRoot(), b))
                         .orElseGet(Collections::emptyMap)),
-            fromMap(this.blocks),
+            this::getCachedBlocks,
             blockProvider);
   }
 
@@ -176,7 +187,12 @@ class Store implements UpdatableStore {
       final ProtoArrayStorageChannel protoArrayStorageChannel) {
 
     // Create limited collections for non-final data
-    final Map<Bytes32, SignedBeaconBlock> blocks = LimitedMap.create(config.getBlockCacheSize());
+    final CacheStats blockCacheStats = new CacheStats();
+    final Cache<Bytes32, SignedBeaconBlock> blocks =
+        config.getBlockCacheSize() > 0
+            ? TinyLfuCache.create(
+                config.getBlockCacheSize(), BLOCK_CACHE_WINDOW_PERCENT, blockCacheStats)
+            : NoOpCache.getNoOpCache();
     final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
         CachingTaskQueue.create(
             asyncRunner,
@@ -231,6 +247,7 @@ class Store implements UpdatableStore {
             blockMetadataStore,
             votes,
             blocks,
+            blockCacheStats,
             checkpointStateTaskQueue);
     if (maybeForkChoiceStrategy.isEmpty()) {
       final ForkChoiceStrategy forkChoiceStrategy =
@@ -289,6 +306,21 @@ class Store implements UpdatableStore {
                   TekuMetricCategory.STORAGE,
                   "memory_block_count",
                   "Number of beacon blocks held in the in-memory store"));
+      metricsSystem.createLongGauge(
+          TekuMetricCategory.STORAGE,
+          "memory_block_cache_hits",
+          "Number of hits of the in-memory store block cache",
+          blockCacheStats::getHitCount);
+      metricsSystem.createLongGauge(
+          TekuMetricCategory.STORAGE,
+          "memory_block_cache_misses",
+          "Number of misses of the in-memory store block cache",
+          blockCacheStats::getMissCount);
+      metricsSystem.createLongGauge(
+          TekuMetricCategory.STORAGE,
+          "memory_block_cache_evictions",
+          "Number of blocks evicted from the in-memory store block cache",
+          blockCacheStats::getEvictionCount);
       states.startMetrics();
       checkpointStates.startMetrics();
     } finally {
@@ -424,12 +456,20 @@ class Store implements UpdatableStore {
   public Optional<SignedBeaconBlock> getBlockIfAvailable(final Bytes32 blockRoot) {
     readLock.lock();
     try {
-      return Optional.ofNullable(blocks.get(blockRoot));
+      return blocks.getCached(blockRoot);
     } finally {
       readLock.unlock();
     }
   }
 
+  private SafeFuture<Map<Bytes32, SignedBeaconBlock>> getCachedBlocks(
+      final Set<Bytes32> blockRoots) {
+    return SafeFuture.completedFuture(
+        blockRoots.stream()
+            .flatMap(root -> blocks.getCached(root).stream())
+            .collect(Collectors.toMap(SignedBeaconBlock::getRoot, Function.identity())));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> retrieveSignedBlock(final Bytes32 blockRoot) {
     if (!containsBlock(blockRoot)) {
@@ -697,7 +737,7 @@ class Store implements UpdatableStore {
     writeLock.lock();
     try {
       if (containsBlock(block.getRoot())) {
-        blocks.put(block.getRoot(), block);
+        blocks.invalidateWithNewValue(block.getRoot(), block);
         blockCountGauge.ifPresent(gauge -> gauge.set(blocks.size()));
       }
     } finally {
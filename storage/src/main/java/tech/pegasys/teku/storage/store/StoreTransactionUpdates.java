@@ -82,7 +82,7 @@ class StoreTransactionUpdates {
     tx.genesis_time.ifPresent(value -> store.genesis_time = value);
     tx.justified_checkpoint.ifPresent(value -> store.justified_checkpoint = value);
     tx.best_justified_checkpoint.ifPresent(value -> store.best_justified_checkpoint = value);
-    hotBlocks.forEach((root, value) -> store.blocks.put(root, value.getBlock()));
+    hotBlocks.forEach((root, value) -> store.blocks.invalidateWithNewValue(root, value.getBlock()));
     store.states.cacheAll(Maps.transformValues(hotBlockAndStates, this::blockAndStateAsSummary));
 
     // Update finalized data
@@ -94,7 +94,7 @@ class StoreTransactionUpdates {
     // Prune blocks and states
     prunedHotBlockRoots.forEach(
         (root) -> {
-          store.blocks.remove(root);
+          store.blocks.invalidate(root);
           store.states.remove(root);
           store.checkpointStates.removeIf(
               slotAndBlockRoot -> slotAndBlockRoot.getBlockRoot().equals(root));
@@ -30,6 +30,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import tech.pegasys.teku.ethereum.pow.api.Deposit;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -345,6 +346,53 @@ public class DepositStorageTest {
     assertThat(future.get().isPastMinGenesisBlock()).isTrue();
   }
 
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldLoadStoredEth1BlockHeadersAndPruneExpiredHeaders(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier) {
+    setup(storageSystemSupplier);
+    final Eth1BlockHeader header1 = eth1BlockHeader(10, 1000);
+    final Eth1BlockHeader header2 = eth1BlockHeader(11, 1014);
+    final Eth1BlockHeader header3 = eth1BlockHeader(12, 1028);
+
+    assertThat(depositStorage.storeEth1BlockHeaders(List.of(header1, header2, header3)))
+        .isCompleted();
+
+    assertThat(depositStorage.loadEth1BlockHeaders(UInt64.valueOf(1014)))
+        .isCompletedWithValue(List.of(header2, header3));
+    try (Stream<Eth1BlockHeader> headers = database.streamEth1BlockHeaders()) {
+      assertThat(headers.collect(toList())).containsExactly(header2, header3);
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldPruneStoredEth1BlockHeaders(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier) {
+    setup(storageSystemSupplier);
+    final Eth1BlockHeader header1 = eth1BlockHeader(10, 1000);
+    final Eth1BlockHeader header2 = eth1BlockHeader(11, 1014);
+    final Eth1BlockHeader header3 = eth1BlockHeader(12, 1028);
+    assertThat(depositStorage.storeEth1BlockHeaders(List.of(header1, header2, header3)))
+        .isCompleted();
+
+    assertThat(
+            depositStorage.pruneEth1BlockHeaders(
+                List.of(header1.getBlockNumber(), header2.getBlockNumber())))
+        .isCompleted();
+
+    try (Stream<Eth1BlockHeader> headers = database.streamEth1BlockHeaders()) {
+      assertThat(headers.collect(toList())).containsExactly(header3);
+    }
+  }
+
+  private Eth1BlockHeader eth1BlockHeader(final long blockNumber, final long timestamp) {
+    return new Eth1BlockHeader(
+        UInt64.valueOf(blockNumber), dataStructureUtil.randomBytes32(), UInt64.valueOf(timestamp));
+  }
+
   private static class UnsafeDepositsFromBlockEvent extends DepositsFromBlockEvent {
 
     protected UnsafeDepositsFromBlockEvent(
@@ -15,6 +15,9 @@ package tech.pegasys.teku.storage.server.kvstore.serialization;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.apache.tuweni.crypto.Hash;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -25,7 +28,8 @@ public class BeaconStateSerializerTest {
   private final Spec spec = TestSpecFactory.createMinimalPhase0();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
 
-  private final KvStoreSerializer<BeaconState> stateSerializer = new BeaconStateSerializer(spec);
+  private final KvStoreSerializer<BeaconState> stateSerializer =
+      new BeaconStateSerializer(spec, true);
 
   @Test
   public void roundTrip_state() {
@@ -34,4 +38,80 @@ public class BeaconStateSerializerTest {
     final BeaconState deserialized = stateSerializer.deserialize(bytes);
     assertThat(deserialized).isEqualTo(value);
   }
+
+  @Test
+  public void deserialize_shouldRestoreStoredHashes() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(11);
+    final byte[] bytes = stateSerializer.serialize(value);
+    assertThat(bytes.length).isGreaterThan(value.sszSerialize().size());
+
+    final BeaconState deserialized = stateSerializer.deserialize(bytes);
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(value.hashTreeRoot());
+  }
+
+  @Test
+  public void deserialize_shouldReadPlainSsz() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(11);
+    final BeaconState deserialized =
+        stateSerializer.deserialize(value.sszSerialize().toArrayUnsafe());
+    assertThat(deserialized).isEqualTo(value);
+  }
+
+  @Test
+  public void serialize_shouldWritePlainSszWhenStoringHashesIsDisabled() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(11);
+    final byte[] bytes = new BeaconStateSerializer(spec, false).serialize(value);
+    assertThat(Bytes.wrap(bytes)).isEqualTo(value.sszSerialize());
+  }
+
+  @Test
+  public void deserialize_shouldReadStoredHashesWhenStoringHashesIsDisabled() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(11);
+    final BeaconState deserialized =
+        new BeaconStateSerializer(spec, false).deserialize(stateSerializer.serialize(value));
+    assertThat(deserialized).isEqualTo(value);
+  }
+
+  @Test
+  public void deserialize_shouldRecalculateHashesWhenStoredHashesAreCorrupted() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(11);
+    final Bytes ssz = value.sszSerialize();
+    final MutableBytes bytes = Bytes.wrap(stateSerializer.serialize(value)).mutableCopy();
+    // [gIndex: 8 bytes][hash: 32 bytes] entries are between the SSZ and the trailer
+    final int entrySize = Long.BYTES + 32;
+    for (int pos = ssz.size();
+        pos < bytes.size() - BeaconStateSerializer.TRAILER_SIZE;
+        pos += entrySize) {
+      bytes.set(pos + Long.BYTES, Bytes.wrap(new byte[32]));
+    }
+
+    final BeaconState deserialized = stateSerializer.deserialize(bytes.toArrayUnsafe());
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(value.hashTreeRoot());
+  }
+
+  @Test
+  public void deserialize_shouldRecalculateHashesWhenStoredHashesDoNotMatchState() {
+    final BeaconState value = dataStructureUtil.randomBeaconState(11);
+    final BeaconState otherValue = dataStructureUtil.randomBeaconState(11);
+    final Bytes ssz = value.sszSerialize();
+    final Bytes otherBytes = Bytes.wrap(stateSerializer.serialize(otherValue));
+    // valid checksum but the hashes were captured from a different state
+    final Bytes content =
+        Bytes.wrap(
+            ssz,
+            otherBytes.slice(
+                otherValue.sszSerialize().size(),
+                otherBytes.size()
+                    - otherValue.sszSerialize().size()
+                    - BeaconStateSerializer.TRAILER_SIZE));
+    final MutableBytes trailer = MutableBytes.create(BeaconStateSerializer.TRAILER_SIZE);
+    Hash.sha2_256(content).copyTo(trailer, 0);
+    trailer.setInt(32, ssz.size());
+    trailer.setLong(32 + Integer.BYTES, BeaconStateSerializer.TRAILER_MAGIC);
+
+    final BeaconState deserialized =
+        new BeaconStateSerializer(spec, true, Integer.MAX_VALUE)
+            .deserialize(Bytes.wrap(content, trailer).toArrayUnsafe());
+    assertThat(deserialized.hashTreeRoot()).isEqualTo(value.hashTreeRoot());
+  }
 }
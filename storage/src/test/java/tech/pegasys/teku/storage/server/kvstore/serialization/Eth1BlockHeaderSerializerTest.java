@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ethereum.pow.api.Eth1BlockHeader;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class Eth1BlockHeaderSerializerTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final Eth1BlockHeaderSerializer serializer = new Eth1BlockHeaderSerializer();
+
+  @Test
+  void shouldSurviveSerialization() {
+    final Eth1BlockHeader original =
+        new Eth1BlockHeader(
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomUInt64());
+    final byte[] serialized = serializer.serialize(original);
+    final Eth1BlockHeader deserialized = serializer.deserialize(serialized);
+
+    assertThat(deserialized).isEqualTo(original);
+  }
+}
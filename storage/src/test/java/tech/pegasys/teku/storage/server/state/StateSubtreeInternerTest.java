@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.ssz.tree.BranchNode;
+import tech.pegasys.teku.ssz.tree.SszSuperNode;
+import tech.pegasys.teku.ssz.tree.TreeNode;
+
+public class StateSubtreeInternerTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StateSubtreeInterner interner = new StateSubtreeInterner();
+
+  @Test
+  public void shouldShareUnchangedSubtreesWithPreviousState() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(16);
+    final BeaconState updatedState = state1.updated(s -> s.setSlot(s.getSlot().plus(UInt64.ONE)));
+    // deserialize to get an independent tree as if the state was loaded from the database
+    final BeaconState state2 = spec.deserializeBeaconState(updatedState.sszSerialize());
+
+    assertThat(interner.intern(state1)).isSameAs(state1);
+    final BeaconState interned = interner.intern(state2);
+
+    assertThat(interned).isEqualTo(state2);
+    assertThat(interned.getSlot()).isEqualTo(state2.getSlot());
+    assertThat(interned.getValidators().getBackingNode())
+        .isSameAs(state1.getValidators().getBackingNode());
+  }
+
+  @Test
+  public void shouldShareUnchangedSubtreesBetweenDeserializedStates() {
+    // more validators than a single validators super node holds
+    final BeaconState original = dataStructureUtil.randomBeaconState(300);
+    final BeaconState updatedState =
+        original.updated(
+            s -> {
+              s.setSlot(s.getSlot().plus(UInt64.ONE));
+              s.getBalances().setElement(3, UInt64.valueOf(1234));
+              s.getValidators()
+                  .set(290, s.getValidators().get(290).withEffective_balance(UInt64.ONE));
+            });
+    final BeaconState state1 = spec.deserializeBeaconState(original.sszSerialize());
+    final BeaconState state2 = spec.deserializeBeaconState(updatedState.sszSerialize());
+
+    interner.intern(state1);
+    final BeaconState interned = interner.intern(state2);
+
+    assertThat(interned).isEqualTo(state2);
+    assertThat(interned.sszSerialize()).isEqualTo(state2.sszSerialize());
+    assertThat(interned.getFork().getBackingNode()).isSameAs(state1.getFork().getBackingNode());
+    assertThat(getFirstValidatorsNode(interned)).isInstanceOf(SszSuperNode.class);
+    assertThat(getFirstValidatorsNode(interned)).isSameAs(getFirstValidatorsNode(state1));
+    assertThat(interned.getValidators().get(290).getEffective_balance()).isEqualTo(UInt64.ONE);
+    assertThat(interned.getBalances().getElement(3)).isEqualTo(UInt64.valueOf(1234));
+  }
+
+  @Test
+  public void shouldReturnPreviousStateWhenRootsAreEqual() {
+    final BeaconState original = dataStructureUtil.randomBeaconState(16);
+    final BeaconState state1 = spec.deserializeBeaconState(original.sszSerialize());
+    final BeaconState state2 = spec.deserializeBeaconState(original.sszSerialize());
+
+    interner.intern(state1);
+
+    assertThat(interner.intern(state2)).isSameAs(state1);
+  }
+
+  @Test
+  public void shouldRoundTripStateWithZeroElementAppendedToPackedList() {
+    // 15 balances leave room for a zero balance in the last chunk which doesn't change its hash
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(15);
+    final BeaconState updatedState =
+        state1.updated(s -> s.getBalances().appendElement(UInt64.ZERO));
+    final BeaconState state2 = spec.deserializeBeaconState(updatedState.sszSerialize());
+
+    interner.intern(state1);
+    final BeaconState interned = interner.intern(state2);
+
+    assertThat(interned.getBalances().size()).isEqualTo(state1.getBalances().size() + 1);
+    assertThat(interned.sszSerialize()).isEqualTo(state2.sszSerialize());
+    assertThat(spec.deserializeBeaconState(interned.sszSerialize())).isEqualTo(state2);
+  }
+
+  private TreeNode getFirstValidatorsNode(final BeaconState state) {
+    TreeNode node = state.getValidators().getBackingNode();
+    while (node instanceof BranchNode) {
+      node = ((BranchNode) node).left();
+    }
+    return node;
+  }
+}
@@ -47,6 +47,7 @@ public abstract class AbstractStoreTest {
   protected final Spec spec = TestSpecFactory.createMinimalPhase0();
   protected final StorageUpdateChannel storageUpdateChannel = new StubStorageUpdateChannel();
   protected final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  protected final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   protected void processChainWithLimitedCache(
       BiConsumer<UpdatableStore, SignedBlockAndState> chainProcessor) {
@@ -135,7 +136,7 @@ public abstract class AbstractStoreTest {
     final Checkpoint genesisCheckpoint = chainBuilder.getCurrentCheckpointForEpoch(0);
     return StoreBuilder.create()
         .asyncRunner(SYNC_RUNNER)
-        .metricsSystem(new StubMetricsSystem())
+        .metricsSystem(metricsSystem)
         .specProvider(spec)
         .blockProvider(blockProviderFromChainBuilder())
         .stateProvider(StateAndBlockSummaryProvider.NOOP)
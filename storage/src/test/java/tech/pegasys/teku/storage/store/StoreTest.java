@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
 
 import java.util.Collections;
 import java.util.List;
@@ -72,6 +73,27 @@ class StoreTest extends AbstractStoreTest {
         .hasMessageContaining("Time must be greater than or equal to genesisTime");
   }
 
+  @Test
+  public void startMetrics_shouldReportBlockCacheStats() {
+    final UpdatableStore store = createGenesisStore();
+    store.startMetrics();
+    final SignedBlockAndState block = chainBuilder.generateNextBlock();
+    addBlock(store, block);
+
+    final double hits = metricsSystem.getGauge(STORAGE, "memory_block_cache_hits").getValue();
+    final double misses = metricsSystem.getGauge(STORAGE, "memory_block_cache_misses").getValue();
+
+    assertThat(store.getBlockIfAvailable(block.getRoot())).contains(block.getBlock());
+    assertThat(store.getBlockIfAvailable(Bytes32.ZERO)).isEmpty();
+
+    assertThat(metricsSystem.getGauge(STORAGE, "memory_block_cache_hits").getValue())
+        .isEqualTo(hits + 1);
+    assertThat(metricsSystem.getGauge(STORAGE, "memory_block_cache_misses").getValue())
+        .isEqualTo(misses + 1);
+    assertThat(metricsSystem.getGauge(STORAGE, "memory_block_cache_evictions").getValue())
+        .isZero();
+  }
+
   @Test
   public void retrieveSignedBlock_withLimitedCache() {
     processChainWithLimitedCache(
@@ -13,15 +13,27 @@
 
 package tech.pegasys.teku.sync;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class SyncConfig {
+  public static final int DEFAULT_HISTORICAL_SYNC_BATCH_SIZE = 50;
+  public static final int DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES = 3;
+
   private final boolean isEnabled;
   private final boolean isMultiPeerSyncEnabled;
+  private final int historicalSyncBatchSize;
+  private final int historicalSyncMaxConcurrentBatches;
 
-  private SyncConfig(final boolean isEnabled, final boolean isMultiPeerSyncEnabled) {
+  private SyncConfig(
+      final boolean isEnabled,
+      final boolean isMultiPeerSyncEnabled,
+      final int historicalSyncBatchSize,
+      final int historicalSyncMaxConcurrentBatches) {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
+    this.historicalSyncBatchSize = historicalSyncBatchSize;
+    this.historicalSyncMaxConcurrentBatches = historicalSyncMaxConcurrentBatches;
   }
 
   public static Builder builder() {
@@ -36,14 +48,29 @@ public class SyncConfig {
     return isMultiPeerSyncEnabled;
   }
 
+  public int getHistoricalSyncBatchSize() {
+    return historicalSyncBatchSize;
+  }
+
+  public int getHistoricalSyncMaxConcurrentBatches() {
+    return historicalSyncMaxConcurrentBatches;
+  }
+
   public static class Builder {
     private Boolean isEnabled = true;
     private Boolean isMultiPeerSyncEnabled = false;
+    private Integer historicalSyncBatchSize = DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
+    private Integer historicalSyncMaxConcurrentBatches =
+        DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES;
 
     private Builder() {}
 
     public SyncConfig build() {
-      return new SyncConfig(isEnabled, isMultiPeerSyncEnabled);
+      return new SyncConfig(
+          isEnabled,
+          isMultiPeerSyncEnabled,
+          historicalSyncBatchSize,
+          historicalSyncMaxConcurrentBatches);
     }
 
     public Builder isSyncEnabled(final Boolean enabled) {
@@ -57,5 +84,22 @@ public class SyncConfig {
       isMultiPeerSyncEnabled = multiPeerSyncEnabled;
       return this;
     }
+
+    public Builder historicalSyncBatchSize(final Integer historicalSyncBatchSize) {
+      checkNotNull(historicalSyncBatchSize);
+      checkArgument(historicalSyncBatchSize > 0, "Historical sync batch size must be positive");
+      this.historicalSyncBatchSize = historicalSyncBatchSize;
+      return this;
+    }
+
+    public Builder historicalSyncMaxConcurrentBatches(
+        final Integer historicalSyncMaxConcurrentBatches) {
+      checkNotNull(historicalSyncMaxConcurrentBatches);
+      checkArgument(
+          historicalSyncMaxConcurrentBatches > 0,
+          "Historical sync max concurrent batches must be positive");
+      this.historicalSyncMaxConcurrentBatches = historicalSyncMaxConcurrentBatches;
+      return this;
+    }
   }
 }
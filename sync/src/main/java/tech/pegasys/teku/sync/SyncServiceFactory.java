@@ -151,7 +151,9 @@ public class SyncServiceFactory {
         p2pNetwork,
         combinedChainDataClient,
         signatureVerifier,
-        syncStateProvider);
+        syncStateProvider,
+        syncConfig.getHistoricalSyncBatchSize(),
+        syncConfig.getHistoricalSyncMaxConcurrentBatches());
   }
 
   private SyncStateTracker createSyncStateTracker(final ForwardSync forwardSync) {
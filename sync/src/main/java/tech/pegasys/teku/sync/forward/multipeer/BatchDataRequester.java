@@ -28,13 +28,21 @@ import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChain;
 /**
  * Attempts to create a {@link BatchChain} and download the blocks for each batch.
  *
- * <p>Applies limits to the number of batches awaiting import to avoid excessive memory usage.
+ * <p>The number of batches awaiting import scales with the number of peers serving the target
+ * chain so each of them is kept busy, but is always limited to avoid excessive memory usage.
  */
 public class BatchDataRequester {
+  // Number of pending batches to allow for each peer on the target chain
+  static final int PENDING_BATCHES_PER_PEER = 2;
+  // Number of later batches that must be complete before a batch still waiting for its first
+  // response is considered to be holding up import
+  static final int COMPLETE_BATCHES_BEFORE_STALLED = 2;
+
   private final EventThread eventThread;
   private final BatchChain activeBatches;
   private final BatchFactory batchFactory;
   private final UInt64 batchSize;
+  private final int minPendingBatches;
   private final int maxPendingBatches;
 
   public BatchDataRequester(
@@ -42,11 +50,13 @@ public class BatchDataRequester {
       final BatchChain activeBatches,
       final BatchFactory batchFactory,
       final UInt64 batchSize,
+      final int minPendingBatches,
       final int maxPendingBatches) {
     this.eventThread = eventThread;
     this.activeBatches = activeBatches;
     this.batchFactory = batchFactory;
     this.batchSize = batchSize;
+    this.minPendingBatches = minPendingBatches;
     this.maxPendingBatches = maxPendingBatches;
   }
 
@@ -66,11 +76,14 @@ public class BatchDataRequester {
         .filter(batch -> (!batch.isComplete() || batch.isContested()) && !batch.isAwaitingBlocks())
         .forEach(batch -> requestMoreBlocks(batch, requestCompleteCallback));
 
+    requestStalledBatchFromAdditionalSource(requestCompleteCallback);
+
     // Add more pending batches if there is room
     UInt64 nextBatchStart = getNextSlotToRequest(commonAncestorSlot);
     final UInt64 targetSlot = targetChain.getChainHead().getSlot();
+    final int pendingBatchesLimit = getPendingBatchesLimit(targetChain);
     for (long i = pendingBatchesCount;
-        i < maxPendingBatches && nextBatchStart.isLessThanOrEqualTo(targetSlot);
+        i < pendingBatchesLimit && nextBatchStart.isLessThanOrEqualTo(targetSlot);
         i++) {
       final UInt64 remainingSlots = targetSlot.minus(nextBatchStart).plus(1);
       final UInt64 count = remainingSlots.min(batchSize);
@@ -84,6 +97,34 @@ public class BatchDataRequester {
     }
   }
 
+  private int getPendingBatchesLimit(final TargetChain targetChain) {
+    final int limitForPeers = targetChain.getPeerCount() * PENDING_BATCHES_PER_PEER;
+    return Math.max(minPendingBatches, Math.min(maxPendingBatches, limitForPeers));
+  }
+
+  /**
+   * Batches are imported in order, so a slow peer that hasn't yet responded for the first
+   * incomplete batch holds up import even once later batches have been downloaded. In that case,
+   * also request the batch from another peer and use whichever response arrives first.
+   */
+  private void requestStalledBatchFromAdditionalSource(
+      final Consumer<Batch> requestCompleteCallback) {
+    activeBatches.stream()
+        .filter(batch -> !batch.isComplete())
+        .findFirst()
+        .filter(batch -> batch.isAwaitingBlocks() && batch.isEmpty())
+        .filter(
+            batch ->
+                activeBatches.batchesAfterExclusive(batch).stream()
+                        .filter(Batch::isComplete)
+                        .count()
+                    >= COMPLETE_BATCHES_BEFORE_STALLED)
+        .ifPresent(
+            batch ->
+                batch.requestFromAdditionalSource(
+                    () -> eventThread.execute(() -> requestCompleteCallback.accept(batch))));
+  }
+
   /**
    * All the sync sources on a given target chain may have moved to a new chain or disconnected. To
    * avoid getting stuck attempting and failing to request data when there are no sync sources, find
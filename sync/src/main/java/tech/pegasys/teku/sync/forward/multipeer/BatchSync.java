@@ -41,7 +41,9 @@ import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChain;
 /** Manages the sync process to reach a finalized chain. */
 public class BatchSync implements Sync {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int MAX_PENDING_BATCHES = 5;
+  private static final int MIN_PENDING_BATCHES = 5;
+  // Bounds the number of blocks held in memory awaiting import
+  private static final int MAX_PENDING_BATCHES = 20;
 
   private final EventThread eventThread;
   private final RecentChainData recentChainData;
@@ -96,7 +98,12 @@ public class BatchSync implements Sync {
     final BatchChain activeBatches = new BatchChain();
     final BatchDataRequester batchDataRequester =
         new BatchDataRequester(
-            eventThread, activeBatches, batchFactory, batchSize, MAX_PENDING_BATCHES);
+            eventThread,
+            activeBatches,
+            batchFactory,
+            batchSize,
+            MIN_PENDING_BATCHES,
+            MAX_PENDING_BATCHES);
     return new BatchSync(
         eventThread,
         recentChainData,
@@ -37,6 +37,7 @@ import tech.pegasys.teku.sync.forward.multipeer.batches.BatchFactory;
 import tech.pegasys.teku.sync.forward.multipeer.batches.PeerScoringConflictResolutionStrategy;
 import tech.pegasys.teku.sync.forward.multipeer.chains.PeerChainTracker;
 import tech.pegasys.teku.sync.forward.multipeer.chains.SyncSourceFactory;
+import tech.pegasys.teku.sync.forward.multipeer.chains.SyncSourcePerformanceTracker;
 import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChains;
 import tech.pegasys.teku.util.config.Constants;
 
@@ -75,12 +76,17 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
 
     final TargetChains finalizedTargetChains = new TargetChains();
     final TargetChains nonfinalizedTargetChains = new TargetChains();
+    final SyncSourcePerformanceTracker syncSourcePerformanceTracker =
+        new SyncSourcePerformanceTracker();
     final BatchSync batchSync =
         BatchSync.create(
             eventThread,
             recentChainData,
             new BatchImporter(blockImporter, asyncRunner),
-            new BatchFactory(eventThread, new PeerScoringConflictResolutionStrategy()),
+            new BatchFactory(
+                eventThread,
+                new PeerScoringConflictResolutionStrategy(),
+                syncSourcePerformanceTracker),
             Constants.SYNC_BATCH_SIZE,
             MultipeerCommonAncestorFinder.create(recentChainData, eventThread, spec),
             timeProvider);
@@ -101,7 +107,7 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             recentChainData.getSpec(),
             eventThread,
             p2pNetwork,
-            new SyncSourceFactory(asyncRunner, timeProvider),
+            new SyncSourceFactory(asyncRunner, timeProvider, syncSourcePerformanceTracker),
             finalizedTargetChains,
             nonfinalizedTargetChains);
     peerChainTracker.subscribeToTargetChainUpdates(syncController::onTargetChainsUpdated);
@@ -60,5 +60,14 @@ public interface Batch {
 
   void requestMoreBlocks(Runnable callback);
 
+  /**
+   * Requests the same blocks as the outstanding request from a different source, if the batch has
+   * not received any blocks yet and no other source is already being asked. Whichever response
+   * arrives first is used.
+   *
+   * @param callback invoked when the additional request completes, if one was made
+   */
+  void requestFromAdditionalSource(Runnable callback);
+
   TargetChain getTargetChain();
 }
@@ -15,21 +15,27 @@ package tech.pegasys.teku.sync.forward.multipeer.batches;
 
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.sync.forward.multipeer.chains.SyncSourcePerformanceTracker;
 import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChain;
 
 public class BatchFactory {
   private final EventThread eventThread;
   private final ConflictResolutionStrategy conflictResolutionStrategy;
+  private final SyncSourcePerformanceTracker performanceTracker;
 
   public BatchFactory(
-      final EventThread eventThread, final ConflictResolutionStrategy conflictResolutionStrategy) {
+      final EventThread eventThread,
+      final ConflictResolutionStrategy conflictResolutionStrategy,
+      final SyncSourcePerformanceTracker performanceTracker) {
     this.eventThread = eventThread;
     this.conflictResolutionStrategy = conflictResolutionStrategy;
+    this.performanceTracker = performanceTracker;
   }
 
   public Batch createBatch(final TargetChain chain, final UInt64 start, final UInt64 count) {
     eventThread.checkOnEventThread();
-    final SyncSourceSelector syncSourceProvider = chain::selectRandomPeer;
+    final SyncSourceSelector syncSourceProvider =
+        excluding -> performanceTracker.selectSource(chain.getPeers(), excluding);
     return new EventThreadOnlyBatch(
         eventThread,
         new SyncSourceBatch(
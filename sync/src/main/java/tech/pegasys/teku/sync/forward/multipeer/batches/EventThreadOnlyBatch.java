@@ -139,6 +139,12 @@ public class EventThreadOnlyBatch implements Batch {
     delegate.requestMoreBlocks(callback);
   }
 
+  @Override
+  public void requestFromAdditionalSource(final Runnable callback) {
+    eventThread.checkOnEventThread();
+    delegate.requestFromAdditionalSource(callback);
+  }
+
   @Override
   public TargetChain getTargetChain() {
     eventThread.checkOnEventThread();
@@ -45,6 +45,11 @@ public class SyncSourceBatch implements Batch {
   private final UInt64 count;
 
   private Optional<SyncSource> currentSyncSource = Optional.empty();
+  private Optional<SyncSource> additionalSyncSource = Optional.empty();
+  // Identifies the latest set of requests so responses to superseded requests are ignored
+  private int requestRound = 0;
+  private int outstandingRequests = 0;
+  private final List<SafeFuture<Void>> currentRoundRequests = new ArrayList<>();
   private boolean complete = false;
   private boolean contested = false;
   private boolean firstBlockConfirmed = false;
@@ -179,7 +184,6 @@ public class SyncSourceBatch implements Batch {
   public void requestMoreBlocks(final Runnable callback) {
     checkState(
         !isComplete() || isContested(), "Attempting to request more blocks from a complete batch");
-    final RequestHandler requestHandler = new RequestHandler();
     final UInt64 startSlot =
         getLastBlock().map(SignedBeaconBlock::getSlot).map(UInt64::increment).orElse(firstSlot);
     final UInt64 remainingSlots = count.minus(startSlot.minus(firstSlot));
@@ -197,27 +201,95 @@ public class SyncSourceBatch implements Batch {
     final SyncSource syncSource = currentSyncSource.orElseThrow();
     LOG.debug(
         "Requesting {} slots starting at {} from peer {}", remainingSlots, startSlot, syncSource);
-    syncSource
-        .requestBlocksByRange(startSlot, remainingSlots, UInt64.ONE, requestHandler)
-        .thenRunAsync(() -> onRequestComplete(requestHandler), eventThread)
+    supersedeRequests();
+    requestBlocks(syncSource, startSlot, remainingSlots, callback);
+  }
+
+  @Override
+  public void requestFromAdditionalSource(final Runnable callback) {
+    if (!awaitingBlocks
+        || !isEmpty()
+        || currentSyncSource.isEmpty()
+        || additionalSyncSource.isPresent()) {
+      return;
+    }
+    additionalSyncSource = syncSourceProvider.selectSource(currentSyncSource.get());
+    additionalSyncSource.ifPresent(
+        syncSource -> {
+          LOG.debug(
+              "Requesting slots {} to {} from additional peer {} while waiting for {}",
+              firstSlot,
+              getLastSlot(),
+              syncSource,
+              currentSyncSource.get());
+          requestBlocks(syncSource, firstSlot, count, callback);
+        });
+  }
+
+  private void requestBlocks(
+      final SyncSource syncSource,
+      final UInt64 startSlot,
+      final UInt64 slotCount,
+      final Runnable callback) {
+    final int round = requestRound;
+    final RequestHandler requestHandler = new RequestHandler();
+    outstandingRequests++;
+    final SafeFuture<Void> request =
+        syncSource.requestBlocksByRange(startSlot, slotCount, UInt64.ONE, requestHandler);
+    currentRoundRequests.add(request);
+    request
+        .thenApplyAsync(__ -> onRequestComplete(round, syncSource, requestHandler), eventThread)
         .handleAsync(
-            (__, error) -> {
-              if (error != null) {
-                handleRequestErrors(error);
+            (updatedBatch, error) -> {
+              // Superseded requests and failures left to another pending request don't change
+              // the batch, so only notify the callback of responses which were used
+              if (error != null ? handleRequestErrors(round, syncSource, error) : updatedBatch) {
+                // Ensure there is time for other events to be processed before the callback
+                // completes. Allows external events like peers disconnecting to be processed
+                // before retrying
+                eventThread.executeLater(callback);
               }
-              // Ensure there is time for other events to be processed before the callback completes
-              // Allows external events like peers disconnecting to be processed before retrying
-              eventThread.executeLater(callback);
               return null;
             },
             eventThread)
         .reportExceptions();
   }
 
-  private void handleRequestErrors(final Throwable error) {
+  /**
+   * Starts a new round of requests, cancelling the requests of the previous round so their
+   * responses are neither used nor reported to the performance tracker.
+   */
+  private void supersedeRequests() {
+    requestRound++;
+    outstandingRequests = 0;
+    additionalSyncSource = Optional.empty();
+    currentRoundRequests.forEach(request -> request.cancel(false));
+    currentRoundRequests.clear();
+  }
+
+  /** Returns true if the failure was applied to the batch. */
+  private boolean handleRequestErrors(
+      final int round, final SyncSource syncSource, final Throwable error) {
     eventThread.checkOnEventThread();
-    awaitingBlocks = false;
+    if (round != requestRound) {
+      LOG.debug("Ignoring failure of superseded request to {}", syncSource, error);
+      return false;
+    }
     final Throwable rootCause = Throwables.getRootCause(error);
+    outstandingRequests--;
+    if (outstandingRequests > 0) {
+      // Another source is still fetching the same slots so leave it to complete the batch
+      LOG.debug("Request to {} failed while another request is pending", syncSource, error);
+      if (rootCause instanceof BlocksByRangeResponseInvalidResponseException && !contested) {
+        conflictResolutionStrategy.reportInvalidBatch(this, syncSource);
+      }
+      if (currentSyncSource.equals(Optional.of(syncSource))) {
+        currentSyncSource = additionalSyncSource;
+      }
+      additionalSyncSource = Optional.empty();
+      return false;
+    }
+    awaitingBlocks = false;
     if (rootCause instanceof PeerDisconnectedException) {
       LOG.debug(
           "Failed to retrieve blocks from {} to {}, because peer disconnected",
@@ -233,6 +305,7 @@ public class SyncSourceBatch implements Batch {
       currentSyncSource = Optional.empty();
       reset();
     }
+    return true;
   }
 
   private void reset() {
@@ -243,10 +316,22 @@ public class SyncSourceBatch implements Batch {
     blocks.clear();
   }
 
-  private void onRequestComplete(final RequestHandler requestHandler) {
+  /** Returns true if the response was applied to the batch. */
+  private boolean onRequestComplete(
+      final int round, final SyncSource syncSource, final RequestHandler requestHandler) {
     eventThread.checkOnEventThread();
+    if (round != requestRound) {
+      LOG.debug("Ignoring response from {} as another peer already responded", syncSource);
+      return false;
+    }
     final List<SignedBeaconBlock> newBlocks = requestHandler.complete();
 
+    if (additionalSyncSource.equals(Optional.of(syncSource))) {
+      LOG.debug("Using response from additional peer {}", syncSource);
+      currentSyncSource = additionalSyncSource;
+    }
+    // Supersede any other request for the same slots
+    supersedeRequests();
     awaitingBlocks = false;
     if (!blocks.isEmpty() && !newBlocks.isEmpty()) {
       final SignedBeaconBlock previousBlock = blocks.get(blocks.size() - 1);
@@ -255,7 +340,7 @@ public class SyncSourceBatch implements Batch {
         LOG.debug(
             "Marking batch invalid because new blocks do not form a chain with previous blocks");
         markAsInvalid();
-        return;
+        return true;
       }
     }
     blocks.addAll(newBlocks);
@@ -263,6 +348,7 @@ public class SyncSourceBatch implements Batch {
         || newBlocks.get(newBlocks.size() - 1).getSlot().equals(getLastSlot())) {
       complete = true;
     }
+    return true;
   }
 
   @Override
@@ -17,5 +17,5 @@ import java.util.Optional;
 import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 
 public interface SyncSourceSelector {
-  Optional<SyncSource> selectSource();
+  Optional<SyncSource> selectSource(SyncSource... excluding);
 }
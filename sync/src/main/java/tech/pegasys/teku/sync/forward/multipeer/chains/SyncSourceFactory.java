@@ -27,11 +27,16 @@ public class SyncSourceFactory {
 
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
+  private final SyncSourcePerformanceTracker performanceTracker;
   private final Map<Eth2Peer, SyncSource> syncSourcesByPeer = new HashMap<>();
 
-  public SyncSourceFactory(final AsyncRunner asyncRunner, final TimeProvider timeProvider) {
+  public SyncSourceFactory(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final SyncSourcePerformanceTracker performanceTracker) {
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
+    this.performanceTracker = performanceTracker;
   }
 
   public SyncSource getOrCreateSyncSource(final Eth2Peer peer) {
@@ -39,10 +44,15 @@ public class SyncSourceFactory {
     final int maxBlocksPerMinute = MAX_BLOCKS_PER_MINUTE - SYNC_BATCH_SIZE.intValue() - 1;
     return syncSourcesByPeer.computeIfAbsent(
         peer,
-        source -> new ThrottlingSyncSource(asyncRunner, timeProvider, source, maxBlocksPerMinute));
+        source ->
+            new ThrottlingSyncSource(
+                asyncRunner, timeProvider, source, performanceTracker, maxBlocksPerMinute));
   }
 
   public void onPeerDisconnected(final Eth2Peer peer) {
-    syncSourcesByPeer.remove(peer);
+    final SyncSource syncSource = syncSourcesByPeer.remove(peer);
+    if (syncSource != null) {
+      performanceTracker.onSourceRemoved(syncSource);
+    }
   }
 }
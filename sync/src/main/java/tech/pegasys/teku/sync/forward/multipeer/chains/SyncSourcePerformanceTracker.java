@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync.forward.multipeer.chains;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+
+/**
+ * Tracks how quickly each sync source serves block requests so that batches can be directed to the
+ * sources that will deliver them soonest.
+ *
+ * <p>Throughput is measured in slots per second rather than blocks, as empty slots in a requested
+ * range are just as much progress as blocks are. Sources which haven't completed a request yet are
+ * assumed to be as fast as the fastest known source so that they get a chance to be measured.
+ *
+ * <p>Each failed or timed out request halves the throughput expected from a source, whether it has
+ * been measured or is still assumed to be as fast as the fastest known source.
+ */
+public class SyncSourcePerformanceTracker {
+  // Weight given to the latest request when updating the estimated throughput of a source
+  static final double SMOOTHING_FACTOR = 0.3;
+
+  private final Map<SyncSource, SourcePerformance> performanceBySource = new ConcurrentHashMap<>();
+
+  void onRequestStarted(final SyncSource source) {
+    performanceBySource.computeIfAbsent(source, __ -> new SourcePerformance()).onRequestStarted();
+  }
+
+  void onRequestFinished(final SyncSource source) {
+    getPerformance(source).ifPresent(SourcePerformance::onRequestFinished);
+  }
+
+  void onRequestCompleted(
+      final SyncSource source, final UInt64 slotCount, final UInt64 durationMillis) {
+    getPerformance(source)
+        .ifPresent(
+            performance ->
+                performance.onRequestCompleted(slotCount.longValue(), durationMillis.longValue()));
+  }
+
+  void onRequestFailed(final SyncSource source) {
+    getPerformance(source).ifPresent(SourcePerformance::onRequestFailed);
+  }
+
+  void onSourceRemoved(final SyncSource source) {
+    performanceBySource.remove(source);
+  }
+
+  public OptionalDouble getEstimatedSlotsPerSecond(final SyncSource source) {
+    return getPerformance(source)
+        .map(SourcePerformance::getSlotsPerSecond)
+        .orElse(OptionalDouble.empty());
+  }
+
+  public int getRequestsInFlight(final SyncSource source) {
+    return getPerformance(source).map(SourcePerformance::getRequestsInFlight).orElse(0);
+  }
+
+  /**
+   * Selects the source expected to serve a new request fastest. The estimated throughput of each
+   * source is shared between the requests it already has in flight, so requests are spread across
+   * sources in proportion to how quickly they respond.
+   *
+   * @param candidates the sources to select from
+   * @param excluding sources which must not be selected
+   * @return the selected source or empty if there are no candidates
+   */
+  public Optional<SyncSource> selectSource(
+      final Collection<SyncSource> candidates, final SyncSource... excluding) {
+    final Set<SyncSource> excludedSources = Set.of(excluding);
+    final double fastestKnownSlotsPerSecond =
+        candidates.stream()
+            .map(this::getEstimatedSlotsPerSecond)
+            .flatMapToDouble(OptionalDouble::stream)
+            .max()
+            .orElse(1);
+    return candidates.stream()
+        .filter(source -> !excludedSources.contains(source))
+        .max(
+            Comparator.comparingDouble(
+                source -> getExpectedSlotsPerSecond(source, fastestKnownSlotsPerSecond)));
+  }
+
+  private double getExpectedSlotsPerSecond(
+      final SyncSource source, final double fastestKnownSlotsPerSecond) {
+    return getPerformance(source)
+        .map(performance -> performance.getExpectedSlotsPerSecond(fastestKnownSlotsPerSecond))
+        .orElse(fastestKnownSlotsPerSecond);
+  }
+
+  private Optional<SourcePerformance> getPerformance(final SyncSource source) {
+    return Optional.ofNullable(performanceBySource.get(source));
+  }
+
+  private static class SourcePerformance {
+    private int requestsInFlight = 0;
+    private OptionalDouble slotsPerSecond = OptionalDouble.empty();
+    // Failures before the first completed request, each halving the assumed throughput
+    private int unmeasuredFailures = 0;
+
+    public synchronized void onRequestStarted() {
+      requestsInFlight++;
+    }
+
+    public synchronized void onRequestFinished() {
+      requestsInFlight = Math.max(0, requestsInFlight - 1);
+    }
+
+    public synchronized void onRequestCompleted(final long slotCount, final long durationMillis) {
+      final double latestSlotsPerSecond = slotCount * 1000d / Math.max(1, durationMillis);
+      slotsPerSecond =
+          OptionalDouble.of(
+              slotsPerSecond.isPresent()
+                  ? SMOOTHING_FACTOR * latestSlotsPerSecond
+                      + (1 - SMOOTHING_FACTOR) * slotsPerSecond.getAsDouble()
+                  : latestSlotsPerSecond);
+    }
+
+    public synchronized void onRequestFailed() {
+      if (slotsPerSecond.isPresent()) {
+        slotsPerSecond = OptionalDouble.of(slotsPerSecond.getAsDouble() / 2);
+      } else {
+        unmeasuredFailures++;
+      }
+    }
+
+    public synchronized int getRequestsInFlight() {
+      return requestsInFlight;
+    }
+
+    public synchronized OptionalDouble getSlotsPerSecond() {
+      return slotsPerSecond;
+    }
+
+    public synchronized double getExpectedSlotsPerSecond(final double fastestKnownSlotsPerSecond) {
+      final double estimatedSlotsPerSecond =
+          slotsPerSecond.orElse(Math.scalb(fastestKnownSlotsPerSecond, -unmeasuredFailures));
+      return estimatedSlotsPerSecond / (1 + requestsInFlight);
+    }
+  }
+}
@@ -30,7 +30,9 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 public class ThrottlingSyncSource implements SyncSource {
   private static final Logger LOG = LogManager.getLogger();
   private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
   private final SyncSource delegate;
+  private final SyncSourcePerformanceTracker performanceTracker;
 
   private final RateTracker rateTracker;
 
@@ -38,24 +40,67 @@ public class ThrottlingSyncSource implements SyncSource {
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final SyncSource delegate,
+      final SyncSourcePerformanceTracker performanceTracker,
       final int maxBlocksPerMinute) {
     this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
     this.delegate = delegate;
+    this.performanceTracker = performanceTracker;
     rateTracker = new RateTracker(maxBlocksPerMinute, 60, timeProvider);
   }
 
+  /**
+   * Requests blocks from the delegate once the rate limit allows it. Cancelling the returned future
+   * marks the request as no longer needed: it isn't sent if it's still being throttled and its
+   * outcome isn't reported to the performance tracker.
+   */
   @Override
   public SafeFuture<Void> requestBlocksByRange(
       final UInt64 startSlot,
       final UInt64 count,
       final UInt64 step,
       final RpcResponseListener<SignedBeaconBlock> listener) {
+    performanceTracker.onRequestStarted(this);
+    final SafeFuture<Void> result = new SafeFuture<>();
+    sendRequestWhenAllowed(startSlot, count, step, listener, result)
+        .alwaysRun(() -> performanceTracker.onRequestFinished(this))
+        .propagateTo(result);
+    return result;
+  }
+
+  private SafeFuture<Void> sendRequestWhenAllowed(
+      final UInt64 startSlot,
+      final UInt64 count,
+      final UInt64 step,
+      final RpcResponseListener<SignedBeaconBlock> listener,
+      final SafeFuture<Void> result) {
+    if (result.isCancelled()) {
+      LOG.debug("Not sending cancelled request for {} blocks", count);
+      return SafeFuture.COMPLETE;
+    }
     if (rateTracker.wantToRequestObjects(count.longValue()) > 0) {
       LOG.debug("Sending request for {} blocks", count);
-      return delegate.requestBlocksByRange(startSlot, count, step, listener);
+      // Only time the request once it is sent so throttling doesn't count against the peer
+      final UInt64 requestSentMillis = timeProvider.getTimeInMillis();
+      return delegate
+          .requestBlocksByRange(startSlot, count, step, listener)
+          .whenComplete(
+              (__, error) -> {
+                if (result.isCancelled()) {
+                  // The response is no longer needed, e.g. another peer already responded
+                  return;
+                }
+                if (error == null) {
+                  performanceTracker.onRequestCompleted(
+                      this, count, timeProvider.getTimeInMillis().minusMinZero(requestSentMillis));
+                } else {
+                  performanceTracker.onRequestFailed(this);
+                }
+              });
     } else {
       return asyncRunner.runAfterDelay(
-          () -> requestBlocksByRange(startSlot, count, step, listener), Duration.ofSeconds(3));
+          () -> sendRequestWhenAllowed(startSlot, count, step, listener, result),
+          Duration.ofSeconds(3));
     }
   }
 
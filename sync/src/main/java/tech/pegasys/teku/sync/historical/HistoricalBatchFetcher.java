@@ -229,6 +229,20 @@ public class HistoricalBatchFetcher {
 
   SafeFuture<Void> batchVerifyHistoricalBlockSignatures(
       final Collection<SignedBeaconBlock> blocks) {
+    return batchVerifyHistoricalBlockSignatures(
+        spec, chainDataClient, signatureVerificationService, blocks);
+  }
+
+  /**
+   * Verifies the proposer signatures of all supplied blocks with a single batch verification.
+   *
+   * @return A future which completes exceptionally if any signature is invalid
+   */
+  static SafeFuture<Void> batchVerifyHistoricalBlockSignatures(
+      final Spec spec,
+      final CombinedChainDataClient chainDataClient,
+      final AsyncBLSSignatureVerifier signatureVerificationService,
+      final Collection<SignedBeaconBlock> blocks) {
 
     BeaconState bestState = chainDataClient.getBestState().orElseThrow();
     List<BLSSignature> signatures = new ArrayList<>();
@@ -301,11 +315,11 @@ public class HistoricalBatchFetcher {
 
   private static class RequestManager {
     private final Bytes32 lastBlockRoot;
-    private final Optional<SignedBeaconBlock> previousBlock;
     private final Consumer<SignedBeaconBlock> blockProcessor;
 
     private final AtomicInteger blocksReceived = new AtomicInteger(0);
     private final AtomicBoolean foundLastBlock = new AtomicBoolean(false);
+    private volatile Optional<SignedBeaconBlock> previousBlock;
 
     private RequestManager(
         final Bytes32 lastBlockRoot,
@@ -319,12 +333,15 @@ public class HistoricalBatchFetcher {
     private SafeFuture<?> processBlock(final SignedBeaconBlock block) {
       return SafeFuture.of(
           () -> {
-            if (blocksReceived.incrementAndGet() == 1 && previousBlock.isPresent()) {
-              if (!block.getParentRoot().equals(previousBlock.get().getRoot())) {
-                throw new InvalidResponseException(
-                    "Expected first block to descend from last received block.");
-              }
+            final boolean isFirstBlock = blocksReceived.incrementAndGet() == 1;
+            if (previousBlock.isPresent()
+                && !block.getParentRoot().equals(previousBlock.get().getRoot())) {
+              throw new InvalidResponseException(
+                  isFirstBlock
+                      ? "Expected first block to descend from last received block."
+                      : "Expected blocks in response to form a chain.");
             }
+            previousBlock = Optional.of(block);
 
             // Only process blocks up to the last block - ignore any extra blocks
             if (!foundLastBlock.get()) {
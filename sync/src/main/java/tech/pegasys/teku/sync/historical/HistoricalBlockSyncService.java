@@ -14,11 +14,18 @@
 package tech.pegasys.teku.sync.historical;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
@@ -31,11 +38,14 @@ import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -44,12 +54,15 @@ import tech.pegasys.teku.sync.events.SyncStateProvider;
 /**
  * Service responsible for syncing missing historical blocks. Blocks are pulled in order from the
  * newest unknown block back to genesis.
+ *
+ * <p>While the newest missing batch is fetched, older batches are prefetched from other peers. Once
+ * a prefetched batch connects to the earliest imported block it is stored without being requested
+ * again, along with any further prefetched batches it connects to.
  */
 public class HistoricalBlockSyncService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
   private static final Duration RETRY_TIMEOUT = Duration.ofMinutes(1);
-  private static final UInt64 BATCH_SIZE = UInt64.valueOf(50);
 
   private final Spec spec;
   private final SettableGauge historicSyncGauge;
@@ -59,11 +72,14 @@ public class HistoricalBlockSyncService extends Service {
   private final CombinedChainDataClient chainData;
   private final SyncStateProvider syncStateProvider;
   private final UInt64 batchSize;
+  private final int maxConcurrentBatches;
 
   private final AtomicLong syncStateSubscription = new AtomicLong(-1);
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
 
   private final AsyncBLSSignatureVerifier signatureVerifier;
+  private final NavigableMap<UInt64, PrefetchedHistoricalBatch> prefetchedBatchesByStartSlot =
+      new ConcurrentSkipListMap<>();
   private volatile BeaconBlockSummary earliestBlock;
   final Set<NodeId> badPeerCache;
 
@@ -77,7 +93,8 @@ public class HistoricalBlockSyncService extends Service {
       final CombinedChainDataClient chainData,
       final SyncStateProvider syncStateProvider,
       final AsyncBLSSignatureVerifier signatureVerifier,
-      final UInt64 batchSize) {
+      final UInt64 batchSize,
+      final int maxConcurrentBatches) {
     this.spec = spec;
     this.storageUpdateChannel = storageUpdateChannel;
 
@@ -86,6 +103,7 @@ public class HistoricalBlockSyncService extends Service {
     this.chainData = chainData;
     this.syncStateProvider = syncStateProvider;
     this.batchSize = batchSize;
+    this.maxConcurrentBatches = maxConcurrentBatches;
     this.signatureVerifier = signatureVerifier;
 
     this.badPeerCache =
@@ -113,7 +131,9 @@ public class HistoricalBlockSyncService extends Service {
       final P2PNetwork<Eth2Peer> network,
       final CombinedChainDataClient chainData,
       final AsyncBLSSignatureVerifier signatureVerifier,
-      final SyncStateProvider syncStateProvider) {
+      final SyncStateProvider syncStateProvider,
+      final int batchSize,
+      final int maxConcurrentBatches) {
     return new HistoricalBlockSyncService(
         spec,
         metricsSystem,
@@ -123,7 +143,8 @@ public class HistoricalBlockSyncService extends Service {
         chainData,
         syncStateProvider,
         signatureVerifier,
-        BATCH_SIZE);
+        UInt64.valueOf(batchSize),
+        maxConcurrentBatches);
   }
 
   @Override
@@ -137,6 +158,7 @@ public class HistoricalBlockSyncService extends Service {
     LOG.debug("Stop {}", getClass().getSimpleName());
     syncStateProvider.unsubscribeFromSyncStateChanges(syncStateSubscription.get());
     badPeerCache.clear();
+    prefetchedBatchesByStartSlot.clear();
     return SafeFuture.COMPLETE;
   }
 
@@ -192,6 +214,12 @@ public class HistoricalBlockSyncService extends Service {
   }
 
   private SafeFuture<Void> requestBlocks(final Eth2Peer peer, final MaxMissingBlockParams params) {
+    final List<SignedBeaconBlock> prefetchedBlocks = takeConnectedPrefetchedBlocks(params);
+    if (!prefetchedBlocks.isEmpty()) {
+      return importPrefetchedBlocks(prefetchedBlocks, params);
+    }
+
+    prefetchOlderBatches(peer, params);
     return createFetcher(peer, params)
         .run()
         .exceptionally(
@@ -199,27 +227,150 @@ public class HistoricalBlockSyncService extends Service {
               // We ran into trouble with this peer - ignore it for a while
               LOG.debug(
                   "Encountered a problem requesting historical blocks from peer: " + peer, err);
-              if (peer.isConnected()) {
-                // If we didn't disconnect the peer altogether, avoid making new requests for a
-                // while
-                badPeerCache.add(peer.getId());
-                logBadPeerCacheSize(true);
-              }
+              addToBadPeerCache(peer);
               return null;
             })
-        .thenAccept(
-            newValue -> {
-              if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
-                LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
-                earliestBlock = newValue;
-                updateSyncMetrics();
-                if (isSyncDone()) {
-                  LOG.info("Historical block sync is complete");
-                }
+        .thenAccept(newValue -> updateEarliestBlock(newValue, params));
+  }
+
+  private void updateEarliestBlock(
+      final BeaconBlockSummary newValue, final MaxMissingBlockParams params) {
+    if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
+      LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
+      earliestBlock = newValue;
+      updateSyncMetrics();
+      if (isSyncDone()) {
+        LOG.info("Historical block sync is complete");
+      }
+    }
+  }
+
+  private void addToBadPeerCache(final Eth2Peer peer) {
+    if (peer.isConnected()) {
+      // If we didn't disconnect the peer altogether, avoid making new requests for a
+      // while
+      badPeerCache.add(peer.getId());
+      logBadPeerCacheSize(true);
+    }
+  }
+
+  /**
+   * Starts prefetching the batches below the one containing {@code params.getMaxSlot()}, each from
+   * a different peer. Batches are aligned to multiples of the batch size so they stay valid as the
+   * earliest block moves back.
+   */
+  private void prefetchOlderBatches(final Eth2Peer headPeer, final MaxMissingBlockParams params) {
+    // Batches starting after the max slot only contain blocks we've already imported
+    prefetchedBatchesByStartSlot.tailMap(params.getMaxSlot(), false).clear();
+
+    final Set<NodeId> busyPeers = new HashSet<>();
+    busyPeers.add(headPeer.getId());
+    prefetchedBatchesByStartSlot.values().stream()
+        .filter(batch -> !batch.isDone())
+        .forEach(batch -> busyPeers.add(batch.getPeer().getId()));
+
+    UInt64 batchStart = params.getMaxSlot().dividedBy(batchSize).times(batchSize);
+    for (int i = 1; i < maxConcurrentBatches && batchStart.isGreaterThan(UInt64.ZERO); i++) {
+      final UInt64 batchEnd = batchStart.minus(1);
+      batchStart = batchStart.minus(batchSize);
+      if (prefetchedBatchesByStartSlot.containsKey(batchStart)) {
+        continue;
+      }
+      final Optional<Eth2Peer> maybePeer = findPeer(busyPeers);
+      if (maybePeer.isEmpty()) {
+        break;
+      }
+      final Eth2Peer peer = maybePeer.get();
+      busyPeers.add(peer.getId());
+      startPrefetch(peer, batchStart, batchEnd);
+    }
+  }
+
+  private void startPrefetch(final Eth2Peer peer, final UInt64 startSlot, final UInt64 endSlot) {
+    LOG.trace("Prefetch historical blocks from {} to {} from peer {}", startSlot, endSlot, peer);
+    final PrefetchedHistoricalBatch batch =
+        PrefetchedHistoricalBatch.fetch(
+            spec, chainData, signatureVerifier, peer, startSlot, endSlot);
+    prefetchedBatchesByStartSlot.put(startSlot, batch);
+    batch
+        .getBlocks()
+        .finish(
+            err -> {
+              LOG.debug("Failed to prefetch historical blocks from peer: " + peer, err);
+              prefetchedBatchesByStartSlot.remove(startSlot, batch);
+              if (Throwables.getRootCause(err) instanceof InvalidResponseException) {
+                peer.disconnectCleanly(DisconnectReason.REMOTE_FAULT).reportExceptions();
               }
+              addToBadPeerCache(peer);
             });
   }
 
+  /**
+   * Removes the completed prefetched batches which connect to the block identified by {@code
+   * params} and returns their blocks in slot order. The latest block of each batch must match the
+   * parent root of the next, so together with the checks done while prefetching the blocks are
+   * verified as thoroughly as those fetched by {@link HistoricalBatchFetcher}.
+   */
+  private List<SignedBeaconBlock> takeConnectedPrefetchedBlocks(
+      final MaxMissingBlockParams params) {
+    final List<SignedBeaconBlock> connectedBlocks = new ArrayList<>();
+    Bytes32 expectedRoot = params.getBlockRoot();
+    UInt64 maxSlot = params.getMaxSlot();
+    while (true) {
+      final Map.Entry<UInt64, PrefetchedHistoricalBatch> entry =
+          prefetchedBatchesByStartSlot.floorEntry(maxSlot);
+      if (entry == null) {
+        break;
+      }
+      final PrefetchedHistoricalBatch batch = entry.getValue();
+      if (!batch.isDone() || batch.isFailed() || batch.getEndSlot().isLessThan(maxSlot)) {
+        break;
+      }
+      prefetchedBatchesByStartSlot.remove(entry.getKey(), batch);
+      final List<SignedBeaconBlock> blocks = batch.getBlocksUpToSlot(maxSlot);
+      if (blocks.isEmpty()) {
+        // The expected block must be in an earlier batch, where it will be checked
+        if (batch.getStartSlot().equals(UInt64.ZERO)) {
+          break;
+        }
+        maxSlot = batch.getStartSlot().minus(1);
+        continue;
+      }
+      if (!blocks.get(blocks.size() - 1).getRoot().equals(expectedRoot)) {
+        // The peer may have just returned part of the range, fall back to fetching it again
+        LOG.debug(
+            "Discarding prefetched historical blocks from {} to {} which don't connect to block {}",
+            batch.getStartSlot(),
+            batch.getEndSlot(),
+            expectedRoot);
+        break;
+      }
+      connectedBlocks.addAll(0, blocks);
+      final SignedBeaconBlock firstBlock = blocks.get(0);
+      if (firstBlock.getSlot().equals(UInt64.ZERO)) {
+        break;
+      }
+      expectedRoot = firstBlock.getParentRoot();
+      maxSlot = firstBlock.getSlot().minus(1);
+    }
+    return connectedBlocks;
+  }
+
+  private SafeFuture<Void> importPrefetchedBlocks(
+      final List<SignedBeaconBlock> blocks, final MaxMissingBlockParams params) {
+    final SignedBeaconBlock newEarliestBlock = blocks.get(0);
+    LOG.trace("Import {} prefetched historical blocks", blocks.size());
+    return storageUpdateChannel
+        .onFinalizedBlocks(blocks)
+        .thenApply(__ -> (BeaconBlockSummary) newEarliestBlock)
+        .exceptionally(
+            err -> {
+              LOG.debug("Failed to store prefetched historical blocks", err);
+              return null;
+            })
+        .thenAccept(newValue -> updateEarliestBlock(newValue, params));
+  }
+
   private HistoricalBatchFetcher createFetcher(
       final Eth2Peer peer, final MaxMissingBlockParams params) {
     return new HistoricalBatchFetcher(
@@ -260,9 +411,14 @@ public class HistoricalBlockSyncService extends Service {
   }
 
   private Optional<Eth2Peer> findPeer() {
+    return findPeer(Collections.emptySet());
+  }
+
+  private Optional<Eth2Peer> findPeer(final Set<NodeId> excludedPeers) {
     return network
         .streamPeers()
         .filter(p -> !badPeerCache.contains(p.getId()))
+        .filter(p -> !excludedPeers.contains(p.getId()))
         .filter(
             p ->
                 p.getStatus()
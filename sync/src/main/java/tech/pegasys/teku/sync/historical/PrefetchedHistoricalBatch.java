@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync.historical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Downloads a range of historical blocks ahead of the batch currently being imported, so that
+ * several batches can be fetched from different peers at the same time.
+ *
+ * <p>The root the range has to end with is only known once all newer blocks have been imported, so
+ * here the blocks are only checked to form a chain and to carry valid proposer signatures. {@link
+ * HistoricalBlockSyncService} connects them to its earliest block before storing them.
+ */
+class PrefetchedHistoricalBatch {
+  private final Eth2Peer peer;
+  private final UInt64 startSlot;
+  private final UInt64 endSlot;
+  private final SafeFuture<List<SignedBeaconBlock>> blocks;
+
+  private PrefetchedHistoricalBatch(
+      final Eth2Peer peer,
+      final UInt64 startSlot,
+      final UInt64 endSlot,
+      final SafeFuture<List<SignedBeaconBlock>> blocks) {
+    this.peer = peer;
+    this.startSlot = startSlot;
+    this.endSlot = endSlot;
+    this.blocks = blocks;
+  }
+
+  /**
+   * Starts fetching the blocks from {@code startSlot} to {@code endSlot} inclusive.
+   *
+   * @return The batch, which completes once its blocks have been received and verified
+   */
+  static PrefetchedHistoricalBatch fetch(
+      final Spec spec,
+      final CombinedChainDataClient chainDataClient,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final Eth2Peer peer,
+      final UInt64 startSlot,
+      final UInt64 endSlot) {
+    // Responses are delivered one at a time, but not necessarily on the same thread
+    final List<SignedBeaconBlock> receivedBlocks = Collections.synchronizedList(new ArrayList<>());
+    final SafeFuture<List<SignedBeaconBlock>> blocks =
+        peer.requestBlocksByRange(
+                startSlot,
+                endSlot.plus(1).minus(startSlot),
+                UInt64.ONE,
+                block -> SafeFuture.fromRunnable(() -> receivedBlocks.add(block)))
+            .thenApply(__ -> checkChain(receivedBlocks, startSlot, endSlot))
+            .thenCompose(
+                chain ->
+                    chain.isEmpty()
+                        ? SafeFuture.completedFuture(chain)
+                        : HistoricalBatchFetcher.batchVerifyHistoricalBlockSignatures(
+                                spec, chainDataClient, signatureVerifier, chain)
+                            .thenApply(__ -> chain));
+    return new PrefetchedHistoricalBatch(peer, startSlot, endSlot, blocks);
+  }
+
+  private static List<SignedBeaconBlock> checkChain(
+      final List<SignedBeaconBlock> receivedBlocks, final UInt64 startSlot, final UInt64 endSlot) {
+    final List<SignedBeaconBlock> chain;
+    synchronized (receivedBlocks) {
+      chain = new ArrayList<>(receivedBlocks);
+    }
+    for (int i = 0; i < chain.size(); i++) {
+      final SignedBeaconBlock block = chain.get(i);
+      if (block.getSlot().isLessThan(startSlot) || block.getSlot().isGreaterThan(endSlot)) {
+        throw new InvalidResponseException("Received block outside of requested range");
+      }
+      if (i > 0 && !block.getParentRoot().equals(chain.get(i - 1).getRoot())) {
+        throw new InvalidResponseException("Expected blocks in response to form a chain.");
+      }
+    }
+    return chain;
+  }
+
+  public Eth2Peer getPeer() {
+    return peer;
+  }
+
+  public UInt64 getStartSlot() {
+    return startSlot;
+  }
+
+  public UInt64 getEndSlot() {
+    return endSlot;
+  }
+
+  public boolean isFailed() {
+    return blocks.isCompletedExceptionally();
+  }
+
+  /**
+   * Returns the received blocks up to and including {@code maxSlot}, in slot order. Must only be
+   * called once the batch has completed successfully.
+   */
+  public List<SignedBeaconBlock> getBlocksUpToSlot(final UInt64 maxSlot) {
+    return blocks.join().stream()
+        .filter(block -> block.getSlot().isLessThanOrEqualTo(maxSlot))
+        .collect(Collectors.toList());
+  }
+
+  public boolean isDone() {
+    return blocks.isDone();
+  }
+
+  public SafeFuture<List<SignedBeaconBlock>> getBlocks() {
+    return blocks;
+  }
+}
@@ -15,7 +15,11 @@ package tech.pegasys.teku.sync.forward.multipeer;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.sync.forward.multipeer.batches.BatchAssert.assertThatBatch;
 
@@ -24,6 +28,7 @@ import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.sync.forward.multipeer.batches.Batch;
@@ -34,7 +39,8 @@ import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChainTestUtil;
 
 class BatchDataRequesterTest {
   private static final UInt64 BATCH_SIZE = UInt64.valueOf(50);
-  private static final int MAX_PENDING_BATCHES = 5;
+  private static final int MIN_PENDING_BATCHES = 5;
+  private static final int MAX_PENDING_BATCHES = 8;
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
   private final InlineEventThread eventThread = new InlineEventThread();
   private final BatchChain batchChain = new BatchChain();
@@ -49,13 +55,18 @@ class BatchDataRequesterTest {
 
   private final BatchDataRequester batchDataRequester =
       new BatchDataRequester(
-          eventThread, batchChain, batchFactory, BATCH_SIZE, MAX_PENDING_BATCHES);
+          eventThread,
+          batchChain,
+          batchFactory,
+          BATCH_SIZE,
+          MIN_PENDING_BATCHES,
+          MAX_PENDING_BATCHES);
 
   @Test
   void shouldCreateNewBatchesWhenChainIsEmpty() {
     fillQueue(UInt64.valueOf(24));
 
-    assertThat(batchFactory).hasSize(MAX_PENDING_BATCHES);
+    assertThat(batchFactory).hasSize(MIN_PENDING_BATCHES);
     assertThatBatch(batchFactory.get(0)).hasRange(25, 74);
     assertThatBatch(batchFactory.get(1)).hasRange(75, 124);
     assertThatBatch(batchFactory.get(2)).hasRange(125, 174);
@@ -80,7 +91,7 @@ class BatchDataRequesterTest {
     assertThatBatch(batch).isAwaitingBlocks();
 
     // And only create new batches up to the limit
-    assertThat(batchChain.stream()).hasSize(MAX_PENDING_BATCHES);
+    assertThat(batchChain.stream()).hasSize(MIN_PENDING_BATCHES);
   }
 
   @Test
@@ -96,7 +107,7 @@ class BatchDataRequesterTest {
     assertThatBatch(batch).isNotAwaitingBlocks();
 
     // Exclude the empty batch from the pending batch count, so we can have one more than otherwise
-    assertThat(batchChain.stream()).hasSize(MAX_PENDING_BATCHES + 1);
+    assertThat(batchChain.stream()).hasSize(MIN_PENDING_BATCHES + 1);
   }
 
   @Test
@@ -115,7 +126,7 @@ class BatchDataRequesterTest {
     assertThatBatch(batch).isNotAwaitingBlocks();
 
     // Complete batch is including in the pending count as it has blocks to import
-    assertThat(batchChain.stream()).hasSize(MAX_PENDING_BATCHES);
+    assertThat(batchChain.stream()).hasSize(MIN_PENDING_BATCHES);
   }
 
   @Test
@@ -146,11 +157,82 @@ class BatchDataRequesterTest {
     assertThatBatch(batches.get(1)).hasRange(targetSlot, targetSlot);
   }
 
+  @Test
+  void shouldAllowMorePendingBatchesWhenTargetChainHasMorePeers() {
+    final TargetChain chain =
+        TargetChainTestUtil.chainWith(
+            targetChain.getChainHead(),
+            mock(SyncSource.class),
+            mock(SyncSource.class),
+            mock(SyncSource.class));
+
+    fillQueue(chain, ZERO);
+
+    assertThat(batchChain.stream()).hasSize(3 * BatchDataRequester.PENDING_BATCHES_PER_PEER);
+  }
+
+  @Test
+  void shouldLimitPendingBatchesWhenTargetChainHasManyPeers() {
+    final SyncSource[] peers = new SyncSource[MAX_PENDING_BATCHES];
+    for (int i = 0; i < peers.length; i++) {
+      peers[i] = mock(SyncSource.class);
+    }
+    final TargetChain chain = TargetChainTestUtil.chainWith(targetChain.getChainHead(), peers);
+
+    fillQueue(chain, ZERO);
+
+    assertThat(batchChain.stream()).hasSize(MAX_PENDING_BATCHES);
+  }
+
+  @Test
+  void shouldRequestStalledBatchFromAdditionalSourceWhenLaterBatchesAreComplete() {
+    final Batch stalledBatch = createAwaitingBatch(ZERO);
+    batchChain.add(stalledBatch);
+    addCompleteBatch(BATCH_SIZE);
+    addCompleteBatch(BATCH_SIZE.times(2));
+
+    fillQueue(ZERO);
+
+    verify(stalledBatch).requestFromAdditionalSource(any());
+  }
+
+  @Test
+  void shouldNotRequestFromAdditionalSourceWhileLaterBatchesAreIncomplete() {
+    final Batch stalledBatch = createAwaitingBatch(ZERO);
+    batchChain.add(stalledBatch);
+    addCompleteBatch(BATCH_SIZE);
+
+    fillQueue(ZERO);
+
+    verify(stalledBatch, never()).requestFromAdditionalSource(any());
+  }
+
+  private Batch createAwaitingBatch(final UInt64 firstSlot) {
+    final Batch batch = mock(Batch.class);
+    when(batch.getFirstSlot()).thenReturn(firstSlot);
+    when(batch.getLastSlot()).thenReturn(firstSlot.plus(BATCH_SIZE).minus(1));
+    when(batch.getCount()).thenReturn(BATCH_SIZE);
+    when(batch.getTargetChain()).thenReturn(targetChain);
+    when(batch.isAwaitingBlocks()).thenReturn(true);
+    when(batch.isEmpty()).thenReturn(true);
+    return batch;
+  }
+
+  private void addCompleteBatch(final UInt64 firstSlot) {
+    final Batch batch = batchFactory.createBatch(targetChain, firstSlot, BATCH_SIZE);
+    batch.markComplete();
+    batchChain.add(batch);
+  }
+
   private void fillQueue(final UInt64 commonAncestorSlot) {
+    fillQueue(targetChain, commonAncestorSlot);
+  }
+
+  private void fillQueue(final TargetChain chain, final UInt64 commonAncestorSlot) {
     eventThread.execute(
         () ->
             batchDataRequester.fillRetrievingQueue(
-                targetChain, commonAncestorSlot, requestCompleteCallback));
+                chain, commonAncestorSlot, requestCompleteCallback));
   }
 
   @Test
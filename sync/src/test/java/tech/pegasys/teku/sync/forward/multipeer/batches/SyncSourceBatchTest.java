@@ -185,7 +185,7 @@ public class SyncSourceBatchTest {
 
   @Test
   void shouldSkipMakingRequestWhenNoTargetPeerIsAvailable() {
-    final SyncSourceSelector emptySourceSelector = Optional::empty;
+    final SyncSourceSelector emptySourceSelector = excluding -> Optional.empty();
     final SyncSourceBatch batch =
         new SyncSourceBatch(
             eventThread,
@@ -206,10 +206,118 @@ public class SyncSourceBatchTest {
     assertThatBatch(batch).isNotAwaitingBlocks();
   }
 
+  @Test
+  void requestFromAdditionalSource_shouldUseFirstResponseReceived() {
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(() -> {});
+    final StubSyncSource originalSource = getSyncSource(batch);
+
+    batch.requestFromAdditionalSource(() -> {});
+    final StubSyncSource additionalSource = getSyncSource(batch);
+    assertThat(additionalSource).isNotSameAs(originalSource);
+    additionalSource.assertRequestedBlocks(70, 50);
+
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(119);
+    additionalSource.receiveBlocks(block);
+    assertThatBatch(batch).isComplete();
+    assertThat(batch.getSource()).contains(additionalSource);
+
+    // Late response from the original source is ignored
+    originalSource.receiveBlocks(dataStructureUtil.randomSignedBeaconBlock(80));
+    assertThat(batch.getBlocks()).containsExactly(block);
+    assertThat(batch.getSource()).contains(additionalSource);
+  }
+
+  @Test
+  void requestFromAdditionalSource_shouldNotInvokeCallbackForSupersededResponse() {
+    final Runnable originalCallback = mock(Runnable.class);
+    final Runnable additionalCallback = mock(Runnable.class);
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(originalCallback);
+    final StubSyncSource originalSource = getSyncSource(batch);
+    batch.requestFromAdditionalSource(additionalCallback);
+    final StubSyncSource additionalSource = getSyncSource(batch);
+
+    additionalSource.receiveBlocks(dataStructureUtil.randomSignedBeaconBlock(119));
+    verify(additionalCallback).run();
+
+    originalSource.receiveBlocks(dataStructureUtil.randomSignedBeaconBlock(80));
+    originalSource.failRequest(new PeerDisconnectedException());
+    verifyNoInteractions(originalCallback);
+  }
+
+  @Test
+  void requestFromAdditionalSource_shouldCancelSupersededRequest() {
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(() -> {});
+    final StubSyncSource originalSource = getSyncSource(batch);
+    batch.requestFromAdditionalSource(() -> {});
+    final StubSyncSource additionalSource = getSyncSource(batch);
+
+    additionalSource.receiveBlocks(dataStructureUtil.randomSignedBeaconBlock(119));
+    assertThat(originalSource.getCurrentRequest()).isCancelled();
+  }
+
+  @Test
+  void requestFromAdditionalSource_shouldOnlyInvokeCallbackOnceWhenOneRequestFails() {
+    final Runnable originalCallback = mock(Runnable.class);
+    final Runnable additionalCallback = mock(Runnable.class);
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(originalCallback);
+    final StubSyncSource originalSource = getSyncSource(batch);
+    batch.requestFromAdditionalSource(additionalCallback);
+    final StubSyncSource additionalSource = getSyncSource(batch);
+
+    originalSource.failRequest(new PeerDisconnectedException());
+    verifyNoInteractions(originalCallback);
+
+    additionalSource.receiveBlocks(dataStructureUtil.randomSignedBeaconBlock(119));
+    verify(additionalCallback).run();
+  }
+
+  @Test
+  void requestFromAdditionalSource_shouldKeepWaitingWhenOneRequestFails() {
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(() -> {});
+    final StubSyncSource originalSource = getSyncSource(batch);
+    batch.requestFromAdditionalSource(() -> {});
+    final StubSyncSource additionalSource = getSyncSource(batch);
+
+    originalSource.failRequest(new PeerDisconnectedException());
+    assertThatBatch(batch).isAwaitingBlocks();
+    verifyNoInteractions(conflictResolutionStrategy);
+
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(119);
+    additionalSource.receiveBlocks(block);
+    assertThat(batch.getBlocks()).containsExactly(block);
+    assertThat(batch.getSource()).contains(additionalSource);
+  }
+
+  @Test
+  void requestFromAdditionalSource_shouldNotRequestWhenBlocksAlreadyReceived() {
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(() -> {});
+    receiveBlocks(batch, dataStructureUtil.randomSignedBeaconBlock(75));
+    batch.requestMoreBlocks(() -> {});
+
+    batch.requestFromAdditionalSource(() -> {});
+    assertThat(syncSources.get(batch)).hasSize(1);
+  }
+
+  @Test
+  void requestFromAdditionalSource_shouldOnlyRequestFromOneAdditionalSource() {
+    final Batch batch = createBatch(70, 50);
+    batch.requestMoreBlocks(() -> {});
+
+    batch.requestFromAdditionalSource(() -> {});
+    batch.requestFromAdditionalSource(() -> {});
+    assertThat(syncSources.get(batch)).hasSize(2);
+  }
+
   protected Batch createBatch(final long startSlot, final long count) {
     final List<StubSyncSource> syncSources = new ArrayList<>();
     final SyncSourceSelector syncSourceProvider =
-        () -> {
+        excluding -> {
           final StubSyncSource source = new StubSyncSource();
           syncSources.add(source);
           return Optional.of(source);
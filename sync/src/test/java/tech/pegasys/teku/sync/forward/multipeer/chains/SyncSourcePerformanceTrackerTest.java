@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync.forward.multipeer.chains;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+
+class SyncSourcePerformanceTrackerTest {
+  private final SyncSource source1 = mock(SyncSource.class);
+  private final SyncSource source2 = mock(SyncSource.class);
+
+  private final SyncSourcePerformanceTracker tracker = new SyncSourcePerformanceTracker();
+
+  @Test
+  void shouldSmoothEstimatedThroughputAcrossRequests() {
+    completeRequest(source1, 100, 1000);
+    assertThat(tracker.getEstimatedSlotsPerSecond(source1)).hasValue(100);
+
+    completeRequest(source1, 50, 1000);
+    assertThat(tracker.getEstimatedSlotsPerSecond(source1))
+        .hasValue(
+            SyncSourcePerformanceTracker.SMOOTHING_FACTOR * 50
+                + (1 - SyncSourcePerformanceTracker.SMOOTHING_FACTOR) * 100);
+  }
+
+  @Test
+  void shouldReduceEstimatedThroughputWhenRequestFails() {
+    completeRequest(source1, 100, 1000);
+
+    tracker.onRequestStarted(source1);
+    tracker.onRequestFailed(source1);
+    tracker.onRequestFinished(source1);
+
+    assertThat(tracker.getEstimatedSlotsPerSecond(source1)).hasValue(50);
+  }
+
+  @Test
+  void shouldNotAssumeFailingUnmeasuredSourceIsAsFastAsFastestKnown() {
+    final SyncSource source3 = mock(SyncSource.class);
+    completeRequest(source1, 100, 1000);
+    completeRequest(source2, 60, 1000);
+
+    failRequest(source3);
+    // Assumed to be half as fast as the fastest known source
+    assertThat(tracker.selectSource(List.of(source2, source3))).contains(source2);
+    assertThat(tracker.getEstimatedSlotsPerSecond(source3)).isEmpty();
+
+    completeRequest(source3, 100, 1000);
+    assertThat(tracker.selectSource(List.of(source2, source3))).contains(source3);
+  }
+
+  @Test
+  void shouldSelectFastestSource() {
+    completeRequest(source1, 10, 1000);
+    completeRequest(source2, 100, 1000);
+
+    assertThat(tracker.selectSource(List.of(source1, source2))).contains(source2);
+  }
+
+  @Test
+  void shouldShareThroughputOfSourceBetweenRequestsInFlight() {
+    completeRequest(source1, 40, 1000);
+    completeRequest(source2, 100, 1000);
+
+    tracker.onRequestStarted(source2);
+    assertThat(tracker.selectSource(List.of(source1, source2))).contains(source2);
+
+    tracker.onRequestStarted(source2);
+    assertThat(tracker.selectSource(List.of(source1, source2))).contains(source1);
+  }
+
+  @Test
+  void shouldPreferUnmeasuredSourceOverSlowerBusySource() {
+    completeRequest(source1, 100, 1000);
+    tracker.onRequestStarted(source1);
+
+    assertThat(tracker.selectSource(List.of(source1, source2))).contains(source2);
+  }
+
+  @Test
+  void shouldNotSelectExcludedSources() {
+    completeRequest(source2, 100, 1000);
+
+    assertThat(tracker.selectSource(List.of(source1, source2), source2)).contains(source1);
+    assertThat(tracker.selectSource(List.of(source2), source2)).isEmpty();
+  }
+
+  @Test
+  void shouldForgetRemovedSources() {
+    completeRequest(source1, 100, 1000);
+    tracker.onSourceRemoved(source1);
+
+    assertThat(tracker.getEstimatedSlotsPerSecond(source1)).isEmpty();
+    // Late responses shouldn't start tracking the source again
+    tracker.onRequestCompleted(source1, UInt64.valueOf(100), UInt64.valueOf(1000));
+    assertThat(tracker.getEstimatedSlotsPerSecond(source1)).isEmpty();
+  }
+
+  private void failRequest(final SyncSource source) {
+    tracker.onRequestStarted(source);
+    tracker.onRequestFailed(source);
+    tracker.onRequestFinished(source);
+  }
+
+  private void completeRequest(
+      final SyncSource source, final long slotCount, final long durationMillis) {
+    tracker.onRequestStarted(source);
+    tracker.onRequestCompleted(source, UInt64.valueOf(slotCount), UInt64.valueOf(durationMillis));
+    tracker.onRequestFinished(source);
+  }
+}
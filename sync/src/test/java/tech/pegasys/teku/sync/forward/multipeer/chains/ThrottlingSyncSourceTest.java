@@ -14,6 +14,7 @@
 package tech.pegasys.teku.sync.forward.multipeer.chains;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -21,6 +22,7 @@ import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.FutureUtil.ignoreFuture;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
@@ -37,12 +39,20 @@ class ThrottlingSyncSourceTest {
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
   private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(0);
   private final SyncSource delegate = mock(SyncSource.class);
+  private final SyncSourcePerformanceTracker performanceTracker =
+      new SyncSourcePerformanceTracker();
 
   @SuppressWarnings("unchecked")
   private final RpcResponseListener<SignedBeaconBlock> listener = mock(RpcResponseListener.class);
 
   private final ThrottlingSyncSource source =
-      new ThrottlingSyncSource(asyncRunner, timeProvider, delegate, MAX_BLOCKS_PER_MINUTE);
+      new ThrottlingSyncSource(
+          asyncRunner, timeProvider, delegate, performanceTracker, MAX_BLOCKS_PER_MINUTE);
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.requestBlocksByRange(any(), any(), any(), any())).thenReturn(new SafeFuture<>());
+  }
 
   @Test
   void shouldDelegateDisconnectImmediately() {
@@ -101,4 +111,72 @@ class ThrottlingSyncSourceTest {
     asyncRunner.executeQueuedActions();
     ignoreFuture(verify(delegate).requestBlocksByRange(UInt64.valueOf(100), count, ONE, listener));
   }
+
+  @Test
+  void shouldRecordThroughputWhenRequestCompletes() {
+    final SafeFuture<Void> request = new SafeFuture<>();
+    when(delegate.requestBlocksByRange(any(), any(), any(), any())).thenReturn(request);
+    final UInt64 count = UInt64.valueOf(50);
+
+    final SafeFuture<Void> result = source.requestBlocksByRange(UInt64.ZERO, count, ONE, listener);
+    assertThat(performanceTracker.getRequestsInFlight(source)).isEqualTo(1);
+
+    timeProvider.advanceTimeByMillis(2000);
+    request.complete(null);
+
+    assertThat(result).isCompleted();
+    assertThat(performanceTracker.getRequestsInFlight(source)).isZero();
+    assertThat(performanceTracker.getEstimatedSlotsPerSecond(source)).hasValue(25);
+  }
+
+  @Test
+  void shouldNotCountTimeThrottledAgainstThroughput() {
+    final UInt64 count = UInt64.valueOf(MAX_BLOCKS_PER_MINUTE);
+    ignoreFuture(source.requestBlocksByRange(UInt64.ZERO, count, ONE, listener));
+
+    final SafeFuture<Void> request = new SafeFuture<>();
+    when(delegate.requestBlocksByRange(any(), any(), any(), any())).thenReturn(request);
+    ignoreFuture(source.requestBlocksByRange(UInt64.valueOf(100), count, ONE, listener));
+    assertThat(performanceTracker.getRequestsInFlight(source)).isEqualTo(2);
+
+    timeProvider.advanceTimeBySeconds(61);
+    asyncRunner.executeQueuedActions();
+    timeProvider.advanceTimeBySeconds(1);
+    request.complete(null);
+
+    assertThat(performanceTracker.getEstimatedSlotsPerSecond(source))
+        .hasValue(MAX_BLOCKS_PER_MINUTE);
+  }
+
+  @Test
+  void shouldNotRecordThroughputWhenRequestCancelled() {
+    final SafeFuture<Void> request = new SafeFuture<>();
+    when(delegate.requestBlocksByRange(any(), any(), any(), any())).thenReturn(request);
+    final UInt64 count = UInt64.valueOf(50);
+
+    final SafeFuture<Void> result = source.requestBlocksByRange(UInt64.ZERO, count, ONE, listener);
+    result.cancel(false);
+
+    timeProvider.advanceTimeByMillis(2000);
+    request.complete(null);
+
+    assertThat(performanceTracker.getRequestsInFlight(source)).isZero();
+    assertThat(performanceTracker.getEstimatedSlotsPerSecond(source)).isEmpty();
+  }
+
+  @Test
+  void shouldNotSendCancelledRequestWhenThrottlingEnds() {
+    final UInt64 count = UInt64.valueOf(MAX_BLOCKS_PER_MINUTE);
+    ignoreFuture(source.requestBlocksByRange(UInt64.ZERO, count, ONE, listener));
+    final SafeFuture<Void> result =
+        source.requestBlocksByRange(UInt64.valueOf(100), count, ONE, listener);
+    ignoreFuture(verify(delegate).requestBlocksByRange(UInt64.ZERO, count, ONE, listener));
+
+    result.cancel(false);
+    timeProvider.advanceTimeBySeconds(61);
+    asyncRunner.executeQueuedActions();
+
+    verifyNoMoreInteractions(delegate);
+    assertThat(performanceTracker.getRequestsInFlight(source)).isEqualTo(1);
+  }
 }
@@ -82,7 +82,8 @@ public class HistoricalBlockSyncServiceTest {
           storageSystem.combinedChainDataClient(),
           syncStateProvider,
           signatureVerificationService,
-          batchSize);
+          batchSize,
+          3);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
       Subscribers.create(false);
 
@@ -318,6 +319,56 @@ public class HistoricalBlockSyncServiceTest {
     assertBlocksSaved(expectedBlocks);
   }
 
+  @Test
+  public void shouldFetchOlderBatchesFromOtherPeersConcurrently() {
+    currentSyncState.set(SyncState.IN_SYNC);
+
+    // Setup chain
+    final int epochHeight = 10;
+    storageSystem.chainBuilder().generateGenesis();
+    storageSystem
+        .chainBuilder()
+        .generateBlocksUpToSlot(Constants.SLOTS_PER_EPOCH * epochHeight + 3);
+    final AnchorPoint anchor =
+        initializeChainAtEpoch(storageSystem.chainBuilder().getLatestEpoch());
+    final List<SignedBeaconBlock> expectedBlocks =
+        storageSystem
+            .chainBuilder()
+            .streamBlocksAndStates(0, anchor.getBlockSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+
+    // Set up peers to respond
+    final List<RespondingEth2Peer> peers =
+        Stream.generate(() -> RespondingEth2Peer.create(spec, storageSystem.chainBuilder()))
+            .limit(3)
+            .collect(Collectors.toList());
+    peers.forEach(
+        peer ->
+            peer.updateStatus(
+                new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO),
+                new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO)));
+    when(network.streamPeers()).thenAnswer(i -> peers.stream().map(p -> (Eth2Peer) p));
+
+    startService();
+
+    // Each peer is asked for a different batch
+    for (RespondingEth2Peer peer : peers) {
+      assertThat(peer.getOutstandingRequests()).isEqualTo(1);
+    }
+
+    final int maxRequests =
+        storageSystem.chainBuilder().getLatestSlot().dividedBy(batchSize).plus(1).intValue();
+    int requestCount = 0;
+    while (service.isRunning() && requestCount <= maxRequests) {
+      peers.forEach(RespondingEth2Peer::completePendingRequests);
+      requestCount++;
+    }
+
+    assertServiceFinished();
+    assertBlocksSaved(expectedBlocks);
+  }
+
   private void finishSyncing(
       final RespondingEth2Peer peer, final List<SignedBeaconBlock> expectedBlocks) {
     final int maxRequests =
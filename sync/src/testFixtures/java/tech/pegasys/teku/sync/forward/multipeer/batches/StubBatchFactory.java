@@ -38,7 +38,7 @@ public class StubBatchFactory extends BatchFactory implements Iterable<Batch> {
   private final boolean enforceEventThread;
 
   public StubBatchFactory(final EventThread eventThread, final boolean enforceEventThread) {
-    super(eventThread, null);
+    super(eventThread, null, null);
     this.eventThread = eventThread;
     this.enforceEventThread = enforceEventThread;
   }
@@ -136,8 +136,8 @@ public class StubBatchFactory extends BatchFactory implements Iterable<Batch> {
     public void reportConfirmedBatch(final Batch batch, final SyncSource source) {}
 
     @Override
-    public Optional<SyncSource> selectSource() {
-      return Optional.of(syncSource);
+    public Optional<SyncSource> selectSource(final SyncSource... excluding) {
+      return List.of(excluding).contains(syncSource) ? Optional.empty() : Optional.of(syncSource);
     }
   }
 }
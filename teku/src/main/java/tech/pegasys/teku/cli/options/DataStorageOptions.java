@@ -55,6 +55,18 @@ public class DataStorageOptions {
       arity = "0..1")
   private boolean storeNonCanonicalBlocksEnabled = false;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-state-tree-hashes-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Store the hashes of large state subtrees along with states so they don't need to be "
+              + "recalculated when loaded. States stored this way can't be read by versions "
+              + "without support for it",
+      arity = "0..1",
+      fallbackValue = "true",
+      hidden = true)
+  private boolean storeStateTreeHashesEnabled = false;
+
   public StateStorageMode getDataStorageMode() {
     return dataStorageMode;
   }
@@ -65,7 +77,8 @@ public class DataStorageOptions {
             b.dataStorageMode(dataStorageMode)
                 .dataStorageFrequency(dataStorageFrequency)
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
-                .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled));
+                .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
+                .storeStateTreeHashes(storeStateTreeHashesEnabled));
   }
 
   private DatabaseVersion parseDatabaseVersion() {
@@ -23,6 +23,7 @@ import java.util.OptionalInt;
 import picocli.CommandLine.Help.Visibility;
 import picocli.CommandLine.Option;
 import tech.pegasys.teku.config.TekuConfiguration;
+import tech.pegasys.teku.sync.SyncConfig;
 
 public class P2POptions {
 
@@ -135,6 +136,24 @@ public class P2POptions {
       arity = "1")
   private boolean multiPeerSyncEnabled = true;
 
+  @Option(
+      names = {"--Xp2p-historical-sync-batch-size"},
+      paramLabel = "<INTEGER>",
+      description = "Number of slots requested in each batch when syncing historical blocks",
+      hidden = true,
+      arity = "1")
+  private int historicalSyncBatchSize = SyncConfig.DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
+
+  @Option(
+      names = {"--Xp2p-historical-sync-max-concurrent-batches"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of historical block batches requested from different peers at once",
+      hidden = true,
+      arity = "1")
+  private int historicalSyncMaxConcurrentBatches =
+      SyncConfig.DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES;
+
   @Option(
       names = {"--p2p-subscribe-all-subnets-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -218,6 +237,11 @@ public class P2POptions {
                           ? OptionalInt.empty()
                           : OptionalInt.of(p2pAdvertisedPort));
             })
-        .sync(s -> s.isSyncEnabled(p2pEnabled).isMultiPeerSyncEnabled(multiPeerSyncEnabled));
+        .sync(
+            s ->
+                s.isSyncEnabled(p2pEnabled)
+                    .isMultiPeerSyncEnabled(multiPeerSyncEnabled)
+                    .historicalSyncBatchSize(historicalSyncBatchSize)
+                    .historicalSyncMaxConcurrentBatches(historicalSyncMaxConcurrentBatches));
   }
 }
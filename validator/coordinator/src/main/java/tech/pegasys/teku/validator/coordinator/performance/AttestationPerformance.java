@@ -50,6 +50,38 @@ public class AttestationPerformance {
     return new AttestationPerformance(numberOfExpectedAttestations, 0, 0, 0, 0, 0, 0, 0);
   }
 
+  public int getNumberOfExpectedAttestations() {
+    return numberOfExpectedAttestations;
+  }
+
+  public int getNumberOfProducedAttestations() {
+    return numberOfProducedAttestations;
+  }
+
+  public int getNumberOfIncludedAttestations() {
+    return numberOfIncludedAttestations;
+  }
+
+  public int getInclusionDistanceMax() {
+    return inclusionDistanceMax;
+  }
+
+  public int getInclusionDistanceMin() {
+    return inclusionDistanceMin;
+  }
+
+  public double getInclusionDistanceAverage() {
+    return inclusionDistanceAverage;
+  }
+
+  public int getCorrectTargetCount() {
+    return correctTargetCount;
+  }
+
+  public int getCorrectHeadBlockCount() {
+    return correctHeadBlockCount;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
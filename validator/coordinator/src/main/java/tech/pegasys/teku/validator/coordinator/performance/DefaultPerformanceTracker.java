@@ -19,21 +19,15 @@ import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.IntSummaryStatistics;
 import java.util.List;
-import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
-import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -44,7 +38,6 @@ import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
-import tech.pegasys.teku.ssz.collections.SszBitlist;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.validator.api.ValidatorPerformanceTrackingMode;
 import tech.pegasys.teku.validator.coordinator.ActiveValidatorTracker;
@@ -55,7 +48,7 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
   final NavigableMap<UInt64, Set<SlotAndBlockRoot>> producedBlocksByEpoch =
       new ConcurrentSkipListMap<>();
 
-  final NavigableMap<UInt64, Set<Attestation>> producedAttestationsByEpoch =
+  final NavigableMap<UInt64, EpochAttestationParticipation> producedAttestationsByEpoch =
       new ConcurrentSkipListMap<>();
 
   final NavigableMap<UInt64, AtomicInteger> blockProductionAttemptsByEpoch =
@@ -76,6 +69,10 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
 
   private volatile Optional<UInt64> nodeStartEpoch = Optional.empty();
   private final AtomicReference<UInt64> latestAnalyzedEpoch = new AtomicReference<>(UInt64.ZERO);
+  private volatile Optional<EpochPerformance<AttestationPerformance>> latestAttestationPerformance =
+      Optional.empty();
+  private volatile Optional<EpochPerformance<SyncCommitteePerformance>>
+      latestSyncCommitteePerformance = Optional.empty();
 
   public DefaultPerformanceTracker(
       CombinedChainDataClient combinedChainDataClient,
@@ -125,6 +122,10 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
       UInt64 analyzedEpoch = currentEpoch.minus(ATTESTATION_INCLUSION_RANGE);
       AttestationPerformance attestationPerformance =
           getAttestationPerformanceForEpoch(currentEpoch, analyzedEpoch);
+      if (attestationPerformance.numberOfExpectedAttestations > 0) {
+        latestAttestationPerformance =
+            Optional.of(new EpochPerformance<>(analyzedEpoch, attestationPerformance));
+      }
 
       // suppress performance metric output when not relevant
       if (mode.isLoggingEnabled() && attestationPerformance.numberOfExpectedAttestations > 0) {
@@ -161,9 +162,12 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
 
     // Nothing to report until epoch 0 is complete
     if (!currentEpoch.isZero()) {
+      final UInt64 analyzedEpoch = currentEpoch.minus(1);
       final SyncCommitteePerformance syncCommitteePerformance =
-          syncCommitteePerformanceTracker.calculatePerformance(currentEpoch.minus(1)).join();
+          syncCommitteePerformanceTracker.calculatePerformance(analyzedEpoch).join();
       if (syncCommitteePerformance.getNumberOfExpectedMessages() > 0) {
+        latestSyncCommitteePerformance =
+            Optional.of(new EpochPerformance<>(analyzedEpoch, syncCommitteePerformance));
         if (mode.isLoggingEnabled()) {
           statusLogger.performance(syncCommitteePerformance.toString());
         }
@@ -220,92 +224,33 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
     checkArgument(
         analyzedEpoch.isLessThanOrEqualTo(currentEpoch.minus(ATTESTATION_INCLUSION_RANGE)),
         "Epoch to analyze attestation performance must be at least 2 epochs less than the current epoch");
+    final int numberOfExpectedAttestations =
+        validatorTracker.getNumberOfValidatorsForEpoch(analyzedEpoch);
+    final EpochAttestationParticipation producedAttestations =
+        producedAttestationsByEpoch.get(analyzedEpoch);
+    if (producedAttestations == null) {
+      return AttestationPerformance.empty(numberOfExpectedAttestations);
+    }
 
     // Attestations can be included in either the epoch they were produced in or in
     // the following epoch. Thus, the most recent epoch for which we can evaluate attestation
     // performance is current epoch - 2.
     UInt64 analysisRangeEndEpoch = analyzedEpoch.plus(ATTESTATION_INCLUSION_RANGE);
-
-    // Get included attestations for the given epochs in a map from slot to attestations
-    // included in block.
-    Map<UInt64, List<Attestation>> attestationsIncludedOnChain =
-        getAttestationsIncludedInEpochs(analyzedEpoch, analysisRangeEndEpoch);
-
-    // Get sent attestations in range
-    Set<Attestation> producedAttestations =
-        producedAttestationsByEpoch.getOrDefault(analyzedEpoch, Collections.emptySet());
     BeaconState state = combinedChainDataClient.getBestState().orElseThrow();
-
-    int correctTargetCount = 0;
-    int correctHeadBlockCount = 0;
-    List<Integer> inclusionDistances = new ArrayList<>();
-
-    // Pre-process attestations included on chain to group them by
-    // data hash to inclusion slot to aggregation bitlist
-    Map<Bytes32, NavigableMap<UInt64, SszBitlist>> slotAndBitlistsByAttestationDataHash =
-        new HashMap<>();
-    for (UInt64 slot : attestationsIncludedOnChain.keySet()) {
-      for (Attestation attestation : attestationsIncludedOnChain.get(slot)) {
-        Bytes32 attestationDataHash = attestation.getData().hashTreeRoot();
-        NavigableMap<UInt64, SszBitlist> slotToBitlists =
-            slotAndBitlistsByAttestationDataHash.computeIfAbsent(
-                attestationDataHash, __ -> new TreeMap<>());
-        slotToBitlists.merge(slot, attestation.getAggregationBits(), SszBitlist::nullableOr);
-      }
-    }
-
-    for (Attestation sentAttestation : producedAttestations) {
-      Bytes32 sentAttestationDataHash = sentAttestation.getData().hashTreeRoot();
-      UInt64 sentAttestationSlot = sentAttestation.getData().getSlot();
-      if (!slotAndBitlistsByAttestationDataHash.containsKey(sentAttestationDataHash)) {
-        continue;
-      }
-      NavigableMap<UInt64, SszBitlist> slotAndBitlists =
-          slotAndBitlistsByAttestationDataHash.get(sentAttestationDataHash);
-      for (UInt64 slot : slotAndBitlists.keySet()) {
-        if (slotAndBitlists.get(slot).isSuperSetOf(sentAttestation.getAggregationBits())) {
-          inclusionDistances.add(slot.minus(sentAttestationSlot).intValue());
-          break;
-        }
-      }
-
-      // Check if the attestation had correct target
-      Bytes32 attestationTargetRoot = sentAttestation.getData().getTarget().getRoot();
-      if (attestationTargetRoot.equals(spec.getBlockRoot(state, analyzedEpoch))) {
-        correctTargetCount++;
-
-        // Check if the attestation had correct head block root
-        Bytes32 attestationHeadBlockRoot = sentAttestation.getData().getBeacon_block_root();
-        if (attestationHeadBlockRoot.equals(spec.getBlockRootAtSlot(state, sentAttestationSlot))) {
-          correctHeadBlockCount++;
-        }
-      }
-    }
-
-    IntSummaryStatistics inclusionDistanceStatistics =
-        inclusionDistances.stream().collect(Collectors.summarizingInt(Integer::intValue));
-
-    // IntSummaryStatistics returns Integer.MIN and MAX when the summarized integer list is empty.
-    int numberOfProducedAttestations = producedAttestations.size();
-    return producedAttestations.size() > 0
-        ? new AttestationPerformance(
-            validatorTracker.getNumberOfValidatorsForEpoch(analyzedEpoch),
-            numberOfProducedAttestations,
-            (int) inclusionDistanceStatistics.getCount(),
-            inclusionDistanceStatistics.getMax(),
-            inclusionDistanceStatistics.getMin(),
-            inclusionDistanceStatistics.getAverage(),
-            correctTargetCount,
-            correctHeadBlockCount)
-        : AttestationPerformance.empty(
-            validatorTracker.getNumberOfValidatorsForEpoch(analyzedEpoch));
+    return producedAttestations.calculatePerformance(
+        getBlocksInEpochs(analyzedEpoch, analysisRangeEndEpoch),
+        spec.getBlockRoot(state, analyzedEpoch),
+        slot -> spec.getBlockRootAtSlot(state, slot),
+        numberOfExpectedAttestations);
   }
 
-  private Set<BeaconBlock> getBlocksInEpochs(UInt64 startEpochInclusive, UInt64 endEpochExclusive) {
+  private List<BeaconBlock> getBlocksInEpochs(
+      UInt64 startEpochInclusive, UInt64 endEpochExclusive) {
     UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(startEpochInclusive);
     UInt64 inclusiveEndEpochEndSlot = spec.computeStartSlotAtEpoch(endEpochExclusive).decrement();
 
-    Set<BeaconBlock> blocksInEpoch = new HashSet<>();
+    // Walking back through parent blocks visits each block exactly once
+    List<BeaconBlock> blocksInEpoch = new ArrayList<>();
     UInt64 currSlot = inclusiveEndEpochEndSlot;
     while (currSlot.isGreaterThanOrEqualTo(epochStartSlot)) {
       Optional<BeaconBlock> block =
@@ -313,7 +258,9 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
               .getBlockInEffectAtSlot(currSlot)
               .join()
               .map(SignedBeaconBlock::getMessage);
-      block.ifPresent(blocksInEpoch::add);
+      block
+          .filter(b -> b.getSlot().isGreaterThanOrEqualTo(epochStartSlot))
+          .ifPresent(blocksInEpoch::add);
 
       if (block.isEmpty() || block.get().getSlot().equals(UInt64.ZERO)) {
         break;
@@ -323,20 +270,12 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
     return blocksInEpoch;
   }
 
-  private Map<UInt64, List<Attestation>> getAttestationsIncludedInEpochs(
-      UInt64 startEpochInclusive, UInt64 endEpochExclusive) {
-    return getBlocksInEpochs(startEpochInclusive, endEpochExclusive).stream()
-        .collect(
-            Collectors.toMap(
-                BeaconBlock::getSlot, block -> block.getBody().getAttestations().asList()));
-  }
-
   @Override
   public void saveProducedAttestation(Attestation attestation) {
     UInt64 epoch = spec.computeEpochAtSlot(attestation.getData().getSlot());
-    Set<Attestation> attestationsInEpoch =
-        producedAttestationsByEpoch.computeIfAbsent(epoch, __ -> concurrentSet());
-    attestationsInEpoch.add(attestation);
+    producedAttestationsByEpoch
+        .computeIfAbsent(epoch, __ -> new EpochAttestationParticipation())
+        .recordProduced(attestation);
   }
 
   @Override
@@ -368,6 +307,16 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
     syncCommitteePerformanceTracker.saveProducedSyncCommitteeMessage(message);
   }
 
+  @Override
+  public Optional<EpochPerformance<AttestationPerformance>> getLatestAttestationPerformance() {
+    return latestAttestationPerformance;
+  }
+
+  @Override
+  public Optional<EpochPerformance<SyncCommitteePerformance>> getLatestSyncCommitteePerformance() {
+    return latestSyncCommitteePerformance;
+  }
+
   static long getPercentage(final long numerator, final long denominator) {
     return (long) (numerator * 100.0 / denominator + 0.5);
   }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.performance;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.ssz.collections.SszBitlist;
+
+/**
+ * Records the attestations produced by our validators during a single epoch.
+ *
+ * <p>Rather than keeping every produced {@link Attestation}, participation is stored as one bitmap
+ * of committee positions per distinct {@link AttestationData}. Attestations produced by the
+ * validator client are unaggregated, so each set bit is one validator's attestation. Analysing the
+ * epoch is then a single pass over the attestations included in blocks, checking only the bits we
+ * care about instead of merging the included aggregation bits per slot.
+ */
+class EpochAttestationParticipation {
+
+  private final Map<Bytes32, DataParticipation> participationByDataRoot =
+      new ConcurrentHashMap<>();
+
+  void recordProduced(final Attestation attestation) {
+    final AttestationData data = attestation.getData();
+    participationByDataRoot
+        .computeIfAbsent(data.hashTreeRoot(), __ -> new DataParticipation(data))
+        .recordProduced(attestation.getAggregationBits());
+  }
+
+  int getNumberOfProducedAttestations() {
+    return participationByDataRoot.values().stream()
+        .mapToInt(DataParticipation::getProducedCount)
+        .sum();
+  }
+
+  /**
+   * Calculates the performance of the recorded attestations.
+   *
+   * @param includingBlocks the blocks which may include the recorded attestations
+   * @param expectedTargetRoot the correct target root for the epoch
+   * @param canonicalRootAtSlot provides the canonical block root at a given slot
+   * @param numberOfExpectedAttestations the number of attestations that should have been produced
+   * @return the attestation performance for the epoch
+   */
+  AttestationPerformance calculatePerformance(
+      final Collection<BeaconBlock> includingBlocks,
+      final Bytes32 expectedTargetRoot,
+      final Function<UInt64, Bytes32> canonicalRootAtSlot,
+      final int numberOfExpectedAttestations) {
+    final int numberOfProducedAttestations = getNumberOfProducedAttestations();
+    if (numberOfProducedAttestations == 0) {
+      return AttestationPerformance.empty(numberOfExpectedAttestations);
+    }
+
+    final Map<DataParticipation, int[]> inclusionDistances = new HashMap<>();
+    for (BeaconBlock block : includingBlocks) {
+      for (Attestation attestation : block.getBody().getAttestations()) {
+        final DataParticipation participation =
+            participationByDataRoot.get(attestation.getData().hashTreeRoot());
+        if (participation != null) {
+          participation.recordInclusion(
+              inclusionDistances.computeIfAbsent(
+                  participation, DataParticipation::createInclusionDistances),
+              attestation.getAggregationBits(),
+              block.getSlot());
+        }
+      }
+    }
+
+    final IntSummaryStatistics inclusionDistanceStatistics = new IntSummaryStatistics();
+    int correctTargetCount = 0;
+    int correctHeadBlockCount = 0;
+    for (DataParticipation participation : participationByDataRoot.values()) {
+      final int[] distances = inclusionDistances.get(participation);
+      if (distances != null) {
+        for (int distance : distances) {
+          if (distance != DataParticipation.NOT_INCLUDED) {
+            inclusionDistanceStatistics.accept(distance);
+          }
+        }
+      }
+
+      final AttestationData data = participation.data;
+      if (data.getTarget().getRoot().equals(expectedTargetRoot)) {
+        correctTargetCount += participation.getProducedCount();
+        if (data.getBeacon_block_root().equals(canonicalRootAtSlot.apply(data.getSlot()))) {
+          correctHeadBlockCount += participation.getProducedCount();
+        }
+      }
+    }
+
+    // IntSummaryStatistics returns Integer.MIN and MAX when no attestations were included.
+    return new AttestationPerformance(
+        numberOfExpectedAttestations,
+        numberOfProducedAttestations,
+        (int) inclusionDistanceStatistics.getCount(),
+        inclusionDistanceStatistics.getMax(),
+        inclusionDistanceStatistics.getMin(),
+        inclusionDistanceStatistics.getAverage(),
+        correctTargetCount,
+        correctHeadBlockCount);
+  }
+
+  private static class DataParticipation {
+    private static final int NOT_INCLUDED = -1;
+
+    private final AttestationData data;
+    private final BitSet producedPositions = new BitSet();
+    private int producedCount;
+
+    private DataParticipation(final AttestationData data) {
+      this.data = data;
+    }
+
+    private synchronized void recordProduced(final SszBitlist aggregationBits) {
+      aggregationBits.streamAllSetBits().forEach(producedPositions::set);
+      producedCount = producedPositions.cardinality();
+    }
+
+    private synchronized int getProducedCount() {
+      return producedCount;
+    }
+
+    /**
+     * Creates an array holding the inclusion distance for each produced position, indexed in the
+     * order the positions appear in {@link #producedPositions}.
+     */
+    private synchronized int[] createInclusionDistances() {
+      final int[] distances = new int[producedCount];
+      Arrays.fill(distances, NOT_INCLUDED);
+      return distances;
+    }
+
+    private synchronized void recordInclusion(
+        final int[] distances, final SszBitlist includedBits, final UInt64 inclusionSlot) {
+      final int distance = inclusionSlot.minus(data.getSlot()).intValue();
+      int producedIndex = 0;
+      for (int position = producedPositions.nextSetBit(0);
+          position >= 0 && producedIndex < distances.length;
+          position = producedPositions.nextSetBit(position + 1), producedIndex++) {
+        if (position < includedBits.size()
+            && includedBits.getBit(position)
+            && (distances[producedIndex] == NOT_INCLUDED || distance < distances[producedIndex])) {
+          distances[producedIndex] = distance;
+        }
+      }
+    }
+  }
+}
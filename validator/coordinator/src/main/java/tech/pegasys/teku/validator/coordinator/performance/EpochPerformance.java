@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.performance;
+
+import com.google.common.base.Objects;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/** The performance reported for a single analysed epoch. */
+public class EpochPerformance<T> {
+  private final UInt64 epoch;
+  private final T performance;
+
+  public EpochPerformance(final UInt64 epoch, final T performance) {
+    this.epoch = epoch;
+    this.performance = performance;
+  }
+
+  public UInt64 getEpoch() {
+    return epoch;
+  }
+
+  public T getPerformance() {
+    return performance;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!(o instanceof EpochPerformance)) return false;
+    final EpochPerformance<?> that = (EpochPerformance<?>) o;
+    return Objects.equal(epoch, that.epoch) && Objects.equal(performance, that.performance);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(epoch, performance);
+  }
+
+  @Override
+  public String toString() {
+    return "Epoch " + epoch + " " + performance;
+  }
+}
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.coordinator.performance;
 
+import java.util.Optional;
 import java.util.Set;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -42,6 +43,16 @@ public class NoOpPerformanceTracker implements PerformanceTracker {
   @Override
   public void saveProducedSyncCommitteeMessage(final SyncCommitteeMessage message) {}
 
+  @Override
+  public Optional<EpochPerformance<AttestationPerformance>> getLatestAttestationPerformance() {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<EpochPerformance<SyncCommitteePerformance>> getLatestSyncCommitteePerformance() {
+    return Optional.empty();
+  }
+
   @Override
   public void onSlot(UInt64 slot) {}
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.coordinator.performance;
 
+import java.util.Optional;
 import java.util.Set;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -34,4 +35,8 @@ public interface PerformanceTracker extends SlotEventsChannel {
       int validatorIndex, Set<Integer> syncCommitteeIndices, UInt64 periodEndEpoch);
 
   void saveProducedSyncCommitteeMessage(SyncCommitteeMessage message);
+
+  Optional<EpochPerformance<AttestationPerformance>> getLatestAttestationPerformance();
+
+  Optional<EpochPerformance<SyncCommitteePerformance>> getLatestSyncCommitteePerformance();
 }
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.validator.coordinator.performance;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +49,10 @@ import tech.pegasys.teku.storage.client.CombinedChainDataClient;
  * message to each subcommittee the validator is assigned to. The {@link SyncAggregate} actually
  * included in blocks includes that same message multiple times - once for each time the validator
  * is in the sync committee.
+ *
+ * <p>To account for this, the messages produced for each slot and block root are converted to a
+ * bitmap of the sync committee positions they cover, which can be compared directly with the
+ * {@link SyncAggregate} bits.
  */
 public class SyncCommitteePerformanceTracker {
   private static final Logger LOG = LogManager.getLogger();
@@ -141,10 +146,10 @@ public class SyncCommitteePerformanceTracker {
 
       for (Entry<Bytes32, Set<UInt64>> blockEntry : producingValidatorsByBlock.entrySet()) {
         final Bytes32 blockRoot = blockEntry.getKey();
-        final Set<UInt64> producingValidators = blockEntry.getValue();
-        final int producedMessageCountForBlock =
-            countProducedMessages(
-                assignedSubcommitteeIndicesByValidatorIndex, slot, producingValidators);
+        final BitSet producedPositions =
+            getProducedPositions(
+                assignedSubcommitteeIndicesByValidatorIndex, slot, blockEntry.getValue());
+        final int producedMessageCountForBlock = producedPositions.cardinality();
 
         if (correctBlockRoot.isPresent() && correctBlockRoot.get().equals(blockRoot)) {
           correctMessageCount += producedMessageCountForBlock;
@@ -160,11 +165,7 @@ public class SyncCommitteePerformanceTracker {
                         maybeSyncAggregate
                             .map(
                                 syncAggregate ->
-                                    countIncludedMessages(
-                                        assignedSubcommitteeIndicesByValidatorIndex,
-                                        slot,
-                                        producingValidators,
-                                        syncAggregate))
+                                    countIncludedMessages(producedPositions, syncAggregate))
                             .orElse(0)));
       }
     }
@@ -182,38 +183,31 @@ public class SyncCommitteePerformanceTracker {
                     numberOfIncludedMessages));
   }
 
-  private synchronized int countIncludedMessages(
-      final Map<UInt64, Set<Integer>> assignedSubcommitteeIndicesByValidatorIndex,
-      final UInt64 slot,
-      final Set<UInt64> producingValidators,
-      final SyncAggregate syncAggregate) {
-
+  private int countIncludedMessages(
+      final BitSet producedPositions, final SyncAggregate syncAggregate) {
     final SszBitvector syncCommitteeBits = syncAggregate.getSyncCommitteeBits();
     int numberOfIncludedMessages = 0;
-    for (UInt64 producingValidatorIndex : producingValidators) {
-      final Set<Integer> committeeIndices =
-          assignedSubcommitteeIndicesByValidatorIndex.get(producingValidatorIndex);
-      if (committeeIndices == null) {
-        LOG.debug(
-            "Validator {} produced a SyncCommitteeMessage in slot {} but wasn't expected to",
-            producingValidatorIndex,
-            slot);
-        continue;
-      }
-      for (Integer committeeIndex : committeeIndices) {
-        if (syncCommitteeBits.getBit(committeeIndex)) {
-          numberOfIncludedMessages++;
-        }
+    for (int position = producedPositions.nextSetBit(0);
+        position >= 0 && position < syncCommitteeBits.size();
+        position = producedPositions.nextSetBit(position + 1)) {
+      if (syncCommitteeBits.getBit(position)) {
+        numberOfIncludedMessages++;
       }
     }
     return numberOfIncludedMessages;
   }
 
-  private int countProducedMessages(
+  /**
+   * Gets the sync committee positions covered by messages from the producing validators.
+   *
+   * <p>Each position in the sync committee belongs to exactly one validator, so the number of set
+   * bits is the number of messages the validators were rewarded for producing.
+   */
+  private BitSet getProducedPositions(
       final Map<UInt64, Set<Integer>> assignedSubcommitteeIndicesByValidatorIndex,
       final UInt64 slot,
       final Set<UInt64> producingValidators) {
-    int numberOfProducedMessages = 0;
+    final BitSet producedPositions = new BitSet();
     for (UInt64 producingValidatorIndex : producingValidators) {
       final Set<Integer> committeeIndices =
           assignedSubcommitteeIndicesByValidatorIndex.get(producingValidatorIndex);
@@ -224,9 +218,9 @@ public class SyncCommitteePerformanceTracker {
             slot);
         continue;
       }
-      numberOfProducedMessages += committeeIndices.size();
+      committeeIndices.forEach(producedPositions::set);
     }
-    return numberOfProducedMessages;
+    return producedPositions;
   }
 
   private SafeFuture<Optional<SyncAggregate>> getSyncAggregateAtSlot(final UInt64 slot) {
@@ -324,6 +324,8 @@ public class DefaultPerformanceTrackerTest {
     AttestationPerformance expectedAttestationPerformance =
         new AttestationPerformance(2, 0, 0, 0, 0, 0, 0, 0);
     verify(log).performance(expectedAttestationPerformance.toString());
+    assertThat(performanceTracker.getLatestAttestationPerformance())
+        .contains(new EpochPerformance<>(UInt64.valueOf(2), expectedAttestationPerformance));
   }
 
   @Test
@@ -331,6 +333,8 @@ public class DefaultPerformanceTrackerTest {
     when(validatorTracker.getNumberOfValidatorsForEpoch(UInt64.valueOf(2))).thenReturn(0);
     performanceTracker.onSlot(spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE.plus(2)));
     verify(log, never()).performance(anyString());
+    assertThat(performanceTracker.getLatestAttestationPerformance()).isEmpty();
+    assertThat(performanceTracker.getLatestSyncCommitteePerformance()).isEmpty();
   }
 
   @Test
@@ -343,6 +347,8 @@ public class DefaultPerformanceTrackerTest {
     performanceTracker.onSlot(spec.computeStartSlotAtEpoch(epoch));
     verify(log).performance(performance.toString());
     verify(validatorPerformanceMetrics).updateSyncCommitteePerformance(performance);
+    assertThat(performanceTracker.getLatestSyncCommitteePerformance())
+        .contains(new EpochPerformance<>(epoch.minus(1), performance));
   }
 
   private Attestation createAttestation(
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBody;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class EpochAttestationParticipationTest {
+  private static final int COMMITTEE_SIZE = 8;
+  private static final UInt64 SLOT = UInt64.valueOf(10);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final Bytes32 targetRoot = dataStructureUtil.randomBytes32();
+  private final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+  private final Function<UInt64, Bytes32> canonicalRootAtSlot = Map.of(SLOT, headRoot)::get;
+
+  private final EpochAttestationParticipation participation = new EpochAttestationParticipation();
+
+  @Test
+  void shouldReturnEmptyPerformanceWhenNothingProduced() {
+    assertThat(calculatePerformance(3)).isEqualTo(AttestationPerformance.empty(3));
+  }
+
+  @Test
+  void shouldCountEachProducedPositionOnce() {
+    final AttestationData data = createData(SLOT, headRoot, targetRoot);
+    participation.recordProduced(createAttestation(data, 1));
+    participation.recordProduced(createAttestation(data, 3));
+    participation.recordProduced(createAttestation(data, 3));
+    participation.recordProduced(
+        createAttestation(createData(SLOT, dataStructureUtil.randomBytes32(), targetRoot), 3));
+
+    assertThat(participation.getNumberOfProducedAttestations()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldUseEarliestInclusionForEachProducedPosition() {
+    final AttestationData data = createData(SLOT, headRoot, targetRoot);
+    participation.recordProduced(createAttestation(data, 1));
+    participation.recordProduced(createAttestation(data, 3));
+
+    final BeaconBlock laterBlock = createBlock(SLOT.plus(3), createAttestation(data, 1, 3));
+    final BeaconBlock earlierBlock = createBlock(SLOT.plus(1), createAttestation(data, 1, 2));
+
+    assertThat(calculatePerformance(2, laterBlock, earlierBlock))
+        .isEqualTo(new AttestationPerformance(2, 2, 2, 3, 1, 2, 2, 2));
+  }
+
+  @Test
+  void shouldNotCountIncludedPositionsThatWereNotProduced() {
+    final AttestationData data = createData(SLOT, headRoot, targetRoot);
+    participation.recordProduced(createAttestation(data, 1));
+    participation.recordProduced(createAttestation(data, 3));
+
+    final BeaconBlock block = createBlock(SLOT.plus(1), createAttestation(data, 0, 1, 2));
+
+    assertThat(calculatePerformance(2, block))
+        .isEqualTo(new AttestationPerformance(2, 2, 1, 1, 1, 1, 2, 2));
+  }
+
+  @Test
+  void shouldIgnoreIncludedAttestationsWithDifferentData() {
+    participation.recordProduced(createAttestation(createData(SLOT, headRoot, targetRoot), 1));
+
+    final AttestationData otherData =
+        createData(SLOT, dataStructureUtil.randomBytes32(), targetRoot);
+    final BeaconBlock block = createBlock(SLOT.plus(1), createAttestation(otherData, 1));
+
+    // IntSummaryStatistics reports MIN_VALUE and MAX_VALUE when nothing was included
+    assertThat(calculatePerformance(1, block))
+        .isEqualTo(
+            new AttestationPerformance(1, 1, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 1, 1));
+  }
+
+  @Test
+  void shouldCountCorrectTargetAndHeadBlock() {
+    final Bytes32 wrongRoot = dataStructureUtil.randomBytes32();
+    participation.recordProduced(createAttestation(createData(SLOT, headRoot, targetRoot), 0, 1));
+    participation.recordProduced(createAttestation(createData(SLOT, wrongRoot, targetRoot), 2));
+    participation.recordProduced(createAttestation(createData(SLOT, headRoot, wrongRoot), 3));
+
+    final AttestationPerformance performance = calculatePerformance(4);
+    assertThat(performance.getNumberOfProducedAttestations()).isEqualTo(4);
+    assertThat(performance.getCorrectTargetCount()).isEqualTo(3);
+    assertThat(performance.getCorrectHeadBlockCount()).isEqualTo(2);
+  }
+
+  private AttestationPerformance calculatePerformance(
+      final int numberOfExpectedAttestations, final BeaconBlock... includingBlocks) {
+    return participation.calculatePerformance(
+        List.of(includingBlocks), targetRoot, canonicalRootAtSlot, numberOfExpectedAttestations);
+  }
+
+  private AttestationData createData(
+      final UInt64 slot, final Bytes32 beaconBlockRoot, final Bytes32 targetRoot) {
+    return new AttestationData(
+        slot,
+        UInt64.ZERO,
+        beaconBlockRoot,
+        new Checkpoint(UInt64.ZERO, Bytes32.ZERO),
+        new Checkpoint(spec.computeEpochAtSlot(slot), targetRoot));
+  }
+
+  private Attestation createAttestation(final AttestationData data, final int... positions) {
+    return new Attestation(
+        Attestation.SSZ_SCHEMA.getAggregationBitsSchema().ofBits(COMMITTEE_SIZE, positions),
+        data,
+        dataStructureUtil.randomSignature());
+  }
+
+  private BeaconBlock createBlock(final UInt64 slot, final Attestation... attestations) {
+    final BeaconBlock block = mock(BeaconBlock.class);
+    final BeaconBlockBody body = mock(BeaconBlockBody.class);
+    when(block.getSlot()).thenReturn(slot);
+    when(block.getBody()).thenReturn(body);
+    when(body.getAttestations())
+        .thenReturn(
+            spec.getGenesisSchemaDefinitions()
+                .getBeaconBlockBodySchema()
+                .getAttestationsSchema()
+                .of(attestations));
+    return block;
+  }
+}
@@ -133,6 +133,22 @@ class SyncCommitteePerformanceTrackerTest {
     assertThat(calculatePerformance(UInt64.ZERO).getNumberOfIncludedMessages()).isEqualTo(3);
   }
 
+  @Test
+  void shouldCountIncludedMessagesOnlyForPositionsOfProducingValidators() {
+    tracker.saveExpectedSyncCommitteeParticipant(1, Set.of(2, 7), UInt64.valueOf(3));
+    tracker.saveExpectedSyncCommitteeParticipant(2, Set.of(3), UInt64.valueOf(3));
+    tracker.saveExpectedSyncCommitteeParticipant(3, Set.of(4, 5), UInt64.valueOf(3));
+
+    // Validator 3 didn't produce a message so its included positions aren't counted
+    tracker.saveProducedSyncCommitteeMessage(createMessage(1, 1));
+    tracker.saveProducedSyncCommitteeMessage(createMessage(2, 1));
+    withSyncAggregate(2, 2, 3, 4, 5);
+
+    final SyncCommitteePerformance performance = calculatePerformance(UInt64.ZERO);
+    assertThat(performance.getNumberOfProducedMessages()).isEqualTo(3);
+    assertThat(performance.getNumberOfIncludedMessages()).isEqualTo(2);
+  }
+
   private SyncCommitteeMessage createMessage(final int validatorIndex, final int slot) {
     return createMessage(validatorIndex, slot, Bytes32.ZERO);
   }